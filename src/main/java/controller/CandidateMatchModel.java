@@ -0,0 +1,296 @@
+package controller;
+
+import model.Match;
+import model.Player;
+
+import javax.swing.*;
+import java.util.*;
+
+/**
+ * List model of the candidate matches in the manual pairing editor ({@link MatchManagerController}).
+ *
+ * <p>All candidates are indexed once: every player gets an index and a list of the candidates
+ * they appear in. A candidate is visible while none of its players is already selected, no bye
+ * is selected if it is a bye itself, and it matches the search text. Instead of re-filtering
+ * every candidate, the model counts for each candidate how many of these conditions currently
+ * hide it. Selecting or deselecting a match only updates the counters of the candidates of its
+ * players, so moving a pair costs O(degree) instead of a pass over all candidates.</p>
+ *
+ * <p>The visible rows are tracked in a Fenwick tree over the candidate order, which yields the
+ * n-th visible candidate in O(log m). Each change is reported to the list as a single
+ * {@code contentsChanged} event.</p>
+ */
+public class CandidateMatchModel extends AbstractListModel<Match> {
+
+    private final List<Match> candidates;
+    private final Map<Match, Integer> candidateIndex = new IdentityHashMap<>();
+    private final Map<Player, Integer> playerIndex = new IdentityHashMap<>();
+    private final List<Player> players = new ArrayList<>();
+    private final int[] firstPlayer;
+    private final int[] secondPlayer;
+    private final int[][] candidatesOfPlayer;
+    private final int[] byeCandidates;
+    private final BitSet selectedPlayers = new BitSet();
+    private final int[] hiddenBy;
+    private final boolean[] matchesFilter;
+    private final int[] visibleTree;
+    private int visibleCount;
+    private boolean byeSelected;
+
+    /**
+     * Indexes the candidates. All of them are visible initially.
+     *
+     * @param candidates the possible matches, in display order
+     */
+    public CandidateMatchModel(List<Match> candidates) {
+        this.candidates = List.copyOf(candidates);
+        int count = this.candidates.size();
+        firstPlayer = new int[count];
+        secondPlayer = new int[count];
+        hiddenBy = new int[count];
+        matchesFilter = new boolean[count];
+        visibleTree = new int[count + 1];
+
+        int[] degree = new int[0];
+        int byeCount = 0;
+        for (int c = 0; c < count; c++) {
+            Match match = this.candidates.get(c);
+            candidateIndex.put(match, c);
+            firstPlayer[c] = indexOf(match.getFirstPlayer());
+            secondPlayer[c] = match.getSecondPlayer() == null ? -1 : indexOf(match.getSecondPlayer());
+            if (degree.length < players.size()) {
+                degree = Arrays.copyOf(degree, Math.max(players.size(), degree.length * 2));
+            }
+            degree[firstPlayer[c]]++;
+            if (secondPlayer[c] >= 0) {
+                degree[secondPlayer[c]]++;
+            } else {
+                byeCount++;
+            }
+        }
+
+        candidatesOfPlayer = new int[players.size()][];
+        for (int p = 0; p < players.size(); p++) {
+            candidatesOfPlayer[p] = new int[degree[p]];
+        }
+        int[] filled = new int[players.size()];
+        byeCandidates = new int[byeCount];
+        int byes = 0;
+        for (int c = 0; c < count; c++) {
+            candidatesOfPlayer[firstPlayer[c]][filled[firstPlayer[c]]++] = c;
+            if (secondPlayer[c] >= 0) {
+                candidatesOfPlayer[secondPlayer[c]][filled[secondPlayer[c]]++] = c;
+            } else {
+                byeCandidates[byes++] = c;
+            }
+        }
+
+        Arrays.fill(matchesFilter, true);
+        rebuildVisible();
+    }
+
+    private int indexOf(Player player) {
+        return playerIndex.computeIfAbsent(player, p -> {
+            players.add(p);
+            return players.size() - 1;
+        });
+    }
+
+    /**
+     * Marks a match as selected: all candidates sharing a player with it, and all byes if it is a
+     * bye, are hidden.
+     *
+     * @param match the selected match
+     */
+    public void select(Match match) {
+        int oldSize = visibleCount;
+        changePlayers(match, true);
+        fireChanged(oldSize);
+    }
+
+    /**
+     * Reverts {@link #select(Match)} after a match has been removed from the selection.
+     *
+     * @param match the deselected match
+     */
+    public void deselect(Match match) {
+        int oldSize = visibleCount;
+        changePlayers(match, false);
+        fireChanged(oldSize);
+    }
+
+    private void changePlayers(Match match, boolean selected) {
+        int delta = selected ? 1 : -1;
+        changePlayer(match.getFirstPlayer(), selected, delta);
+        if (match.getSecondPlayer() != null) {
+            changePlayer(match.getSecondPlayer(), selected, delta);
+        } else {
+            byeSelected = selected;
+            for (int c : byeCandidates) {
+                changeHidden(c, delta);
+            }
+        }
+    }
+
+    private void changePlayer(Player player, boolean selected, int delta) {
+        Integer p = playerIndex.get(player);
+        if (p == null) return;
+        selectedPlayers.set(p, selected);
+        for (int c : candidatesOfPlayer[p]) {
+            changeHidden(c, delta);
+        }
+    }
+
+    private void changeHidden(int candidate, int delta) {
+        boolean wasVisible = isVisible(candidate);
+        hiddenBy[candidate] += delta;
+        boolean visible = isVisible(candidate);
+        if (wasVisible != visible) {
+            addToTree(candidate, visible ? 1 : -1);
+        }
+    }
+
+    private boolean isVisible(int candidate) {
+        return hiddenBy[candidate] == 0 && matchesFilter[candidate];
+    }
+
+    /**
+     * Restricts the visible candidates to those with a player whose name or club contains the
+     * given text, ignoring case. A blank text shows all candidates again.
+     *
+     * @param text the search text
+     */
+    public void setFilter(String text) {
+        String query = text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+        boolean[] playerMatches = new boolean[players.size()];
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            playerMatches[p] = query.isEmpty()
+                    || player.getFullName().toLowerCase(Locale.ROOT).contains(query)
+                    || player.getClub().toLowerCase(Locale.ROOT).contains(query);
+        }
+        for (int c = 0; c < candidates.size(); c++) {
+            matchesFilter[c] = playerMatches[firstPlayer[c]] || (secondPlayer[c] >= 0 && playerMatches[secondPlayer[c]]);
+        }
+        int oldSize = visibleCount;
+        rebuildVisible();
+        fireChanged(oldSize);
+    }
+
+    /**
+     * Returns whether the given player is part of a selected match.
+     *
+     * @param player the player
+     * @return {@code true} if the player is already paired
+     */
+    public boolean isSelected(Player player) {
+        Integer p = playerIndex.get(player);
+        return p != null && selectedPlayers.get(p);
+    }
+
+    /**
+     * Returns whether a bye is part of the selection.
+     *
+     * @return {@code true} if a bye is selected
+     */
+    public boolean isByeSelected() {
+        return byeSelected;
+    }
+
+    /**
+     * Returns all candidates, visible or not.
+     *
+     * @return the candidates in display order
+     */
+    public List<Match> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the row of a candidate among the visible candidates.
+     *
+     * @param match the candidate
+     * @return the row, or -1 if the match is no candidate or currently hidden
+     */
+    public int indexOf(Match match) {
+        Integer c = candidateIndex.get(match);
+        if (c == null || !isVisible(c)) {
+            return -1;
+        }
+        return prefixSum(c);
+    }
+
+    @Override
+    public int getSize() {
+        return visibleCount;
+    }
+
+    @Override
+    public Match getElementAt(int index) {
+        return candidates.get(findVisible(index));
+    }
+
+    private void fireChanged(int oldSize) {
+        int rows = Math.max(oldSize, visibleCount);
+        if (rows > 0) {
+            fireContentsChanged(this, 0, rows - 1);
+        }
+    }
+
+    /**
+     * Rebuilds the Fenwick tree of visible candidates in O(m).
+     */
+    private void rebuildVisible() {
+        Arrays.fill(visibleTree, 0);
+        visibleCount = 0;
+        for (int c = 0; c < candidates.size(); c++) {
+            if (isVisible(c)) {
+                visibleTree[c + 1]++;
+                visibleCount++;
+            }
+        }
+        for (int i = 1; i < visibleTree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < visibleTree.length) {
+                visibleTree[parent] += visibleTree[i];
+            }
+        }
+    }
+
+    private void addToTree(int candidate, int delta) {
+        visibleCount += delta;
+        for (int i = candidate + 1; i < visibleTree.length; i += i & -i) {
+            visibleTree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of visible candidates before the given one.
+     */
+    private int prefixSum(int candidate) {
+        int sum = 0;
+        for (int i = candidate; i > 0; i -= i & -i) {
+            sum += visibleTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the candidate index of the visible row {@code row}.
+     */
+    private int findVisible(int row) {
+        if (row < 0 || row >= visibleCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + visibleCount);
+        }
+        int position = 0;
+        int remaining = row + 1;
+        for (int step = Integer.highestOneBit(Math.max(1, visibleTree.length - 1)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < visibleTree.length && visibleTree[next] < remaining) {
+                position = next;
+                remaining -= visibleTree[next];
+            }
+        }
+        return position;
+    }
+}
@@ -0,0 +1,305 @@
+package controller;
+
+import model.Player;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Finds registrations that probably belong to the same person although they are not equal, e.g.
+ * "Müller" and "Mueller", a typo in the name, or the same player with a changed club or TTR value.
+ *
+ * <p>Names are normalized (lower case, umlauts and ß transliterated, accents and punctuation
+ * removed) and split into trigrams, the overlapping three-letter sequences of the padded name.
+ * Two names are similar if the Dice coefficient of their trigram sets, twice the number of shared
+ * trigrams divided by the total number, reaches the threshold. The registered players are kept in
+ * an inverted index from trigram to players, so a lookup never compares against the whole list:
+ * a player can only reach the threshold if they share at least one of the query's rarest trigrams
+ * (prefix filtering), so only the players listed under those few trigrams are checked.</p>
+ *
+ * <p>Every player has a slot, numbered in the order of registration. Removing a player takes it
+ * out of the lists of its trigrams and frees its slot; once half of the slots are free, the
+ * remaining players are numbered anew, so a list that is edited for a long time does not grow.</p>
+ */
+public class DuplicateDetector {
+
+    /** The default minimum similarity for two names to be reported as likely duplicates. */
+    public static final double DEFAULT_THRESHOLD = 0.75;
+
+    private static final int ALPHABET = 27;
+
+    /**
+     * Two registrations that probably belong to the same person.
+     *
+     * @param player     the player registered first, or the player looked up by {@link #findSimilar}
+     * @param duplicate  the similar player registered later, or the similar indexed player
+     * @param similarity the similarity of the names, between the threshold and 1
+     */
+    public record Duplicate(Player player, Player duplicate, double similarity) {}
+
+    /**
+     * The players listed under one trigram.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private final double threshold;
+    private final Map<Integer, Postings> index = new HashMap<>();
+    private final Map<Player, Integer> slots = new HashMap<>();
+    private final List<Player> players = new ArrayList<>();
+    private final List<int[]> trigrams = new ArrayList<>();
+    private int freeSlots;
+
+    /**
+     * Creates an empty detector with the {@link #DEFAULT_THRESHOLD}.
+     */
+    public DuplicateDetector() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates an empty detector.
+     *
+     * @param threshold the minimum similarity of two names, greater than 0 and at most 1
+     * @throws IllegalArgumentException if the threshold is out of range
+     */
+    public DuplicateDetector(double threshold) {
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw new IllegalArgumentException("Threshold must be in (0, 1]: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Checks a whole list for likely duplicates, comparing every player with the players before it.
+     *
+     * @param list      the players in registration order
+     * @param threshold the minimum similarity of two names
+     * @return the likely duplicates, each pair once, in the order of the later player
+     */
+    public static List<Duplicate> findDuplicates(List<Player> list, double threshold) {
+        return new DuplicateDetector(threshold).addAll(list);
+    }
+
+    /**
+     * Adds players to the index one by one, comparing each with the players indexed before it.
+     *
+     * @param list the players to add, in registration order
+     * @return the likely duplicates, with the earlier player first, in the order of the added players
+     */
+    public List<Duplicate> addAll(Collection<Player> list) {
+        List<Duplicate> duplicates = new ArrayList<>();
+        for (Player player : list) {
+            for (Duplicate match : findSimilar(player)) {
+                duplicates.add(new Duplicate(match.duplicate(), player, match.similarity()));
+            }
+            add(player);
+        }
+        return duplicates;
+    }
+
+    /**
+     * Adds a player to the index. Adding a player that is already indexed has no effect.
+     *
+     * @param player the player to add
+     */
+    public void add(Player player) {
+        if (slots.containsKey(player)) return;
+        int slot = players.size();
+        int[] grams = trigrams(player);
+        slots.put(player, slot);
+        players.add(player);
+        trigrams.add(grams);
+        for (int gram : grams) {
+            index.computeIfAbsent(gram, _ -> new Postings()).add(slot);
+        }
+    }
+
+    /**
+     * Removes a player from the index. Removing a player that is not indexed has no effect.
+     *
+     * @param player the player to remove
+     */
+    public void remove(Player player) {
+        Integer slot = slots.remove(player);
+        if (slot == null) return;
+        for (int gram : trigrams.get(slot)) {
+            Postings postings = index.get(gram);
+            postings.remove(slot);
+            if (postings.size == 0) {
+                index.remove(gram);
+            }
+        }
+        players.set(slot, null);
+        trigrams.set(slot, null);
+        freeSlots++;
+        if (freeSlots > players.size() / 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Numbers the remaining players anew in registration order and rebuilds the index.
+     */
+    private void compact() {
+        List<Player> remaining = new ArrayList<>(slots.size());
+        List<int[]> remainingTrigrams = new ArrayList<>(slots.size());
+        for (int slot = 0; slot < players.size(); slot++) {
+            if (players.get(slot) != null) {
+                remaining.add(players.get(slot));
+                remainingTrigrams.add(trigrams.get(slot));
+            }
+        }
+        players.clear();
+        trigrams.clear();
+        slots.clear();
+        index.clear();
+        freeSlots = 0;
+        for (int slot = 0; slot < remaining.size(); slot++) {
+            slots.put(remaining.get(slot), slot);
+            players.add(remaining.get(slot));
+            trigrams.add(remainingTrigrams.get(slot));
+            for (int gram : remainingTrigrams.get(slot)) {
+                index.computeIfAbsent(gram, _ -> new Postings()).add(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed players.
+     *
+     * @return the number of players
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Returns the indexed players whose names are similar to the given player's name, most
+     * similar first. The player itself is not reported.
+     *
+     * @param player the player to look up
+     * @return the likely duplicates, with the given player as {@link Duplicate#player()} and the
+     * indexed player as {@link Duplicate#duplicate()}
+     */
+    public List<Duplicate> findSimilar(Player player) {
+        int[] grams = trigrams(player);
+        if (grams.length == 0) return List.of();
+
+        Integer[] byFrequency = new Integer[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            byFrequency[i] = grams[i];
+        }
+        Arrays.sort(byFrequency, Comparator.comparingInt(gram -> {
+            Postings postings = index.get(gram);
+            return postings == null ? 0 : postings.size;
+        }));
+        int minShared = (int) Math.ceil(threshold * grams.length / (2 - threshold) - 1e-9);
+        int prefix = grams.length - Math.max(minShared, 1) + 1;
+
+        Set<Integer> candidates = new HashSet<>();
+        for (int i = 0; i < prefix; i++) {
+            Postings postings = index.get(byFrequency[i]);
+            if (postings == null) continue;
+            for (int k = 0; k < postings.size; k++) {
+                candidates.add(postings.slots[k]);
+            }
+        }
+
+        List<Duplicate> found = new ArrayList<>();
+        for (int slot : candidates) {
+            Player candidate = players.get(slot);
+            if (candidate.equals(player)) continue;
+            int[] other = trigrams.get(slot);
+            double similarity = 2.0 * shared(grams, other) / (grams.length + other.length);
+            if (similarity >= threshold) {
+                found.add(new Duplicate(player, candidate, similarity));
+            }
+        }
+        found.sort(Comparator.comparingDouble(Duplicate::similarity).reversed()
+                .thenComparing(duplicate -> slots.get(duplicate.duplicate())));
+        return found;
+    }
+
+    /**
+     * Returns the similarity of the names of two players, the Dice coefficient of their trigrams.
+     *
+     * @param first  the first player
+     * @param second the second player
+     * @return the similarity between 0 and 1
+     */
+    public static double similarity(Player first, Player second) {
+        int[] a = trigrams(first);
+        int[] b = trigrams(second);
+        return a.length + b.length == 0 ? 1 : 2.0 * shared(a, b) / (a.length + b.length);
+    }
+
+    /**
+     * Counts the common elements of two sorted arrays without duplicates.
+     */
+    private static int shared(int[] a, int[] b) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the distinct trigrams of a player's normalized full name, sorted. The name is padded
+     * with two spaces in front and one behind, so that the beginning of the name weighs more than
+     * a single inner letter.
+     */
+    private static int[] trigrams(Player player) {
+        String name = "  " + normalize(player.getFirstName() + " " + player.getLastName()) + " ";
+        int[] grams = new int[Math.max(name.length() - 2, 0)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (code(name.charAt(i)) * ALPHABET + code(name.charAt(i + 1))) * ALPHABET + code(name.charAt(i + 2));
+        }
+        return Arrays.stream(grams).sorted().distinct().toArray();
+    }
+
+    private static int code(char c) {
+        return c == ' ' ? 0 : c - 'a' + 1;
+    }
+
+    /**
+     * Normalizes a name for comparison: lower case, German umlauts and ß transliterated, accents
+     * removed, and every run of other characters replaced by a single space.
+     *
+     * @param name the name
+     * @return the normalized name, consisting of the letters a to z and single spaces
+     */
+    static String normalize(String name) {
+        String lower = name.toLowerCase(Locale.GERMAN)
+                .replace("ä", "ae").replace("ö", "oe").replace("ü", "ue").replace("ß", "ss");
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").replaceAll("[^a-z]+", " ").trim();
+    }
+}
@@ -0,0 +1,208 @@
+package controller;
+
+import model.Match;
+import model.Player;
+import model.TournamentMode;
+
+import java.util.*;
+
+/**
+ * Round Robin group stage for the "Gruppen + K.-o." mode.
+ *
+ * <p>Players are snake-seeded by TTR into a fixed number of groups: the strongest player goes to
+ * group A, the next to group B and so on; the direction reverses after every row so that all groups
+ * end up with a similar strength. Each group is an independent scoring and pairing unit with its own
+ * {@link PairingEngine} in Round Robin mode, so pairing and standings work only on the few players of
+ * one group.</p>
+ *
+ * <p>All groups play their rounds concurrently. The matches of one round are interleaved across the
+ * groups and share the tournament's tables. Once every group round has been played, the best
+ * {@code qualifiersPerGroup} players of every group qualify for the knockout stage.</p>
+ */
+public class GroupStage {
+
+    private final List<List<Player>> groups;
+    private final List<PairingEngine> groupEngines;
+    private final int qualifiersPerGroup;
+    private final int tableNumber;
+
+    /**
+     * Creates the group stage and seeds the players into their groups.
+     *
+     * @param players            all players of the tournament
+     * @param groupCount         the number of groups; every group must receive at least two players
+     * @param qualifiersPerGroup the number of players per group advancing to the knockout stage
+     * @param tableNumber        the number of tables shared by all groups
+     * @throws IllegalArgumentException if the group configuration is invalid for the field size
+     */
+    public GroupStage(List<Player> players, int groupCount, int qualifiersPerGroup, int tableNumber) {
+        if (groupCount < 1 || players.size() < groupCount * 2) {
+            throw new IllegalArgumentException("Every group needs at least two players.");
+        }
+        if (qualifiersPerGroup < 1 || qualifiersPerGroup > players.size() / groupCount) {
+            throw new IllegalArgumentException("Invalid number of qualifiers per group: " + qualifiersPerGroup);
+        }
+        this.groups = snakeSeed(players, groupCount);
+        this.qualifiersPerGroup = qualifiersPerGroup;
+        this.tableNumber = tableNumber;
+        this.groupEngines = new ArrayList<>();
+        for (List<Player> group : groups) {
+            groupEngines.add(new PairingEngine(group, tableNumber, TournamentMode.ROUND_ROBIN));
+        }
+    }
+
+    /**
+     * Distributes the players into groups by TTR using snake seeding.
+     *
+     * @param players    the players to distribute
+     * @param groupCount the number of groups
+     * @return the groups, each in seed order
+     */
+    static List<List<Player>> snakeSeed(List<Player> players, int groupCount) {
+        List<Player> seeded = new ArrayList<>(players);
+        seeded.sort(Comparator.comparingInt(Player::getTtr).reversed());
+
+        List<List<Player>> result = new ArrayList<>();
+        for (int g = 0; g < groupCount; g++) {
+            result.add(new ArrayList<>());
+        }
+        for (int i = 0; i < seeded.size(); i++) {
+            int row = i / groupCount;
+            int column = i % groupCount;
+            int group = row % 2 == 0 ? column : groupCount - 1 - column;
+            result.get(group).add(seeded.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the players of every group.
+     *
+     * @return an unmodifiable list of the groups
+     */
+    public List<List<Player>> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+
+    /**
+     * Returns the display name of a group, e.g. "Gruppe A".
+     *
+     * @param group the zero-based group index
+     * @return the group name
+     */
+    public static String getGroupName(int group) {
+        return group < 26 ? "Gruppe " + (char) ('A' + group) : "Gruppe " + (group + 1);
+    }
+
+    /**
+     * Returns the number of rounds of the group stage, i.e. the round count of the largest group.
+     *
+     * @return the number of group rounds
+     */
+    public int getRoundCount() {
+        return groupEngines.stream()
+                .mapToInt(engine -> engine.getRoundRobinSchedule().getRoundCount())
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Returns the total number of matches (including byes) the group stage produces.
+     *
+     * @return the number of group stage matches
+     */
+    public int getMatchCount() {
+        return groupEngines.stream()
+                .mapToInt(engine -> engine.getRoundRobinSchedule().getRoundCount()
+                        * engine.getRoundRobinSchedule().getPairsPerRound())
+                .sum();
+    }
+
+    /**
+     * Generates the given round for all groups at once. Matches are interleaved across groups so
+     * that every group starts on the shared tables simultaneously; tables are then assigned across
+     * all groups in that order. Groups that have already finished their schedule sit out.
+     *
+     * @param round the one-based group round
+     * @return the matches of all groups for this round
+     */
+    public List<Match> generateRound(int round) {
+        List<List<Match>> perGroup = new ArrayList<>();
+        for (PairingEngine engine : groupEngines) {
+            engine.clearCurrentRound();
+            if (engine.generatePairings(round) != null) {
+                perGroup.add(new ArrayList<>(engine.getMatches()));
+            }
+        }
+
+        List<Match> interleaved = new ArrayList<>();
+        int longest = perGroup.stream().mapToInt(List::size).max().orElse(0);
+        for (int i = 0; i < longest; i++) {
+            for (List<Match> groupMatches : perGroup) {
+                if (i < groupMatches.size()) {
+                    interleaved.add(groupMatches.get(i));
+                }
+            }
+        }
+
+        int table = 0;
+        for (Match match : interleaved) {
+            if (match.getSecondPlayer() != null) {
+                match.setTable(table % tableNumber + 1);
+                table++;
+            }
+        }
+        return interleaved;
+    }
+
+    /**
+     * Restores the group engines from a saved match history.
+     *
+     * @param groupMatches the group stage part of the saved match history
+     */
+    public void restore(List<Match> groupMatches) {
+        for (int g = 0; g < groups.size(); g++) {
+            Set<Player> members = new HashSet<>(groups.get(g));
+            List<Match> ofGroup = groupMatches.stream()
+                    .filter(match -> members.contains(match.getFirstPlayer()))
+                    .toList();
+            groupEngines.get(g).restoreState(ofGroup, List.of());
+        }
+    }
+
+    /**
+     * Calculates the standings of one group from that group's matches only.
+     *
+     * @param group the zero-based group index
+     * @return the group's players, best first
+     */
+    public List<Player> getGroupStandings(int group) {
+        List<Player> players = new ArrayList<>(groups.get(group));
+        new ScoreCalculator(groupEngines.get(group).getAllMatches(), false).calculate(players);
+        PairingEngine.sortPlayersByRanking(players, TournamentMode.ROUND_ROBIN);
+        return players.reversed();
+    }
+
+    /**
+     * Returns the players qualified for the knockout stage in seed order: first all group winners
+     * (group A first), then all runners-up, and so on. Combined with standard bracket seeding, a
+     * group winner meets a runner-up of another group in the first knockout round.
+     *
+     * @return the qualified players in seed order
+     */
+    public List<Player> getQualifiers() {
+        List<List<Player>> standings = new ArrayList<>();
+        for (int g = 0; g < groups.size(); g++) {
+            standings.add(getGroupStandings(g));
+        }
+        List<Player> qualifiers = new ArrayList<>();
+        for (int place = 0; place < qualifiersPerGroup; place++) {
+            for (List<Player> groupStandings : standings) {
+                if (place < groupStandings.size()) {
+                    qualifiers.add(groupStandings.get(place));
+                }
+            }
+        }
+        return qualifiers;
+    }
+}
@@ -0,0 +1,134 @@
+package controller;
+
+import model.Match;
+
+import java.util.*;
+
+/**
+ * A list of matches in insertion order from which a match is removed by its ID in constant time.
+ *
+ * <p>The matches are kept in an array together with the position of every match ID. Removing a
+ * match only clears its position; the gaps are closed in one pass when they make up half of the
+ * array, or when an element is accessed by index. Iterating skips the gaps, so removing any number
+ * of matches and then iterating costs time proportional to the number of matches, without
+ * searching the list once per removal.</p>
+ */
+final class MatchHistory extends AbstractList<Match> {
+
+    private Match[] slots = new Match[16];
+    private int end;
+    private int gaps;
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    @Override
+    public boolean add(Match match) {
+        if (end == slots.length) {
+            if (gaps > 0) {
+                compact();
+            }
+            if (end == slots.length) {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+        }
+        positions.put(match.getId(), end);
+        slots[end++] = match;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the match with the given ID.
+     *
+     * @param id the match ID
+     * @return the removed match, or {@code null} if the list has no match with this ID
+     */
+    Match remove(long id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return null;
+        }
+        Match match = slots[position];
+        slots[position] = null;
+        gaps++;
+        modCount++;
+        if (gaps > end / 2) {
+            compact();
+        }
+        return match;
+    }
+
+    @Override
+    public Match get(int index) {
+        compact();
+        Objects.checkIndex(index, end);
+        return slots[index];
+    }
+
+    @Override
+    public int size() {
+        return end - gaps;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slots, 0, end, null);
+        end = 0;
+        gaps = 0;
+        positions.clear();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<Match> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int next = skipGaps(0);
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public Match next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= end) {
+                    throw new NoSuchElementException();
+                }
+                Match match = slots[next];
+                next = skipGaps(next + 1);
+                return match;
+            }
+        };
+    }
+
+    private int skipGaps(int position) {
+        while (position < end && slots[position] == null) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Closes the gaps left by removed matches and updates the positions of the moved matches.
+     */
+    private void compact() {
+        if (gaps == 0) return;
+        int target = 0;
+        for (int i = 0; i < end; i++) {
+            Match match = slots[i];
+            if (match != null) {
+                if (target != i) {
+                    slots[target] = match;
+                    positions.put(match.getId(), target);
+                }
+                target++;
+            }
+        }
+        Arrays.fill(slots, target, end, null);
+        end = target;
+        gaps = 0;
+    }
+}
@@ -0,0 +1,175 @@
+package controller;
+
+import model.Match;
+import model.Player;
+
+import java.util.*;
+
+/**
+ * Incrementally maintained lookup structures over the match history of a {@link PairingEngine}.
+ *
+ * <p>Every player is assigned a dense index on first sight. The index maps match IDs to matches,
+ * keeps the matches of every player and of every round in insertion order, and marks all players
+ * who have received a bye (Freilos) in a {@link BitSet}. Adding a match and looking it up by ID
+ * cost constant time; removing one costs constant time in its round, which is a
+ * {@link MatchHistory}, and time proportional to the number of matches of its two players, which
+ * is at most the number of rounds. Queries never scan the whole history.</p>
+ *
+ * <p>Matches are tracked by {@link Match#getId() ID}, since {@link Match#equals(Object)} considers
+ * all matches between the same two players equal.</p>
+ */
+final class MatchIndex {
+
+    private final Map<Player, Integer> playerIds = new HashMap<>();
+    private final List<List<Match>> matchesByPlayer = new ArrayList<>();
+    private final List<MatchHistory> matchesByRound = new ArrayList<>();
+    private final Map<Long, Match> matchesById = new HashMap<>();
+    private final BitSet byes = new BitSet();
+
+    /**
+     * Returns the dense index of a player, assigning the next free index on first use.
+     */
+    private int idOf(Player player) {
+        Integer id = playerIds.get(player);
+        if (id == null) {
+            id = playerIds.size();
+            playerIds.put(player, id);
+            matchesByPlayer.add(new ArrayList<>());
+        }
+        return id;
+    }
+
+    /**
+     * Adds a match to the index under its ID and {@link Match#getRound() round}.
+     *
+     * @param match the match to add
+     */
+    void add(Match match) {
+        int round = Math.max(1, match.getRound());
+        int first = idOf(match.getFirstPlayer());
+        matchesByPlayer.get(first).add(match);
+        if (match.getSecondPlayer() != null) {
+            matchesByPlayer.get(idOf(match.getSecondPlayer())).add(match);
+        } else {
+            byes.set(first);
+        }
+        while (matchesByRound.size() < round) {
+            matchesByRound.add(new MatchHistory());
+        }
+        matchesByRound.get(round - 1).add(match);
+        matchesById.put(match.getId(), match);
+    }
+
+    /**
+     * Removes a match from the index. A player keeps the bye mark only if another bye match of
+     * that player remains.
+     *
+     * @param id the ID of the match to remove
+     * @return the removed match, or {@code null} if no match with this ID is indexed
+     */
+    Match remove(long id) {
+        Match match = matchesById.remove(id);
+        if (match == null) {
+            return null;
+        }
+        matchesByRound.get(Math.max(1, match.getRound()) - 1).remove(id);
+        int first = playerIds.get(match.getFirstPlayer());
+        removeById(matchesByPlayer.get(first), id);
+        if (match.getSecondPlayer() != null) {
+            removeById(matchesByPlayer.get(playerIds.get(match.getSecondPlayer())), id);
+        } else {
+            byes.set(first, matchesByPlayer.get(first).stream().anyMatch(m -> m.getSecondPlayer() == null));
+        }
+        return match;
+    }
+
+    /**
+     * Removes the match with the given ID from a list, searching from the end where recent
+     * matches are.
+     */
+    private static void removeById(List<Match> list, long id) {
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i).getId() == id) {
+                list.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes all matches from the index.
+     */
+    void clear() {
+        playerIds.clear();
+        matchesByPlayer.clear();
+        matchesByRound.clear();
+        matchesById.clear();
+        byes.clear();
+    }
+
+    /**
+     * Returns the match with the given ID.
+     *
+     * @param id the match ID
+     * @return the match, or {@code null} if no match with this ID is indexed
+     */
+    Match get(long id) {
+        return matchesById.get(id);
+    }
+
+    /**
+     * Returns the matches of a player, including bye matches, in the order they were added.
+     *
+     * @param player the player
+     * @return an unmodifiable view of the player's matches
+     */
+    List<Match> getMatchesOf(Player player) {
+        Integer id = playerIds.get(player);
+        return id == null ? List.of() : Collections.unmodifiableList(matchesByPlayer.get(id));
+    }
+
+    /**
+     * Returns the matches of a round in the order they were added.
+     *
+     * @param round the one-based round
+     * @return an unmodifiable view of the round's matches
+     */
+    List<Match> getRound(int round) {
+        return round >= 1 && round <= matchesByRound.size()
+                ? Collections.unmodifiableList(matchesByRound.get(round - 1))
+                : List.of();
+    }
+
+    /**
+     * Returns whether the player has received a bye.
+     *
+     * @param player the player
+     * @return {@code true} if a bye match of the player is indexed
+     */
+    boolean hasBye(Player player) {
+        Integer id = playerIds.get(player);
+        return id != null && byes.get(id);
+    }
+
+    /**
+     * Returns whether the two players have already been paired against each other.
+     * Only the shorter of the two match lists is searched.
+     *
+     * @param first  the first player
+     * @param second the second player
+     * @return {@code true} if a match between the two players is indexed
+     */
+    boolean havePlayed(Player first, Player second) {
+        List<Match> firstMatches = getMatchesOf(first);
+        List<Match> secondMatches = getMatchesOf(second);
+        List<Match> shorter = firstMatches.size() <= secondMatches.size() ? firstMatches : secondMatches;
+        for (Match match : shorter) {
+            Player a = match.getFirstPlayer();
+            Player b = match.getSecondPlayer();
+            if (b != null && ((a.equals(first) && b.equals(second)) || (a.equals(second) && b.equals(first)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
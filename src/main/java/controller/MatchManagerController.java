@@ -1,28 +1,26 @@
 package controller;
 
 import model.Match;
-import model.Player;
 import view.MatchManagerView;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * Controller class for managing matches in a tournament.
  * Handles the interaction between the view and the model for selecting and committing matches.
  */
 public class MatchManagerController {
-    private final DefaultListModel<Match> possibleMatchesModel;
+    private final CandidateMatchModel possibleMatchesModel;
     private final DefaultListModel<Match> selectedMatchesModel;
-    private final List<Match> allPossibleMatches;
     private final int playerCount;
     private final TournamentRound tournamentRound;
     private final MatchManagerView view;
@@ -38,15 +36,9 @@ public class MatchManagerController {
         this.playerCount = playerCount;
         this.tournamentRound = tournamentRound;
 
-        allPossibleMatches = new ArrayList<>(matches);
-
-        possibleMatchesModel = new DefaultListModel<>();
+        possibleMatchesModel = new CandidateMatchModel(new ArrayList<>(matches));
         selectedMatchesModel = new DefaultListModel<>();
 
-        for (Match match : allPossibleMatches) {
-            possibleMatchesModel.addElement(match);
-        }
-
         view = new MatchManagerView(possibleMatchesModel, selectedMatchesModel, playerCount);
         addListeners();
     }
@@ -76,61 +68,106 @@ public class MatchManagerController {
         view.getUpButton().addActionListener(_ -> moveMatchToPossible());
 
         view.getCommitButton().addActionListener(_ -> commitSelectedMatches());
+
+        view.getAutoCompleteButton().addActionListener(_ -> completeSelection());
+
+        view.getSearchField().getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                applySearch();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                applySearch();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                applySearch();
+            }
+        });
+        view.getSearchField().addActionListener(_ -> {
+            if (possibleMatchesModel.getSize() > 0) {
+                view.getPossibleMatchesList().setSelectedIndex(0);
+                view.getPossibleMatchesList().requestFocusInWindow();
+            }
+        });
+    }
+
+    /**
+     * Filters the possible matches by the text in the search field.
+     */
+    private void applySearch() {
+        view.getPossibleMatchesList().clearSelection();
+        possibleMatchesModel.setFilter(view.getSearchField().getText());
     }
 
     /**
      * Moves the selected match from the possible matches list to the selected matches list.
+     * The candidate model hides every match that shares a player with it.
      */
     private void moveMatchToSelected() {
         int index = view.getPossibleMatchesList().getSelectedIndex();
         if (index != -1) {
             Match selectedMatch = possibleMatchesModel.getElementAt(index);
-            possibleMatchesModel.remove(index);
+            view.getPossibleMatchesList().clearSelection();
             selectedMatchesModel.addElement(selectedMatch);
-            refreshAvailableMatches(selectedMatchesModel, possibleMatchesModel, allPossibleMatches);
+            possibleMatchesModel.select(selectedMatch);
         }
     }
 
     /**
-     * Moves the selected match from the selected matches list to the possible matches list.
+     * Moves the selected match from the selected matches list back to the possible matches list.
      */
     private void moveMatchToPossible() {
         int index = view.getSelectedMatchesList().getSelectedIndex();
         if (index != -1) {
             Match selectedMatch = selectedMatchesModel.getElementAt(index);
             selectedMatchesModel.remove(index);
-            possibleMatchesModel.addElement(selectedMatch);
-            refreshAvailableMatches(selectedMatchesModel, possibleMatchesModel, allPossibleMatches);
+            view.getPossibleMatchesList().clearSelection();
+            possibleMatchesModel.deselect(selectedMatch);
         }
     }
 
     /**
-     * Refreshes the possible matches list by removing matches that contain players already selected.
-     * Also ensures that no duplicate players are selected and handles the case of a bye (freilos).
-     *
-     * @param selectedMatchesModel The model containing the selected matches.
-     * @param possibleMatchesModel The model containing the possible matches.
-     * @param allPossibleMatches List of all possible matches.
+     * Pairs all players that are not yet part of a selected match automatically and, after
+     * confirmation, adds the proposed matches to the selection.
      */
-    private static void refreshAvailableMatches(DefaultListModel<Match> selectedMatchesModel, DefaultListModel<Match> possibleMatchesModel, List<Match> allPossibleMatches) {
-        var selected = IntStream.range(0, selectedMatchesModel.getSize())
+    private void completeSelection() {
+        List<Match> fixedMatches = IntStream.range(0, selectedMatchesModel.getSize())
                 .mapToObj(selectedMatchesModel::getElementAt)
                 .toList();
+        List<Match> completion = tournamentRound.completePairings(fixedMatches, possibleMatchesModel.getCandidates());
 
-        boolean freilosSelected = selected.stream().anyMatch(m -> m.getSecondPlayer() == null);
-
-        Set<Player> selectedPlayers = selected.stream()
-                .flatMap(m -> m.getSecondPlayer() != null
-                        ? Stream.of(m.getFirstPlayer(), m.getSecondPlayer())
-                        : Stream.of(m.getFirstPlayer()))
-                .collect(Collectors.toCollection(HashSet::new));
+        if (completion == null) {
+            JOptionPane.showMessageDialog(view,
+                    "Die übrigen Spieler lassen sich nicht ohne Wiederholungsspiele oder doppeltes Freilos paaren.",
+                    "Keine Ergänzung möglich", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (completion.isEmpty()) {
+            JOptionPane.showMessageDialog(view, "Alle Spieler sind bereits gepaart.");
+            return;
+        }
 
-        possibleMatchesModel.clear();
-        allPossibleMatches.stream()
-                .filter(m -> (!selectedPlayers.contains(m.getFirstPlayer()) &&
-                        (m.getSecondPlayer() == null || !selectedPlayers.contains(m.getSecondPlayer()))) &&
-                        (!freilosSelected || m.getSecondPlayer() != null))
-                .forEach(possibleMatchesModel::addElement);
+        String proposal = completion.stream()
+                .map(m -> m.getSecondPlayer() == null
+                        ? m.getFirstPlayer().getFullName() + "  —  Freilos"
+                        : m.getFirstPlayer().getFullName() + "  vs  " + m.getSecondPlayer().getFullName())
+                .collect(Collectors.joining("\n"));
+        JTextArea proposalArea = new JTextArea(proposal, Math.min(completion.size(), 15), 40);
+        proposalArea.setEditable(false);
+
+        int answer = JOptionPane.showConfirmDialog(view, new JScrollPane(proposalArea),
+                "Vorgeschlagene Ergänzung übernehmen?", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+        if (answer == JOptionPane.YES_OPTION) {
+            view.getPossibleMatchesList().clearSelection();
+            for (Match match : completion) {
+                selectedMatchesModel.addElement(match);
+                possibleMatchesModel.select(match);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,172 @@
+package controller;
+
+import model.Match;
+import model.Player;
+
+import java.util.*;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The pairs of a player list that have not been played yet, stored as one bit per pair.
+ *
+ * <p>Pair {@code (i, j)} with {@code i < j} refers to the players at these positions of the list
+ * and occupies bit {@code rowStart(i) + j - i - 1} of a triangular {@link BitSet}; a set bit means
+ * the pair has already been played. Open pairs are enumerated lazily in the order
+ * {@code (0,1), (0,2), ..., (1,2), ...} as packed {@code long} values (see {@link #first(long)} and
+ * {@link #second(long)}), so callers create {@link Match} objects only for the pairs they actually
+ * use. Memory is O(n²) bits instead of O(n²) match objects.</p>
+ *
+ * <p>Players who have already received a bye are tracked in a second bit set.</p>
+ */
+final class OpenPairs {
+
+    private final List<Player> players;
+    private final Map<Player, Integer> positions = new HashMap<>();
+    private final BitSet played;
+    private final BitSet byeReceived = new BitSet();
+    private final int pairCount;
+
+    /**
+     * Marks every pair and bye of the given history as played.
+     *
+     * @param players the players, in the order the pairs are enumerated
+     * @param history the matches played so far; matches with other players are ignored
+     */
+    OpenPairs(List<Player> players, Collection<Match> history) {
+        this.players = List.copyOf(players);
+        int n = this.players.size();
+        for (int i = 0; i < n; i++) {
+            positions.putIfAbsent(this.players.get(i), i);
+        }
+        pairCount = n * (n - 1) / 2;
+        played = new BitSet(pairCount);
+        for (Match match : history) {
+            Integer first = positions.get(match.getFirstPlayer());
+            if (first == null) continue;
+            if (match.getSecondPlayer() == null) {
+                byeReceived.set(first);
+                continue;
+            }
+            Integer second = positions.get(match.getSecondPlayer());
+            if (second != null && !first.equals(second)) {
+                played.set(bit(first, second));
+            }
+        }
+    }
+
+    /**
+     * Packs a pair of positions into one {@code long}.
+     */
+    static long pair(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+
+    /**
+     * Returns the smaller position of a packed pair.
+     */
+    static int first(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    /**
+     * Returns the larger position of a packed pair.
+     */
+    static int second(long pair) {
+        return (int) pair;
+    }
+
+    private int rowStart(int i) {
+        int n = players.size();
+        return i * (2 * n - i - 1) / 2;
+    }
+
+    private int bit(int i, int j) {
+        if (i > j) {
+            int swap = i;
+            i = j;
+            j = swap;
+        }
+        return rowStart(i) + j - i - 1;
+    }
+
+    /**
+     * Returns the number of players.
+     */
+    int size() {
+        return players.size();
+    }
+
+    /**
+     * Returns the player at a position.
+     */
+    Player player(int position) {
+        return players.get(position);
+    }
+
+    /**
+     * Returns the position of a player, or -1 if the player is not part of the list.
+     */
+    int positionOf(Player player) {
+        return positions.getOrDefault(player, -1);
+    }
+
+    /**
+     * Returns whether two different players have not played each other yet.
+     */
+    boolean isOpen(int first, int second) {
+        return first != second && !played.get(bit(first, second));
+    }
+
+    /**
+     * Returns whether the player at a position has not received a bye yet.
+     */
+    boolean canReceiveBye(int position) {
+        return !byeReceived.get(position);
+    }
+
+    /**
+     * Returns the number of open pairs.
+     */
+    int openPairCount() {
+        return pairCount - played.cardinality();
+    }
+
+    /**
+     * Returns the open pairs in row order as packed {@code long} values. The pairs are produced on
+     * demand from the bit set.
+     */
+    LongStream pairs() {
+        PrimitiveIterator.OfLong iterator = new PrimitiveIterator.OfLong() {
+            private int row;
+            private int nextBit = played.nextClearBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextBit < pairCount;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (rowStart(row + 1) <= nextBit) {
+                    row++;
+                }
+                long pair = pair(row, row + 1 + nextBit - rowStart(row));
+                nextBit = played.nextClearBit(nextBit + 1);
+                return pair;
+            }
+        };
+        return StreamSupport.longStream(Spliterators.spliterator(iterator, openPairCount(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Creates the match for a packed pair, without a table.
+     */
+    Match toMatch(long pair) {
+        return new Match(players.get(first(pair)), players.get(second(pair)), -1);
+    }
+}
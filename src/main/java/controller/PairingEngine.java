@@ -1,10 +1,13 @@
 package controller;
 
+import model.KnockoutBracket;
 import model.Match;
 import model.Player;
+import model.TieBreak;
 import model.TournamentMode;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -17,35 +20,287 @@ import java.util.stream.IntStream;
  * and points are used to order candidates. A bye (Freilos) is assigned when the player
  * count is odd.</p>
  *
- * <p>In Round Robin mode, the circle method (Berger schedule) is used to generate one
- * complete schedule for {@code n-1} rounds, guaranteeing every player meets every other
- * player exactly once.</p>
+ * <p>In Round Robin mode, a {@link RoundRobinSchedule} (Berger tables) is computed once for
+ * {@code n-1} rounds, guaranteeing every player meets every other player exactly once; in double
+ * Round Robin mode every pairing is played a second time with home and away swapped.</p>
+ *
+ * <p>In group mode, a {@link GroupStage} plays all groups concurrently as independent Round Robins;
+ * afterwards the qualified players continue in a single-elimination {@link KnockoutBracket}.
+ * In the knockout modes all players are seeded by TTR directly into a single- or double-elimination
+ * bracket. Saved results advance the bracket immediately via {@link #recordResult(Match)}.</p>
+ *
+ * <p>With a number of {@link #setPlannedRounds(int) planned rounds}, the Swiss System looks ahead:
+ * a pairing is only accepted if the pairs that remain unplayed still allow the rest of the planned
+ * rounds, as decided by {@link RoundFeasibility}. This keeps the greedy pairing from running into a
+ * dead end before the advertised number of rounds.</p>
  */
 public class PairingEngine {
 
+    private static final int LOOK_AHEAD_ATTEMPTS = 2_000;
+
     private final List<Player> playerList;
     private final int tableNumber;
     private final TournamentMode mode;
-    private final List<Match> matches;
-    private final List<Match> allMatches;
-    private Set<Player> byeList;
+    private final MatchHistory matches;
+    private final MatchHistory allMatches;
+    private final MatchIndex matchIndex;
+    private int round;
     private boolean finished;
+    private RoundRobinSchedule roundRobinSchedule;
+    private List<Player> roundRobinSeeding;
+    private final int groupCount;
+    private final int qualifiersPerGroup;
+    private GroupStage groupStage;
+    private KnockoutBracket knockoutBracket;
+    private final Map<Long, Integer> knockoutNodes;
+    private final Map<Player, Integer> compensationPoints;
+    private final Set<Player> withdrawnPlayers;
+    private List<TieBreak> tieBreaks;
+    private int plannedRounds;
+    private ForkJoinPool searchPool;
+    private final RoundFeasibility roundFeasibility = new RoundFeasibility();
 
     /**
      * Constructs a new PairingEngine.
      *
      * @param playerList  the list of players participating in the tournament
      * @param tableNumber the number of available tables for match assignment
-     * @param mode        the tournament mode (SWISS or ROUND_ROBIN)
+     * @param mode        the tournament mode (SWISS, ROUND_ROBIN or DOUBLE_ROUND_ROBIN)
      */
     public PairingEngine(List<Player> playerList, int tableNumber, TournamentMode mode) {
+        this(playerList, tableNumber, mode, 1, 1);
+    }
+
+    /**
+     * Constructs a new PairingEngine with a group stage configuration.
+     *
+     * @param playerList         the list of players participating in the tournament
+     * @param tableNumber        the number of available tables for match assignment
+     * @param mode               the tournament mode
+     * @param groupCount         the number of groups (only used in GROUPS_KNOCKOUT mode)
+     * @param qualifiersPerGroup the number of players per group reaching the knockout stage
+     *                           (only used in GROUPS_KNOCKOUT mode)
+     */
+    public PairingEngine(List<Player> playerList, int tableNumber, TournamentMode mode,
+                         int groupCount, int qualifiersPerGroup) {
         this.playerList = playerList;
         this.tableNumber = tableNumber;
         this.mode = mode;
-        this.matches = new ArrayList<>();
-        this.allMatches = new ArrayList<>();
-        this.byeList = new HashSet<>();
+        this.matches = new MatchHistory();
+        this.allMatches = new MatchHistory();
+        this.matchIndex = new MatchIndex();
+        this.round = 1;
         this.finished = false;
+        this.groupCount = groupCount;
+        this.qualifiersPerGroup = qualifiersPerGroup;
+        this.knockoutNodes = new HashMap<>();
+        this.compensationPoints = new HashMap<>();
+        this.withdrawnPlayers = new HashSet<>();
+        this.tieBreaks = TieBreak.defaultChain(mode);
+    }
+
+    /**
+     * Returns the tie-break criteria that order players with the same number of points.
+     *
+     * @return the criteria in the order they are applied
+     */
+    public List<TieBreak> getTieBreaks() {
+        return tieBreaks;
+    }
+
+    /**
+     * Replaces the tie-break criteria, e.g. to decide ties by direct comparison or
+     * Sonneborn-Berger instead of the default chain of the mode.
+     *
+     * @param tieBreaks the criteria in the order they are applied
+     */
+    public void setTieBreaks(List<TieBreak> tieBreaks) {
+        this.tieBreaks = List.copyOf(tieBreaks);
+    }
+
+    /**
+     * Returns the number of rounds the Swiss System pairing guarantees.
+     *
+     * @return the planned number of rounds, or {@code 0} if the pairing does not look ahead
+     */
+    public int getPlannedRounds() {
+        return plannedRounds;
+    }
+
+    /**
+     * Sets the number of rounds the tournament is advertised with. Until this round has been
+     * paired, the Swiss System only accepts pairings after which the remaining rounds can still
+     * be played; if the history already rules that out, e.g. after manual pairings, the pairing
+     * falls back to the greedy strategy.
+     *
+     * @param plannedRounds the planned number of rounds, or {@code 0} to pair greedily
+     * @throws IllegalArgumentException if the number is negative
+     */
+    public void setPlannedRounds(int plannedRounds) {
+        if (plannedRounds < 0) {
+            throw new IllegalArgumentException("Planned rounds must not be negative: " + plannedRounds);
+        }
+        this.plannedRounds = plannedRounds;
+    }
+
+    /**
+     * Returns whether the Swiss System backtracking runs in parallel.
+     *
+     * @return {@code true} if the search is split into tasks of the common fork-join pool
+     */
+    public boolean isParallelSearch() {
+        return searchPool != null;
+    }
+
+    /**
+     * Lets the Swiss System backtracking search the opponent choices of the first levels in
+     * parallel on the common {@link ForkJoinPool}. The pairings are the same as those of the
+     * sequential search (see {@link SwissBacktracking}), including those of the look-ahead, so a
+     * tournament is paired alike on every machine.
+     *
+     * @param parallel {@code true} to search in parallel
+     */
+    public void setParallelSearch(boolean parallel) {
+        searchPool = parallel ? ForkJoinPool.commonPool() : null;
+    }
+
+    /**
+     * Registers a player who arrives after the tournament has started (Nachmeldung). The player
+     * is appended to the shared player list and takes part in the pairings from the next round
+     * on; the match index assigns the new player an index on first sight, so none of the
+     * lookup structures is rebuilt. Only possible in Swiss System mode, where the pairings of
+     * every round are computed from the current field.
+     *
+     * @param player             the player to add
+     * @param compensationPoints the points credited for the rounds the player has missed, added
+     *                           to the points earned in matches by the {@link ScoreCalculator}
+     * @throws IllegalStateException    if the tournament is not played in Swiss System mode
+     * @throws IllegalArgumentException if the player is already registered or the compensation
+     *                                  points are negative
+     */
+    public void addPlayer(Player player, int compensationPoints) {
+        if (mode != TournamentMode.SWISS) {
+            throw new IllegalStateException("Players can only be added in Swiss System mode");
+        }
+        if (compensationPoints < 0) {
+            throw new IllegalArgumentException("Compensation points must not be negative: " + compensationPoints);
+        }
+        if (playerList.contains(player)) {
+            throw new IllegalArgumentException("Player is already registered: " + player.getFullName());
+        }
+        playerList.add(player);
+        if (compensationPoints > 0) {
+            this.compensationPoints.put(player, compensationPoints);
+        }
+    }
+
+    /**
+     * Withdraws a player from the remaining rounds, e.g. after an injury. The player keeps all
+     * results and stays in the standings, but is no longer paired; with an odd number of
+     * remaining players the lowest-ranked of them receives a bye as usual. A match of the
+     * current round is left to the tournament director, who enters its result. Only possible in
+     * Swiss System mode.
+     *
+     * @param player the player to withdraw
+     * @throws IllegalStateException    if the tournament is not played in Swiss System mode
+     * @throws IllegalArgumentException if the player is not registered
+     */
+    public void withdrawPlayer(Player player) {
+        if (mode != TournamentMode.SWISS) {
+            throw new IllegalStateException("Players can only be withdrawn in Swiss System mode");
+        }
+        if (!playerList.contains(player)) {
+            throw new IllegalArgumentException("Player is not registered: " + player.getFullName());
+        }
+        withdrawnPlayers.add(player);
+    }
+
+    /**
+     * Returns whether a player has been withdrawn from the remaining rounds.
+     *
+     * @param player the player
+     * @return {@code true} if the player is no longer paired
+     */
+    public boolean isWithdrawn(Player player) {
+        return withdrawnPlayers.contains(player);
+    }
+
+    /**
+     * Returns all registered players, including late entries and withdrawn players, in
+     * registration order.
+     *
+     * @return a live, unmodifiable view of the registered players
+     */
+    public List<Player> getPlayers() {
+        return Collections.unmodifiableList(playerList);
+    }
+
+    /**
+     * Returns the players who take part in the pairings of the coming rounds: all registered
+     * players except the withdrawn ones, in registration order.
+     *
+     * @return the active players
+     */
+    public List<Player> getActivePlayers() {
+        if (withdrawnPlayers.isEmpty()) {
+            return new ArrayList<>(playerList);
+        }
+        return playerList.stream().filter(p -> !withdrawnPlayers.contains(p))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Returns the compensation points of the players added after the start.
+     *
+     * @return a live, unmodifiable view of the compensation points by player
+     */
+    public Map<Player, Integer> getCompensationPoints() {
+        return Collections.unmodifiableMap(compensationPoints);
+    }
+
+    /**
+     * Returns the players withdrawn from the remaining rounds.
+     *
+     * @return an unmodifiable copy of the withdrawn players
+     */
+    public Set<Player> getWithdrawnPlayers() {
+        return Set.copyOf(withdrawnPlayers);
+    }
+
+    /**
+     * Restores the registered players, compensation points and withdrawals of an earlier state,
+     * e.g. when a late entry is undone. The player list passed to the constructor is changed in
+     * place, so its owner sees the restored players as well.
+     *
+     * @param players      the registered players in registration order
+     * @param compensation the compensation points by player, or {@code null} for none
+     * @param withdrawn    the withdrawn players, or {@code null} for none
+     */
+    public void restoreFieldChanges(List<Player> players, Map<Player, Integer> compensation,
+                                    Collection<Player> withdrawn) {
+        if (!playerList.equals(players)) {
+            playerList.clear();
+            playerList.addAll(players);
+        }
+        restoreFieldChanges(compensation, withdrawn);
+    }
+
+    /**
+     * Restores the compensation points and withdrawals of a saved tournament. The players
+     * themselves are part of the restored player list.
+     *
+     * @param compensation the compensation points by player, or {@code null} for none
+     * @param withdrawn    the withdrawn players, or {@code null} for none
+     */
+    public void restoreFieldChanges(Map<Player, Integer> compensation, Collection<Player> withdrawn) {
+        compensationPoints.clear();
+        withdrawnPlayers.clear();
+        if (compensation != null) {
+            compensationPoints.putAll(compensation);
+        }
+        if (withdrawn != null) {
+            withdrawnPlayers.addAll(withdrawn);
+        }
     }
 
     /**
@@ -85,6 +340,73 @@ public class PairingEngine {
         this.finished = finished;
     }
 
+    /**
+     * Returns all matches of a player in the order they were played, including byes.
+     * Served from the match index without scanning the history.
+     *
+     * @param player the player
+     * @return an unmodifiable list of the player's matches
+     */
+    public List<Match> getMatchesOfPlayer(Player player) {
+        return matchIndex.getMatchesOf(player);
+    }
+
+    /**
+     * Returns all matches of a round, including byes.
+     *
+     * @param round the one-based round number
+     * @return an unmodifiable list of the round's matches
+     */
+    public List<Match> getMatchesOfRound(int round) {
+        return matchIndex.getRound(round);
+    }
+
+    /**
+     * Returns the players who have received a bye (Freilos) so far.
+     *
+     * @return the players with a bye
+     */
+    public List<Player> getByePlayers() {
+        return playerList.stream().filter(matchIndex::hasBye).toList();
+    }
+
+    /**
+     * Returns the match with the given ID from the history.
+     *
+     * @param id the match ID
+     * @return the match, or {@code null} if the history has no match with this ID
+     */
+    public Match getMatchById(long id) {
+        return matchIndex.get(id);
+    }
+
+    /**
+     * Appends a match to the history of the current round and indexes it.
+     */
+    private void addToHistory(Match match) {
+        match.setRound(round);
+        allMatches.add(match);
+        matchIndex.add(match);
+    }
+
+    /**
+     * Removes the match with the given ID from the history and the current round. The history
+     * and the current round are {@link MatchHistory} lists, which remove a match by its ID in
+     * constant time, so neither is searched.
+     *
+     * @param id the ID of the match to remove
+     * @return the removed match, or {@code null} if the history has no match with this ID
+     */
+    public Match removeMatch(long id) {
+        Match removed = matchIndex.remove(id);
+        if (removed != null) {
+            allMatches.remove(id);
+            matches.remove(id);
+            knockoutNodes.remove(id);
+        }
+        return removed;
+    }
+
     /**
      * Clears the match list for the current round, preparing for the next round's pairings.
      */
@@ -95,33 +417,127 @@ public class PairingEngine {
     /**
      * Restores the engine's state from previously saved match data.
      * Replaces the in-memory match history and current-round matches with the provided lists,
-     * and rebuilds the bye list accordingly.
+     * and rebuilds the match index. Matches saved without a round number are assigned to rounds
+     * in order, starting a new round whenever a player appears a second time.
      *
      * @param savedAllMatches the full match history to restore
      * @param savedMatches    the current round's matches to restore
      */
     public void restoreState(List<Match> savedAllMatches, List<Match> savedMatches) {
         allMatches.clear();
-        allMatches.addAll(savedAllMatches);
+        matchIndex.clear();
+        round = 1;
+        Set<Player> inRound = new HashSet<>();
+        for (Match match : savedAllMatches) {
+            if (match.getRound() > 0) {
+                round = match.getRound();
+            } else if (!inRound.add(match.getFirstPlayer())
+                    || (match.getSecondPlayer() != null && !inRound.add(match.getSecondPlayer()))) {
+                round++;
+                inRound.clear();
+                inRound.add(match.getFirstPlayer());
+                if (match.getSecondPlayer() != null) {
+                    inRound.add(match.getSecondPlayer());
+                }
+            }
+            addToHistory(match);
+        }
         matches.clear();
         matches.addAll(savedMatches);
-        byeList = new HashSet<>(getPlayersWithBye(allMatches));
+        if (mode == TournamentMode.GROUPS_KNOCKOUT) {
+            GroupStage stage = getGroupStage();
+            stage.restore(allMatches.stream().filter(m -> m.getRound() <= stage.getRoundCount()).toList());
+        }
+    }
+
+    /**
+     * Restores the knockout bracket of a saved tournament and links the current round's matches
+     * to their bracket positions.
+     *
+     * @param bracket the saved bracket, or {@code null} if the knockout stage has not started yet
+     */
+    public void restoreKnockoutBracket(KnockoutBracket bracket) {
+        knockoutBracket = bracket;
+        knockoutNodes.clear();
+        if (bracket == null) {
+            return;
+        }
+        for (Match match : matches) {
+            if (match.getSecondPlayer() != null) {
+                int node = bracket.findPlayableNode(match.getFirstPlayer(), match.getSecondPlayer());
+                if (node >= 0) {
+                    knockoutNodes.put(match.getId(), node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores the knockout bracket together with the bracket positions of the knockout matches,
+     * e.g. when undoing a change. Unlike {@link #restoreKnockoutBracket(KnockoutBracket)}, this
+     * also links matches whose winner is already recorded in the bracket.
+     *
+     * @param bracket the bracket, or {@code null} if the knockout stage has not started yet
+     * @param nodes   the bracket position of each knockout match by match ID
+     */
+    public void restoreKnockoutBracket(KnockoutBracket bracket, Map<Long, Integer> nodes) {
+        knockoutBracket = bracket;
+        knockoutNodes.clear();
+        knockoutNodes.putAll(nodes);
+    }
+
+    /**
+     * Returns the bracket positions of the knockout matches.
+     *
+     * @return an unmodifiable copy of the bracket position of each knockout match by match ID
+     */
+    public Map<Long, Integer> getKnockoutNodes() {
+        return Map.copyOf(knockoutNodes);
+    }
+
+    /**
+     * Returns the knockout bracket once the knockout stage has started.
+     *
+     * @return the bracket, or {@code null}
+     */
+    public KnockoutBracket getKnockoutBracket() {
+        return knockoutBracket;
+    }
+
+    /**
+     * Returns whether the given match is a knockout match, which must not end in a draw.
+     *
+     * @param match the match to check
+     * @return {@code true} if the match belongs to the knockout bracket
+     */
+    public boolean isKnockoutMatch(Match match) {
+        return knockoutNodes.containsKey(match.getId());
     }
 
     /**
      * Generates pairings for the current round and returns the display text.
      * Returns {@code null} if the tournament is finished (all combinations played).
      *
-     * @param currentRound the current round number (used for Round Robin termination check)
+     * @param currentRound the current round number (used for the Round Robin schedule lookup)
      * @return pairing text to display, or {@code null} if no more rounds are possible
      */
     public String generatePairings(int currentRound) {
+        round = Math.max(1, currentRound);
         List<Integer> availableTables = IntStream.rangeClosed(1, tableNumber).boxed().collect(Collectors.toList());
 
-        if (mode == TournamentMode.ROUND_ROBIN) {
+        if (mode.isRoundRobin()) {
             return generatePairingsRoundRobin(availableTables, currentRound);
+        } else if (mode == TournamentMode.GROUPS_KNOCKOUT) {
+            return generatePairingsGroupsKnockout(availableTables, currentRound);
+        } else if (mode.isKnockout()) {
+            if (knockoutBracket == null) {
+                List<Player> seeded = new ArrayList<>(playerList);
+                seeded.sort(Comparator.comparingInt(Player::getTtr).reversed());
+                knockoutBracket = new KnockoutBracket(seeded, mode == TournamentMode.DOUBLE_KNOCKOUT);
+            }
+            return generatePairingsKnockout(availableTables);
         } else {
-            return generatePairingsSwissSystem(new ArrayList<>(playerList), availableTables);
+            return generatePairingsSwissSystem(getActivePlayers(), availableTables);
         }
     }
 
@@ -135,203 +551,204 @@ public class PairingEngine {
      * @return formatted pairing text, or {@code null} if no valid pairings exist
      */
     private String generatePairingsSwissSystem(List<Player> sortedList, List<Integer> availableTables) {
-        sortPlayersByRanking(sortedList, mode);
+        sortByRanking(sortedList);
+        if (plannedRounds >= round) {
+            String lookAheadText = generatePairingsLookAhead(sortedList, availableTables);
+            if (lookAheadText != null) {
+                return lookAheadText;
+            }
+        }
         Player byePlayer = null;
 
-        if (playerList.size() % 2 != 0) {
+        if (sortedList.size() % 2 != 0) {
             byePlayer = assignByePlayer(sortedList);
             if (byePlayer == null) {
                 return forcePairing(availableTables);
             }
         }
 
-        Set<String> playedPairs = allMatches.stream()
-                .filter(m -> m.getSecondPlayer() != null)
-                .map(m -> createCanonicalPairing(m.getFirstPlayer(), m.getSecondPlayer()))
-                .collect(Collectors.toSet());
-
         List<Player> orderedPlayers = new ArrayList<>(sortedList);
         Collections.reverse(orderedPlayers);
 
-        List<Match> swissPairings = new ArrayList<>();
-        if (backtrackSwissPairing(orderedPlayers, new HashSet<>(), swissPairings, playedPairs)) {
-            for (Match match : swissPairings) {
-                if (availableTables.isEmpty()) {
-                    availableTables = IntStream.rangeClosed(1, tableNumber).boxed().collect(Collectors.toList());
-                }
-                match.setTable(availableTables.removeFirst());
-                matches.add(match);
-                allMatches.add(match);
-            }
+        List<Match> swissPairings = new SwissBacktracking(orderedPlayers, matchIndex::havePlayed, _ -> true,
+                Integer.MAX_VALUE).search(searchPool);
+        if (swissPairings != null) {
+            addSwissPairings(swissPairings, availableTables);
             return formatMatchesAsText(matches);
         }
 
         if (byePlayer != null) {
-            byeList.remove(byePlayer);
             removeLastByeMatch(byePlayer);
         }
         return forcePairing(availableTables);
     }
 
     /**
-     * Recursively pairs all remaining unpaired players using backtracking.
-     * At each step the first unpaired player is selected and matched against the best available
-     * opponent (ordered by closeness in points). Only pairings that still allow all remaining
-     * players to be fully matched are explored.
-     *
-     * @param players the complete ordered player list for this round
-     * @param paired  the set of players already assigned a match in the current recursion branch
-     * @param result  the accumulating list of confirmed match pairings
-     * @return {@code true} if a complete valid pairing was found, {@code false} otherwise
+     * Assigns tables to the given pairings and adds them to the current round and the history.
      */
-    private boolean backtrackSwissPairing(List<Player> players, Set<Player> paired, List<Match> result,
-                                           Set<String> playedPairs) {
-        Player current = players.stream()
-                .filter(p -> !paired.contains(p))
-                .findFirst()
-                .orElse(null);
-        if (current == null) return true;
-
-        for (Player opponent : getSwissOrderedOpponents(current, players, paired, playedPairs)) {
-            paired.add(current);
-            paired.add(opponent);
-
-            if (canBeFullyMatched(players, paired, playedPairs)) {
-                result.add(new Match(current, opponent, -1));
-                if (backtrackSwissPairing(players, paired, result, playedPairs)) {
-                    return true;
-                }
-                result.removeLast();
+    private void addSwissPairings(List<Match> swissPairings, List<Integer> availableTables) {
+        for (Match match : swissPairings) {
+            if (availableTables.isEmpty()) {
+                availableTables = IntStream.rangeClosed(1, tableNumber).boxed().collect(Collectors.toList());
             }
-
-            paired.remove(current);
-            paired.remove(opponent);
+            match.setTable(availableTables.removeFirst());
+            matches.add(match);
+            addToHistory(match);
         }
-        return false;
     }
 
     /**
-     * Returns a list of valid opponents for {@code player} in the Swiss System, ordered by
-     * closeness in tournament points, then by TTR descending for deterministic tie-breaking.
-     * A player qualifies as a valid opponent if they have not yet been paired this round
-     * and have never played {@code player} before.
+     * Generates Swiss System pairings that keep the rest of the {@link #plannedRounds planned
+     * rounds} possible. The bye candidates are tried from the lowest-ranked player upwards, and for
+     * each the usual backtracking runs with the look-ahead as acceptance test of a complete
+     * pairing; so the result is the pairing the greedy strategy would choose, unless that pairing
+     * leads into a dead end. A pairing is only accepted if the look-ahead proves the remaining
+     * rounds possible; one the search cannot decide within its budget counts as rejected. If the
+     * backtracking gives up after {@link #LOOK_AHEAD_ATTEMPTS} complete pairings, the first round
+     * of a feasible schedule found by {@link RoundFeasibility} is used. Only if that search exceeds
+     * its budget as well is the round paired greedily, without the guarantee.
+     *
+     * <p>The look-ahead covers fields of up to {@link RoundFeasibility#MAX_VERTICES} vertices.
+     * Larger fields are paired greedily, which is safe for any realistic number of rounds: by the
+     * degree bound of {@link RoundFeasibility}, every pairing keeps the remaining rounds possible as
+     * long as each player has more than half the field plus the remaining rounds left to play.</p>
      *
-     * @param player  the player to find opponents for
-     * @param players the full player list for this round
-     * @param paired  the set of players already paired in the current backtracking branch
-     * @return ordered list of eligible opponents
+     * @param sortedList      the active players, sorted by ranking, weakest first
+     * @param availableTables the pool of table numbers to assign
+     * @return formatted pairing text, or {@code null} if the planned rounds cannot be reached
      */
-    private List<Player> getSwissOrderedOpponents(Player player, List<Player> players, Set<Player> paired,
-                                                   Set<String> playedPairs) {
-        return players.stream()
-                .filter(p -> !paired.contains(p) && !p.equals(player)
-                        && !playedPairs.contains(createCanonicalPairing(player, p)))
-                .sorted(Comparator.comparingInt((Player p) -> Math.abs(p.getPoints() - player.getPoints()))
-                        .thenComparing(Comparator.comparingInt(Player::getTtr).reversed()))
-                .toList();
+    private String generatePairingsLookAhead(List<Player> sortedList, List<Integer> availableTables) {
+        int remainingRounds = plannedRounds - round;
+        boolean needsBye = sortedList.size() % 2 != 0;
+        OpenPairs openPairs = new OpenPairs(sortedList, allMatches);
+        int vertexCount = openPairs.size() + (needsBye ? 1 : 0);
+        if (vertexCount > RoundFeasibility.MAX_VERTICES) {
+            return null;
+        }
+        long[] graph = remainingGraph(openPairs, needsBye);
+        if (Boolean.FALSE.equals(roundFeasibility.canPlay(graph, remainingRounds + 1))) {
+            return null;
+        }
+
+        List<Player> byeCandidates = new ArrayList<>();
+        if (needsBye) {
+            sortedList.stream().filter(p -> !matchIndex.hasBye(p)).forEach(byeCandidates::add);
+        } else {
+            byeCandidates.add(null);
+        }
+        for (Player byePlayer : byeCandidates) {
+            List<Player> orderedPlayers = new ArrayList<>(sortedList);
+            orderedPlayers.remove(byePlayer);
+            Collections.reverse(orderedPlayers);
+
+            SwissBacktracking search = new SwissBacktracking(orderedPlayers, matchIndex::havePlayed, pairing -> {
+                long[] remaining = graph.clone();
+                for (Match match : pairing) {
+                    removeEdge(remaining, openPairs.positionOf(match.getFirstPlayer()),
+                            openPairs.positionOf(match.getSecondPlayer()));
+                }
+                if (byePlayer != null) {
+                    removeEdge(remaining, openPairs.positionOf(byePlayer), openPairs.size());
+                }
+                return Boolean.TRUE.equals(roundFeasibility.canPlay(remaining, remainingRounds));
+            }, LOOK_AHEAD_ATTEMPTS);
+            List<Match> swissPairings = search.search(searchPool);
+            if (swissPairings != null) {
+                if (byePlayer != null) {
+                    Match byeMatch = new Match(byePlayer, null, -1);
+                    matches.add(byeMatch);
+                    addToHistory(byeMatch);
+                }
+                addSwissPairings(swissPairings, availableTables);
+                return formatMatchesAsText(matches);
+            }
+            if (search.isExhausted()) {
+                break;
+            }
+        }
+
+        int[] mate = roundFeasibility.firstRound(graph, remainingRounds + 1);
+        if (mate == null) {
+            return null;
+        }
+        List<Match> scheduled = new ArrayList<>();
+        for (int i = 0; i < openPairs.size(); i++) {
+            if (mate[i] == openPairs.size()) {
+                scheduled.addFirst(new Match(openPairs.player(i), null, -1));
+            } else if (mate[i] > i) {
+                scheduled.add(openPairs.toMatch(OpenPairs.pair(i, mate[i])));
+            }
+        }
+        assignTables(scheduled.stream().filter(m -> m.getSecondPlayer() != null).toList(), availableTables);
+        matches.addAll(scheduled);
+        scheduled.forEach(this::addToHistory);
+        return formatMatchesAsText(matches);
     }
 
     /**
-     * Checks whether all currently unpaired players can still be matched given the set of already
-     * paired players. A player is considered matchable if at least one other unpaired player exists
-     * that they have not yet faced.
-     *
-     * @param players the full player list for this round
-     * @param paired  the set of players already assigned to matches in the current branch
-     * @return {@code true} if every remaining player has at least one valid opponent
+     * Returns the graph of the open pairs as adjacency masks for {@link RoundFeasibility}: the
+     * positions of {@code openPairs} are the vertices, and for an odd field the extra vertex
+     * {@code openPairs.size()} stands for the bye and is connected to every player without one.
      */
-    private boolean canBeFullyMatched(List<Player> players, Set<Player> paired, Set<String> playedPairs) {
-        List<Player> remaining = players.stream()
-                .filter(p -> !paired.contains(p))
-                .collect(Collectors.toCollection(ArrayList::new));
-        for (Player player : remaining) {
-            boolean hasOpponent = remaining.stream()
-                    .anyMatch(p -> !p.equals(player) && !playedPairs.contains(createCanonicalPairing(player, p)));
-            if (!hasOpponent) return false;
-        }
-        return hasCompleteMatching(remaining, playedPairs);
-    }
-
-    private boolean hasCompleteMatching(List<Player> remaining, Set<String> playedPairs) {
-        if (remaining.isEmpty()) return true;
-        Player first = remaining.getFirst();
-        List<Player> rest = remaining.subList(1, remaining.size());
-        for (int i = 0; i < rest.size(); i++) {
-            Player candidate = rest.get(i);
-            if (!playedPairs.contains(createCanonicalPairing(first, candidate))) {
-                List<Player> next = new ArrayList<>(rest);
-                next.remove(i);
-                if (hasCompleteMatching(next, playedPairs)) {
-                    return true;
+    private static long[] remainingGraph(OpenPairs openPairs, boolean withBye) {
+        int players = openPairs.size();
+        long[] graph = new long[players + (withBye ? 1 : 0)];
+        openPairs.pairs().forEach(pair -> {
+            graph[OpenPairs.first(pair)] |= 1L << OpenPairs.second(pair);
+            graph[OpenPairs.second(pair)] |= 1L << OpenPairs.first(pair);
+        });
+        if (withBye) {
+            for (int i = 0; i < players; i++) {
+                if (openPairs.canReceiveBye(i)) {
+                    graph[i] |= 1L << players;
+                    graph[players] |= 1L << i;
                 }
             }
         }
-        return false;
+        return graph;
+    }
+
+    private static void removeEdge(long[] graph, int first, int second) {
+        graph[first] &= ~(1L << second);
+        graph[second] &= ~(1L << first);
     }
 
     /**
-     * Generates Round Robin pairings using the circle method (Berger tables).
-     * <p>
-     * For n players, one player is fixed and the rest rotate by one position each round.
-     * For odd n, a virtual "bye" slot is added to make the count even; the player
-     * paired with the bye slot receives a Freilos in that round.
-     * </p>
+     * Generates Round Robin pairings by looking up the current round in the precomputed
+     * {@link RoundRobinSchedule}. The first-listed player of each pairing is the home player
+     * according to the Berger tables; the player paired with the virtual bye slot of an odd field
+     * receives a Freilos in that round.
      */
     private String generatePairingsRoundRobin(List<Integer> availableTables, int currentRound) {
-        int n = playerList.size();
-        int totalRounds = n - 1 + (n % 2);
+        RoundRobinSchedule schedule = getRoundRobinSchedule();
 
-        if (currentRound > totalRounds) {
+        if (currentRound > schedule.getRoundCount()) {
             finished = true;
             return null;
         }
 
-        List<Player> players = new ArrayList<>(playerList);
-        players.sort(Comparator.comparing(Player::getTtr));
-
-        boolean oddPlayers = (n % 2 != 0);
-        List<Player> circle = new ArrayList<>(players);
-        if (oddPlayers) {
-            circle.add(null);
-        }
-
-        int circleSize = circle.size();
-        Player fixedPlayer = circle.get(circleSize - 1);
-        List<Player> rotating = new ArrayList<>(circle.subList(0, circleSize - 1));
-
-        int r = currentRound - 1;
-        int rotLen = circleSize - 1;
-
-        List<Player[]> roundPairings = new ArrayList<>();
-        Player top = rotating.get(r % rotLen);
-        roundPairings.add(new Player[]{top, fixedPlayer});
-
-        for (int k = 1; k < circleSize / 2; k++) {
-            Player left = rotating.get((r + k) % rotLen);
-            Player right = rotating.get(((r - k) % rotLen + rotLen) % rotLen);
-            roundPairings.add(new Player[]{left, right});
-        }
-
         StringBuilder pairingsText = new StringBuilder();
-        for (Player[] pair : roundPairings) {
-            Player p1 = pair[0];
-            Player p2 = pair[1];
+        for (int pair = 0; pair < schedule.getPairsPerRound(); pair++) {
+            int home = schedule.getHome(currentRound, pair);
+            int away = schedule.getAway(currentRound, pair);
 
-            if (p1 == null || p2 == null) {
-                Player byePlayer = (p1 == null) ? p2 : p1;
+            if (home == RoundRobinSchedule.BYE || away == RoundRobinSchedule.BYE) {
+                Player byePlayer = roundRobinSeeding.get(home == RoundRobinSchedule.BYE ? away : home);
                 Match byeMatch = new Match(byePlayer, null, -1);
                 matches.add(byeMatch);
-                allMatches.add(byeMatch);
+                addToHistory(byeMatch);
                 pairingsText.append(byePlayer.getFullName()).append(" (").append(byePlayer.getClub()).append(")")
                         .append(" - Freilos").append("\n");
             } else {
+                Player p1 = roundRobinSeeding.get(home);
+                Player p2 = roundRobinSeeding.get(away);
                 if (availableTables.isEmpty()) {
                     availableTables = IntStream.rangeClosed(1, tableNumber).boxed().collect(Collectors.toList());
                 }
                 int table = availableTables.removeFirst();
                 Match match = new Match(p1, p2, table);
                 matches.add(match);
-                allMatches.add(match);
+                addToHistory(match);
                 pairingsText.append(p1.getFullName()).append(" (").append(p1.getClub()).append(")")
                         .append(" vs. ")
                         .append(p2.getFullName()).append(" (").append(p2.getClub()).append(")")
@@ -342,19 +759,166 @@ public class PairingEngine {
         return pairingsText.toString();
     }
 
+    /**
+     * Returns the Round Robin schedule of this tournament, building it on first use.
+     * Players are seeded once by TTR (highest first); the schedule and seeding are then reused
+     * for every round, including after a saved tournament has been restored.
+     *
+     * @return the precomputed schedule
+     */
+    public RoundRobinSchedule getRoundRobinSchedule() {
+        if (roundRobinSchedule == null) {
+            List<Player> seeding = new ArrayList<>(playerList);
+            seeding.sort(Comparator.comparingInt(Player::getTtr).reversed());
+            roundRobinSeeding = List.copyOf(seeding);
+            roundRobinSchedule = new RoundRobinSchedule(seeding.size(), mode == TournamentMode.DOUBLE_ROUND_ROBIN);
+        }
+        return roundRobinSchedule;
+    }
+
+    /**
+     * Returns the players in Round Robin seed order, i.e. the order the indices of
+     * {@link #getRoundRobinSchedule()} refer to.
+     *
+     * @return the seeded player list
+     */
+    public List<Player> getRoundRobinSeeding() {
+        getRoundRobinSchedule();
+        return roundRobinSeeding;
+    }
+
+    /**
+     * Formats the complete Round Robin schedule, round by round, for printing or export.
+     * The first-listed player of every pairing is the home player.
+     *
+     * @return the full schedule as display text
+     */
+    public String formatRoundRobinScheduleAsText() {
+        RoundRobinSchedule schedule = getRoundRobinSchedule();
+        StringBuilder text = new StringBuilder();
+        for (int round = 1; round <= schedule.getRoundCount(); round++) {
+            text.append("Runde ").append(round).append("\n");
+            for (int pair = 0; pair < schedule.getPairsPerRound(); pair++) {
+                int home = schedule.getHome(round, pair);
+                int away = schedule.getAway(round, pair);
+                if (home == RoundRobinSchedule.BYE || away == RoundRobinSchedule.BYE) {
+                    Player byePlayer = roundRobinSeeding.get(home == RoundRobinSchedule.BYE ? away : home);
+                    text.append("  ").append(byePlayer).append(" - Freilos\n");
+                } else {
+                    text.append("  ").append(roundRobinSeeding.get(home))
+                            .append(" vs. ").append(roundRobinSeeding.get(away)).append("\n");
+                }
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the group stage of this tournament, seeding the groups on first use.
+     *
+     * @return the group stage
+     */
+    public GroupStage getGroupStage() {
+        if (groupStage == null) {
+            groupStage = new GroupStage(playerList, groupCount, qualifiersPerGroup, tableNumber);
+        }
+        return groupStage;
+    }
+
+    /**
+     * Generates the pairings of a round in group mode. While group rounds remain, all groups play
+     * their next Round Robin round concurrently; afterwards the knockout bracket is seeded from the
+     * group qualifiers and played round by round.
+     *
+     * @param availableTables the pool of table numbers to assign to knockout matches
+     * @param currentRound    the overall round number
+     * @return formatted pairing text, or {@code null} once the final has been decided
+     */
+    private String generatePairingsGroupsKnockout(List<Integer> availableTables, int currentRound) {
+        GroupStage stage = getGroupStage();
+        if (currentRound <= stage.getRoundCount()) {
+            List<Match> roundMatches = stage.generateRound(currentRound);
+            matches.addAll(roundMatches);
+            roundMatches.forEach(this::addToHistory);
+            return formatMatchesAsText(matches);
+        }
+
+        if (knockoutBracket == null) {
+            knockoutBracket = new KnockoutBracket(stage.getQualifiers());
+        }
+        return generatePairingsKnockout(availableTables);
+    }
+
+    /**
+     * Advances the knockout bracket with the result of a knockout match. The bracket position of
+     * the match is looked up directly, so saving a result costs constant time regardless of the
+     * bracket size. A result that is corrected to a draw withdraws the previously recorded winner.
+     * Matches outside the knockout bracket are ignored.
+     *
+     * @param match the match whose result has been saved
+     */
+    public void recordResult(Match match) {
+        Integer node = knockoutNodes.get(match.getId());
+        if (node == null) {
+            return;
+        }
+        Player winner = match.getWinner();
+        if (winner == null) {
+            if (knockoutBracket.getNode(node) != KnockoutBracket.UNDECIDED) {
+                knockoutBracket.clearWinner(node);
+            }
+            return;
+        }
+        int home = knockoutBracket.getHome(node);
+        knockoutBracket.recordWinner(node,
+                knockoutBracket.getEntrant(home).equals(winner) ? home : knockoutBracket.getAway(node));
+    }
+
+    /**
+     * Makes sure the results of the previous knockout round are recorded and creates the matches
+     * of all bracket positions that are now ready to be played.
+     *
+     * @param availableTables the pool of table numbers to assign
+     * @return formatted pairing text, or {@code null} if the bracket has a champion
+     */
+    private String generatePairingsKnockout(List<Integer> availableTables) {
+        for (long id : knockoutNodes.keySet()) {
+            recordResult(matchIndex.get(id));
+        }
+        knockoutNodes.clear();
+
+        List<Integer> playable = knockoutBracket.getPlayableNodes();
+        if (knockoutBracket.getChampion() != null || playable.isEmpty()) {
+            finished = true;
+            return null;
+        }
+
+        for (int node : playable) {
+            if (availableTables.isEmpty()) {
+                availableTables = IntStream.rangeClosed(1, tableNumber).boxed().collect(Collectors.toList());
+            }
+            Match match = new Match(knockoutBracket.getEntrant(knockoutBracket.getHome(node)),
+                    knockoutBracket.getEntrant(knockoutBracket.getAway(node)), availableTables.removeFirst());
+            knockoutNodes.put(match.getId(), node);
+            matches.add(match);
+            addToHistory(match);
+        }
+        return formatMatchesAsText(matches);
+    }
+
     /**
      * Fallback pairing strategy used when the standard Swiss backtracking finds no valid solution.
-     * Computes the set of all remaining unplayed pairings and selects a consistent assignment
-     * using a separate backtracking pass. Marks the tournament as finished if no valid assignment
-     * can be found.
+     * Enumerates the remaining unplayed pairings lazily from an {@link OpenPairs} bit set and
+     * searches a perfect matching on them; {@link Match} objects are only created for the
+     * selected pairs. Marks the tournament as finished if no valid assignment exists.
      *
      * @param availableTables the pool of table numbers to assign to matches
      * @return formatted pairing text, or {@code null} if the tournament is finished
      */
     private String forcePairing(List<Integer> availableTables) {
-        List<Match> openMatches = calculatePairingDifference(
-                generateAllPairings(playerList), allMatches, getPlayersWithBye(allMatches));
-        List<Match> forcedMatches = selectUniquePlayerMatches(openMatches, availableTables);
+        OpenPairs openPairs = new OpenPairs(getActivePlayers(), allMatches);
+        List<Match> forcedMatches = selectOpenPairs(openPairs, availableTables);
 
         if (forcedMatches == null || forcedMatches.isEmpty()) {
             finished = true;
@@ -363,12 +927,90 @@ public class PairingEngine {
 
         matches.clear();
         matches.addAll(forcedMatches);
-        allMatches.addAll(forcedMatches);
-        byeList = new HashSet<>(getPlayersWithBye(allMatches));
+        forcedMatches.forEach(this::addToHistory);
 
         return formatMatchesAsText(matches);
     }
 
+    /**
+     * Selects a set of open pairs (plus one bye for an odd field) covering every player exactly
+     * once. The players are the vertices of the open-pair graph; for an odd field an extra vertex
+     * is connected to every player who has not had a bye yet, so a perfect matching of this graph
+     * is exactly a valid round.
+     *
+     * @param openPairs       the unplayed pairs of the player list
+     * @param availableTables the pool of table numbers to assign to matches
+     * @return the selected matches with tables assigned, or {@code null} if no assignment exists
+     */
+    private List<Match> selectOpenPairs(OpenPairs openPairs, List<Integer> availableTables) {
+        int playerCount = openPairs.size();
+        boolean needsBye = playerCount % 2 != 0;
+        long[] pairs = openPairs.pairs().toArray();
+        int[] byeCandidates = needsBye
+                ? IntStream.range(0, playerCount).filter(openPairs::canReceiveBye).toArray()
+                : new int[0];
+
+        int[] from = new int[pairs.length + byeCandidates.length];
+        int[] to = new int[from.length];
+        for (int k = 0; k < pairs.length; k++) {
+            from[k] = OpenPairs.first(pairs[k]);
+            to[k] = OpenPairs.second(pairs[k]);
+        }
+        for (int k = 0; k < byeCandidates.length; k++) {
+            from[pairs.length + k] = byeCandidates[k];
+            to[pairs.length + k] = playerCount;
+        }
+        int[] mate = findPerfectMatching(playerCount + (needsBye ? 1 : 0), from, to);
+        if (mate == null) {
+            return null;
+        }
+
+        List<Match> selectedMatches = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            if (mate[i] == playerCount) {
+                selectedMatches.add(new Match(openPairs.player(i), null, -1));
+            } else if (mate[i] > i) {
+                selectedMatches.add(openPairs.toMatch(OpenPairs.pair(i, mate[i])));
+            }
+        }
+        assignTables(selectedMatches, availableTables);
+        return selectedMatches;
+    }
+
+    /**
+     * Finds a perfect matching with {@link WeightedMatching}. All edges weigh the same, so the
+     * solver just maximises the number of matched vertices, which takes O(n³) time even when no
+     * perfect matching exists.
+     *
+     * @param vertexCount the number of vertices
+     * @param from        first vertex of every edge
+     * @param to          second vertex of every edge
+     * @return the partner of every vertex, or {@code null} if some vertex stays unmatched
+     */
+    private static int[] findPerfectMatching(int vertexCount, int[] from, int[] to) {
+        if (vertexCount == 0) {
+            return new int[0];
+        }
+        long[] weight = new long[from.length];
+        Arrays.fill(weight, 1);
+        int[] mate = WeightedMatching.solve(vertexCount, from, to, weight, true);
+        return Arrays.stream(mate).anyMatch(m -> m == -1) ? null : mate;
+    }
+
+    /**
+     * Assigns table numbers from {@code availableTables} to the matches in order, starting over
+     * with all tables once the pool is exhausted.
+     */
+    private void assignTables(List<Match> matchList, List<Integer> availableTables) {
+        List<Integer> tables = new ArrayList<>(availableTables);
+        for (Match match : matchList) {
+            if (tables.isEmpty()) {
+                tables = new ArrayList<>(IntStream.rangeClosed(1, tableNumber).boxed().toList());
+            }
+            match.setTable(tables.removeFirst());
+        }
+    }
+
     /**
      * Selects and assigns a bye (Freilos) player for this round.
      * Picks the lowest-ranked player who has not yet had a bye.
@@ -380,7 +1022,7 @@ public class PairingEngine {
      */
     private Player assignByePlayer(List<Player> sortedList) {
         Player byePlayer = sortedList.stream()
-                .filter(p -> !byeList.contains(p))
+                .filter(p -> !matchIndex.hasBye(p))
                 .findFirst()
                 .orElse(null);
         if (byePlayer == null) {
@@ -388,8 +1030,7 @@ public class PairingEngine {
         }
         Match byeMatch = new Match(byePlayer, null, -1);
         matches.add(byeMatch);
-        allMatches.add(byeMatch);
-        byeList = new HashSet<>(getPlayersWithBye(allMatches));
+        addToHistory(byeMatch);
         sortedList.remove(byePlayer);
         return byePlayer;
     }
@@ -405,51 +1046,157 @@ public class PairingEngine {
                 .filter(m -> m.getFirstPlayer().equals(byePlayer) && m.getSecondPlayer() == null)
                 .findFirst()
                 .ifPresent(m -> {
-                    matches.remove(m);
-                    allMatches.remove(m);
+                    removeMatch(m.getId());
                 });
     }
 
     /**
-     * Sorts players by their ranking criteria. Used for both standings display and pairing order.
+     * Sorts players by their ranking criteria with the default tie-break chain of the mode.
+     * The sort itself is done by {@link RankingSorter} on primitive keys.
      *
      * @param players the list to sort (in place)
      * @param mode    the tournament mode
      */
     static void sortPlayersByRanking(List<Player> players, TournamentMode mode) {
-        if (mode == TournamentMode.SWISS) {
-            players.sort(Comparator.comparing(Player::getPoints)
-                    .thenComparing(Player::getBuchholz)
-                    .thenComparing(Player::getFeinBuchholz)
-                    .thenComparing(player -> player.getSetsWon() - player.getSetsLost())
-                    .thenComparing(player -> player.getBallsWon() - player.getBallsLost())
-                    .thenComparing(Player::getTtr));
-        } else {
-            players.sort(Comparator.comparing(Player::getPoints)
-                    .thenComparing(player -> player.getSetsWon() - player.getSetsLost())
-                    .thenComparing(player -> player.getBallsWon() - player.getBallsLost())
-                    .thenComparing(Player::getTtr));
-        }
+        RankingSorter.sort(players, mode);
+    }
+
+    /**
+     * Sorts players by their ranking criteria using this engine's tie-break chain and match
+     * history. Used for both standings display and pairing order.
+     *
+     * @param players the list to sort (in place), weakest first
+     */
+    public void sortByRanking(List<Player> players) {
+        RankingSorter.sort(players, mode, tieBreaks, allMatches);
     }
 
     /**
      * Calculates all matches that could still be played in upcoming rounds, excluding matches
      * already played (except those in the current round, which are still in progress).
+     * The open pairs are read from an {@link OpenPairs} bit set, so no match objects are created
+     * for pairs that have already been played.
      *
      * @return list of all unplayed possible pairings
      */
     public List<Match> calculateAllPossibleOpenMatches() {
-        List<Match> playedMatches = new ArrayList<>(allMatches);
-        playedMatches.removeAll(matches);
-        return calculatePairingDifference(generateAllPairings(playerList), playedMatches, getPlayersWithBye(playedMatches));
+        Set<Long> current = matches.stream().map(Match::getId).collect(Collectors.toSet());
+        List<Match> playedMatches = allMatches.stream().filter(m -> !current.contains(m.getId())).toList();
+        OpenPairs openPairs = new OpenPairs(getActivePlayers(), playedMatches);
+
+        List<Match> openMatches = openPairs.pairs().mapToObj(openPairs::toMatch)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (openPairs.size() % 2 != 0) {
+            IntStream.range(0, openPairs.size())
+                    .filter(openPairs::canReceiveBye)
+                    .forEach(i -> openMatches.add(new Match(openPairs.player(i), null, -1)));
+        }
+        return openMatches;
+    }
+
+    /**
+     * Completes a partial manual pairing of the current round. The players not covered by
+     * {@code fixedMatches} are paired among the given candidates by a minimum-cost perfect
+     * matching ({@link WeightedMatching}), using the Swiss cost model of the engine: pairs with a
+     * small difference in points are preferred, then pairs close in the ranking. For an odd number
+     * of remaining players, one of them receives a bye from the candidates, preferring the
+     * lowest-ranked eligible player just like {@link #assignByePlayer(List)}.
+     *
+     * @param fixedMatches the matches already chosen by the tournament director
+     * @param candidates   the allowed matches, i.e. unplayed pairs and byes of eligible players
+     * @return the candidate matches completing the round, or {@code null} if no complete
+     *         pairing of the remaining players exists
+     */
+    public List<Match> completePairings(List<Match> fixedMatches, List<Match> candidates) {
+        Set<Player> fixedPlayers = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean byeFixed = false;
+        for (Match match : fixedMatches) {
+            fixedPlayers.add(match.getFirstPlayer());
+            if (match.getSecondPlayer() != null) {
+                fixedPlayers.add(match.getSecondPlayer());
+            } else {
+                byeFixed = true;
+            }
+        }
+        List<Player> remaining = new ArrayList<>(getActivePlayers().stream().filter(p -> !fixedPlayers.contains(p)).toList());
+        if (remaining.isEmpty()) {
+            return List.of();
+        }
+        boolean needsBye = remaining.size() % 2 != 0;
+        if (needsBye && byeFixed) {
+            return null;
+        }
+        sortByRanking(remaining);
+
+        Map<Player, Integer> rank = new IdentityHashMap<>();
+        for (int i = 0; i < remaining.size(); i++) {
+            rank.put(remaining.get(i), i);
+        }
+        int byeVertex = remaining.size();
+        int vertexCount = remaining.size() + (needsBye ? 1 : 0);
+
+        List<Match> edges = new ArrayList<>();
+        List<long[]> costs = new ArrayList<>();
+        long maxPairCost = 0;
+        for (Match match : candidates) {
+            Integer first = rank.get(match.getFirstPlayer());
+            if (first == null) continue;
+            if (match.getSecondPlayer() == null) {
+                if (needsBye) {
+                    edges.add(match);
+                    costs.add(new long[]{first, byeVertex, first});
+                }
+                continue;
+            }
+            Integer second = rank.get(match.getSecondPlayer());
+            if (second == null) continue;
+            long pointDifference = Math.abs(match.getFirstPlayer().getPoints() - match.getSecondPlayer().getPoints());
+            long cost = pointDifference * pointDifference * vertexCount + Math.abs(first - second);
+            maxPairCost = Math.max(maxPairCost, cost);
+            edges.add(match);
+            costs.add(new long[]{first, second, cost});
+        }
+
+        long byeScale = maxPairCost * (vertexCount / 2 + 1) + 1;
+        long maxCost = 0;
+        for (int k = 0; k < edges.size(); k++) {
+            long[] cost = costs.get(k);
+            if (cost[1] == byeVertex) {
+                cost[2] *= byeScale;
+            }
+            maxCost = Math.max(maxCost, cost[2]);
+        }
+
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        long[] weight = new long[edges.size()];
+        for (int k = 0; k < edges.size(); k++) {
+            long[] cost = costs.get(k);
+            from[k] = (int) cost[0];
+            to[k] = (int) cost[1];
+            weight[k] = maxCost + 1 - cost[2];
+        }
+        int[] mate = WeightedMatching.solve(vertexCount, from, to, weight, true);
+        if (Arrays.stream(mate).anyMatch(m -> m == -1)) {
+            return null;
+        }
+
+        List<Match> completion = new ArrayList<>();
+        for (int k = 0; k < edges.size(); k++) {
+            if (mate[from[k]] == to[k]) {
+                completion.add(edges.get(k));
+            }
+        }
+        return completion;
     }
 
     /**
      * Replaces the current round's matches with the given selection and returns the display text.
      */
     public String setNewMatches(List<Match> selectedMatches) {
-        allMatches.removeAll(matches);
-        matches.clear();
+        for (Match match : List.copyOf(matches)) {
+            removeMatch(match.getId());
+        }
 
         List<Match> byeMatches = new ArrayList<>();
         List<Match> normalMatches = new ArrayList<>();
@@ -472,9 +1219,9 @@ public class PairingEngine {
         }
 
         matches.addAll(normalMatches);
-        allMatches.addAll(normalMatches);
+        normalMatches.forEach(this::addToHistory);
         matches.addAll(byeMatches);
-        allMatches.addAll(byeMatches);
+        byeMatches.forEach(this::addToHistory);
 
         return formatMatchesAsText(matches);
     }
@@ -550,92 +1297,61 @@ public class PairingEngine {
 
     /**
      * Selects a set of matches from {@code matchList} such that every player appears in exactly
-     * one match. Table numbers are assigned to normal matches from {@code availableTables}.
-     * Returns {@code null} if no valid complete assignment covering all players is found.
+     * one match, by searching a perfect matching on the players (plus one bye vertex for an odd
+     * field) in polynomial time. Table numbers are assigned to the selected matches from
+     * {@code availableTables}. Returns {@code null} if no valid complete assignment covering all
+     * players exists.
      *
      * @param matchList       the pool of candidate matches to select from
      * @param availableTables the pool of table numbers to assign
      * @return a valid match assignment covering all players, or {@code null} if impossible
      */
     public List<Match> selectUniquePlayerMatches(List<Match> matchList, List<Integer> availableTables) {
-        List<Match> selectedMatches = new ArrayList<>();
-        Set<Player> usedPlayers = new HashSet<>();
-
-        if (backtrack(matchList, selectedMatches, usedPlayers, 0, false)) {
-            List<Integer> tables = new ArrayList<>(availableTables);
-            for (Match match : selectedMatches) {
-                if (tables.isEmpty()) {
-                    tables = new ArrayList<>(IntStream.rangeClosed(1, tableNumber).boxed().toList());
-                }
-                match.setTable(tables.removeFirst());
+        Map<Player, Integer> positions = new HashMap<>();
+        for (Player player : getActivePlayers()) {
+            positions.putIfAbsent(player, positions.size());
+        }
+        int playerCount = positions.size();
+        boolean needsBye = playerCount % 2 != 0;
+
+        List<Match> edges = new ArrayList<>();
+        List<Integer> from = new ArrayList<>();
+        List<Integer> to = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Match match : matchList) {
+            Integer first = positions.get(match.getFirstPlayer());
+            if (first == null) continue;
+            int other;
+            if (match.getSecondPlayer() == null) {
+                if (!needsBye) continue;
+                other = playerCount;
+            } else {
+                Integer second = positions.get(match.getSecondPlayer());
+                if (second == null || second.equals(first)) continue;
+                other = second;
             }
-
-            if (!usedPlayers.equals(new HashSet<>(playerList))) {
-                return null;
+            if (seen.add(OpenPairs.pair(Math.min(first, other), Math.max(first, other)))) {
+                edges.add(match);
+                from.add(first);
+                to.add(other);
             }
-
-            return selectedMatches;
-        }
-
-        return null;
-    }
-
-    /**
-     * Backtracking helper for {@link #selectUniquePlayerMatches}. Tries to build a valid
-     * complete match assignment from {@code matchList} starting at index {@code start}.
-     *
-     * @param matchList        the pool of candidate matches
-     * @param selectedMatches  accumulating list of selected matches
-     * @param usedPlayers      set of players already assigned to a match
-     * @param start            the current index in {@code matchList} to try
-     * @param byeMatchSelected whether a bye match has already been selected in this branch
-     * @return {@code true} if a complete valid assignment was found
-     */
-    private boolean backtrack(List<Match> matchList, List<Match> selectedMatches, Set<Player> usedPlayers,
-                               int start, boolean byeMatchSelected) {
-        if (usedPlayers.size() == playerList.size()) {
-            return true;
         }
 
-        if (start == matchList.size()) {
-            return false;
+        int[] mate = findPerfectMatching(playerCount + (needsBye ? 1 : 0),
+                from.stream().mapToInt(Integer::intValue).toArray(),
+                to.stream().mapToInt(Integer::intValue).toArray());
+        if (mate == null) {
+            return null;
         }
 
-        for (int i = start; i < matchList.size(); i++) {
-            Match match = matchList.get(i);
-            Player player1 = match.getFirstPlayer();
-            Player player2 = match.getSecondPlayer();
-
-            if (player2 == null) {
-                if (!byeMatchSelected) {
-                    selectedMatches.add(match);
-                    usedPlayers.add(player1);
-
-                    if (backtrack(matchList, selectedMatches, usedPlayers, i + 1, true)) {
-                        return true;
-                    }
-
-                    selectedMatches.remove(match);
-                    usedPlayers.remove(player1);
-                }
-            } else {
-                if (!usedPlayers.contains(player1) && !usedPlayers.contains(player2)) {
-                    selectedMatches.add(match);
-                    usedPlayers.add(player1);
-                    usedPlayers.add(player2);
-
-                    if (backtrack(matchList, selectedMatches, usedPlayers, i + 1, byeMatchSelected)) {
-                        return true;
-                    }
-
-                    selectedMatches.remove(match);
-                    usedPlayers.remove(player1);
-                    usedPlayers.remove(player2);
-                }
+        List<Match> selectedMatches = new ArrayList<>();
+        for (int k = 0; k < edges.size(); k++) {
+            if (mate[from.get(k)] == to.get(k)) {
+                selectedMatches.add(edges.get(k));
             }
         }
-
-        return false;
+        assignTables(selectedMatches, availableTables);
+        return selectedMatches;
     }
 
     /**
@@ -0,0 +1,350 @@
+package controller;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local database of federation players for looking up walk-in registrations by name.
+ *
+ * <p>The database is built once from a federation ranking export (see {@link #build}) and stored
+ * as a compact binary file that is memory-mapped when opened, so even hundreds of thousands of
+ * players are not loaded onto the heap. The file consists of a header, a table of record offsets
+ * and the records themselves. The offsets are sorted by a search key made of the lower-case last
+ * name and first name, so that all players whose names start with a given prefix are adjacent: a
+ * lookup is a binary search over the offset table followed by a scan of the matching records, and
+ * touches only a few pages of the file.</p>
+ *
+ * <p>A mapped file must not be replaced while it is in use; on Windows this fails, elsewhere the
+ * mapping may see a file that is being rewritten. A rebuilt database is therefore written as a new
+ * version next to the previous one, e.g. {@code Spielerdatenbank.2.ttdb} after
+ * {@code Spielerdatenbank.1.ttdb}, and the superseded versions are deleted at the next start
+ * (see {@link #deleteOldVersions}), before any of them is mapped.</p>
+ *
+ * <p>File layout, all numbers big-endian:</p>
+ * <pre>
+ * int    magic "TTDB"
+ * int    format version
+ * int    number of records
+ * int[]  record offsets, in key order
+ * record key, last name, first name, club (each as unsigned short length + UTF-8 bytes),
+ *        TTR (unsigned short)
+ * </pre>
+ */
+public final class PlayerDatabase {
+
+    /**
+     * A player of the database.
+     *
+     * @param firstName the first name
+     * @param lastName  the last name
+     * @param club      the club
+     * @param ttr       the TTR value, {@code 0} if the export has none
+     */
+    public record Entry(String firstName, String lastName, String club, int ttr) {}
+
+    /**
+     * A record being written, with all texts already encoded.
+     */
+    private record Row(byte[] key, byte[] lastName, byte[] firstName, byte[] club, int ttr) {
+        int length() {
+            return 4 * 2 + key.length + lastName.length + firstName.length + club.length + 2;
+        }
+    }
+
+    private static final int MAGIC = 0x54544442;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+    private static final byte KEY_SEPARATOR = 0;
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private PlayerDatabase(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Builds a database file from a CSV export with the columns understood by
+     * {@link PlayerImporter}. The file is written next to the target and moved into place when it
+     * is complete, so a reader never sees a partly written database. An existing target is not
+     * replaced; a rebuilt database goes to a {@link #newVersion new version} instead.
+     *
+     * @param csv    the export
+     * @param target the database file to create; must not exist yet
+     * @param errors receives a message for every record that could not be read
+     * @return the number of players in the database
+     * @throws IOException if the export cannot be read or the file cannot be written
+     */
+    public static int build(Reader csv, Path target, List<String> errors) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        PlayerImporter.readRows(csv, (firstName, lastName, club, ttr) -> {
+            Row row = new Row(key(lastName, firstName), lastName.getBytes(StandardCharsets.UTF_8),
+                    firstName.getBytes(StandardCharsets.UTF_8), club.getBytes(StandardCharsets.UTF_8),
+                    Math.min(ttr, MAX_FIELD_BYTES));
+            if (row.key().length <= MAX_FIELD_BYTES && row.club().length <= MAX_FIELD_BYTES) {
+                rows.add(row);
+            }
+        }, errors);
+        rows.sort((a, b) -> Arrays.compareUnsigned(a.key(), b.key()));
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows.size());
+            long offset = HEADER_SIZE + 4L * rows.size();
+            for (Row row : rows) {
+                if (offset > Integer.MAX_VALUE) {
+                    throw new IOException("Player database exceeds 2 GB");
+                }
+                out.writeInt((int) offset);
+                offset += row.length();
+            }
+            for (Row row : rows) {
+                for (byte[] field : List.of(row.key(), row.lastName(), row.firstName(), row.club())) {
+                    out.writeShort(field.length);
+                    out.write(field);
+                }
+                out.writeShort(row.ttr());
+            }
+        }
+        try {
+            Files.move(temp, target);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return rows.size();
+    }
+
+    /**
+     * Returns the newest version of a database file. The file itself counts as the oldest version,
+     * so a database built before versions were introduced is still found.
+     *
+     * @param file the database file, e.g. {@code Spielerdatenbank.ttdb}
+     * @return the newest existing version, or {@code null} if there is none
+     * @throws IOException if the directory cannot be read
+     */
+    public static Path latestVersion(Path file) throws IOException {
+        int latest = latestVersionNumber(file);
+        return latest < 0 ? null : version(file, latest);
+    }
+
+    /**
+     * Returns the path for the next version of a database file, which does not exist yet.
+     *
+     * @param file the database file, e.g. {@code Spielerdatenbank.ttdb}
+     * @return the path to build the next version at
+     * @throws IOException if the directory cannot be read
+     */
+    public static Path newVersion(Path file) throws IOException {
+        return version(file, latestVersionNumber(file) + 1);
+    }
+
+    /**
+     * Deletes all versions of a database file except the newest, and files left over by builds
+     * that did not complete. Must be called before any version is opened; a file that cannot be
+     * deleted is left for the next start.
+     *
+     * @param file the database file, e.g. {@code Spielerdatenbank.ttdb}
+     * @throws IOException if the directory cannot be read
+     */
+    public static void deleteOldVersions(Path file) throws IOException {
+        int latest = latestVersionNumber(file);
+        Pattern pattern = versionPattern(file);
+        for (Path path : versionFiles(file)) {
+            Matcher matcher = pattern.matcher(path.getFileName().toString());
+            if (matcher.matches() && (matcher.group(2) != null || versionNumber(matcher) != latest)) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException _) {
+                    // still in use by another instance of the program
+                }
+            }
+        }
+    }
+
+    private static int latestVersionNumber(Path file) throws IOException {
+        int latest = -1;
+        Pattern pattern = versionPattern(file);
+        for (Path path : versionFiles(file)) {
+            Matcher matcher = pattern.matcher(path.getFileName().toString());
+            if (matcher.matches() && matcher.group(2) == null) {
+                latest = Math.max(latest, versionNumber(matcher));
+            }
+        }
+        return latest;
+    }
+
+    private static List<Path> versionFiles(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) return files;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                path -> path.getFileName().toString().startsWith(stem(file)))) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
+    /**
+     * Returns the pattern of the versions of a file: the stem, an optional version number, the
+     * extension, and the suffix of an incomplete build.
+     */
+    private static Pattern versionPattern(Path file) {
+        return Pattern.compile(Pattern.quote(stem(file)) + "(?:\\.(\\d{1,9}))?" + Pattern.quote(extension(file))
+                + "(\\.tmp)?");
+    }
+
+    private static int versionNumber(Matcher matcher) {
+        return matcher.group(1) == null ? 0 : Integer.parseInt(matcher.group(1));
+    }
+
+    private static Path version(Path file, int number) {
+        return number == 0 ? file : file.resolveSibling(stem(file) + "." + number + extension(file));
+    }
+
+    private static String stem(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot);
+    }
+
+    /**
+     * Opens a database file by mapping it into memory.
+     *
+     * @param file the database file
+     * @return the database
+     * @throws IOException if the file cannot be read or is not a player database
+     */
+    public static PlayerDatabase open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a player database: " + file);
+            }
+            int size = buffer.getInt(8);
+            if (size < 0 || HEADER_SIZE + 4L * size > buffer.limit()) {
+                throw new IOException("Truncated player database: " + file);
+            }
+            return new PlayerDatabase(buffer, size);
+        }
+    }
+
+    /**
+     * Returns the number of players in the database.
+     *
+     * @return the number of players
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds players by name, ignoring case, in alphabetical order: without a first name, all
+     * players whose last name starts with {@code lastName}; with a first name, the players with
+     * exactly this last name whose first name starts with {@code firstNamePrefix}.
+     *
+     * @param lastName        the last name or its beginning; blank finds nothing
+     * @param firstNamePrefix the beginning of the first name, or an empty string for any first name
+     * @param limit           the maximum number of players to return
+     * @return the matching players, at most {@code limit}
+     */
+    public List<Entry> search(String lastName, String firstNamePrefix, int limit) {
+        List<Entry> found = new ArrayList<>();
+        if (lastName.isBlank()) return found;
+        byte[] prefix = firstNamePrefix.isBlank()
+                ? normalize(lastName).getBytes(StandardCharsets.UTF_8)
+                : key(lastName, firstNamePrefix);
+
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparePrefix(offset(middle), prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < size && found.size() < limit && comparePrefix(offset(i), prefix) == 0; i++) {
+            found.add(entry(offset(i)));
+        }
+        return found;
+    }
+
+    private int offset(int index) {
+        return buffer.getInt(HEADER_SIZE + 4 * index);
+    }
+
+    /**
+     * Compares the beginning of the key of the record at {@code offset} with a prefix.
+     *
+     * @return a negative number if the key sorts before the prefix, {@code 0} if the key starts with
+     * the prefix, and a positive number if it sorts after it
+     */
+    private int comparePrefix(int offset, byte[] prefix) {
+        int keyLength = Short.toUnsignedInt(buffer.getShort(offset));
+        int length = Math.min(keyLength, prefix.length);
+        for (int i = 0; i < length; i++) {
+            int difference = Byte.toUnsignedInt(buffer.get(offset + 2 + i)) - Byte.toUnsignedInt(prefix[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return keyLength < prefix.length ? -1 : 0;
+    }
+
+    private Entry entry(int offset) {
+        int position = offset + 2 + Short.toUnsignedInt(buffer.getShort(offset));
+        String[] fields = new String[3];
+        for (int field = 0; field < 3; field++) {
+            int length = Short.toUnsignedInt(buffer.getShort(position));
+            byte[] bytes = new byte[length];
+            buffer.get(position + 2, bytes);
+            fields[field] = new String(bytes, StandardCharsets.UTF_8);
+            position += 2 + length;
+        }
+        return new Entry(fields[1], fields[0], fields[2], Short.toUnsignedInt(buffer.getShort(position)));
+    }
+
+    /**
+     * Returns the search key of a player: the normalized last name, a separator that sorts before
+     * every character, and the normalized first name.
+     */
+    private static byte[] key(String lastName, String firstName) {
+        byte[] last = normalize(lastName).getBytes(StandardCharsets.UTF_8);
+        byte[] first = normalize(firstName).getBytes(StandardCharsets.UTF_8);
+        byte[] key = Arrays.copyOf(last, last.length + 1 + first.length);
+        key[last.length] = KEY_SEPARATOR;
+        System.arraycopy(first, 0, key, last.length + 1, first.length);
+        return key;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.GERMAN);
+    }
+}
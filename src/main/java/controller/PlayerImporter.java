@@ -0,0 +1,241 @@
+package controller;
+
+import model.Player;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Reads players from registration lists or federation TTR exports in CSV format.
+ *
+ * <p>The file is parsed as a stream, one record at a time, so its size does not matter. The
+ * separator is taken from the first line ({@code ;}, {@code ,} or tab, whichever occurs most
+ * often outside quotes); fields may be quoted, with doubled quotes inside quoted fields and line
+ * breaks allowed within them. If the first line names the columns (e.g. {@code Vorname},
+ * {@code Nachname}, {@code Verein}, {@code Q-TTR}), the columns are looked up by name and further
+ * columns are ignored; otherwise the columns are expected in the order first name, last name,
+ * club and an optional TTR value.</p>
+ *
+ * <p>Duplicates are detected through a hash set of the registered players, so each record is
+ * checked in constant time. Two players are duplicates if they agree in name, club and TTR value,
+ * as defined by {@link Player#equals(Object)}.</p>
+ */
+public final class PlayerImporter {
+
+    private static final int FIRST_NAME = 0;
+    private static final int LAST_NAME = 1;
+    private static final int CLUB = 2;
+    private static final int TTR = 3;
+    private static final int HEADER_LOOKAHEAD = 64 * 1024;
+
+    /**
+     * The outcome of an import.
+     *
+     * @param players    the new players, in file order
+     * @param duplicates the number of records skipped because the player was already registered
+     * @param errors     a message for every record that could not be read, with its line number
+     */
+    public record Result(List<Player> players, int duplicates, List<String> errors) {}
+
+    private final BufferedReader in;
+    private final StringBuilder field = new StringBuilder();
+    private char separator;
+    private int line = 1;
+    private int recordLine;
+
+    private PlayerImporter(Reader reader) {
+        this.in = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    /**
+     * Receives the valid records of a CSV stream.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        /**
+         * Handles one record with all required fields present and a valid TTR value.
+         *
+         * @param firstName the trimmed first name
+         * @param lastName  the trimmed last name
+         * @param club      the trimmed club
+         * @param ttr       the TTR value, {@code 0} if the record has none
+         */
+        void accept(String firstName, String lastName, String club, int ttr);
+    }
+
+    /**
+     * Reads all players from a CSV stream. Players that are already in {@code registered} or occur
+     * twice in the file are skipped; the new players are added to {@code registered}.
+     *
+     * @param reader     the CSV data
+     * @param registered the players registered so far, used as duplicate index
+     * @return the new players, the number of duplicates and the errors
+     * @throws IOException if the stream cannot be read
+     */
+    public static Result read(Reader reader, Set<Player> registered) throws IOException {
+        List<Player> players = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int[] duplicates = {0};
+        readRows(reader, (firstName, lastName, club, ttr) -> {
+            Player player = new Player(firstName, lastName, club, ttr);
+            if (registered.add(player)) {
+                players.add(player);
+            } else {
+                duplicates[0]++;
+            }
+        }, errors);
+        return new Result(players, duplicates[0], errors);
+    }
+
+    /**
+     * Streams the valid records of a CSV stream to a handler, without creating players. Records
+     * that lack a required field or have an invalid TTR value are reported in {@code errors}.
+     *
+     * @param reader  the CSV data
+     * @param handler receives every valid record, in file order
+     * @param errors  receives a message for every invalid record, with its line number
+     * @throws IOException if the stream cannot be read
+     */
+    static void readRows(Reader reader, RowHandler handler, List<String> errors) throws IOException {
+        new PlayerImporter(reader).readAll(handler, errors);
+    }
+
+    private void readAll(RowHandler handler, List<String> errors) throws IOException {
+        in.mark(HEADER_LOOKAHEAD);
+        if (in.read() != '\uFEFF') {
+            in.reset();
+        }
+        in.mark(HEADER_LOOKAHEAD);
+        separator = detectSeparator(in.readLine());
+        in.reset();
+
+        int[] columns = {0, 1, 2, 3};
+        List<String> record = readRecord();
+        if (record != null) {
+            int[] header = headerColumns(record);
+            if (header != null) {
+                columns = header;
+                record = readRecord();
+            }
+        }
+
+        for (; record != null; record = readRecord()) {
+            if (record.stream().allMatch(String::isBlank)) continue;
+            String firstName = column(record, columns[FIRST_NAME]);
+            String lastName = column(record, columns[LAST_NAME]);
+            String club = column(record, columns[CLUB]);
+            String ttrValue = column(record, columns[TTR]);
+            if (firstName.isEmpty() || lastName.isEmpty() || club.isEmpty()) {
+                errors.add("Zeile " + recordLine + ": Vorname, Name und Verein sind Pflichtfelder.");
+                continue;
+            }
+            int ttr;
+            try {
+                ttr = ttrValue.isEmpty() ? 0 : Integer.parseInt(ttrValue);
+                if (ttr < 0) {
+                    throw new NumberFormatException();
+                }
+            } catch (NumberFormatException e) {
+                errors.add("Zeile " + recordLine + ": Ungültiger TTR-Wert \"" + ttrValue + "\".");
+                continue;
+            }
+            handler.accept(firstName, lastName, club, ttr);
+        }
+    }
+
+    private static String column(List<String> record, int column) {
+        return column >= 0 && column < record.size() ? record.get(column).trim() : "";
+    }
+
+    /**
+     * Returns the separator that occurs most often outside quotes in the given line, preferring
+     * the semicolon of German spreadsheet exports on a tie.
+     */
+    private static char detectSeparator(String firstLine) {
+        if (firstLine == null) return ';';
+        int semicolons = 0;
+        int commas = 0;
+        int tabs = 0;
+        boolean quoted = false;
+        for (int i = 0; i < firstLine.length(); i++) {
+            char c = firstLine.charAt(i);
+            if (c == '"') quoted = !quoted;
+            else if (!quoted && c == ';') semicolons++;
+            else if (!quoted && c == ',') commas++;
+            else if (!quoted && c == '\t') tabs++;
+        }
+        if (tabs > semicolons && tabs > commas) return '\t';
+        return commas > semicolons ? ',' : ';';
+    }
+
+    /**
+     * Maps the column names of a header line to the fields of a player.
+     *
+     * @return the column index of first name, last name, club and TTR ({@code -1} if absent), or
+     * {@code null} if the line does not name first name, last name and club
+     */
+    private static int[] headerColumns(List<String> record) {
+        int[] columns = {-1, -1, -1, -1};
+        for (int i = 0; i < record.size(); i++) {
+            String name = record.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-zäöü]", "");
+            int target = switch (name) {
+                case "vorname", "firstname" -> FIRST_NAME;
+                case "nachname", "name", "familienname", "lastname" -> LAST_NAME;
+                case "verein", "vereinsname", "club" -> CLUB;
+                case "ttr", "qttr", "ttrwert", "ttrpunkte", "rating" -> TTR;
+                default -> -1;
+            };
+            if (target >= 0 && columns[target] < 0) {
+                columns[target] = i;
+            }
+        }
+        return columns[FIRST_NAME] >= 0 && columns[LAST_NAME] >= 0 && columns[CLUB] >= 0 ? columns : null;
+    }
+
+    /**
+     * Reads the fields of the next record, which may span several lines inside quotes.
+     *
+     * @return the fields, or {@code null} at the end of the stream
+     */
+    private List<String> readRecord() throws IOException {
+        int c = in.read();
+        if (c < 0) return null;
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        boolean quoted = false;
+        field.setLength(0);
+        for (; c >= 0; c = in.read()) {
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        field.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
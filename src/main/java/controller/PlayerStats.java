@@ -0,0 +1,93 @@
+package controller;
+
+import model.Player;
+
+import java.util.Arrays;
+
+/**
+ * The statistics of all players of a tournament, stored as one primitive array per counter.
+ *
+ * <p>Each player occupies a dense slot that indexes every array, so scoring and tiebreak
+ * calculations run as plain loops over {@code int} arrays. {@link ScoreCalculator} assigns the
+ * slots and publishes the results to the {@link Player} objects with
+ * {@link #publish(int, Player)}.</p>
+ */
+final class PlayerStats {
+
+    final int[] points;
+    final int[] buchholz;
+    final int[] feinBuchholz;
+    final int[] wins;
+    final int[] losses;
+    final int[] setsWon;
+    final int[] setsLost;
+    final int[] ballsWon;
+    final int[] ballsLost;
+
+    /**
+     * Creates statistics of zero for the given number of slots.
+     *
+     * @param size the number of players
+     */
+    PlayerStats(int size) {
+        points = new int[size];
+        buchholz = new int[size];
+        feinBuchholz = new int[size];
+        wins = new int[size];
+        losses = new int[size];
+        setsWon = new int[size];
+        setsLost = new int[size];
+        ballsWon = new int[size];
+        ballsLost = new int[size];
+    }
+
+    private PlayerStats(PlayerStats other, int size) {
+        points = Arrays.copyOf(other.points, size);
+        buchholz = Arrays.copyOf(other.buchholz, size);
+        feinBuchholz = Arrays.copyOf(other.feinBuchholz, size);
+        wins = Arrays.copyOf(other.wins, size);
+        losses = Arrays.copyOf(other.losses, size);
+        setsWon = Arrays.copyOf(other.setsWon, size);
+        setsLost = Arrays.copyOf(other.setsLost, size);
+        ballsWon = Arrays.copyOf(other.ballsWon, size);
+        ballsLost = Arrays.copyOf(other.ballsLost, size);
+    }
+
+    /**
+     * Returns a copy of the statistics with a different number of slots; new slots are zero.
+     *
+     * @param size the new number of slots
+     * @return the resized statistics
+     */
+    PlayerStats resize(int size) {
+        return new PlayerStats(this, size);
+    }
+
+    /**
+     * Returns a copy of the statistics, e.g. for a calculation on another thread while these
+     * statistics keep changing.
+     *
+     * @return the copy
+     */
+    PlayerStats copy() {
+        return new PlayerStats(this, points.length);
+    }
+
+    /**
+     * Writes the statistics of a slot to the player it belongs to.
+     *
+     * @param slot   the slot
+     * @param player the player of the slot
+     */
+    void publish(int slot, Player player) {
+        player.setPoints(points[slot]);
+        player.setBuchholz(buchholz[slot]);
+        player.setFeinBuchholz(feinBuchholz[slot]);
+        player.setWins(wins[slot]);
+        player.setLosses(losses[slot]);
+        player.setSetsWon(setsWon[slot]);
+        player.setSetsLost(setsLost[slot]);
+        player.setBallsWon(ballsWon[slot]);
+        player.setBallsLost(ballsLost[slot]);
+    }
+}
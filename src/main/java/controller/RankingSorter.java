@@ -0,0 +1,473 @@
+package controller;
+
+import model.Match;
+import model.Player;
+import model.TieBreak;
+import model.TournamentMode;
+
+import java.util.*;
+
+/**
+ * Sorts players by points and a chain of {@link TieBreak} criteria, evaluating the criteria lazily.
+ *
+ * <p>Ranking proceeds in levels. On the first level, every player gets a primitive {@code long}
+ * key and the players' positions are sorted by it. Each group of players with equal keys is then
+ * refined on the next level: the keys of the next criteria are computed only for the members of
+ * that group, the group is sorted by them, and the remaining ties go on to the level after that.
+ * A criterion is therefore evaluated at most once per player and not at all for players whose
+ * place is already decided, so expensive criteria cost nothing when they don't decide anything.
+ * The match history needed by Median-Buchholz, Sonneborn-Berger and the direct comparison is
+ * indexed only when one of them is actually evaluated.</p>
+ *
+ * <p>Criteria that are plain statistics of the player (points, set and ball difference, TTR) are
+ * packed up to three at a time into one key, each in a 21-bit field with an offset, so that
+ * comparing two keys as numbers compares all packed criteria in order. In Swiss System mode
+ * Buchholz and Fein-Buchholz count as such statistics, because {@link ScoreCalculator} has
+ * computed them for the standings; in the other modes they are computed from the match history on
+ * demand. With the default chains, ranking thus takes two levels: points with Buchholz and
+ * Fein-Buchholz (Swiss System) or points alone, then set difference, ball difference and TTR.</p>
+ *
+ * <p>The statistics are read from the players, or from a {@link ScoreCalculator.Statistics} copy
+ * and the {@link TournamentSnapshot.MatchRecord records} of the matches when ranking on another
+ * thread than the one that updates the players.</p>
+ *
+ * <p>All sorting is stable, so players tied on every criterion keep their order, and runs on
+ * per-thread buffers that only grow: ranking a field of up to the same size with criteria that
+ * need no match history allocates nothing.</p>
+ */
+public final class RankingSorter {
+
+    private static final ThreadLocal<RankingSorter> BUFFERS = ThreadLocal.withInitial(RankingSorter::new);
+    private static final int FIELD_BITS = 21;
+    private static final long FIELD_MAX = (1L << FIELD_BITS) - 1;
+    private static final long FIELD_OFFSET = 1L << (FIELD_BITS - 1);
+    private static final int FIELDS_PER_KEY = 3;
+    private static final int INSERTION_RUN = 16;
+
+    private Player[] players = new Player[0];
+    private int[] slots = new int[0];
+    private long[] keys = new long[0];
+    private int[] order = new int[0];
+    private int[] scratch = new int[0];
+    private int[] groups = new int[0];
+    private int groupCount;
+    private List<TieBreak> chain;
+    private boolean buchholzFromPlayers;
+    private ScoreCalculator.Statistics statistics;
+    private List<Match> history;
+    private List<List<TournamentSnapshot.MatchRecord>> records;
+    private History index;
+
+    private RankingSorter() {
+    }
+
+    /**
+     * Sorts players by their ranking with the default tie-break chain of the mode, weakest first.
+     *
+     * @param list the players to sort (in place)
+     * @param mode the tournament mode
+     */
+    public static void sort(List<Player> list, TournamentMode mode) {
+        sort(list, mode, TieBreak.defaultChain(mode), List.of());
+    }
+
+    /**
+     * Sorts players by their ranking, weakest first: by points, then by the given tie-break
+     * criteria in order.
+     *
+     * @param list    the players to sort (in place)
+     * @param mode    the tournament mode
+     * @param chain   the tie-break criteria, applied in order
+     * @param history the matches played so far, used by criteria that depend on the opponents
+     */
+    public static void sort(List<Player> list, TournamentMode mode, List<TieBreak> chain, List<Match> history) {
+        RankingSorter sorter = BUFFERS.get();
+        try {
+            sorter.history = history;
+            sorter.sortList(list, mode, chain);
+        } finally {
+            sorter.clear();
+        }
+    }
+
+    /**
+     * Sorts players by their ranking, weakest first, reading their statistics from a copy instead
+     * of the players, so the players may change meanwhile on another thread.
+     *
+     * @param list       the players to sort (in place)
+     * @param statistics the statistics of the players
+     * @param mode       the tournament mode
+     * @param chain      the tie-break criteria, applied in order
+     * @param rounds     the records of the matches played so far, one list per round; only read
+     *                   if {@link #needsHistory(TournamentMode, List)}, and may be {@code null}
+     *                   otherwise
+     */
+    public static void sort(List<Player> list, ScoreCalculator.Statistics statistics, TournamentMode mode,
+                            List<TieBreak> chain, List<List<TournamentSnapshot.MatchRecord>> rounds) {
+        RankingSorter sorter = BUFFERS.get();
+        try {
+            sorter.statistics = statistics;
+            sorter.records = rounds;
+            sorter.sortList(list, mode, chain);
+        } finally {
+            sorter.clear();
+        }
+    }
+
+    /**
+     * Returns whether ranking with a tie-break chain reads the match history: for Median-Buchholz,
+     * Sonneborn-Berger and the direct comparison, and for Buchholz and Fein-Buchholz outside the
+     * Swiss System, where {@link ScoreCalculator} does not compute them.
+     *
+     * @param mode  the tournament mode
+     * @param chain the tie-break criteria
+     * @return {@code true} if the match history is needed
+     */
+    public static boolean needsHistory(TournamentMode mode, List<TieBreak> chain) {
+        for (TieBreak tieBreak : chain) {
+            boolean needed = switch (tieBreak) {
+                case MEDIAN_BUCHHOLZ, SONNEBORN_BERGER, DIRECT_COMPARISON -> true;
+                case BUCHHOLZ, FEIN_BUCHHOLZ -> mode != TournamentMode.SWISS;
+                case SET_DIFFERENCE, BALL_DIFFERENCE, TTR -> false;
+            };
+            if (needed) return true;
+        }
+        return false;
+    }
+
+    private void clear() {
+        chain = null;
+        statistics = null;
+        history = null;
+        records = null;
+        index = null;
+    }
+
+    private void sortList(List<Player> list, TournamentMode mode, List<TieBreak> chain) {
+        int n = list.size();
+        if (n < 2) return;
+        ensureCapacity(n);
+        this.chain = chain;
+        this.buchholzFromPlayers = mode == TournamentMode.SWISS;
+        for (int i = 0; i < n; i++) {
+            players[i] = list.get(i);
+            slots[i] = statistics == null ? -1 : statistics.slotOf(players[i]);
+            order[i] = i;
+        }
+        refine(0, n, -1);
+
+        for (int i = 0; i < n; i++) {
+            list.set(i, players[order[i]]);
+        }
+        Arrays.fill(players, 0, n, null);
+    }
+
+    private void ensureCapacity(int n) {
+        if (players.length >= n) return;
+        int capacity = Math.max(n, players.length * 2);
+        players = new Player[capacity];
+        slots = new int[capacity];
+        keys = new long[capacity];
+        order = new int[capacity];
+        scratch = new int[capacity];
+        groups = new int[capacity];
+    }
+
+    /**
+     * Sorts the positions {@code from .. to-1}, which are tied on every criterion before
+     * {@code level}, by the criteria starting at {@code level} (-1 standing for the points), and
+     * refines every run of players that is still tied with the following criteria.
+     */
+    private void refine(int from, int to, int level) {
+        int levels = packableCount(level);
+        computeKeys(from, to, level, levels);
+        sortRange(from, to);
+
+        int next = level + levels;
+        if (next == chain.size()) return;
+        int start = from;
+        while (start < to) {
+            int end = start + 1;
+            while (end < to && keys[order[end]] == keys[order[start]]) {
+                end++;
+            }
+            if (end - start > 1) {
+                refine(start, end, next);
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Returns how many criteria starting at {@code level} share one key: up to three consecutive
+     * plain statistics, or just the one criterion if it needs the match history.
+     */
+    private int packableCount(int level) {
+        int count = 0;
+        while (count < FIELDS_PER_KEY && level + count < chain.size() && isStatistic(level + count)) {
+            count++;
+        }
+        return Math.max(count, 1);
+    }
+
+    private boolean isStatistic(int level) {
+        if (level < 0) return true;
+        return switch (chain.get(level)) {
+            case SET_DIFFERENCE, BALL_DIFFERENCE, TTR -> true;
+            case BUCHHOLZ, FEIN_BUCHHOLZ -> buchholzFromPlayers;
+            case MEDIAN_BUCHHOLZ, SONNEBORN_BERGER, DIRECT_COMPARISON -> false;
+        };
+    }
+
+    /**
+     * Computes the keys of the criteria {@code level .. level+levels-1} for the players at the
+     * sorted positions {@code from .. to-1}.
+     */
+    private void computeKeys(int from, int to, int level, int levels) {
+        if (level >= 0 && chain.get(level) == TieBreak.DIRECT_COMPARISON) {
+            groupCount++;
+            for (int i = from; i < to; i++) {
+                groups[order[i]] = groupCount;
+            }
+        }
+        for (int i = from; i < to; i++) {
+            int position = order[i];
+            if (levels == 1) {
+                keys[position] = value(level, position);
+            } else {
+                long key = 0;
+                for (int l = level; l < level + levels; l++) {
+                    key = key << FIELD_BITS | field(value(l, position));
+                }
+                keys[position] = key;
+            }
+        }
+    }
+
+    private static long field(int value) {
+        return Math.clamp(value + FIELD_OFFSET, 0, FIELD_MAX);
+    }
+
+    private int value(int level, int position) {
+        Player player = players[position];
+        if (level < 0) {
+            return points(position);
+        }
+        return switch (chain.get(level)) {
+            case BUCHHOLZ -> buchholzFromPlayers ? buchholz(position) : history().buchholz(player);
+            case FEIN_BUCHHOLZ -> buchholzFromPlayers ? feinBuchholz(position) : history().feinBuchholz(player);
+            case MEDIAN_BUCHHOLZ -> history().medianBuchholz(player);
+            case SONNEBORN_BERGER -> history().sonnebornBerger(player);
+            case DIRECT_COMPARISON -> history().winsWithinGroup(player, groupCount);
+            case SET_DIFFERENCE -> setDifference(position);
+            case BALL_DIFFERENCE -> ballDifference(position);
+            case TTR -> player.getTtr();
+        };
+    }
+
+    private int points(int position) {
+        return statistics == null ? players[position].getPoints() : statistic(statistics.stats.points, position);
+    }
+
+    private int buchholz(int position) {
+        return statistics == null ? players[position].getBuchholz() : statistic(statistics.stats.buchholz, position);
+    }
+
+    private int feinBuchholz(int position) {
+        return statistics == null
+                ? players[position].getFeinBuchholz()
+                : statistic(statistics.stats.feinBuchholz, position);
+    }
+
+    private int setDifference(int position) {
+        return statistics == null
+                ? players[position].getSetsWon() - players[position].getSetsLost()
+                : statistic(statistics.stats.setsWon, position) - statistic(statistics.stats.setsLost, position);
+    }
+
+    private int ballDifference(int position) {
+        return statistics == null
+                ? players[position].getBallsWon() - players[position].getBallsLost()
+                : statistic(statistics.stats.ballsWon, position) - statistic(statistics.stats.ballsLost, position);
+    }
+
+    /**
+     * Reads a counter of the player at a position from the statistics; a player without a slot
+     * has no statistics yet.
+     */
+    private int statistic(int[] counter, int position) {
+        return slots[position] < 0 ? 0 : counter[slots[position]];
+    }
+
+    /**
+     * Returns the points of a player, who may be an opponent outside the sorted list.
+     */
+    private int pointsOf(Player player) {
+        if (statistics == null) {
+            return player.getPoints();
+        }
+        int slot = statistics.slotOf(player);
+        return slot < 0 ? 0 : statistics.stats.points[slot];
+    }
+
+    private History history() {
+        if (index == null) {
+            index = new History();
+        }
+        return index;
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b];
+    }
+
+    /**
+     * Sorts the positions {@code from .. to-1} of the order stably by their keys: insertion sort on
+     * short runs, then bottom-up merging through the scratch buffer.
+     */
+    private void sortRange(int from, int to) {
+        for (int start = from; start < to; start += INSERTION_RUN) {
+            int end = Math.min(start + INSERTION_RUN, to);
+            for (int i = start + 1; i < end; i++) {
+                int position = order[i];
+                int j = i - 1;
+                while (j >= start && less(position, order[j])) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = position;
+            }
+        }
+
+        int[] source = order;
+        int[] target = scratch;
+        for (int width = INSERTION_RUN; width < to - from; width *= 2) {
+            for (int left = from; left < to; left += 2 * width) {
+                int middle = Math.min(left + width, to);
+                int right = Math.min(left + 2 * width, to);
+                int i = left;
+                int j = middle;
+                for (int k = left; k < right; k++) {
+                    if (i < middle && (j >= right || !less(source[j], source[i]))) {
+                        target[k] = source[i++];
+                    } else {
+                        target[k] = source[j++];
+                    }
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != order) {
+            System.arraycopy(source, from, order, from, to - from);
+        }
+    }
+
+    /**
+     * The match history of the players being sorted, indexed per player on first use. Byes have
+     * no opponent and are left out.
+     */
+    private final class History {
+
+        /**
+         * A match between two players and its winner, or {@code null} if it has none.
+         */
+        private record Game(Player first, Player second, Player winner) {
+            Player opponent(Player player) {
+                return first.equals(player) ? second : first;
+            }
+        }
+
+        private final Map<Player, List<Game>> gamesOf = new HashMap<>();
+        private final Map<Player, Integer> positions = new HashMap<>();
+        private final Map<Player, Integer> buchholz = new HashMap<>();
+
+        History() {
+            if (records != null) {
+                for (List<TournamentSnapshot.MatchRecord> round : records) {
+                    for (TournamentSnapshot.MatchRecord record : round) {
+                        add(record.firstPlayer(), record.secondPlayer(), record.winner());
+                    }
+                }
+            } else {
+                for (Match match : history) {
+                    add(match.getFirstPlayer(), match.getSecondPlayer(), match.getWinner());
+                }
+            }
+            for (int i = 0; i < players.length && players[i] != null; i++) {
+                positions.putIfAbsent(players[i], i);
+            }
+        }
+
+        private void add(Player first, Player second, Player winner) {
+            if (second != null) {
+                Game game = new Game(first, second, winner);
+                gamesOf.computeIfAbsent(first, _ -> new ArrayList<>()).add(game);
+                gamesOf.computeIfAbsent(second, _ -> new ArrayList<>()).add(game);
+            }
+        }
+
+        private List<Game> gamesOf(Player player) {
+            return gamesOf.getOrDefault(player, List.of());
+        }
+
+        int buchholz(Player player) {
+            return buchholz.computeIfAbsent(player, p -> gamesOf(p).stream()
+                    .mapToInt(game -> pointsOf(game.opponent(p)))
+                    .sum());
+        }
+
+        int feinBuchholz(Player player) {
+            int sum = 0;
+            for (Game game : gamesOf(player)) {
+                sum += buchholz(game.opponent(player));
+            }
+            return sum;
+        }
+
+        /**
+         * Buchholz without the best and the worst opponent, once there are at least three.
+         */
+        int medianBuchholz(Player player) {
+            List<Game> games = gamesOf(player);
+            int sum = 0;
+            int best = Integer.MIN_VALUE;
+            int worst = Integer.MAX_VALUE;
+            for (Game game : games) {
+                int points = pointsOf(game.opponent(player));
+                sum += points;
+                best = Math.max(best, points);
+                worst = Math.min(worst, points);
+            }
+            return games.size() >= 3 ? sum - best - worst : sum;
+        }
+
+        /**
+         * The sum of the points of all opponents the player has beaten.
+         */
+        int sonnebornBerger(Player player) {
+            int sum = 0;
+            for (Game game : gamesOf(player)) {
+                if (player.equals(game.winner())) {
+                    sum += pointsOf(game.opponent(player));
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * The number of wins against the other players of the tied group being refined.
+         */
+        int winsWithinGroup(Player player, int group) {
+            int wins = 0;
+            for (Game game : gamesOf(player)) {
+                Integer position = positions.get(game.opponent(player));
+                if (position != null && groups[position] == group && player.equals(game.winner())) {
+                    wins++;
+                }
+            }
+            return wins;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package controller;
+
+import javax.swing.*;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces refresh requests for the round window into at most one update per frame.
+ *
+ * <p>Callers only mark what has become stale: the standings, the pairings text or the round label.
+ * A single-shot {@link Timer} fires one frame after the first request; everything requested up to
+ * then is handled together. The texts are simply set to their latest value. The standings are
+ * prepared on the Event Dispatch Thread, which captures everything the calculation needs as
+ * private copies; the calculation itself then runs in a {@link SwingWorker} on these copies only,
+ * so it never touches the matches and players that the EDT keeps changing. Only the result, e.g. a
+ * {@link StandingsTableModel.Snapshot}, is swapped into the table model on the EDT. Requests that
+ * arrive while the worker runs are collected for one follow-up run.</p>
+ *
+ * <p>Code that needs up-to-date standings on the EDT, e.g. before generating pairings, calls
+ * {@link #flush()}. A worker that has not finished at that point is cancelled; since it only
+ * works on its copies, a worker that is already running needs no waiting for, and its result is
+ * discarded when it finishes.</p>
+ *
+ * <p>All methods must be called on the Event Dispatch Thread.</p>
+ *
+ * @param <T> the computed standings handed from the worker to the EDT
+ */
+final class RefreshScheduler<T> {
+
+    /**
+     * Delay between the first request and the update, roughly one frame.
+     */
+    static final int FRAME_MILLIS = 16;
+
+    private final Supplier<Supplier<T>> standingsTask;
+    private final Consumer<T> standingsTarget;
+    private final Consumer<String> pairingsTarget;
+    private final Consumer<String> roundLabelTarget;
+    private final Timer timer;
+
+    private boolean standingsDirty;
+    private String pendingPairingsText;
+    private String pendingRoundLabel;
+    private SwingWorker<T, Void> worker;
+    private int generation;
+
+    /**
+     * Creates a scheduler for one round window.
+     *
+     * @param standingsTask    prepares the standings on the EDT and returns the calculation,
+     *                         which runs off the EDT and may only use what the preparation has
+     *                         copied
+     * @param standingsTarget  swaps the computed standings into the table model
+     * @param pairingsTarget   sets the pairings text in the view
+     * @param roundLabelTarget sets the round label in the view
+     */
+    RefreshScheduler(Supplier<Supplier<T>> standingsTask,
+                     Consumer<T> standingsTarget,
+                     Consumer<String> pairingsTarget, Consumer<String> roundLabelTarget) {
+        this.standingsTask = standingsTask;
+        this.standingsTarget = standingsTarget;
+        this.pairingsTarget = pairingsTarget;
+        this.roundLabelTarget = roundLabelTarget;
+        this.timer = new Timer(FRAME_MILLIS, _ -> refresh());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Marks the standings as stale.
+     */
+    void requestStandings() {
+        standingsDirty = true;
+        schedule();
+    }
+
+    /**
+     * Requests the pairings area to show the given text. Only the latest text of a frame is set.
+     *
+     * @param text the pairings text
+     */
+    void requestPairingsText(String text) {
+        pendingPairingsText = text;
+        schedule();
+    }
+
+    /**
+     * Requests the round label to show the given text. Only the latest text of a frame is set.
+     *
+     * @param text the label text
+     */
+    void requestRoundLabel(String text) {
+        pendingRoundLabel = text;
+        schedule();
+    }
+
+    /**
+     * Performs all pending updates immediately on the calling thread. Afterward, the standings
+     * table reflects every result recorded so far.
+     */
+    void flush() {
+        timer.stop();
+        applyTexts();
+        if (standingsDirty || worker != null) {
+            standingsDirty = false;
+            generation++;
+            if (worker != null) {
+                worker.cancel(false);
+                worker = null;
+            }
+            standingsTarget.accept(standingsTask.get().get());
+        }
+    }
+
+    private void schedule() {
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    private void applyTexts() {
+        if (pendingPairingsText != null) {
+            pairingsTarget.accept(pendingPairingsText);
+            pendingPairingsText = null;
+        }
+        if (pendingRoundLabel != null) {
+            roundLabelTarget.accept(pendingRoundLabel);
+            pendingRoundLabel = null;
+        }
+    }
+
+    /**
+     * Handles everything requested during the last frame. Prepares the standings and starts the
+     * worker unless one is already running; in that case the standings stay marked and are picked
+     * up afterwards.
+     */
+    private void refresh() {
+        applyTexts();
+        if (!standingsDirty || worker != null) {
+            return;
+        }
+        standingsDirty = false;
+        int workerGeneration = ++generation;
+        Supplier<T> calculation = standingsTask.get();
+        worker = new SwingWorker<>() {
+            @Override
+            protected T doInBackground() {
+                return calculation.get();
+            }
+
+            @Override
+            protected void done() {
+                if (workerGeneration != generation || isCancelled()) {
+                    return;
+                }
+                worker = null;
+                try {
+                    standingsTarget.accept(get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Standings calculation failed", e.getCause());
+                }
+                if (standingsDirty) {
+                    schedule();
+                }
+            }
+        };
+        worker.execute();
+    }
+}
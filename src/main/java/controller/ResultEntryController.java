@@ -3,15 +3,20 @@ package controller;
 import static model.Match.MAX_SETS;
 
 import model.Match;
+import view.ResultEntryForm;
 import view.ResultEntryView;
+import view.ResultListEntryView;
+import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.PlainDocument;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 /**
@@ -22,11 +27,21 @@ public class ResultEntryController {
     public record MatchPanelData(JTextField[][] setResultsFields, JTextField wonSetsField,
                                  JTextField lostSetsField, Match match) {}
 
-    private final ResultEntryView view;
+    /**
+     * Number of matches above which the list view with a single score editor is used instead of
+     * one tab per match.
+     */
+    static final int LIST_VIEW_THRESHOLD = 24;
+
+    private final JFrame view;
+    private final ResultEntryForm form;
     private final TournamentRound tournamentRound;
+    private final Set<Match> editedMatches = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Constructs a new ResultEntryController and immediately initializes the UI.
+     * Rounds with more than {@link #LIST_VIEW_THRESHOLD} matches are shown in a
+     * {@link ResultListEntryView}, smaller rounds in a {@link ResultEntryView}.
      * Must be called on the Event Dispatch Thread.
      *
      * @param matches         List of matches to display and manage results for
@@ -34,43 +49,59 @@ public class ResultEntryController {
      */
     public ResultEntryController(List<Match> matches, TournamentRound tournamentRound) {
         this.tournamentRound = tournamentRound;
-        this.view = new ResultEntryView(this, matches);
+        if (matches.size() > LIST_VIEW_THRESHOLD) {
+            ResultListEntryView listView = new ResultListEntryView(this, matches);
+            this.view = listView;
+            this.form = listView;
+        } else {
+            ResultEntryView tabView = new ResultEntryView(this, matches);
+            this.view = tabView;
+            this.form = tabView;
+        }
     }
 
     /**
-     * Saves the entered results for all matches and updates the UI accordingly.
+     * Saves the entered results of all matches that were edited since they were last saved.
+     * Each of them is committed as a single result, which updates the standings of its two
+     * players; untouched matches are left as they are.
      *
      * @param showConfirmation Flag indicating whether to show a confirmation message
      */
     public void saveResults(boolean showConfirmation) {
-        Arrays.stream(view.getTabbedPane().getComponents())
-                .filter(c -> c instanceof JPanel)
-                .map(c -> (JPanel) c)
-                .forEach(matchPanel -> {
-                    MatchPanelData data = (MatchPanelData) matchPanel.getClientProperty("matchData");
-                    if (data == null) return;
-
-                    IntStream.range(0, MAX_SETS).forEach(i -> {
-                        String[] result = new String[2];
-                        result[0] = data.setResultsFields()[i][0].getText();
-                        result[1] = data.setResultsFields()[i][1].getText();
-                        data.match().setResults(i, result);
-                    });
-
-                    String overallResult = data.wonSetsField().getText() + ":" + data.lostSetsField().getText();
-                    data.match().setOverallResult(overallResult);
-                });
-
-        tournamentRound.updateResultsTable();
+        form.getMatchPanelData().forEach(this::commitMatch);
+
         if (showConfirmation) {
             JOptionPane.showMessageDialog(view, "Ergebnisse gespeichert.");
         }
     }
 
+    /**
+     * Commits the entered result of one match if its score fields were edited since the last
+     * commit: the set scores and the overall result are written to the match and passed on to
+     * the tournament round.
+     *
+     * @param data the score fields and the match they belong to
+     */
+    public void commitMatch(MatchPanelData data) {
+        if (!editedMatches.remove(data.match())) {
+            return;
+        }
+        IntStream.range(0, MAX_SETS).forEach(i -> {
+            String[] result = new String[2];
+            result[0] = data.setResultsFields()[i][0].getText();
+            result[1] = data.setResultsFields()[i][1].getText();
+            data.match().setResults(i, result);
+        });
+
+        String overallResult = data.wonSetsField().getText() + ":" + data.lostSetsField().getText();
+        data.match().setOverallResult(overallResult);
+        tournamentRound.recordResult(data.match());
+    }
+
     /**
      * Recalculates the overall result (sets won/lost) for a match panel based on the
      * currently entered individual set scores. Updates the read-only summary fields
-     * in the panel accordingly.
+     * in the panel accordingly and marks the panel's match as edited.
      *
      * @param matchPanel the match panel whose score fields should be read and whose
      *                   summary fields should be updated
@@ -78,6 +109,7 @@ public class ResultEntryController {
     public void updateOverallResult(JPanel matchPanel) {
         MatchPanelData data = (MatchPanelData) matchPanel.getClientProperty("matchData");
         if (data == null) return;
+        editedMatches.add(data.match());
 
         JTextField[][] setResultsFields = data.setResultsFields();
         JTextField wonSetsField = data.wonSetsField();
@@ -0,0 +1,208 @@
+package controller;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether a Swiss System tournament can still be played for a given number of rounds.
+ *
+ * <p>The remaining possibilities are a graph: the players are the vertices and every pair that has
+ * not played yet is an edge; for an odd field an extra vertex stands for the bye (Freilos) and is
+ * connected to every player who has not had one. A round is a perfect matching of this graph, and
+ * {@code k} more rounds are possible exactly if the graph contains {@code k} edge-disjoint perfect
+ * matchings. The graph of up to {@link #MAX_VERTICES} vertices is stored as one {@code long}
+ * adjacency mask per vertex.</p>
+ *
+ * <p>Most questions are answered without a search. Every vertex needs at least {@code k} edges.
+ * Conversely, a graph with {@code N} vertices in which every vertex has at least {@code N/2} edges
+ * has a perfect matching (Dirac), and removing a perfect matching costs every vertex exactly one
+ * edge; so with a minimum degree of at least {@code N/2 + k - 1} any {@code k} successive rounds
+ * succeed. Only in between, towards the end of a small field, are the perfect matchings searched,
+ * most constrained vertex first. The results are cached by graph and number of rounds, so the many
+ * candidate pairings of a round, which mostly lead to the same remaining graphs, are decided
+ * once.</p>
+ *
+ * <p>Every search has a budget of steps. A cached result is charged the steps its search took, so
+ * whether a question is decided within the budget does not depend on what happens to be cached.
+ * The answers are therefore the same whichever questions were asked before, and a parallel
+ * pairing search may share one instance and its cache between threads.</p>
+ */
+final class RoundFeasibility {
+
+    /** The largest number of vertices the search handles; larger fields only get the degree tests. */
+    static final int MAX_VERTICES = 64;
+
+    private static final int MAX_CACHE_SIZE = 50_000;
+    private static final int SEARCH_BUDGET = 200_000;
+
+    /**
+     * A graph and a number of rounds, used as cache key.
+     */
+    private record Question(long[] adjacency, int rounds) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Question question && rounds == question.rounds
+                    && Arrays.equals(adjacency, question.adjacency);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(adjacency) + rounds;
+        }
+    }
+
+    /**
+     * The answer to a question and the number of search steps it took.
+     */
+    private record Answer(boolean feasible, int steps) {}
+
+    private final Map<Question, Answer> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether the given number of rounds can still be played.
+     *
+     * @param adjacency the adjacency mask of every vertex; not modified
+     * @param rounds    the number of rounds
+     * @return {@code true} if the graph contains this many edge-disjoint perfect matchings,
+     * {@code false} if it does not, or {@code null} if the search exceeds its budget before it
+     * decides
+     */
+    Boolean canPlay(long[] adjacency, int rounds) {
+        try {
+            return new Search().feasible(adjacency, rounds);
+        } catch (BudgetExceeded _) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the pairing of the next round of a schedule with the given number of rounds.
+     *
+     * @param adjacency the adjacency mask of every vertex; not modified
+     * @param rounds    the number of rounds including the next one, at least 1
+     * @return the partner of every vertex in the next round, or {@code null} if the rounds cannot
+     * be played or the search exceeds its budget
+     */
+    int[] firstRound(long[] adjacency, int rounds) {
+        try {
+            if (!degreesAllow(adjacency, rounds)) return null;
+            int[] mate = new int[adjacency.length];
+            return new Search().extend(adjacency, allVertices(adjacency.length), mate, rounds) ? mate : null;
+        } catch (BudgetExceeded _) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether every vertex of a graph of any size has enough edges for the given number
+     * of rounds, and whether the Dirac bound guarantees them.
+     *
+     * @param degrees the number of edges of every vertex
+     * @param rounds  the number of rounds
+     * @return {@code true} if the rounds are guaranteed, {@code false} if they are impossible, or
+     * {@code null} if the degrees do not decide it
+     */
+    static Boolean decideByDegrees(int[] degrees, int rounds) {
+        if (rounds <= 0) return true;
+        if (degrees.length % 2 != 0) return false;
+        int minDegree = Arrays.stream(degrees).min().orElse(Integer.MAX_VALUE);
+        if (minDegree < rounds) return false;
+        if (minDegree >= degrees.length / 2 + rounds - 1) return true;
+        return null;
+    }
+
+    /**
+     * One question to the search, with its own budget.
+     */
+    private final class Search {
+        private int budget = SEARCH_BUDGET;
+
+        boolean feasible(long[] adjacency, int rounds) {
+            Boolean decided = decideByDegrees(degrees(adjacency), rounds);
+            if (decided != null) return decided;
+
+            Answer known = cache.get(new Question(adjacency, rounds));
+            if (known != null) {
+                spend(known.steps());
+                return known.feasible();
+            }
+            int before = budget;
+            boolean result = extend(adjacency, allVertices(adjacency.length), new int[adjacency.length], rounds);
+
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(new Question(adjacency.clone(), rounds), new Answer(result, before - budget));
+            return result;
+        }
+
+        /**
+         * Extends a partial perfect matching of the next round to the vertices in {@code unmatched},
+         * always continuing with the vertex that has the fewest possible partners. Each complete
+         * matching is accepted if the remaining graph allows the other {@code rounds - 1} rounds.
+         */
+        boolean extend(long[] adjacency, long unmatched, int[] mate, int rounds) {
+            if (unmatched == 0) {
+                long[] remaining = adjacency.clone();
+                for (int v = 0; v < mate.length; v++) {
+                    remaining[v] &= ~(1L << mate[v]);
+                }
+                return feasible(remaining, rounds - 1);
+            }
+            spend(1);
+
+            int vertex = -1;
+            int fewest = Integer.MAX_VALUE;
+            for (long rest = unmatched; rest != 0; rest &= rest - 1) {
+                int v = Long.numberOfTrailingZeros(rest);
+                int options = Long.bitCount(adjacency[v] & unmatched);
+                if (options < fewest) {
+                    fewest = options;
+                    vertex = v;
+                }
+            }
+            for (long partners = adjacency[vertex] & unmatched; partners != 0; partners &= partners - 1) {
+                int partner = Long.numberOfTrailingZeros(partners);
+                mate[vertex] = partner;
+                mate[partner] = vertex;
+                if (extend(adjacency, unmatched & ~(1L << vertex) & ~(1L << partner), mate, rounds)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void spend(int steps) {
+            budget -= steps;
+            if (budget < 0) {
+                throw new BudgetExceeded();
+            }
+        }
+    }
+
+    private static boolean degreesAllow(long[] adjacency, int rounds) {
+        return !Boolean.FALSE.equals(decideByDegrees(degrees(adjacency), rounds));
+    }
+
+    private static int[] degrees(long[] adjacency) {
+        int[] degrees = new int[adjacency.length];
+        for (int v = 0; v < adjacency.length; v++) {
+            degrees[v] = Long.bitCount(adjacency[v]);
+        }
+        return degrees;
+    }
+
+    private static long allVertices(int count) {
+        return count == MAX_VERTICES ? -1L : (1L << count) - 1;
+    }
+
+    /**
+     * Thrown to abandon a search that takes too long.
+     */
+    private static final class BudgetExceeded extends RuntimeException {
+        BudgetExceeded() {
+            super(null, null, false, false);
+        }
+    }
+}
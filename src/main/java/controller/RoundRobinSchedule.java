@@ -0,0 +1,175 @@
+package controller;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed Berger schedule for Round Robin (Jeder-gegen-Jeden) tournaments.
+ *
+ * <p>The complete schedule is built once when the tournament starts and stored as an
+ * {@code int[rounds][pairs]} table. Each entry packs the seed indices of the home player
+ * (the first-listed player) and the away player, so the pairings of any round can be looked up
+ * directly by round number without re-sorting or re-rotating the player list.</p>
+ *
+ * <p>Rounds follow the Berger tables: the highest slot is fixed and placed alternately at home and
+ * away, while the remaining slots rotate by {@code n/2} positions per round. This keeps the home/away
+ * colours of every player alternating as far as possible and balanced within one game. For an odd
+ * player count the fixed slot is a virtual bye ({@link #BYE}). In double Round Robin mode the second
+ * half repeats the first half with home and away swapped.</p>
+ */
+public final class RoundRobinSchedule {
+
+    /** Seed index used for the virtual bye slot when the player count is odd. */
+    public static final int BYE = -1;
+
+    private static final int SHIFT = 16;
+    private static final int MASK = (1 << SHIFT) - 1;
+
+    private final int playerCount;
+    private final boolean doubleRoundRobin;
+    private final int[][] schedule;
+
+    /**
+     * Builds the complete schedule for the given number of players.
+     *
+     * @param playerCount      the number of seeded players (indices {@code 0..playerCount-1})
+     * @param doubleRoundRobin {@code true} to schedule every pairing twice with swapped home/away
+     * @throws IllegalArgumentException if the player count is negative or too large to be packed
+     */
+    public RoundRobinSchedule(int playerCount, boolean doubleRoundRobin) {
+        if (playerCount < 0 || playerCount >= MASK) {
+            throw new IllegalArgumentException("Invalid player count: " + playerCount);
+        }
+        this.playerCount = playerCount;
+        this.doubleRoundRobin = doubleRoundRobin;
+        this.schedule = buildSchedule();
+    }
+
+    /**
+     * Computes the Berger table for the first half and, for double Round Robin, appends the
+     * mirrored second half.
+     *
+     * @return the packed schedule indexed by zero-based round and pair
+     */
+    private int[][] buildSchedule() {
+        int slots = playerCount + (playerCount % 2);
+        if (slots < 2) {
+            return new int[0][0];
+        }
+        int rotating = slots - 1;
+        int half = slots / 2;
+        int fixed = slots - 1;
+
+        int[][] single = new int[rotating][half];
+        for (int t = 0; t < rotating; t++) {
+            int r = (int) ((long) t * half % rotating);
+            single[t][0] = t % 2 == 0 ? pack(r, fixed) : pack(fixed, r);
+            for (int k = 1; k < half; k++) {
+                single[t][k] = pack((r + k) % rotating, (r - k + rotating) % rotating);
+            }
+        }
+
+        if (!doubleRoundRobin) {
+            return single;
+        }
+        int[][] full = Arrays.copyOf(single, rotating * 2);
+        for (int t = 0; t < rotating; t++) {
+            full[rotating + t] = new int[half];
+            for (int k = 0; k < half; k++) {
+                int entry = single[t][k];
+                full[rotating + t][k] = pack(entry & MASK, entry >>> SHIFT);
+            }
+        }
+        return full;
+    }
+
+    /**
+     * Packs two slot indices into one schedule entry. The virtual slot of an odd field is
+     * stored as {@code playerCount} and reported as {@link #BYE} by the accessors.
+     */
+    private static int pack(int home, int away) {
+        return (home << SHIFT) | away;
+    }
+
+    /**
+     * Converts a packed slot index back to a seed index, mapping the virtual slot to {@link #BYE}.
+     */
+    private int toSeed(int slot) {
+        return slot >= playerCount ? BYE : slot;
+    }
+
+    /**
+     * Returns the number of seeded players this schedule was built for.
+     *
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Returns whether every pairing is scheduled twice.
+     *
+     * @return {@code true} for a double Round Robin
+     */
+    public boolean isDoubleRoundRobin() {
+        return doubleRoundRobin;
+    }
+
+    /**
+     * Returns the total number of rounds in the schedule.
+     *
+     * @return the round count
+     */
+    public int getRoundCount() {
+        return schedule.length;
+    }
+
+    /**
+     * Returns the number of pairings per round, including the bye pairing for an odd field.
+     *
+     * @return the pair count per round
+     */
+    public int getPairsPerRound() {
+        return schedule.length == 0 ? 0 : schedule[0].length;
+    }
+
+    /**
+     * Returns the seed index of the home (first-listed) player of a pairing.
+     *
+     * @param round the one-based round number
+     * @param pair  the zero-based pair index within the round
+     * @return the seed index, or {@link #BYE} if the slot is the virtual bye
+     */
+    public int getHome(int round, int pair) {
+        return toSeed(schedule[round - 1][pair] >>> SHIFT);
+    }
+
+    /**
+     * Returns the seed index of the away (second-listed) player of a pairing.
+     *
+     * @param round the one-based round number
+     * @param pair  the zero-based pair index within the round
+     * @return the seed index, or {@link #BYE} if the slot is the virtual bye
+     */
+    public int getAway(int round, int pair) {
+        return toSeed(schedule[round - 1][pair] & MASK);
+    }
+
+    /**
+     * Returns the complete schedule as seed indices, suitable for printing or export.
+     * The result is indexed by zero-based round, then pair, then {@code 0} for home and {@code 1}
+     * for away. Bye slots are reported as {@link #BYE}. The returned array is a fresh copy.
+     *
+     * @return the full schedule as {@code int[rounds][pairs][2]}
+     */
+    public int[][][] getSchedule() {
+        int[][][] result = new int[schedule.length][][];
+        for (int r = 0; r < schedule.length; r++) {
+            result[r] = new int[schedule[r].length][];
+            for (int k = 0; k < schedule[r].length; k++) {
+                result[r][k] = new int[]{getHome(r + 1, k), getAway(r + 1, k)};
+            }
+        }
+        return result;
+    }
+}
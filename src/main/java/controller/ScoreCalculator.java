@@ -4,24 +4,113 @@ import model.Match;
 import model.Player;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Calculates and updates player statistics based on completed matches.
  *
  * <p>Given the full list of matches, this class computes each player's points, wins, losses,
- * sets won/lost, balls won/lost, Buchholz score, and Fein-Buchholz score. Results are written
- * directly to the {@link Player} objects.</p>
+ * sets won/lost, balls won/lost, Buchholz score, and Fein-Buchholz score. The counters are kept
+ * in a struct-of-arrays {@link PlayerStats} table indexed by a dense slot per player, and the
+ * results are then published to the {@link Player} objects.</p>
  *
  * <p>Bye matches (where the second player is {@code null}) award the bye recipient one point,
  * one win, 3 sets won, and 33 balls won. Duplicate bye matches for the same player are
  * deduplicated before processing to avoid double-counting.</p>
+ *
+ * <p>{@link #calculate(List)} remembers what each match contributed and who played whom, so that a
+ * single saved result can be applied with {@link #updateMatch(Match)} by touching only the two
+ * players and their opponents.</p>
+ *
+ * <p>Players registered after the start may be credited compensation points for the rounds they
+ * missed; these count like points won in matches. {@link #addPlayer(Player)} gives such a player a
+ * slot without recalculating the others.</p>
+ *
+ * <p>The statistics can be handed to another thread without a lock: {@link #statistics()} copies
+ * the counter arrays, and the slot map is never changed once it is in use but replaced when a
+ * player is added. A full recalculation can run on another thread as well, from the immutable
+ * {@link TournamentSnapshot.MatchRecord records} of the matches: {@link #recalculation} takes what
+ * it needs on the calling thread and returns the calculation, whose result is put in place and
+ * published with {@link #adopt(Recalculation)}.</p>
  */
 public class ScoreCalculator {
 
     private static final int BYE_SETS_AWARDED = 3;
     private static final int BYE_BALLS_AWARDED = 33;
 
+    private static final int POINTS = 0;
+    private static final int WINS = 1;
+    private static final int LOSSES = 2;
+    private static final int SETS_WON = 3;
+    private static final int SETS_LOST = 4;
+    private static final int BALLS_WON = 5;
+    private static final int BALLS_LOST = 6;
+    private static final int SECOND = 7;
+
     private final List<Match> allMatches;
+    private final boolean withBuchholz;
+    private final Map<Player, Integer> compensationPoints;
+    private Recalculation current = new Recalculation();
+    private int[] buchholzChanges = new int[0];
+
+    /**
+     * The statistics of all players at one point in time, by slot. Neither the slot map nor the
+     * arrays are changed after they have been handed out, so they can be read on any thread.
+     */
+    public static final class Statistics {
+        final Map<Player, Integer> slots;
+        final PlayerStats stats;
+
+        Statistics(Map<Player, Integer> slots, PlayerStats stats) {
+            this.slots = slots;
+            this.stats = stats;
+        }
+
+        /**
+         * Returns the slot of a player in the arrays of these statistics.
+         *
+         * @param player the player
+         * @return the slot, or {@code -1} if the player has none
+         */
+        int slotOf(Player player) {
+            Integer slot = slots.get(player);
+            return slot == null ? -1 : slot;
+        }
+    }
+
+    /**
+     * The complete state of a calculation: the slots, the statistics, the opponents of every slot
+     * and the contribution of every match by ID. A recalculation built on another thread belongs
+     * to that thread until it is {@link #adopt(Recalculation) adopted}.
+     */
+    public static final class Recalculation {
+        private Map<Player, Integer> slots = new HashMap<>();
+        private final List<Player> slotPlayers = new ArrayList<>();
+        private final Map<Long, int[]> contributions = new HashMap<>();
+        private PlayerStats stats = new PlayerStats(0);
+        private int[][] opponents = new int[0][];
+
+        /**
+         * Returns the statistics of this recalculation.
+         *
+         * @return the statistics, not copied
+         */
+        public Statistics statistics() {
+            return new Statistics(slots, stats);
+        }
+
+        private int slotOf(Player player) {
+            return slots.computeIfAbsent(player, p -> {
+                slotPlayers.add(p);
+                return slotPlayers.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * A match to count: its ID, its players and what it contributes to their statistics.
+     */
+    private record Entry(long id, Player first, Player second, int[] contribution) {}
 
     /**
      * Constructs a ScoreCalculator bound to the given match history.
@@ -29,175 +118,366 @@ public class ScoreCalculator {
      * @param allMatches the cumulative list of all matches played so far
      */
     public ScoreCalculator(List<Match> allMatches) {
+        this(allMatches, true);
+    }
+
+    /**
+     * Constructs a ScoreCalculator bound to the given match history.
+     *
+     * @param allMatches   the cumulative list of all matches played so far
+     * @param withBuchholz {@code false} to skip Buchholz and Fein-Buchholz, which then stay zero;
+     *                     for modes that neither show nor rank by them (the ranking computes
+     *                     them from the match history itself if a tie-break needs them)
+     */
+    public ScoreCalculator(List<Match> allMatches, boolean withBuchholz) {
+        this(allMatches, withBuchholz, Map.of());
+    }
+
+    /**
+     * Constructs a ScoreCalculator bound to the given match history and compensation points.
+     *
+     * @param allMatches         the cumulative list of all matches played so far
+     * @param withBuchholz       {@code false} to skip Buchholz and Fein-Buchholz
+     * @param compensationPoints the points credited to late entries for missed rounds, read on
+     *                           every calculation, so later changes to the map are picked up
+     */
+    public ScoreCalculator(List<Match> allMatches, boolean withBuchholz, Map<Player, Integer> compensationPoints) {
         this.allMatches = allMatches;
+        this.withBuchholz = withBuchholz;
+        this.compensationPoints = compensationPoints;
     }
 
     /**
      * Resets all player statistics to zero, then recalculates them from scratch
      * based on the current match history. Also computes Buchholz and Fein-Buchholz tiebreakers.
      *
+     * <p>Every player gets a slot in a {@link PlayerStats} table; the match contributions and
+     * tiebreakers are summed up in its arrays and written to the players once at the end.</p>
+     *
      * @param players the list of players whose statistics should be recalculated
      */
     public void calculate(List<Player> players) {
-        players.forEach(player -> {
-            player.setPoints(0);
-            player.setWins(0);
-            player.setLosses(0);
-            player.setSetsWon(0);
-            player.setSetsLost(0);
-            player.setBallsWon(0);
-            player.setBallsLost(0);
-            player.setBuchholz(0);
-            player.setFeinBuchholz(0);
-        });
-
-        List<Match> matchesToProcess = deduplicateMatches(allMatches);
-
-        for (Match match : matchesToProcess) {
-            Player p1 = match.getFirstPlayer();
-            Player p2 = match.getSecondPlayer();
-
-            if (p2 == null) {
-                p1.setPoints(p1.getPoints() + 1);
-                p1.setWins(p1.getWins() + 1);
-                p1.setSetsWon(p1.getSetsWon() + BYE_SETS_AWARDED);
-                p1.setBallsWon(p1.getBallsWon() + BYE_BALLS_AWARDED);
-            } else {
-                String[] result = match.getOverallResult().split(":");
-                if (result.length == 2) {
-                    try {
-                        int s1 = Integer.parseInt(result[0]);
-                        int s2 = Integer.parseInt(result[1]);
-
-                        if (s1 > s2) {
-                            p1.setPoints(p1.getPoints() + 1);
-                            p1.setWins(p1.getWins() + 1);
-                            p2.setLosses(p2.getLosses() + 1);
-                        } else if (s2 > s1) {
-                            p2.setPoints(p2.getPoints() + 1);
-                            p2.setWins(p2.getWins() + 1);
-                            p1.setLosses(p1.getLosses() + 1);
-                        }
-
-                        p1.setSetsWon(p1.getSetsWon() + s1);
-                        p1.setSetsLost(p1.getSetsLost() + s2);
-                        p2.setSetsWon(p2.getSetsWon() + s2);
-                        p2.setSetsLost(p2.getSetsLost() + s1);
-
-                        String[][] results = match.getResults();
-                        for (String[] set : results) {
-                            if (set[0] != null && !set[0].isEmpty() && set[1] != null && !set[1].isEmpty()) {
-                                try {
-                                    int b1 = Integer.parseInt(set[0]);
-                                    int b2 = Integer.parseInt(set[1]);
-                                    p1.setBallsWon(p1.getBallsWon() + b1);
-                                    p1.setBallsLost(p1.getBallsLost() + b2);
-                                    p2.setBallsWon(p2.getBallsWon() + b2);
-                                    p2.setBallsLost(p2.getBallsLost() + b1);
-                                } catch (NumberFormatException _) {
-                                }
-                            }
-                        }
-                    } catch (NumberFormatException _) {
+        List<Entry> entries = new ArrayList<>();
+        Set<Player> byePlayers = new HashSet<>();
+        Set<Long> counted = new HashSet<>();
+        for (Match match : allMatches) {
+            if (isFirstOccurrence(match.getId(), match.getFirstPlayer(), match.getSecondPlayer(), byePlayers, counted)) {
+                entries.add(new Entry(match.getId(), match.getFirstPlayer(), match.getSecondPlayer(),
+                        contribution(match.getSecondPlayer() == null, match.getOverallResult(), match.getResults())));
+            }
+        }
+        adopt(tally(players, entries, compensationPoints, withBuchholz));
+    }
+
+    /**
+     * Prepares a recalculation of all statistics from the records of the matches, like
+     * {@link #calculate(List)}, to run on another thread. The players and the compensation
+     * points are copied here; the returned calculation only reads these copies and the immutable
+     * records, and changes neither this calculator nor the players. Its result takes effect when
+     * it is {@link #adopt(Recalculation) adopted}.
+     *
+     * @param players the players whose statistics should be recalculated
+     * @param rounds  the records of all matches, one list per round
+     * @return the calculation
+     */
+    public Supplier<Recalculation> recalculation(List<Player> players,
+                                                 List<List<TournamentSnapshot.MatchRecord>> rounds) {
+        List<Player> field = List.copyOf(players);
+        Map<Player, Integer> compensation = Map.copyOf(compensationPoints);
+        return () -> {
+            List<Entry> entries = new ArrayList<>();
+            Set<Player> byePlayers = new HashSet<>();
+            Set<Long> counted = new HashSet<>();
+            for (List<TournamentSnapshot.MatchRecord> round : rounds) {
+                for (TournamentSnapshot.MatchRecord record : round) {
+                    if (isFirstOccurrence(record.id(), record.firstPlayer(), record.secondPlayer(), byePlayers, counted)) {
+                        String[][] sets = record.setResults().stream()
+                                .map(set -> set.split(":", -1))
+                                .toArray(String[][]::new);
+                        entries.add(new Entry(record.id(), record.firstPlayer(), record.secondPlayer(),
+                                contribution(record.secondPlayer() == null, record.overallResult(), sets)));
                     }
                 }
             }
+            return tally(field, entries, compensation, withBuchholz);
+        };
+    }
+
+    /**
+     * Puts a recalculation in place and publishes its statistics to the players. Results saved
+     * after the recalculation was prepared can then be applied with {@link #updateMatch(Match)}.
+     *
+     * @param recalculation the result of {@link #recalculation} or of a full calculation
+     */
+    public void adopt(Recalculation recalculation) {
+        current = recalculation;
+        buchholzChanges = new int[recalculation.stats.points.length];
+        for (int s = 0; s < recalculation.slotPlayers.size(); s++) {
+            recalculation.stats.publish(s, recalculation.slotPlayers.get(s));
         }
+    }
 
-        players.forEach(p -> p.setBuchholz(calculateBuchholz(p, matchesToProcess)));
-        players.forEach(p -> p.setFeinBuchholz(calculateFeinBuchholz(p, matchesToProcess)));
+    /**
+     * Returns a copy of the current statistics that stays unchanged while this calculator is
+     * updated, e.g. to rank the players on another thread.
+     *
+     * @return the statistics
+     */
+    public Statistics statistics() {
+        return new Statistics(current.slots, current.stats.copy());
     }
 
     /**
-     * Returns a new list with duplicates removed: bye matches are deduplicated per player,
-     * and normal matches are deduplicated by object identity to prevent double-counting the
-     * same match instance. Does not mutate the original {@code allMatches} list.
+     * Counts the matches, in slots assigned in the order of the players, the players with
+     * compensation points and the matches, and computes the tiebreakers.
      */
-    private List<Match> deduplicateMatches(List<Match> matches) {
-        Set<Player> seenByePlayers = new HashSet<>();
-        Set<Match> seenNormalMatches = Collections.newSetFromMap(new java.util.IdentityHashMap<>());
-        List<Match> result = new ArrayList<>();
-        for (Match match : matches) {
-            if (match.getSecondPlayer() == null) {
-                if (seenByePlayers.add(match.getFirstPlayer())) {
-                    result.add(match);
+    private static Recalculation tally(List<Player> players, List<Entry> entries,
+                                       Map<Player, Integer> compensationPoints, boolean withBuchholz) {
+        Recalculation result = new Recalculation();
+        players.forEach(result::slotOf);
+        compensationPoints.keySet().forEach(result::slotOf);
+        for (Entry entry : entries) {
+            result.slotOf(entry.first());
+            if (entry.second() != null) {
+                result.slotOf(entry.second());
+            }
+        }
+        int size = result.slotPlayers.size();
+        PlayerStats stats = new PlayerStats(size);
+        result.stats = stats;
+
+        for (Entry entry : entries) {
+            apply(result, entry.first(), entry.second(), entry.contribution(), 1);
+            result.contributions.put(entry.id(), entry.contribution());
+        }
+        compensationPoints.forEach((player, points) -> stats.points[result.slots.get(player)] += points);
+
+        result.opponents = withBuchholz ? collectOpponents(entries, result.slots, size) : new int[size][0];
+        if (withBuchholz) {
+            for (int s = 0; s < size; s++) {
+                int buchholz = 0;
+                for (int o : result.opponents[s]) {
+                    buchholz += stats.points[o];
                 }
-            } else {
-                if (seenNormalMatches.add(match)) {
-                    result.add(match);
+                stats.buchholz[s] = buchholz;
+            }
+            for (int s = 0; s < size; s++) {
+                int feinBuchholz = 0;
+                for (int o : result.opponents[s]) {
+                    feinBuchholz += stats.buchholz[o];
                 }
+                stats.feinBuchholz[s] = feinBuchholz;
             }
         }
         return result;
     }
 
     /**
-     * Calculates the Buchholz score for the given player from the deduplicated match list.
-     * The Buchholz score is the sum of points scored by all opponents the player has faced
-     * (excluding bye matches).
+     * Gives a player registered after the start a slot, credited with their compensation points,
+     * and publishes their statistics. The arrays grow by one slot; the statistics of the other
+     * players stay as they are, since the new player has no matches yet. A player who already
+     * has a slot is left unchanged.
      *
-     * @param player  the player whose Buchholz score is to be calculated
-     * @param matches the deduplicated list of matches to evaluate
-     * @return the Buchholz score
+     * @param player the new player
      */
-    private int calculateBuchholz(Player player, List<Match> matches) {
-        return matches.stream()
-                .filter(match -> isPlayerInMatch(match, player) && match.getSecondPlayer() != null)
-                .mapToInt(match -> getOpponentPoints(match, player))
-                .sum();
+    public void addPlayer(Player player) {
+        if (current.slots.containsKey(player)) return;
+        current.slots = new HashMap<>(current.slots);
+        int slot = current.slotOf(player);
+        if (slot >= current.stats.points.length) {
+            int size = Math.max(slot + 1, current.stats.points.length * 2);
+            current.stats = current.stats.resize(size);
+            current.opponents = Arrays.copyOf(current.opponents, size);
+            buchholzChanges = Arrays.copyOf(buchholzChanges, size);
+        }
+        current.opponents[slot] = new int[0];
+        current.stats.points[slot] = compensationPoints.getOrDefault(player, 0);
+        current.stats.publish(slot, player);
     }
 
     /**
-     * Calculates the Fein-Buchholz score for the given player from the deduplicated match list.
-     * The Fein-Buchholz score is the sum of Buchholz scores of all opponents the player has faced
-     * (excluding bye matches), serving as a secondary tiebreaker after Buchholz.
+     * Updates the statistics after the result of a single match has changed, without walking the
+     * match history. The previous contribution of the match is subtracted from both players and the
+     * new one is added. If their points changed, the Buchholz scores of their opponents and the
+     * Fein-Buchholz scores of the opponents' opponents are adjusted by the difference.
      *
-     * @param player  the player whose Fein-Buchholz score is to be calculated
-     * @param matches the deduplicated list of matches to evaluate
-     * @return the Fein-Buchholz score
+     * <p>Only matches that were part of the last {@link #calculate(List)} or adopted recalculation
+     * can be updated this way; for any other match, {@code false} is returned and the caller has
+     * to recalculate.</p>
+     *
+     * @param match the match whose result has been saved
+     * @return {@code true} if the statistics are up to date, {@code false} if a full
+     *         recalculation is required
      */
-    private int calculateFeinBuchholz(Player player, List<Match> matches) {
-        return matches.stream()
-                .filter(match -> isPlayerInMatch(match, player) && match.getSecondPlayer() != null)
-                .mapToInt(match -> getOpponentBuchholz(match, player))
-                .sum();
+    public boolean updateMatch(Match match) {
+        int[] previous = current.contributions.get(match.getId());
+        if (previous == null || match.getSecondPlayer() == null) {
+            return false;
+        }
+        int[] contribution = contribution(false, match.getOverallResult(), match.getResults());
+        if (Arrays.equals(previous, contribution)) {
+            return true;
+        }
+        apply(current, match.getFirstPlayer(), match.getSecondPlayer(), previous, -1);
+        apply(current, match.getFirstPlayer(), match.getSecondPlayer(), contribution, 1);
+        current.contributions.put(match.getId(), contribution);
+
+        int first = current.slots.get(match.getFirstPlayer());
+        int second = current.slots.get(match.getSecondPlayer());
+        BitSet changed = new BitSet();
+        changed.set(first);
+        changed.set(second);
+        List<Integer> buchholzChanged = new ArrayList<>();
+        addToOpponentsBuchholz(first, contribution[POINTS] - previous[POINTS], buchholzChanged, changed);
+        addToOpponentsBuchholz(second, contribution[SECOND + POINTS] - previous[SECOND + POINTS],
+                buchholzChanged, changed);
+        for (int slot : buchholzChanged) {
+            for (int o : current.opponents[slot]) {
+                current.stats.feinBuchholz[o] += buchholzChanges[slot];
+                changed.set(o);
+            }
+            buchholzChanges[slot] = 0;
+        }
+        changed.stream().forEach(s -> current.stats.publish(s, current.slotPlayers.get(s)));
+        return true;
     }
 
     /**
-     * Returns {@code true} if the player is one of the two participants in the match.
-     *
-     * @param match  the match to check
-     * @param player the player to look for
-     * @return {@code true} if the player participated in the match
+     * Adds a change of the given player's points to the Buchholz score of each of their opponents
+     * (once per match played against them) and records the Buchholz changes.
      */
-    private boolean isPlayerInMatch(Match match, Player player) {
-        return match.getFirstPlayer().equals(player)
-                || (match.getSecondPlayer() != null && match.getSecondPlayer().equals(player));
+    private void addToOpponentsBuchholz(int slot, int change, List<Integer> buchholzChanged, BitSet changed) {
+        if (change == 0) return;
+        for (int o : current.opponents[slot]) {
+            current.stats.buchholz[o] += change;
+            if (buchholzChanges[o] == 0) {
+                buchholzChanged.add(o);
+            }
+            buchholzChanges[o] += change;
+            changed.set(o);
+        }
     }
 
     /**
-     * Returns the current tournament points of the opponent of {@code player} in the given match.
+     * Computes what a match adds to the statistics of its players: points, wins, losses, sets
+     * won/lost and balls won/lost of the first player, followed by the same values for the second.
+     * Matches without a valid overall result add nothing.
      *
-     * @param match  the match containing the player and their opponent
-     * @param player the reference player
-     * @return the opponent's points
+     * @param bye           whether the match is a bye
+     * @param overallResult the overall result, e.g. {@code "3:1"}
+     * @param sets          the ball scores of the sets, two entries per set
      */
-    private int getOpponentPoints(Match match, Player player) {
-        return match.getFirstPlayer().equals(player)
-                ? match.getSecondPlayer().getPoints()
-                : match.getFirstPlayer().getPoints();
+    private static int[] contribution(boolean bye, String overallResult, String[][] sets) {
+        int[] c = new int[2 * SECOND];
+        if (bye) {
+            c[POINTS] = 1;
+            c[WINS] = 1;
+            c[SETS_WON] = BYE_SETS_AWARDED;
+            c[BALLS_WON] = BYE_BALLS_AWARDED;
+            return c;
+        }
+        String[] result = overallResult.split(":");
+        if (result.length != 2) {
+            return c;
+        }
+        try {
+            int s1 = Integer.parseInt(result[0]);
+            int s2 = Integer.parseInt(result[1]);
+
+            if (s1 > s2) {
+                c[POINTS] = 1;
+                c[WINS] = 1;
+                c[SECOND + LOSSES] = 1;
+            } else if (s2 > s1) {
+                c[SECOND + POINTS] = 1;
+                c[SECOND + WINS] = 1;
+                c[LOSSES] = 1;
+            }
+
+            c[SETS_WON] = s1;
+            c[SETS_LOST] = s2;
+            c[SECOND + SETS_WON] = s2;
+            c[SECOND + SETS_LOST] = s1;
+
+            for (String[] set : sets) {
+                if (set.length == 2 && set[0] != null && !set[0].isEmpty() && set[1] != null && !set[1].isEmpty()) {
+                    try {
+                        int b1 = Integer.parseInt(set[0]);
+                        int b2 = Integer.parseInt(set[1]);
+                        c[BALLS_WON] += b1;
+                        c[BALLS_LOST] += b2;
+                        c[SECOND + BALLS_WON] += b2;
+                        c[SECOND + BALLS_LOST] += b1;
+                    } catch (NumberFormatException _) {
+                    }
+                }
+            }
+        } catch (NumberFormatException _) {
+        }
+        return c;
+    }
+
+    /**
+     * Adds ({@code sign = 1}) or removes ({@code sign = -1}) a match contribution to or from the
+     * statistics of its players.
+     */
+    private static void apply(Recalculation target, Player first, Player second, int[] c, int sign) {
+        apply(target.stats, target.slots.get(first), c, 0, sign);
+        if (second != null) {
+            apply(target.stats, target.slots.get(second), c, SECOND, sign);
+        }
+    }
+
+    private static void apply(PlayerStats stats, int slot, int[] c, int offset, int sign) {
+        stats.points[slot] += sign * c[offset + POINTS];
+        stats.wins[slot] += sign * c[offset + WINS];
+        stats.losses[slot] += sign * c[offset + LOSSES];
+        stats.setsWon[slot] += sign * c[offset + SETS_WON];
+        stats.setsLost[slot] += sign * c[offset + SETS_LOST];
+        stats.ballsWon[slot] += sign * c[offset + BALLS_WON];
+        stats.ballsLost[slot] += sign * c[offset + BALLS_LOST];
     }
 
     /**
-     * Returns the Buchholz score of the opponent of {@code player} in the given match.
+     * Collects the opponent slots of every slot in a single pass over the matches, so the
+     * tiebreakers can be computed per player without scanning the whole match history again.
+     * Bye matches have no opponent and are skipped.
      *
-     * @param match  the match containing the player and their opponent
-     * @param player the reference player
-     * @return the opponent's Buchholz score
-     */
-    private int getOpponentBuchholz(Match match, Player player) {
-        return match.getFirstPlayer().equals(player)
-                ? match.getSecondPlayer().getBuchholz()
-                : match.getFirstPlayer().getBuchholz();
+     * @param entries the deduplicated matches
+     * @param slots   the slot of every player
+     * @param size    the number of slots
+     * @return the opponents of every slot, one entry per match played
+     */
+    private static int[][] collectOpponents(List<Entry> entries, Map<Player, Integer> slots, int size) {
+        int[] degree = new int[size];
+        for (Entry entry : entries) {
+            if (entry.second() != null) {
+                degree[slots.get(entry.first())]++;
+                degree[slots.get(entry.second())]++;
+            }
+        }
+        int[][] result = new int[size][];
+        for (int s = 0; s < size; s++) {
+            result[s] = new int[degree[s]];
+        }
+        int[] filled = new int[size];
+        for (Entry entry : entries) {
+            if (entry.second() != null) {
+                int first = slots.get(entry.first());
+                int second = slots.get(entry.second());
+                result[first][filled[first]++] = second;
+                result[second][filled[second]++] = first;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decides whether a match is counted: bye matches are deduplicated per player, and other
+     * matches by ID to prevent double-counting the same match.
+     */
+    private static boolean isFirstOccurrence(long id, Player first, Player second, Set<Player> byePlayers,
+                                             Set<Long> counted) {
+        return second == null ? byePlayers.add(first) : counted.add(id);
     }
 }
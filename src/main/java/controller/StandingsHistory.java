@@ -0,0 +1,92 @@
+package controller;
+
+import model.Player;
+
+import java.util.*;
+
+/**
+ * The standings after each completed round, kept as immutable checkpoints.
+ *
+ * <p>Every checkpoint is a {@link StandingsTableModel.Snapshot}: the rank order and the
+ * statistics of all players as primitive arrays, captured when the round was closed. Showing the
+ * table after an earlier round therefore needs neither a replay of the match history nor a
+ * recalculation, and the rank movement against the previous round is a single pass over two
+ * checkpoints.</p>
+ */
+public class StandingsHistory {
+
+    private final List<StandingsTableModel.Snapshot> checkpoints = new ArrayList<>();
+
+    /**
+     * Stores the standings after a round. Checkpoints of later rounds are discarded, since they
+     * no longer follow from this one.
+     *
+     * @param round    the one-based number of the completed round
+     * @param snapshot the standings after that round
+     * @throws IllegalArgumentException if an earlier round has no checkpoint yet
+     */
+    public void record(int round, StandingsTableModel.Snapshot snapshot) {
+        if (round < 1 || round > checkpoints.size() + 1) {
+            throw new IllegalArgumentException("No checkpoint for the rounds before round " + round);
+        }
+        checkpoints.subList(round - 1, checkpoints.size()).clear();
+        checkpoints.add(snapshot);
+    }
+
+    /**
+     * Discards the checkpoints of all rounds after the given number of rounds, e.g. when the
+     * completion of a round has been undone.
+     *
+     * @param roundCount the number of rounds whose checkpoints are kept
+     */
+    public void truncate(int roundCount) {
+        if (roundCount < checkpoints.size()) {
+            checkpoints.subList(Math.max(roundCount, 0), checkpoints.size()).clear();
+        }
+    }
+
+    /**
+     * Returns the number of rounds with a checkpoint.
+     *
+     * @return the number of completed rounds
+     */
+    public int getRoundCount() {
+        return checkpoints.size();
+    }
+
+    /**
+     * Returns the standings after a round.
+     *
+     * @param round the one-based round number, at most {@link #getRoundCount()}
+     * @return the checkpoint of that round
+     */
+    public StandingsTableModel.Snapshot get(int round) {
+        return checkpoints.get(round - 1);
+    }
+
+    /**
+     * Returns for every row of the standings after a round how many places the player has moved
+     * up since the previous round: positive values for an improvement, negative values for a
+     * drop, and 0 for no change, in the first round, or for players not ranked before.
+     *
+     * @param round the one-based round number, at most {@link #getRoundCount()}
+     * @return the rank changes in the row order of that round's checkpoint
+     */
+    public int[] getRankChanges(int round) {
+        Player[] ranking = get(round).ranking();
+        int[] changes = new int[ranking.length];
+        if (round == 1) {
+            return changes;
+        }
+        Player[] previous = get(round - 1).ranking();
+        Map<Player, Integer> previousRows = new HashMap<>();
+        for (int row = 0; row < previous.length; row++) {
+            previousRows.put(previous[row], row);
+        }
+        for (int row = 0; row < ranking.length; row++) {
+            Integer previousRow = previousRows.get(ranking[row]);
+            changes[row] = previousRow == null ? 0 : previousRow - row;
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,70 @@
+package controller;
+
+import model.TournamentMode;
+import view.StandingsHistoryView;
+import view.UITheme;
+
+import javax.swing.*;
+import java.awt.print.PrinterException;
+import java.text.MessageFormat;
+
+/**
+ * Controller for browsing the standings after earlier rounds.
+ *
+ * <p>Shows the checkpoints of a {@link StandingsHistory} in a {@link StandingsHistoryView}: selecting
+ * a round swaps that round's checkpoint and its rank movement into the table, without any
+ * recalculation.</p>
+ */
+public class StandingsHistoryController {
+
+    private final StandingsHistory history;
+    private final String tournamentName;
+    private final StandingsTableModel model;
+    private final StandingsHistoryView view;
+
+    /**
+     * Opens the standings history window showing the latest completed round.
+     *
+     * @param history        the standings checkpoints of the completed rounds
+     * @param mode           the tournament mode, which determines the columns
+     * @param tournamentName the tournament name used in the window title and the printout
+     */
+    public StandingsHistoryController(StandingsHistory history, TournamentMode mode, String tournamentName) {
+        this.history = history;
+        this.tournamentName = tournamentName;
+        this.model = new StandingsTableModel(mode, true);
+        this.view = new StandingsHistoryView(tournamentName, history.getRoundCount());
+        view.getStandingsTable().setModel(model);
+
+        view.getRoundSelector().addActionListener(_ -> showRound(view.getRoundSelector().getSelectedIndex() + 1));
+        view.getPrintButton().addActionListener(_ -> print());
+
+        view.getRoundSelector().setSelectedIndex(history.getRoundCount() - 1);
+        UITheme.setNameColumnWide(view.getStandingsTable(), 2);
+        view.setVisible(true);
+    }
+
+    /**
+     * Shows the standings after the given round.
+     *
+     * @param round the one-based round number
+     */
+    private void showRound(int round) {
+        if (round < 1) return;
+        model.update(history.get(round), history.getRankChanges(round));
+    }
+
+    /**
+     * Prints the shown standings using the system print dialog.
+     */
+    private void print() {
+        int round = view.getRoundSelector().getSelectedIndex() + 1;
+        try {
+            view.getStandingsTable().print(JTable.PrintMode.FIT_WIDTH,
+                    new MessageFormat("Turnier: " + tournamentName + "  —  Stand nach Runde " + round),
+                    new MessageFormat("Seite {0}"));
+        } catch (PrinterException e) {
+            JOptionPane.showMessageDialog(view, "Fehler beim Drucken.", "Druckfehler", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package controller;
+
+import model.Player;
+import model.TournamentMode;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Persistent table model for the standings table (Rangliste).
+ *
+ * <p>The model is created once per tournament and kept in the {@link javax.swing.JTable}, so the
+ * table's renderers and column layout are set up only once. The ranking and the statistics of
+ * every row are copied into a {@link Snapshot} of primitive arrays, which can be captured off the
+ * Event Dispatch Thread, and compared with the previous state when it is swapped in via
+ * {@link #update(Snapshot)}; only rows whose player or statistics changed are reported via
+ * {@link #fireTableRowsUpdated(int, int)}. Cell values, including formatted strings like
+ * {@code "3:1"}, are created lazily when the table renders a visible cell.</p>
+ *
+ * <p>Columns differ between Swiss System (with BHZ and fBHZ) and the other modes. Models that
+ * show earlier standings can add a column with the rank movement against the previous round.</p>
+ */
+public class StandingsTableModel extends AbstractTableModel {
+
+    private static final int POINTS = 0;
+    private static final int WINS = 1;
+    private static final int LOSSES = 2;
+    private static final int BUCHHOLZ = 3;
+    private static final int FEIN_BUCHHOLZ = 4;
+    private static final int SETS_WON = 5;
+    private static final int SETS_LOST = 6;
+    private static final int BALLS_WON = 7;
+    private static final int BALLS_LOST = 8;
+    private static final int STATS = 9;
+
+    private final boolean swiss;
+    private final boolean withRankChanges;
+    private final String[] columnNames;
+    private Player[] ranking = new Player[0];
+    private int[] stats = new int[0];
+    private int[] rankChanges = new int[0];
+
+    /**
+     * Creates an empty standings model with the columns of the given mode.
+     *
+     * @param mode the tournament mode
+     */
+    public StandingsTableModel(TournamentMode mode) {
+        this(mode, false);
+    }
+
+    /**
+     * Creates an empty standings model with the columns of the given mode and, optionally, a
+     * column "±" after the rank that shows the rank movement passed to
+     * {@link #update(Snapshot, int[])}.
+     *
+     * @param mode            the tournament mode
+     * @param withRankChanges {@code true} to add the rank movement column
+     */
+    public StandingsTableModel(TournamentMode mode, boolean withRankChanges) {
+        this.swiss = mode == TournamentMode.SWISS;
+        this.withRankChanges = withRankChanges;
+        String[] columns = swiss
+                ? new String[]{"Rang", "Name", "Punkte", "Spiele", "BHZ", "fBHZ", "Sätze", "Bälle"}
+                : new String[]{"Rang", "Name", "Punkte", "Spiele", "Sätze", "Bälle"};
+        if (withRankChanges) {
+            List<String> withTrend = new ArrayList<>(List.of(columns));
+            withTrend.add(1, "±");
+            columns = withTrend.toArray(new String[0]);
+        }
+        this.columnNames = columns;
+    }
+
+    /**
+     * Immutable copy of a ranking and the statistics of every row, taken at one point in time.
+     * Snapshots can be captured on any thread and applied later on the Event Dispatch Thread.
+     *
+     * @param ranking the players ordered from first to last place
+     * @param stats   nine statistics per row, in ranking order
+     */
+    public record Snapshot(Player[] ranking, int[] stats) {}
+
+    /**
+     * Copies the ranking and the current statistics of all players into a {@link Snapshot}.
+     *
+     * @param ranked the players ordered from first to last place
+     * @return the snapshot
+     */
+    public static Snapshot capture(List<Player> ranked) {
+        Player[] ranking = ranked.toArray(new Player[0]);
+        int[] stats = new int[ranking.length * STATS];
+        for (int row = 0; row < ranking.length; row++) {
+            Player player = ranking[row];
+            int offset = row * STATS;
+            stats[offset + POINTS] = player.getPoints();
+            stats[offset + WINS] = player.getWins();
+            stats[offset + LOSSES] = player.getLosses();
+            stats[offset + BUCHHOLZ] = player.getBuchholz();
+            stats[offset + FEIN_BUCHHOLZ] = player.getFeinBuchholz();
+            stats[offset + SETS_WON] = player.getSetsWon();
+            stats[offset + SETS_LOST] = player.getSetsLost();
+            stats[offset + BALLS_WON] = player.getBallsWon();
+            stats[offset + BALLS_LOST] = player.getBallsLost();
+        }
+        return new Snapshot(ranking, stats);
+    }
+
+    /**
+     * Copies a ranking and the statistics of its players from a {@link ScoreCalculator.Statistics}
+     * copy into a {@link Snapshot}, without reading the players' own statistics.
+     *
+     * @param ranked     the players ordered from first to last place
+     * @param statistics the statistics of the players
+     * @return the snapshot
+     */
+    public static Snapshot capture(List<Player> ranked, ScoreCalculator.Statistics statistics) {
+        Player[] ranking = ranked.toArray(new Player[0]);
+        int[] stats = new int[ranking.length * STATS];
+        PlayerStats source = statistics.stats;
+        for (int row = 0; row < ranking.length; row++) {
+            int slot = statistics.slotOf(ranking[row]);
+            if (slot < 0) continue;
+            int offset = row * STATS;
+            stats[offset + POINTS] = source.points[slot];
+            stats[offset + WINS] = source.wins[slot];
+            stats[offset + LOSSES] = source.losses[slot];
+            stats[offset + BUCHHOLZ] = source.buchholz[slot];
+            stats[offset + FEIN_BUCHHOLZ] = source.feinBuchholz[slot];
+            stats[offset + SETS_WON] = source.setsWon[slot];
+            stats[offset + SETS_LOST] = source.setsLost[slot];
+            stats[offset + BALLS_WON] = source.ballsWon[slot];
+            stats[offset + BALLS_LOST] = source.ballsLost[slot];
+        }
+        return new Snapshot(ranking, stats);
+    }
+
+    /**
+     * Replaces the ranking and notifies the table about the rows that changed. If the number of
+     * players changed, the whole table is refreshed.
+     *
+     * @param ranked the players ordered from first to last place
+     */
+    public void update(List<Player> ranked) {
+        update(capture(ranked));
+    }
+
+    /**
+     * Swaps in a previously captured ranking and notifies the table about the rows that changed.
+     * If the number of players changed, the whole table is refreshed.
+     *
+     * @param snapshot the new ranking and statistics
+     */
+    public void update(Snapshot snapshot) {
+        Player[] previousRanking = ranking;
+        int[] previousStats = stats;
+        ranking = snapshot.ranking();
+        stats = snapshot.stats();
+        int size = ranking.length;
+        if (size != previousRanking.length) {
+            fireTableDataChanged();
+            return;
+        }
+
+        int firstChanged = -1;
+        for (int row = 0; row < size; row++) {
+            int offset = row * STATS;
+            boolean changed = ranking[row] != previousRanking[row]
+                    || !Arrays.equals(stats, offset, offset + STATS, previousStats, offset, offset + STATS);
+            if (changed && firstChanged < 0) {
+                firstChanged = row;
+            } else if (!changed && firstChanged >= 0) {
+                fireTableRowsUpdated(firstChanged, row - 1);
+                firstChanged = -1;
+            }
+        }
+        if (firstChanged >= 0) {
+            fireTableRowsUpdated(firstChanged, size - 1);
+        }
+    }
+
+    /**
+     * Returns the ranking and statistics currently shown. The arrays are never modified after
+     * they have been swapped in, so the snapshot stays valid after later updates.
+     *
+     * @return the current snapshot
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(ranking, stats);
+    }
+
+    /**
+     * Swaps in a checkpoint together with the rank movement of every row and refreshes the
+     * whole table.
+     *
+     * @param snapshot    the ranking and statistics to show
+     * @param rankChanges the places each row has moved up since the previous round, in row order
+     */
+    public void update(Snapshot snapshot, int[] rankChanges) {
+        ranking = snapshot.ranking();
+        stats = snapshot.stats();
+        this.rankChanges = rankChanges;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Returns the player shown in the given row.
+     *
+     * @param row the zero-based row, i.e. rank minus one
+     * @return the player at that rank
+     */
+    public Player getPlayerAt(int row) {
+        return ranking[row];
+    }
+
+    @Override
+    public int getRowCount() {
+        return ranking.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int offset = row * STATS;
+        if (withRankChanges) {
+            if (column == 1) {
+                return formatRankChange(row < rankChanges.length ? rankChanges[row] : 0);
+            }
+            if (column > 1) {
+                column--;
+            }
+        }
+        if (!swiss && column >= 4) {
+            column += 2;
+        }
+        return switch (column) {
+            case 0 -> row + 1;
+            case 1 -> ranking[row].getFullName() + " (" + ranking[row].getClub() + ")";
+            case 2 -> stats[offset + POINTS];
+            case 3 -> stats[offset + WINS] + ":" + stats[offset + LOSSES];
+            case 4 -> stats[offset + BUCHHOLZ];
+            case 5 -> stats[offset + FEIN_BUCHHOLZ];
+            case 6 -> stats[offset + SETS_WON] + ":" + stats[offset + SETS_LOST];
+            case 7 -> stats[offset + BALLS_WON] + ":" + stats[offset + BALLS_LOST];
+            default -> null;
+        };
+    }
+
+    private static String formatRankChange(int change) {
+        if (change > 0) return "▲ " + change;
+        if (change < 0) return "▼ " + -change;
+        return "–";
+    }
+}
@@ -0,0 +1,366 @@
+package controller;
+
+import model.Match;
+import model.Player;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Backtracking search for the pairings of a Swiss System round.
+ *
+ * <p>The first unpaired player of the ordered list is paired with the first of their eligible
+ * opponents, ordered by closeness in points and then by TTR, whose choice still leaves the other
+ * players completely matchable; if the rest cannot be paired, the next opponent is tried. Each
+ * pairing found this way is identified by the positions of the chosen opponents in these candidate
+ * lists, and the search returns the lexicographically first pairing that the acceptance test
+ * takes.</p>
+ *
+ * <p>Whether the remaining players can still be completely matched is decided with
+ * {@link WeightedMatching}: all allowed pairs weigh the same, so a maximum cardinality matching
+ * covers every remaining player exactly if a complete pairing exists. This takes O(n³) time per
+ * choice instead of an exhaustive search of the remaining pairings, which is what makes late
+ * rounds of larger fields, where few pairs are left, affordable.</p>
+ *
+ * <p>The search can run on a {@link ForkJoinPool}. The search tree is then split into tasks from
+ * the top, as long as enough players remain for a subtree to be worth a task of its own, until
+ * there are a few tasks for every thread of the pool: a level with many choices is split once,
+ * while a chain of levels with only one or two choices each, as in late rounds, is split further
+ * down. The tasks are combined in search order, so the way the tree is split does not change the
+ * result. All tasks share the best pairing found so far: a task abandons its subtree as soon as the subtree
+ * can only contain pairings that come later than it. Each task searches its subtree in order and
+ * reports the number of complete pairings it has tested, up to the first accepted one; the
+ * results of the subtrees are then combined in search order, adding up these numbers, so the
+ * limit on tested pairings cuts the search off at the same pairing as in a sequential search. The
+ * result is therefore the same as that of the sequential search, independent of the number of
+ * threads and their timing, provided the acceptance test is deterministic.</p>
+ */
+final class SwissBacktracking {
+
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int MIN_SPLIT_PLAYERS = 10;
+
+    /**
+     * A complete pairing with its position in the search order.
+     */
+    private record Solution(int[] path, List<Match> pairings) {}
+
+    /**
+     * The result of searching a subtree in order.
+     *
+     * @param leaves   the number of complete pairings tested, including the accepted one
+     * @param solution the first accepted pairing, or {@code null}
+     * @param complete {@code false} if the search stopped early, at the leaf limit or because an
+     *                 earlier pairing was found elsewhere, without accepting a pairing
+     */
+    private record Outcome(int leaves, Solution solution, boolean complete) {}
+
+    private final List<Player> players;
+    private final Map<Player, Integer> positions = new HashMap<>();
+    private final boolean[][] allowed;
+    private final Predicate<List<Match>> accept;
+    private final int leafLimit;
+    private final AtomicReference<Solution> best = new AtomicReference<>();
+    private boolean exhausted;
+
+    /**
+     * Prepares a search.
+     *
+     * @param players    the players to pair, in the order they are picked
+     * @param havePlayed whether two players have already met; called once for every pair while
+     *                   the search is prepared
+     * @param accept     decides whether a complete pairing is taken or the search continues;
+     *                   called from several threads in a parallel search
+     * @param leafLimit  the number of complete pairings the search may test before it gives up
+     */
+    SwissBacktracking(List<Player> players, BiPredicate<Player, Player> havePlayed,
+                      Predicate<List<Match>> accept, int leafLimit) {
+        this.players = List.copyOf(players);
+        int n = this.players.size();
+        this.allowed = new boolean[n][n];
+        for (int i = 0; i < n; i++) {
+            positions.put(this.players.get(i), i);
+            for (int j = 0; j < i; j++) {
+                boolean open = !havePlayed.test(this.players.get(i), this.players.get(j));
+                allowed[i][j] = open;
+                allowed[j][i] = open;
+            }
+        }
+        this.accept = accept;
+        this.leafLimit = leafLimit;
+    }
+
+    /**
+     * Runs the search.
+     *
+     * @param pool the pool for a parallel search, or {@code null} to search on the calling thread
+     * @return the first accepted pairing, or {@code null} if there is none
+     */
+    List<Match> search(ForkJoinPool pool) {
+        Branch root = new Branch(new int[0], new HashSet<>(), List.of(),
+                pool != null ? TASKS_PER_THREAD * pool.getParallelism() : 1);
+        Outcome outcome = pool != null ? pool.invoke(root) : root.compute();
+        exhausted = !outcome.complete();
+        return outcome.solution() == null ? null : outcome.solution().pairings();
+    }
+
+    /**
+     * Returns whether the search gave up after testing {@code leafLimit} complete pairings, so
+     * that the absence of a result does not prove that no pairing would be accepted.
+     *
+     * @return {@code true} if the search was cut short and found nothing
+     */
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * A subtree of the search, given by the choices on the way to it.
+     */
+    private final class Branch extends RecursiveTask<Outcome> {
+        private final int[] prefix;
+        private final Set<Player> paired;
+        private final List<Match> pairings;
+        private final int tasks;
+        private int[] path;
+        private int leaves;
+        private Solution found;
+
+        /**
+         * @param tasks the number of tasks this subtree may be split into; {@code 1} searches it
+         *              on the current thread
+         */
+        Branch(int[] prefix, Set<Player> paired, List<Match> pairings, int tasks) {
+            this.prefix = prefix;
+            this.paired = paired;
+            this.pairings = pairings;
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Outcome compute() {
+            if (beaten(prefix, prefix.length)) {
+                return new Outcome(0, null, false);
+            }
+            if (tasks > 1 && players.size() - paired.size() >= MIN_SPLIT_PLAYERS) {
+                return searchChoices();
+            }
+            path = Arrays.copyOf(prefix, prefix.length + (players.size() - paired.size()) / 2);
+            try {
+                boolean stopped = backtrack(prefix.length, new ArrayList<>(pairings));
+                return new Outcome(leaves, found, !stopped || found != null);
+            } catch (LeafLimitReached _) {
+                return new Outcome(leaves, null, false);
+            }
+        }
+
+        /**
+         * Creates a task for every opponent of the first unpaired player, runs them all and
+         * combines their outcomes in search order. The tasks this subtree may still be split into
+         * are shared out among the children.
+         */
+        private Outcome searchChoices() {
+            Player current = firstUnpaired(paired);
+            List<Player> opponents = orderedOpponents(current, paired);
+            List<Set<Player>> feasible = new ArrayList<>();
+            List<Integer> choices = new ArrayList<>();
+            for (int i = 0; i < opponents.size(); i++) {
+                Set<Player> childPaired = new HashSet<>(paired);
+                childPaired.add(current);
+                childPaired.add(opponents.get(i));
+                if (canBeFullyMatched(childPaired)) {
+                    feasible.add(childPaired);
+                    choices.add(i);
+                }
+            }
+            int childTasks = feasible.isEmpty() ? 1 : Math.ceilDiv(tasks, feasible.size());
+            List<Branch> children = new ArrayList<>();
+            for (int c = 0; c < feasible.size(); c++) {
+                int i = choices.get(c);
+                List<Match> childPairings = new ArrayList<>(pairings);
+                childPairings.add(new Match(current, opponents.get(i), -1));
+                int[] childPrefix = Arrays.copyOf(prefix, prefix.length + 1);
+                childPrefix[prefix.length] = i;
+                children.add(new Branch(childPrefix, feasible.get(c), childPairings, childTasks));
+            }
+            invokeAll(children);
+
+            int tested = 0;
+            for (Branch child : children) {
+                Outcome outcome = child.join();
+                tested += outcome.leaves();
+                if (tested > leafLimit) {
+                    return new Outcome(tested, null, false);
+                }
+                if (outcome.solution() != null || !outcome.complete()) {
+                    return new Outcome(tested, outcome.solution(), outcome.complete());
+                }
+            }
+            return new Outcome(tested, null, true);
+        }
+
+        /**
+         * Searches the subtree sequentially, like {@link PairingEngine} always did, and stops at
+         * the first accepted pairing or as soon as an earlier pairing has been found elsewhere.
+         *
+         * @return {@code true} if the search stopped, {@code false} if the subtree is exhausted
+         */
+        private boolean backtrack(int depth, List<Match> result) {
+            if (beaten(path, depth)) return true;
+            Player current = firstUnpaired(paired);
+            if (current == null) {
+                return leaf(result);
+            }
+
+            List<Player> opponents = orderedOpponents(current, paired);
+            for (int i = 0; i < opponents.size(); i++) {
+                Player opponent = opponents.get(i);
+                paired.add(current);
+                paired.add(opponent);
+
+                if (canBeFullyMatched(paired)) {
+                    result.add(new Match(current, opponent, -1));
+                    path[depth] = i;
+                    if (backtrack(depth + 1, result)) {
+                        return true;
+                    }
+                    result.removeLast();
+                }
+
+                paired.remove(current);
+                paired.remove(opponent);
+            }
+            return false;
+        }
+
+        private boolean leaf(List<Match> result) {
+            if (++leaves > leafLimit) {
+                throw new LeafLimitReached();
+            }
+            if (!accept.test(result)) {
+                return false;
+            }
+            found = new Solution(path.clone(), List.copyOf(result));
+            publish(found);
+            return true;
+        }
+    }
+
+    /**
+     * Makes a solution the best one unless an earlier solution is already known.
+     */
+    private void publish(Solution solution) {
+        Solution current = best.get();
+        while (current == null || Arrays.compare(solution.path(), current.path()) < 0) {
+            if (best.compareAndSet(current, solution)) return;
+            current = best.get();
+        }
+    }
+
+    /**
+     * Returns whether the best solution found so far comes before every pairing that starts with
+     * the first {@code length} choices of {@code path}.
+     */
+    private boolean beaten(int[] path, int length) {
+        Solution solution = best.get();
+        if (solution == null) return false;
+        int[] bestPath = solution.path();
+        for (int i = 0; i < length && i < bestPath.length; i++) {
+            if (path[i] != bestPath[i]) {
+                return bestPath[i] < path[i];
+            }
+        }
+        return false;
+    }
+
+    private Player firstUnpaired(Set<Player> paired) {
+        for (Player player : players) {
+            if (!paired.contains(player)) return player;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the valid opponents of {@code player}, ordered by closeness in tournament points,
+     * then by TTR descending for deterministic tie-breaking. A player qualifies as a valid
+     * opponent if they have not yet been paired in this branch and have never played
+     * {@code player} before.
+     */
+    private List<Player> orderedOpponents(Player player, Set<Player> paired) {
+        boolean[] open = allowed[positions.get(player)];
+        return players.stream()
+                .filter(p -> !paired.contains(p) && !p.equals(player) && open[positions.get(p)])
+                .sorted(Comparator.comparingInt((Player p) -> Math.abs(p.getPoints() - player.getPoints()))
+                        .thenComparing(Comparator.comparingInt(Player::getTtr).reversed()))
+                .toList();
+    }
+
+    /**
+     * Checks whether all currently unpaired players can still be matched with each other. Every
+     * remaining player must have at least one remaining opponent they have not yet faced, and a
+     * maximum cardinality matching of the allowed pairs among the remaining players must cover
+     * all of them. As long as few pairs have been played, pairing each player with the first free
+     * opponent already covers everyone, and the matching is not needed.
+     */
+    private boolean canBeFullyMatched(Set<Player> paired) {
+        int[] remaining = new int[players.size() - paired.size()];
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (!paired.contains(players.get(i))) {
+                remaining[count++] = i;
+            }
+        }
+        if (count == 0) return true;
+        if (count % 2 != 0) return false;
+        if (pairsGreedily(remaining, count)) return true;
+
+        int[] from = new int[count * (count - 1) / 2];
+        int[] to = new int[from.length];
+        int edges = 0;
+        for (int a = 0; a < count; a++) {
+            boolean hasOpponent = false;
+            for (int b = 0; b < count; b++) {
+                if (a != b && allowed[remaining[a]][remaining[b]]) {
+                    hasOpponent = true;
+                    if (a < b) {
+                        from[edges] = a;
+                        to[edges++] = b;
+                    }
+                }
+            }
+            if (!hasOpponent) return false;
+        }
+        long[] weight = new long[edges];
+        Arrays.fill(weight, 1);
+        int[] mate = WeightedMatching.solve(count, Arrays.copyOf(from, edges), Arrays.copyOf(to, edges), weight, true);
+        return Arrays.stream(mate).noneMatch(m -> m == -1);
+    }
+
+    private boolean pairsGreedily(int[] remaining, int count) {
+        boolean[] matched = new boolean[count];
+        for (int a = 0; a < count; a++) {
+            if (matched[a]) continue;
+            int b = a + 1;
+            while (b < count && (matched[b] || !allowed[remaining[a]][remaining[b]])) {
+                b++;
+            }
+            if (b == count) return false;
+            matched[a] = true;
+            matched[b] = true;
+        }
+        return true;
+    }
+
+    /**
+     * Thrown to stop a search task that would test more than {@code leafLimit} complete pairings.
+     */
+    private static final class LeafLimitReached extends RuntimeException {
+        LeafLimitReached() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,27 +1,50 @@
 package controller;
 
 import model.Player;
+import model.TieBreak;
 import model.TournamentMode;
 import model.TournamentState;
 import view.TournamentView;
 import view.UITheme;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.io.*;
 import java.io.ObjectInputFilter;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Controller class for managing the tournament setup and player management.
  * Handles interactions between the TournamentView and the underlying player data model.
  */
 public class TournamentController {
+    private static final Path PLAYER_DATABASE_FILE =
+            Path.of(System.getProperty("user.home"), "Documents", "Spielerdatenbank.ttdb");
+    private static final int MAX_SUGGESTIONS = 20;
+
     private final TournamentView view;
     private final List<Player> playerList;
+    private final Set<Player> registeredPlayers;
+    private final DuplicateDetector duplicateDetector;
+    private PlayerDatabase playerDatabase;
+    private List<TieBreak> tieBreaks;
 
     /**
      * Constructs a TournamentController with the specified view.
@@ -31,11 +54,20 @@ public class TournamentController {
     public TournamentController(TournamentView view) {
         this.view = view;
         this.playerList = new ArrayList<>();
+        this.registeredPlayers = new HashSet<>();
+        this.duplicateDetector = new DuplicateDetector();
 
         view.getAddPlayerButton().addActionListener(_ -> addPlayer());
         view.getRemovePlayerButton().addActionListener(_ -> removePlayer());
+        view.getCheckDuplicatesButton().addActionListener(_ -> checkDuplicates());
         view.getBeginTournamentButton().addActionListener(_ -> beginTournament());
         view.getLoadMenuItem().addActionListener(_ -> loadTournamentFromFile());
+        view.getImportPlayersMenuItem().addActionListener(_ -> importPlayersFromFile());
+        view.getBuildPlayerDatabaseMenuItem().addActionListener(_ -> buildPlayerDatabase());
+        openPlayerDatabase();
+        view.getModeComboBox().addActionListener(_ -> updateGroupFields());
+        view.getEditTieBreaksButton().addActionListener(_ -> editTieBreaks());
+        updateTieBreaksLabel();
 
         view.addWindowListener(new WindowAdapter() {
             @Override
@@ -49,7 +81,9 @@ public class TournamentController {
 
     /**
      * Adds a new player to the player list.
-     * Prompts the user for player details and validates the input.
+     * Prompts the user for player details and validates the input. If the name is similar to an
+     * already registered player, e.g. "Müller" and "Mueller", the user has to confirm that it is a
+     * different person.
      */
     private void addPlayer() {
         JTextField firstNameField = new JTextField(10);
@@ -67,6 +101,9 @@ public class TournamentController {
         myPanel.add(clubField);
         myPanel.add(new JLabel("TTR-Wert (optional):"));
         myPanel.add(ttrField);
+        if (playerDatabase != null) {
+            addDatabaseSuggestions(myPanel, firstNameField, lastNameField, clubField, ttrField);
+        }
 
         int result;
         do {
@@ -94,10 +131,21 @@ public class TournamentController {
                     continue;
                 }
                 Player newPlayer = new Player(firstName, lastName, club, ttr);
-                if (playerList.contains(newPlayer)) {
+                if (registeredPlayers.contains(newPlayer)) {
                     JOptionPane.showMessageDialog(view, "Ein Spieler mit diesem Namen und Verein ist bereits in der Liste.");
                     continue;
                 }
+                List<DuplicateDetector.Duplicate> similar = duplicateDetector.findSimilar(newPlayer);
+                if (!similar.isEmpty() && JOptionPane.showConfirmDialog(view,
+                        "Möglicherweise ist dieser Spieler bereits gemeldet als:\n"
+                                + describe(similar.getFirst().duplicate())
+                                + "\n\nTrotzdem als eigenen Spieler hinzufügen?",
+                        "Mögliches Duplikat", JOptionPane.YES_NO_OPTION,
+                        JOptionPane.WARNING_MESSAGE) != JOptionPane.YES_OPTION) {
+                    continue;
+                }
+                registeredPlayers.add(newPlayer);
+                duplicateDetector.add(newPlayer);
                 playerList.add(newPlayer);
                 updatePlayerList();
                 break;
@@ -112,23 +160,298 @@ public class TournamentController {
     private void removePlayer() {
         int selectedIndex = view.getPlayerJList().getSelectedIndex();
         if (selectedIndex != -1) {
-            playerList.remove(selectedIndex);
-            updatePlayerList();
+            removePlayers(List.of(playerList.get(selectedIndex)));
         } else {
             JOptionPane.showMessageDialog(view, "Bitte wählen Sie einen Spieler aus der Liste aus.");
         }
     }
 
+    /**
+     * Imports players from a CSV registration list or TTR export chosen by the user.
+     * Duplicates of registered players are skipped, and the player list is updated once at the
+     * end. A summary dialog reports the number of imported and skipped players and lists the
+     * lines that could not be read; imported players with names similar to other registrations
+     * are then offered for removal.
+     */
+    private void importPlayersFromFile() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV-Dateien (*.csv, *.txt)", "csv", "txt"));
+        fileChooser.setDialogTitle("Spieler importieren");
+        if (fileChooser.showOpenDialog(view) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        PlayerImporter.Result result;
+        try {
+            result = readCsv(fileChooser.getSelectedFile().toPath(),
+                    reader -> PlayerImporter.read(reader, new HashSet<>(registeredPlayers)));
+        } catch (IOException _) {
+            JOptionPane.showMessageDialog(view, "Fehler beim Lesen der Datei.", "Fehler", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        List<DuplicateDetector.Duplicate> similar = duplicateDetector.addAll(result.players());
+        registeredPlayers.addAll(result.players());
+        playerList.addAll(result.players());
+        updatePlayerList();
+
+        StringBuilder message = new StringBuilder(result.players().size() + " Spieler importiert.");
+        if (result.duplicates() > 0) {
+            message.append("\n").append(result.duplicates()).append(" bereits vorhandene Spieler übersprungen.");
+        }
+        if (!result.errors().isEmpty()) {
+            message.append("\n\nNicht übernommene Zeilen:");
+            result.errors().stream().limit(10).forEach(error -> message.append("\n").append(error));
+            if (result.errors().size() > 10) {
+                message.append("\n… und ").append(result.errors().size() - 10).append(" weitere");
+            }
+        }
+        JOptionPane.showMessageDialog(view, message.toString(), "Spieler importieren",
+                result.errors().isEmpty() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+        if (!similar.isEmpty()) {
+            reviewDuplicates(similar);
+        }
+    }
+
+    /**
+     * Checks the whole player list for likely duplicates and lets the user remove them.
+     */
+    private void checkDuplicates() {
+        List<DuplicateDetector.Duplicate> duplicates =
+                DuplicateDetector.findDuplicates(playerList, DuplicateDetector.DEFAULT_THRESHOLD);
+        if (duplicates.isEmpty()) {
+            JOptionPane.showMessageDialog(view, "Keine möglichen Duplikate gefunden.");
+            return;
+        }
+        reviewDuplicates(duplicates);
+    }
+
+    /**
+     * Shows likely duplicates as pairs and removes the second player of every pair the user marks.
+     *
+     * @param duplicates the pairs of similar players
+     */
+    private void reviewDuplicates(List<DuplicateDetector.Duplicate> duplicates) {
+        JList<String> pairList = new JList<>(duplicates.stream()
+                .map(duplicate -> describe(duplicate.player()) + "  ↔  " + describe(duplicate.duplicate())
+                        + "  (" + Math.round(duplicate.similarity() * 100) + " %)")
+                .toArray(String[]::new));
+        pairList.setFont(UITheme.FONT_BODY);
+        pairList.setVisibleRowCount(Math.min(duplicates.size(), 12));
+
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.add(new JLabel(duplicates.size() + " mögliche Duplikate gefunden. "
+                + "Bei markierten Paaren wird der rechte Eintrag entfernt."));
+        panel.add(new JScrollPane(pairList));
+
+        Object[] options = {"Markierte entfernen", "Alle behalten"};
+        int choice = JOptionPane.showOptionDialog(view, panel, "Mögliche Duplikate",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.WARNING_MESSAGE, null, options, options[1]);
+        if (choice == 0 && !pairList.isSelectionEmpty()) {
+            Set<Player> removed = new HashSet<>();
+            for (int index : pairList.getSelectedIndices()) {
+                removed.add(duplicates.get(index).duplicate());
+            }
+            removePlayers(removed);
+        }
+    }
+
+    /**
+     * Removes players from the list and the duplicate indexes, and updates the list once.
+     *
+     * @param players the players to remove
+     */
+    private void removePlayers(Collection<Player> players) {
+        Set<Player> removed = new HashSet<>(players);
+        playerList.removeIf(removed::contains);
+        registeredPlayers.removeAll(removed);
+        removed.forEach(duplicateDetector::remove);
+        updatePlayerList();
+    }
+
+    private static String describe(Player player) {
+        return player.getFullName() + " - " + player.getClub() + " - TTR: " + player.getTtr();
+    }
+
+    /**
+     * Reads a CSV file, parsed by {@link PlayerImporter} or {@link PlayerDatabase}.
+     */
+    @FunctionalInterface
+    private interface CsvReader<T> {
+        T read(Reader reader) throws IOException;
+    }
+
+    /**
+     * Reads a CSV file as UTF-8, or with the Windows encoding if it is not valid UTF-8, as is common
+     * for files saved by spreadsheet programs. Invalid byte sequences are reported instead of
+     * replaced, so the reading function must not keep state across the two attempts.
+     */
+    private static <T> T readCsv(Path file, CsvReader<T> csvReader) throws IOException {
+        try {
+            return readCsv(file, StandardCharsets.UTF_8, csvReader);
+        } catch (CharacterCodingException _) {
+            return readCsv(file, Charset.forName("windows-1252"), csvReader);
+        }
+    }
+
+    private static <T> T readCsv(Path file, Charset charset, CsvReader<T> csvReader) throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file),
+                charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)))) {
+            return csvReader.read(reader);
+        }
+    }
+
+    /**
+     * Opens the newest version of the local player database, if one has been built, after deleting
+     * the versions superseded by a rebuild.
+     */
+    private void openPlayerDatabase() {
+        try {
+            PlayerDatabase.deleteOldVersions(PLAYER_DATABASE_FILE);
+            Path file = PlayerDatabase.latestVersion(PLAYER_DATABASE_FILE);
+            playerDatabase = file == null ? null : PlayerDatabase.open(file);
+        } catch (IOException _) {
+            playerDatabase = null;
+        }
+    }
+
+    /**
+     * A player database built in the background, with the number of players and the rows that
+     * could not be read.
+     */
+    private record BuiltDatabase(PlayerDatabase database, int count, List<String> errors) {}
+
+    /**
+     * Builds the local player database from a federation ranking export chosen by the user. The
+     * export is read and the database written in a {@link SwingWorker}, so the window stays
+     * responsive for a list of several hundred thousand players. The new database is written as a
+     * new version, replaces the previous one for the suggestions when adding players once it is
+     * complete, and the previous version is deleted at the next start.
+     */
+    private void buildPlayerDatabase() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV-Dateien (*.csv, *.txt)", "csv", "txt"));
+        fileChooser.setDialogTitle("Spielerdatenbank aus TTR-Liste erstellen");
+        if (fileChooser.showOpenDialog(view) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path csv = fileChooser.getSelectedFile().toPath();
+
+        view.getBuildPlayerDatabaseMenuItem().setEnabled(false);
+        view.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<BuiltDatabase, Void>() {
+            @Override
+            protected BuiltDatabase doInBackground() throws IOException {
+                Path file = PlayerDatabase.newVersion(PLAYER_DATABASE_FILE);
+                List<String> errors = new ArrayList<>();
+                int count = readCsv(csv, reader -> {
+                    errors.clear();
+                    return PlayerDatabase.build(reader, file, errors);
+                });
+                return new BuiltDatabase(PlayerDatabase.open(file), count, errors);
+            }
+
+            @Override
+            protected void done() {
+                view.setCursor(Cursor.getDefaultCursor());
+                view.getBuildPlayerDatabaseMenuItem().setEnabled(true);
+                BuiltDatabase built;
+                try {
+                    built = get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException _) {
+                    JOptionPane.showMessageDialog(view, "Fehler beim Erstellen der Spielerdatenbank.", "Fehler",
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                playerDatabase = built.database();
+                JOptionPane.showMessageDialog(view, "Spielerdatenbank mit " + built.count() + " Spielern erstellt."
+                        + (built.errors().isEmpty() ? ""
+                        : "\n" + built.errors().size() + " Zeilen konnten nicht gelesen werden."));
+            }
+        }.execute();
+    }
+
+    /**
+     * Adds a list of matching players from the player database to the add-player dialog. The list
+     * follows the entered last and first name; selecting a player fills in all fields.
+     */
+    private void addDatabaseSuggestions(JPanel panel, JTextField firstNameField, JTextField lastNameField,
+                                        JTextField clubField, JTextField ttrField) {
+        DefaultListModel<PlayerDatabase.Entry> suggestionModel = new DefaultListModel<>();
+        JList<PlayerDatabase.Entry> suggestionList = new JList<>(suggestionModel);
+        suggestionList.setVisibleRowCount(6);
+        suggestionList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        suggestionList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                PlayerDatabase.Entry entry = (PlayerDatabase.Entry) value;
+                String text = entry.lastName() + ", " + entry.firstName() + " - " + entry.club()
+                        + (entry.ttr() > 0 ? " - TTR: " + entry.ttr() : "");
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+
+        boolean[] filling = {false};
+        DocumentListener nameListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                update();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                update();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                update();
+            }
+
+            private void update() {
+                if (filling[0]) return;
+                suggestionModel.clear();
+                suggestionModel.addAll(playerDatabase.search(lastNameField.getText(), firstNameField.getText(),
+                        MAX_SUGGESTIONS));
+            }
+        };
+        lastNameField.getDocument().addDocumentListener(nameListener);
+        firstNameField.getDocument().addDocumentListener(nameListener);
+
+        suggestionList.addListSelectionListener(e -> {
+            PlayerDatabase.Entry entry = suggestionList.getSelectedValue();
+            if (e.getValueIsAdjusting() || entry == null) return;
+            filling[0] = true;
+            firstNameField.setText(entry.firstName());
+            lastNameField.setText(entry.lastName());
+            clubField.setText(entry.club());
+            ttrField.setText(entry.ttr() > 0 ? String.valueOf(entry.ttr()) : "");
+            filling[0] = false;
+        });
+
+        panel.add(new JLabel("Treffer in der Spielerdatenbank:"));
+        panel.add(new JScrollPane(suggestionList));
+    }
+
     /**
      * Updates the player list displayed in the view.
-     * Sorts players by their TTR value in descending order.
+     * Sorts players by their TTR value in descending order and replaces the list content in a
+     * single model update.
      */
     private void updatePlayerList() {
         playerList.sort((p1, p2) -> Integer.compare(p2.getTtr(), p1.getTtr()));
 
         DefaultListModel<String> playerListModel = view.getPlayerListModel();
         playerListModel.clear();
-        playerList.forEach(player -> playerListModel.addElement(player.getFullName() + " - " + player.getClub() + " - TTR: " + player.getTtr()));
+        playerListModel.addAll(playerList.stream()
+                .map(player -> player.getFullName() + " - " + player.getClub() + " - TTR: " + player.getTtr())
+                .toList());
     }
 
     /**
@@ -158,11 +481,179 @@ public class TournamentController {
             return;
         }
 
-        TournamentMode mode = view.getModusField().isSelected() ? TournamentMode.ROUND_ROBIN : TournamentMode.SWISS;
-        new TournamentRound(playerList, tournamentName, tableCount, mode).setVisible(true);
+        TournamentMode mode = (TournamentMode) view.getModeComboBox().getSelectedItem();
+        int groupCount = 1;
+        int qualifiersPerGroup = 1;
+        if (mode == TournamentMode.GROUPS_KNOCKOUT) {
+            try {
+                groupCount = Integer.parseInt(view.getGroupCountField().getText().trim());
+                qualifiersPerGroup = Integer.parseInt(view.getQualifiersPerGroupField().getText().trim());
+                if (groupCount <= 0 || qualifiersPerGroup <= 0) {
+                    throw new NumberFormatException();
+                }
+            } catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(view, "Bitte geben Sie positive ganze Zahlen für Gruppen und Weiterkommende ein.");
+                return;
+            }
+            if (playerList.size() < groupCount * 2) {
+                JOptionPane.showMessageDialog(view, "Jede Gruppe benötigt mindestens 2 Spieler.");
+                return;
+            }
+            if (qualifiersPerGroup > playerList.size() / groupCount) {
+                JOptionPane.showMessageDialog(view, "Es können nicht mehr Spieler weiterkommen, als eine Gruppe hat.");
+                return;
+            }
+        }
+
+        int plannedRounds = 0;
+        String plannedRoundsValue = view.getPlannedRoundsField().getText().trim();
+        if (mode == TournamentMode.SWISS && !plannedRoundsValue.isEmpty()) {
+            int maxRounds = playerList.size() % 2 == 0 ? playerList.size() - 1 : playerList.size();
+            try {
+                plannedRounds = Integer.parseInt(plannedRoundsValue);
+                if (plannedRounds <= 0) {
+                    throw new NumberFormatException();
+                }
+            } catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(view, "Bitte geben Sie eine positive ganze Zahl für die geplanten Runden ein oder lassen Sie das Feld leer.");
+                return;
+            }
+            if (plannedRounds > maxRounds) {
+                JOptionPane.showMessageDialog(view, "Mit " + playerList.size() + " Spielern sind höchstens "
+                        + maxRounds + " Runden ohne Wiederholung möglich.");
+                return;
+            }
+        }
+
+        new TournamentRound(playerList, tournamentName, tableCount, mode, groupCount, qualifiersPerGroup, plannedRounds,
+                selectedTieBreaks()).setVisible(true);
         view.dispose();
     }
 
+    /**
+     * Enables the group configuration fields only while the group mode is selected, and the
+     * planned rounds only while the Swiss System is selected.
+     */
+    private void updateGroupFields() {
+        boolean groupMode = view.getModeComboBox().getSelectedItem() == TournamentMode.GROUPS_KNOCKOUT;
+        view.getGroupCountField().setEnabled(groupMode);
+        view.getQualifiersPerGroupField().setEnabled(groupMode);
+        view.getPlannedRoundsField().setEnabled(view.getModeComboBox().getSelectedItem() == TournamentMode.SWISS);
+        updateTieBreaksLabel();
+    }
+
+    /**
+     * Returns the tie-break criteria chosen by the user, or the default chain of the selected mode
+     * if the user has not changed it.
+     *
+     * @return the criteria in the order they are applied
+     */
+    private List<TieBreak> selectedTieBreaks() {
+        return tieBreaks != null
+                ? tieBreaks
+                : TieBreak.defaultChain((TournamentMode) view.getModeComboBox().getSelectedItem());
+    }
+
+    /**
+     * Shows the tie-break criteria in the order they are applied.
+     */
+    private void updateTieBreaksLabel() {
+        List<String> names = selectedTieBreaks().stream().map(TieBreak::getDisplayName).toList();
+        view.getTieBreaksLabel().setText(names.isEmpty() ? "keine" : String.join(" → ", names));
+    }
+
+    /**
+     * Lets the user choose the tie-break criteria and their order. Criteria are added from a
+     * selection of the unused ones and can be moved up, moved down or removed; "Standard" restores
+     * the default chain of the selected mode, which then also follows later changes of the mode.
+     */
+    private void editTieBreaks() {
+        DefaultListModel<TieBreak> chainModel = new DefaultListModel<>();
+        selectedTieBreaks().forEach(chainModel::addElement);
+        JList<TieBreak> chainList = new JList<>(chainModel);
+        chainList.setFont(UITheme.FONT_BODY);
+        chainList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        chainList.setVisibleRowCount(TieBreak.values().length);
+        JComboBox<TieBreak> unusedBox = new JComboBox<>();
+        boolean[] isDefault = {tieBreaks == null};
+
+        Runnable refreshUnused = () -> {
+            unusedBox.removeAllItems();
+            for (TieBreak tieBreak : TieBreak.values()) {
+                if (!chainModel.contains(tieBreak)) {
+                    unusedBox.addItem(tieBreak);
+                }
+            }
+        };
+        refreshUnused.run();
+
+        JButton addButton = new JButton("Hinzufügen");
+        addButton.addActionListener(_ -> {
+            if (unusedBox.getSelectedItem() instanceof TieBreak tieBreak) {
+                chainModel.addElement(tieBreak);
+                isDefault[0] = false;
+                refreshUnused.run();
+            }
+        });
+        JButton upButton = new JButton("Nach oben");
+        upButton.addActionListener(_ -> {
+            int index = chainList.getSelectedIndex();
+            if (index > 0) {
+                chainModel.add(index - 1, chainModel.remove(index));
+                chainList.setSelectedIndex(index - 1);
+                isDefault[0] = false;
+            }
+        });
+        JButton downButton = new JButton("Nach unten");
+        downButton.addActionListener(_ -> {
+            int index = chainList.getSelectedIndex();
+            if (index >= 0 && index < chainModel.size() - 1) {
+                chainModel.add(index + 1, chainModel.remove(index));
+                chainList.setSelectedIndex(index + 1);
+                isDefault[0] = false;
+            }
+        });
+        JButton removeButton = new JButton("Entfernen");
+        removeButton.addActionListener(_ -> {
+            int index = chainList.getSelectedIndex();
+            if (index >= 0) {
+                chainModel.remove(index);
+                isDefault[0] = false;
+                refreshUnused.run();
+            }
+        });
+        JButton defaultButton = new JButton("Standard");
+        defaultButton.addActionListener(_ -> {
+            chainModel.clear();
+            TieBreak.defaultChain((TournamentMode) view.getModeComboBox().getSelectedItem())
+                    .forEach(chainModel::addElement);
+            isDefault[0] = true;
+            refreshUnused.run();
+        });
+
+        JPanel addPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 0));
+        addPanel.add(unusedBox);
+        addPanel.add(addButton);
+        JPanel movePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 4, 0));
+        movePanel.add(upButton);
+        movePanel.add(downButton);
+        movePanel.add(removeButton);
+        movePanel.add(defaultButton);
+
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.add(new JLabel("Bei Punktgleichheit entscheiden die Kriterien in dieser Reihenfolge:"));
+        panel.add(new JScrollPane(chainList));
+        panel.add(movePanel);
+        panel.add(addPanel);
+
+        if (JOptionPane.showConfirmDialog(view, panel, "Feinwertung",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE) == JOptionPane.OK_OPTION) {
+            tieBreaks = isDefault[0] ? null : List.copyOf(Collections.list(chainModel.elements()));
+            updateTieBreaksLabel();
+        }
+    }
+
     /**
      * Prompts the user for confirmation before closing the application.
      *
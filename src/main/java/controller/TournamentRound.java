@@ -1,14 +1,16 @@
 package controller;
 
+import model.KnockoutBracket;
 import model.Match;
 import model.Player;
+import model.TieBreak;
 import model.TournamentMode;
 import model.TournamentState;
+import view.KnockoutBracketView;
 import view.TournamentRoundView;
 import view.UITheme;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.print.PageFormat;
@@ -17,6 +19,7 @@ import java.awt.print.PrinterException;
 import java.awt.print.PrinterJob;
 import java.io.*;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Controller for a tournament round. Delegates all pairing logic to {@link PairingEngine},
@@ -28,12 +31,34 @@ public class TournamentRound {
     private final int tableNumber;
     private final TournamentMode mode;
     private final String tournamentName;
+    private final int groupCount;
+    private final int qualifiersPerGroup;
 
     private final PairingEngine pairingEngine;
     private final ScoreCalculator scoreCalculator;
     private final TournamentRoundView view;
-
+    private final StandingsTableModel standingsModel;
+    private final RefreshScheduler<Standings> refreshScheduler;
+    private final List<Match> pendingResults = new ArrayList<>();
+    private final StandingsHistory standingsHistory = new StandingsHistory();
+    private final UndoHistory undoHistory = new UndoHistory();
+
+    private boolean fullRecalculationPending;
+    private int recalculationRequest;
+    private volatile TournamentSnapshot snapshot;
     private int currentRound;
+    private boolean standingsColumnsSized;
+
+    /**
+     * A computed ranking, and the recalculated statistics it is based on if the standings needed
+     * a full recalculation.
+     *
+     * @param ranking       the ranking for the standings table
+     * @param recalculation the recalculated statistics to adopt, or {@code null}
+     * @param request       the number of recalculation requests when the recalculation was prepared
+     */
+    private record Standings(StandingsTableModel.Snapshot ranking, ScoreCalculator.Recalculation recalculation,
+                             int request) {}
 
     /**
      * Constructs a new TournamentRound, initializes the view, and generates the first round's pairings.
@@ -41,24 +66,93 @@ public class TournamentRound {
      * @param playerList     the list of players participating in the tournament
      * @param tournamentName the name of the tournament
      * @param tableNumber    the number of available tables
-     * @param mode           the tournament mode (SWISS or ROUND_ROBIN)
+     * @param mode           the tournament mode (SWISS, ROUND_ROBIN or DOUBLE_ROUND_ROBIN)
      */
     public TournamentRound(List<Player> playerList, String tournamentName, int tableNumber, TournamentMode mode) {
-        this(playerList, tournamentName, tableNumber, mode, false);
+        this(playerList, tournamentName, tableNumber, mode, 1, 1, 0, null, false);
+    }
+
+    /**
+     * Constructs a new TournamentRound with a group stage configuration, initializes the view,
+     * and generates the first round's pairings.
+     *
+     * @param playerList         the list of players participating in the tournament
+     * @param tournamentName     the name of the tournament
+     * @param tableNumber        the number of available tables
+     * @param mode               the tournament mode
+     * @param groupCount         the number of groups (GROUPS_KNOCKOUT mode only)
+     * @param qualifiersPerGroup the number of players per group reaching the knockout stage
+     */
+    public TournamentRound(List<Player> playerList, String tournamentName, int tableNumber, TournamentMode mode,
+                           int groupCount, int qualifiersPerGroup) {
+        this(playerList, tournamentName, tableNumber, mode, groupCount, qualifiersPerGroup, 0, null, false);
+    }
+
+    /**
+     * Constructs a new TournamentRound with a group stage configuration and a planned number of
+     * rounds, initializes the view, and generates the first round's pairings.
+     *
+     * @param playerList         the list of players participating in the tournament
+     * @param tournamentName     the name of the tournament
+     * @param tableNumber        the number of available tables
+     * @param mode               the tournament mode
+     * @param groupCount         the number of groups (GROUPS_KNOCKOUT mode only)
+     * @param qualifiersPerGroup the number of players per group reaching the knockout stage
+     * @param plannedRounds      the number of rounds the Swiss System pairing guarantees, or
+     *                           {@code 0} to pair greedily (see {@link PairingEngine#setPlannedRounds(int)})
+     */
+    public TournamentRound(List<Player> playerList, String tournamentName, int tableNumber, TournamentMode mode,
+                           int groupCount, int qualifiersPerGroup, int plannedRounds) {
+        this(playerList, tournamentName, tableNumber, mode, groupCount, qualifiersPerGroup, plannedRounds, null, false);
+    }
+
+    /**
+     * Constructs a new TournamentRound with a group stage configuration, a planned number of
+     * rounds and the tie-break criteria, initializes the view, and generates the first round's
+     * pairings.
+     *
+     * @param playerList         the list of players participating in the tournament
+     * @param tournamentName     the name of the tournament
+     * @param tableNumber        the number of available tables
+     * @param mode               the tournament mode
+     * @param groupCount         the number of groups (GROUPS_KNOCKOUT mode only)
+     * @param qualifiersPerGroup the number of players per group reaching the knockout stage
+     * @param plannedRounds      the number of rounds the Swiss System pairing guarantees, or
+     *                           {@code 0} to pair greedily (see {@link PairingEngine#setPlannedRounds(int)})
+     * @param tieBreaks          the criteria that order players with the same number of points, or
+     *                           {@code null} for the default chain of the mode
+     */
+    public TournamentRound(List<Player> playerList, String tournamentName, int tableNumber, TournamentMode mode,
+                           int groupCount, int qualifiersPerGroup, int plannedRounds, List<TieBreak> tieBreaks) {
+        this(playerList, tournamentName, tableNumber, mode, groupCount, qualifiersPerGroup, plannedRounds, tieBreaks,
+                false);
     }
 
     private TournamentRound(List<Player> playerList, String tournamentName, int tableNumber, TournamentMode mode,
+                             int groupCount, int qualifiersPerGroup, int plannedRounds, List<TieBreak> tieBreaks,
                              boolean skipInitialPairing) {
         this.playerList = new ArrayList<>(playerList);
         this.tableNumber = tableNumber;
         this.mode = mode;
         this.tournamentName = tournamentName;
+        this.groupCount = groupCount;
+        this.qualifiersPerGroup = qualifiersPerGroup;
         this.currentRound = 1;
 
-        this.pairingEngine = new PairingEngine(this.playerList, tableNumber, mode);
-        this.scoreCalculator = new ScoreCalculator(pairingEngine.getAllMatches());
+        this.pairingEngine = new PairingEngine(this.playerList, tableNumber, mode, groupCount, qualifiersPerGroup);
+        pairingEngine.setPlannedRounds(plannedRounds);
+        if (tieBreaks != null) {
+            pairingEngine.setTieBreaks(tieBreaks);
+        }
+        pairingEngine.setParallelSearch(Runtime.getRuntime().availableProcessors() > 1);
+        this.scoreCalculator = new ScoreCalculator(pairingEngine.getAllMatches(), mode == TournamentMode.SWISS,
+                pairingEngine.getCompensationPoints());
 
         this.view = new TournamentRoundView(tournamentName, mode);
+        this.standingsModel = new StandingsTableModel(mode);
+        view.getResultsTable().setModel(standingsModel);
+        this.refreshScheduler = new RefreshScheduler<>(this::prepareStandings, this::showStandings,
+                view.getPairingsTextArea()::setText, view.getCurrentRoundLabel()::setText);
 
         view.addWindowListener(new WindowAdapter() {
             @Override
@@ -74,13 +168,26 @@ public class TournamentRound {
 
         view.getPreviewRefereeSheetsButton().addActionListener(_ -> previewRefereeSheets());
 
-        view.getResultEntryButton().addActionListener(_ -> {
-            new ResultEntryController(pairingEngine.getMatches(), this);
-            updateResultsTable();
-        });
+        view.getResultEntryButton().addActionListener(_ -> new ResultEntryController(pairingEngine.getMatches(), this));
 
         view.getPrintTableButton().addActionListener(_ -> printPlacementTable());
+        view.getStandingsHistoryButton().addActionListener(_ -> showStandingsHistory());
+        if (view.getPrintScheduleButton() != null) {
+            view.getPrintScheduleButton().addActionListener(_ -> printSchedule());
+        }
+        if (view.getShowBracketButton() != null) {
+            view.getShowBracketButton().addActionListener(_ -> showBracket());
+        }
         view.getNextRoundButton().addActionListener(_ -> startNextRound());
+        view.getUndoButton().addActionListener(_ -> undo());
+        view.getRedoButton().addActionListener(_ -> redo());
+
+        if (view.getLateEntryButton() != null) {
+            view.getLateEntryButton().addActionListener(_ -> showLateEntryDialog());
+        }
+        if (view.getWithdrawButton() != null) {
+            view.getWithdrawButton().addActionListener(_ -> showWithdrawDialog());
+        }
 
         if (view.getManipulateButton() != null) {
             view.getManipulateButton().addActionListener(_ -> {
@@ -91,7 +198,8 @@ public class TournamentRound {
                     List<Match> allPossibleOpenMatches = pairingEngine.calculateAllPossibleOpenMatches();
                     allPossibleOpenMatches.sort(Comparator.comparing(match -> match.getFirstPlayer().getFullName()));
                     Set<Match> uniqueMatches = new LinkedHashSet<>(allPossibleOpenMatches);
-                    new MatchManagerController(uniqueMatches, playerList.size(), this).getView().setVisible(true);
+                    new MatchManagerController(uniqueMatches, pairingEngine.getActivePlayers().size(), this)
+                            .getView().setVisible(true);
                 } else {
                     JOptionPane.showMessageDialog(view,
                             "Setzung kann nicht manipuliert werden, da bereits Ergebnisse eingetragen wurden.",
@@ -103,11 +211,12 @@ public class TournamentRound {
         if (!skipInitialPairing) {
             String pairingsText = pairingEngine.generatePairings(currentRound);
             if (pairingsText != null) {
-                view.getPairingsTextArea().setText(pairingsText);
+                refreshScheduler.requestPairingsText(pairingsText);
             } else {
                 JOptionPane.showMessageDialog(view, "Es wurden bereits alle möglichen Kombinationen gespielt.",
                         "Keine Paarungen mehr möglich", JOptionPane.INFORMATION_MESSAGE);
             }
+            commitUndoStep();
         }
         updateResultsTable();
     }
@@ -122,96 +231,350 @@ public class TournamentRound {
     }
 
     /**
-     * Recalculates all player statistics via {@link ScoreCalculator} and refreshes
-     * the standings table in the UI to reflect the latest results.
+     * Requests a full recalculation of all player statistics via {@link ScoreCalculator}. The
+     * {@link RefreshScheduler} collapses several requests within one frame into a single update of
+     * the standings table, and recalculates and ranks the players off the Event Dispatch Thread.
+     * The table keeps its {@link StandingsTableModel}; only rows whose rank or statistics changed
+     * are repainted.
      */
     public void updateResultsTable() {
-        scoreCalculator.calculate(playerList);
+        fullRecalculationPending = true;
+        recalculationRequest++;
+        pendingResults.clear();
+        refreshScheduler.requestStandings();
+    }
+
+    /**
+     * Prepares the calculation of the standings on the Event Dispatch Thread, which is the only
+     * thread that changes matches and players. Results recorded since the last update are applied
+     * here, touching just the two players and their opponents; the calculation that runs off the
+     * EDT then gets a copy of the statistics arrays. A full recalculation instead runs entirely off
+     * the EDT, on the {@link TournamentSnapshot.MatchRecord records} of the matches, and is adopted
+     * by {@link #showStandings(Standings)}. The records share the rounds completed before the last
+     * published snapshot, so only the current round is copied; they are captured at all only for a
+     * full recalculation or a tie-break that reads the match history.
+     *
+     * @return the calculation of the current ranking for the standings table
+     */
+    private Supplier<Standings> prepareStandings() {
+        if (!fullRecalculationPending && !pendingResults.stream().allMatch(scoreCalculator::updateMatch)) {
+            fullRecalculationPending = true;
+        }
+        pendingResults.clear();
+
+        List<Player> players = new ArrayList<>(playerList);
+        List<TieBreak> tieBreaks = pairingEngine.getTieBreaks();
+        List<List<TournamentSnapshot.MatchRecord>> rounds =
+                fullRecalculationPending || RankingSorter.needsHistory(mode, tieBreaks) ? captureRounds() : null;
+        if (fullRecalculationPending) {
+            Supplier<ScoreCalculator.Recalculation> recalculation = scoreCalculator.recalculation(players, rounds);
+            int request = recalculationRequest;
+            return () -> {
+                ScoreCalculator.Recalculation result = recalculation.get();
+                return new Standings(rank(players, result.statistics(), tieBreaks, rounds), result, request);
+            };
+        }
+        ScoreCalculator.Statistics statistics = scoreCalculator.statistics();
+        return () -> new Standings(rank(players, statistics, tieBreaks, rounds), null, 0);
+    }
+
+    /**
+     * Ranks the players by the given statistics and captures the standings.
+     */
+    private StandingsTableModel.Snapshot rank(List<Player> players, ScoreCalculator.Statistics statistics,
+                                              List<TieBreak> tieBreaks,
+                                              List<List<TournamentSnapshot.MatchRecord>> rounds) {
+        RankingSorter.sort(players, statistics, mode, tieBreaks, rounds);
+        return StandingsTableModel.capture(players.reversed(), statistics);
+    }
 
-        DefaultTableModel tableModel = getDefaultTableModel(playerList);
-        view.getResultsTable().setModel(tableModel);
-        UITheme.applyTableStyling(view.getResultsTable());
-        UITheme.setNameColumnWide(view.getResultsTable(), 1);
+    /**
+     * Copies the matches of all rounds into records, sharing the rounds that were already
+     * completed in the last published snapshot.
+     */
+    private List<List<TournamentSnapshot.MatchRecord>> captureRounds() {
+        TournamentSnapshot base = snapshot;
+        return base == null
+                ? TournamentSnapshot.captureRounds(List.of(), 0, currentRound, pairingEngine)
+                : TournamentSnapshot.captureRounds(base.rounds(), base.round(), currentRound, pairingEngine);
+    }
 
-        view.validate();
-        view.repaint();
+    /**
+     * Swaps a computed ranking into the standings table and publishes a new
+     * {@link TournamentSnapshot}. A full recalculation is adopted first, which publishes the
+     * recalculated statistics to the players; it settles the pending recalculation unless another
+     * one was requested meanwhile. Results recorded in the meantime stay pending and are applied on
+     * the next update. Every change of results, pairings or round ends in a standings update, so
+     * the published snapshot follows all of them. The name column is widened once, when the table
+     * shows players for the first time.
+     *
+     * @param standings the ranking to show
+     */
+    private void showStandings(Standings standings) {
+        if (standings.recalculation() != null) {
+            scoreCalculator.adopt(standings.recalculation());
+            if (standings.request() == recalculationRequest) {
+                fullRecalculationPending = false;
+            }
+        }
+        standingsModel.update(standings.ranking());
+        this.snapshot = TournamentSnapshot.capture(this.snapshot, currentRound, pairingEngine.isFinished(),
+                playerList, standings.ranking(), pairingEngine);
+        if (!standingsColumnsSized && standingsModel.getRowCount() > 0) {
+            UITheme.setNameColumnWide(view.getResultsTable(), 1);
+            standingsColumnsSized = true;
+        }
     }
 
     /**
-     * Builds the {@link DefaultTableModel} for the standings table.
-     * Columns differ between Swiss System (includes BHZ and fBHZ) and Round Robin mode.
+     * Passes a saved match result on to the pairing engine, which advances the knockout bracket
+     * immediately if the match belongs to it, and schedules a standings update. Only the statistics
+     * of the two players and the tiebreakers of their opponents are adjusted; the whole history is
+     * recalculated only if the match is not yet known to the {@link ScoreCalculator}.
      *
-     * @param allPlayers the players to include, sorted and ranked before adding to the model
-     * @return the populated table model
+     * @param match the match whose result has just been saved
      */
-    private DefaultTableModel getDefaultTableModel(List<Player> allPlayers) {
-        List<Player> sorted = new ArrayList<>(allPlayers);
-        sortPlayers(sorted);
-        sorted = sorted.reversed();
+    public void recordResult(Match match) {
+        pairingEngine.recordResult(match);
+        pendingResults.add(match);
+        refreshScheduler.requestStandings();
+        commitUndoStep();
+    }
 
-        DefaultTableModel tableModel = new DefaultTableModel() {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
+    /**
+     * Adds a player who arrives after the tournament has started. The player is paired from the
+     * next round on; the standings calculator gives them a slot with their compensation points
+     * without recalculating the other players. The tournament state is saved afterwards and the
+     * entry can be undone.
+     *
+     * @param player             the new player
+     * @param compensationPoints the points credited for the rounds the player has missed
+     * @see PairingEngine#addPlayer(Player, int)
+     */
+    public void addPlayer(Player player, int compensationPoints) {
+        refreshScheduler.flush();
+        pairingEngine.addPlayer(player, compensationPoints);
+        scoreCalculator.addPlayer(player);
+        refreshScheduler.requestStandings();
+        saveTournamentState();
+        commitUndoStep();
+    }
+
+    /**
+     * Withdraws a player from the remaining rounds. The player's results stay in the standings.
+     * The tournament state is saved afterwards and the withdrawal can be undone.
+     *
+     * @param player the player to withdraw
+     * @see PairingEngine#withdrawPlayer(Player)
+     */
+    public void withdrawPlayer(Player player) {
+        pairingEngine.withdrawPlayer(player);
+        refreshScheduler.requestStandings();
+        saveTournamentState();
+        commitUndoStep();
+    }
+
+    /**
+     * Asks for the data of a late entry and the compensation points for the missed rounds, and
+     * adds the player. Invalid input is reported and the dialog is shown again.
+     */
+    private void showLateEntryDialog() {
+        JTextField firstNameField = new JTextField(10);
+        JTextField lastNameField = new JTextField(10);
+        JTextField clubField = new JTextField(10);
+        JTextField ttrField = new JTextField(10);
+        JSpinner compensationSpinner = new JSpinner(new SpinnerNumberModel(0, 0, Math.max(0, currentRound - 1), 1));
+
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.add(new JLabel("Vorname:"));
+        panel.add(firstNameField);
+        panel.add(new JLabel("Name:"));
+        panel.add(lastNameField);
+        panel.add(new JLabel("Verein:"));
+        panel.add(clubField);
+        panel.add(new JLabel("TTR-Wert (optional):"));
+        panel.add(ttrField);
+        panel.add(new JLabel("Ausgleichspunkte für verpasste Runden:"));
+        panel.add(compensationSpinner);
+
+        while (JOptionPane.showConfirmDialog(view, panel, "Spieler nachmelden",
+                JOptionPane.OK_CANCEL_OPTION) == JOptionPane.OK_OPTION) {
+            String firstName = firstNameField.getText().trim();
+            String lastName = lastNameField.getText().trim();
+            String club = clubField.getText().trim();
+            if (firstName.isEmpty() || lastName.isEmpty() || club.isEmpty()) {
+                JOptionPane.showMessageDialog(view, "Bitte füllen Sie alle Pflichtfelder aus.");
+                continue;
             }
-        };
-        tableModel.addColumn("Rang");
-        tableModel.addColumn("Name");
-        tableModel.addColumn("Punkte");
-        tableModel.addColumn("Spiele");
-        if (mode == TournamentMode.SWISS) {
-            tableModel.addColumn("BHZ");
-            tableModel.addColumn("fBHZ");
+            int ttr = 0;
+            try {
+                String ttrValue = ttrField.getText().trim();
+                if (!ttrValue.isEmpty()) {
+                    ttr = Integer.parseInt(ttrValue);
+                }
+                if (ttr < 0) {
+                    throw new NumberFormatException();
+                }
+            } catch (NumberFormatException e) {
+                JOptionPane.showMessageDialog(view, "Bitte geben Sie einen ganzzahligen positiven TTR-Wert ein oder lassen Sie das Feld leer.");
+                continue;
+            }
+            Player player = new Player(firstName, lastName, club, ttr);
+            if (playerList.contains(player)) {
+                JOptionPane.showMessageDialog(view, "Ein Spieler mit diesem Namen und Verein ist bereits in der Liste.");
+                continue;
+            }
+            addPlayer(player, (Integer) compensationSpinner.getValue());
+            JOptionPane.showMessageDialog(view,
+                    player.getFullName() + " wird ab der nächsten Runde ausgelost.",
+                    "Spieler nachgemeldet", JOptionPane.INFORMATION_MESSAGE);
+            return;
         }
-        tableModel.addColumn("Sätze");
-        tableModel.addColumn("Bälle");
+    }
 
-        for (int i = 0; i < sorted.size(); i++) {
-            tableModel.addRow(getRowData(sorted.get(i), i));
+    /**
+     * Lets the tournament director pick an active player and withdraws them after confirmation.
+     */
+    private void showWithdrawDialog() {
+        List<Player> active = pairingEngine.getActivePlayers();
+        if (active.isEmpty()) return;
+        active.sort(Comparator.comparing(Player::getFullName));
+        JComboBox<Player> playerBox = new JComboBox<>(active.toArray(new Player[0]));
+        playerBox.setRenderer(new DefaultListCellRenderer() {
+            @Override
+            public java.awt.Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                                   boolean isSelected, boolean cellHasFocus) {
+                String text = value instanceof Player player ? player.getFullName() + " (" + player.getClub() + ")" : "";
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+
+        if (JOptionPane.showConfirmDialog(view, playerBox, "Spieler zurückziehen",
+                JOptionPane.OK_CANCEL_OPTION) != JOptionPane.OK_OPTION) {
+            return;
+        }
+        Player player = (Player) playerBox.getSelectedItem();
+        if (player == null || JOptionPane.showConfirmDialog(view,
+                player.getFullName() + " wird in den weiteren Runden nicht mehr ausgelost. "
+                        + "Die bisherigen Ergebnisse bleiben in der Wertung.\n"
+                        + "Eine offene Begegnung der laufenden Runde muss noch eingetragen werden.",
+                "Spieler zurückziehen", JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.WARNING_MESSAGE) != JOptionPane.OK_OPTION) {
+            return;
         }
+        withdrawPlayer(player);
+    }
+
+    /**
+     * Records the current field of players, pairings, results and round as a step of the {@link UndoHistory} and
+     * updates the undo and redo buttons.
+     */
+    private void commitUndoStep() {
+        int completedRounds = standingsHistory.getRoundCount();
+        undoHistory.commit(currentRound, pairingEngine.isFinished(), pairingEngine,
+                completedRounds == 0 ? null : standingsHistory.get(completedRounds));
+        updateUndoButtons();
+    }
 
-        return tableModel;
+    private void updateUndoButtons() {
+        view.getUndoButton().setEnabled(undoHistory.canUndo());
+        view.getRedoButton().setEnabled(undoHistory.canRedo());
     }
 
     /**
-     * Builds the data array for a single row in the standings table.
+     * Undoes the last change of pairings, results or rounds.
+     */
+    public void undo() {
+        restore(undoHistory.undo());
+    }
+
+    /**
+     * Redoes the last undone change of pairings, results or rounds.
+     */
+    public void redo() {
+        restore(undoHistory.redo());
+    }
+
+    /**
+     * Puts the field of players, pairings, results and round of a state from the undo history back
+     * into the pairing engine and recalculates the standings, so an undone late entry disappears
+     * from the standings as well. The same match objects are restored, so a round whose
+     * start has been undone comes back with its former pairing, and the standings checkpoints
+     * follow the number of completed rounds.
      *
-     * @param player the player for this row
-     * @param i      the zero-based rank index (displayed as {@code i + 1})
-     * @return the row data array
-     */
-    private Object[] getRowData(Player player, int i) {
-        String winsLosses = player.getWins() + ":" + player.getLosses();
-        if (mode == TournamentMode.SWISS) {
-            return new Object[]{
-                    i + 1,
-                    player.getFullName() + " (" + player.getClub() + ")",
-                    player.getPoints(),
-                    winsLosses,
-                    player.getBuchholz(),
-                    player.getFeinBuchholz(),
-                    player.getSetsWon() + ":" + player.getSetsLost(),
-                    player.getBallsWon() + ":" + player.getBallsLost()
-            };
-        } else {
-            return new Object[]{
-                    i + 1,
-                    player.getFullName() + " (" + player.getClub() + ")",
-                    player.getPoints(),
-                    winsLosses,
-                    player.getSetsWon() + ":" + player.getSetsLost(),
-                    player.getBallsWon() + ":" + player.getBallsLost()
-            };
+     * @param state the state to restore, or {@code null} to do nothing
+     */
+    private void restore(UndoHistory.State state) {
+        if (state == null) return;
+        refreshScheduler.flush();
+        List<Match> history = new ArrayList<>();
+        for (TournamentSnapshot.MatchRecord record : state.allMatches()) {
+            history.add(undoHistory.restore(record));
         }
+        List<Match> current = history.subList(history.size() - state.matches().size(), history.size());
+        pairingEngine.restoreState(history, current);
+        pairingEngine.restoreKnockoutBracket(state.bracket() == null ? null : state.bracket().copy(), state.nodes());
+        pairingEngine.setFinished(state.finished());
+        pairingEngine.restoreFieldChanges(state.players(), state.compensation(), state.withdrawn());
+
+        currentRound = state.round();
+        int completedRounds = state.finished() ? currentRound : currentRound - 1;
+        standingsHistory.truncate(completedRounds);
+        if (state.checkpoint() != null && standingsHistory.getRoundCount() == completedRounds - 1) {
+            standingsHistory.record(completedRounds, state.checkpoint());
+        }
+
+        refreshScheduler.requestRoundLabel("Runde " + currentRound);
+        refreshScheduler.requestPairingsText(pairingEngine.formatMatchesAsText(pairingEngine.getMatches()));
+        updateUndoButtons();
+        updateResultsTable();
     }
 
     /**
-     * Sorts the player list in-place using the ranking criteria appropriate for the current mode.
+     * Opens the knockout bracket window. Before the knockout stage has started, an information
+     * dialog is shown instead.
+     */
+    private void showBracket() {
+        KnockoutBracket bracket = pairingEngine.getKnockoutBracket();
+        if (bracket == null) {
+            JOptionPane.showMessageDialog(view, "Die K.-o.-Runde hat noch nicht begonnen.",
+                    "K.-o.-Baum", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        new KnockoutBracketView(bracket, tournamentName);
+    }
+
+    /**
+     * Opens the window with the standings after earlier rounds. Before the first round has been
+     * completed, an information dialog is shown instead.
+     */
+    private void showStandingsHistory() {
+        if (standingsHistory.getRoundCount() == 0) {
+            JOptionPane.showMessageDialog(view, "Es wurde noch keine Runde abgeschlossen.",
+                    "Tabellenverlauf", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        new StandingsHistoryController(standingsHistory, mode, tournamentName);
+    }
+
+    /**
+     * Returns the most recently published immutable state of the tournament. Safe to call from
+     * any thread; the snapshot never changes after it has been published.
      *
-     * @param players the list of players to sort
+     * @return the latest snapshot, or {@code null} before the standings were first computed
      */
-    private void sortPlayers(List<Player> players) {
-        PairingEngine.sortPlayersByRanking(players, mode);
+    public TournamentSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the standings checkpoints of the completed rounds.
+     *
+     * @return the standings history
+     */
+    public StandingsHistory getStandingsHistory() {
+        return standingsHistory;
     }
 
     /**
@@ -226,11 +589,13 @@ public class TournamentRound {
 
     /**
      * Advances to the next round. Validates that all current-round results have been entered,
+     * stores the standings of the completed round as a checkpoint in the {@link StandingsHistory},
      * increments the round counter, clears the current pairings, and generates new ones.
      * Saves the tournament state after a successful transition.
      * Shows a warning dialog if any results are still missing.
      */
     public void startNextRound() {
+        refreshScheduler.flush();
         boolean unfinished = pairingEngine.getMatches().stream()
                 .anyMatch(match -> match.getSecondPlayer() != null
                         && (match.getOverallResult().isEmpty() || match.getOverallResult().equals(":")));
@@ -241,20 +606,35 @@ public class TournamentRound {
             return;
         }
 
+        boolean undecidedKnockout = pairingEngine.getMatches().stream()
+                .anyMatch(match -> pairingEngine.isKnockoutMatch(match) && match.getWinner() == null);
+        if (undecidedKnockout) {
+            JOptionPane.showMessageDialog(view,
+                    "K.-o.-Spiele dürfen nicht unentschieden enden. Bitte die Ergebnisse korrigieren.",
+                    "Unentschiedene K.-o.-Spiele", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        standingsHistory.record(currentRound, standingsModel.getSnapshot());
         pairingEngine.clearCurrentRound();
         String pairingsText = pairingEngine.generatePairings(currentRound + 1);
 
         if (pairingsText != null) {
             currentRound++;
-            view.getCurrentRoundLabel().setText("Runde " + currentRound);
-            view.getPairingsTextArea().setText(pairingsText);
+            refreshScheduler.requestRoundLabel("Runde " + currentRound);
+            refreshScheduler.requestPairingsText(pairingsText);
         } else {
-            view.getPairingsTextArea().setText("");
+            refreshScheduler.requestPairingsText("");
         }
 
         saveTournamentState();
+        commitUndoStep();
 
-        if (pairingsText == null) {
+        KnockoutBracket bracket = pairingEngine.getKnockoutBracket();
+        if (pairingsText == null && bracket != null && bracket.getChampion() != null) {
+            JOptionPane.showMessageDialog(view, "Turniersieger: " + bracket.getChampion().getFullName(),
+                    "Turnier beendet", JOptionPane.INFORMATION_MESSAGE);
+        } else if (pairingsText == null) {
             JOptionPane.showMessageDialog(view, "Es wurden bereits alle möglichen Kombinationen gespielt.",
                     "Keine Paarungen mehr möglich", JOptionPane.INFORMATION_MESSAGE);
         }
@@ -269,16 +649,33 @@ public class TournamentRound {
      * @param selectedMatches the manually selected matches to use for the current round
      */
     public void setNewMatches(List<Match> selectedMatches) {
+        refreshScheduler.flush();
         String text = pairingEngine.setNewMatches(selectedMatches);
-        view.getPairingsTextArea().setText(text);
+        refreshScheduler.requestPairingsText(text);
+        commitUndoStep();
         updateResultsTable();
     }
 
+    /**
+     * Completes a partial manual pairing with the engine's Swiss cost model. The standings are
+     * brought up to date first, since the pairing depends on the current points.
+     *
+     * @param fixedMatches the matches already chosen manually
+     * @param candidates   the matches that may be used for the remaining players
+     * @return the matches completing the round, or {@code null} if no completion exists
+     * @see PairingEngine#completePairings(List, List)
+     */
+    public List<Match> completePairings(List<Match> fixedMatches, List<Match> candidates) {
+        refreshScheduler.flush();
+        return pairingEngine.completePairings(fixedMatches, candidates);
+    }
+
     /**
      * Sends the current standings table to the printer using the system print dialog.
      * Shows an error dialog if printing fails.
      */
     private void printPlacementTable() {
+        refreshScheduler.flush();
         try {
             PrinterJob job = PrinterJob.getPrinterJob();
             job.setJobName("Rangliste - " + tournamentName);
@@ -308,6 +705,22 @@ public class TournamentRound {
         }
     }
 
+    /**
+     * Prints the complete Round Robin schedule of all rounds using the system print dialog.
+     * Shows an error dialog if printing fails.
+     */
+    private void printSchedule() {
+        JTextArea scheduleText = new JTextArea(pairingEngine.formatRoundRobinScheduleAsText());
+        scheduleText.setFont(UITheme.FONT_MONO);
+        try {
+            scheduleText.print(
+                    new java.text.MessageFormat("Spielplan: " + tournamentName),
+                    new java.text.MessageFormat("Seite {0}"));
+        } catch (PrinterException e) {
+            JOptionPane.showMessageDialog(view, "Fehler beim Drucken.", "Druckfehler", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     /**
      * Serializes the current tournament state to a {@code .ser} file in the user's Documents
      * folder. The file name is derived from the tournament name and the current round number.
@@ -320,13 +733,20 @@ public class TournamentRound {
 
         TournamentState state = new TournamentState(
                 playerList,
-                pairingEngine.getAllMatches(),
+                new ArrayList<>(pairingEngine.getAllMatches()),
                 new ArrayList<>(pairingEngine.getMatches()),
                 currentRound,
                 pairingEngine.isFinished(),
                 tournamentName,
                 tableNumber,
-                mode
+                mode,
+                groupCount,
+                qualifiersPerGroup,
+                pairingEngine.getKnockoutBracket(),
+                compensationPoints(),
+                pairingEngine.getWithdrawnPlayers().isEmpty() ? null : new ArrayList<>(pairingEngine.getWithdrawnPlayers()),
+                pairingEngine.getPlannedRounds(),
+                new ArrayList<>(pairingEngine.getTieBreaks())
         );
 
         try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
@@ -336,6 +756,22 @@ public class TournamentRound {
         }
     }
 
+    /**
+     * Returns the compensation points of all players in the order of the player list, as stored
+     * in the {@link TournamentState}, or {@code null} if no player has any.
+     */
+    private ArrayList<Integer> compensationPoints() {
+        Map<Player, Integer> compensation = pairingEngine.getCompensationPoints();
+        if (compensation.isEmpty()) {
+            return null;
+        }
+        ArrayList<Integer> points = new ArrayList<>();
+        for (Player player : playerList) {
+            points.add(compensation.getOrDefault(player, 0));
+        }
+        return points;
+    }
+
     /**
      * Reconstructs a {@link TournamentRound} from a previously saved {@link TournamentState}.
      * Uses {@link PairingEngine#restoreState} to replace any freshly-generated pairings with
@@ -347,17 +783,53 @@ public class TournamentRound {
                 state.tournamentName(),
                 state.tableCount(),
                 state.mode(),
+                state.groupCount(),
+                state.qualifiersPerGroup(),
+                state.plannedRounds(),
+                state.tieBreaks(),
                 true
         );
         round.currentRound = state.currentRound();
-        round.view.getCurrentRoundLabel().setText("Runde " + state.currentRound());
+        round.refreshScheduler.requestRoundLabel("Runde " + state.currentRound());
         round.pairingEngine.restoreState(state.allMatches(), state.matches());
+        round.pairingEngine.restoreKnockoutBracket(state.knockoutBracket());
+        if (state.compensationPoints() != null || state.withdrawnPlayers() != null) {
+            Map<Player, Integer> compensation = new HashMap<>();
+            for (int i = 0; state.compensationPoints() != null && i < state.compensationPoints().size(); i++) {
+                if (state.compensationPoints().get(i) > 0) {
+                    compensation.put(state.playerList().get(i), state.compensationPoints().get(i));
+                }
+            }
+            round.pairingEngine.restoreFieldChanges(compensation, state.withdrawnPlayers());
+        }
         round.pairingEngine.setFinished(state.finished());
-        round.view.getPairingsTextArea().setText(round.pairingEngine.formatMatchesAsText(state.matches()));
+        round.rebuildStandingsHistory(state.finished() ? state.currentRound() : state.currentRound() - 1);
+        round.refreshScheduler.requestPairingsText(round.pairingEngine.formatMatchesAsText(state.matches()));
+        round.commitUndoStep();
         round.updateResultsTable();
         return round;
     }
 
+    /**
+     * Recreates the standings checkpoints of the completed rounds of a loaded tournament, which
+     * are not part of the saved state. The match history is replayed once, round by round; the
+     * current statistics are restored by the full recalculation that follows the load.
+     *
+     * @param completedRounds the number of rounds that have been completed
+     */
+    private void rebuildStandingsHistory(int completedRounds) {
+        List<Match> history = new ArrayList<>();
+        ScoreCalculator calculator = new ScoreCalculator(history, mode == TournamentMode.SWISS,
+                pairingEngine.getCompensationPoints());
+        for (int round = 1; round <= completedRounds; round++) {
+            history.addAll(pairingEngine.getMatchesOfRound(round));
+            calculator.calculate(playerList);
+            List<Player> sorted = new ArrayList<>(playerList);
+            RankingSorter.sort(sorted, mode, pairingEngine.getTieBreaks(), history);
+            standingsHistory.record(round, StandingsTableModel.capture(sorted.reversed()));
+        }
+    }
+
     /**
      * Returns the matches scheduled for the current round.
      *
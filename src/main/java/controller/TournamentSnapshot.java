@@ -0,0 +1,148 @@
+package controller;
+
+import model.Match;
+import model.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable view of a tournament at one point in time, for readers outside the Event Dispatch
+ * Thread such as printing, autosave or statistics.
+ *
+ * <p>The live {@link Match} and {@link Player} objects are changed in place while results are
+ * entered, so a reader on another thread could see half-updated state. A snapshot instead holds
+ * copies: the standings as a {@link StandingsTableModel.Snapshot} of primitive arrays and every
+ * match as an immutable {@link MatchRecord}, grouped by round. {@link TournamentRound} publishes a
+ * new snapshot through a single volatile reference after each change, so readers need no locks.</p>
+ *
+ * <p>Rounds that were already completed when the previous snapshot was taken, and still are, have
+ * not changed since. Their record lists are shared with the previous snapshot instead of being
+ * copied again, so a new snapshot only copies the matches of the current round. This holds across
+ * undo and redo as well: these move along a history in which the round never decreases, so a
+ * round completed in both states was completed, and unchanged, in every state in between.</p>
+ *
+ * @param round     the current round number
+ * @param finished  whether the tournament is finished
+ * @param players   the players of the tournament
+ * @param standings the ranking and statistics of all players
+ * @param rounds    the matches of rounds 1 to {@code round}, one list per round
+ */
+public record TournamentSnapshot(int round, boolean finished, List<Player> players,
+                                 StandingsTableModel.Snapshot standings, List<List<MatchRecord>> rounds) {
+
+    /**
+     * Immutable copy of a match.
+     *
+     * @param id            the stable match ID
+     * @param round         the round the match belongs to
+     * @param firstPlayer   the first player
+     * @param secondPlayer  the second player, or {@code null} for a bye
+     * @param tableNumber   the table number
+     * @param overallResult the overall result, e.g. {@code "3:1"}, or an empty string
+     * @param setResults    the ball scores of the sets, e.g. {@code "11:9"}, empty for sets not played
+     */
+    public record MatchRecord(long id, int round, Player firstPlayer, Player secondPlayer, int tableNumber,
+                              String overallResult, List<String> setResults) {
+
+        /**
+         * Copies the current state of a match.
+         *
+         * @param match the match
+         * @return the record
+         */
+        public static MatchRecord of(Match match) {
+            List<String> sets = new ArrayList<>();
+            for (String[] set : match.getResults()) {
+                boolean played = set != null && set[0] != null && !set[0].isEmpty()
+                        && set[1] != null && !set[1].isEmpty();
+                sets.add(played ? set[0] + ":" + set[1] : "");
+            }
+            String overall = match.getOverallResult() == null ? "" : match.getOverallResult();
+            return new MatchRecord(match.getId(), match.getRound(), match.getFirstPlayer(), match.getSecondPlayer(),
+                    match.getTableNumber(), overall, List.copyOf(sets));
+        }
+
+        /**
+         * Returns the winner of the match, like {@link Match#getWinner()}.
+         *
+         * @return the winner, the first player of a bye, or {@code null} if the result is missing
+         * or a draw
+         */
+        public Player winner() {
+            if (secondPlayer == null) {
+                return firstPlayer;
+            }
+            String[] sets = overallResult.split(":");
+            if (sets.length != 2) {
+                return null;
+            }
+            try {
+                int firstSets = Integer.parseInt(sets[0]);
+                int secondSets = Integer.parseInt(sets[1]);
+                if (firstSets == secondSets) {
+                    return null;
+                }
+                return firstSets > secondSets ? firstPlayer : secondPlayer;
+            } catch (NumberFormatException _) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Captures the current state of a tournament, sharing the completed rounds with the previous
+     * snapshot.
+     *
+     * @param previous  the previously published snapshot, or {@code null}
+     * @param round     the current round number
+     * @param finished  whether the tournament is finished
+     * @param players   the players of the tournament
+     * @param standings the current standings
+     * @param engine    the pairing engine holding the match history
+     * @return the new snapshot
+     */
+    public static TournamentSnapshot capture(TournamentSnapshot previous, int round, boolean finished,
+                                             List<Player> players, StandingsTableModel.Snapshot standings,
+                                             PairingEngine engine) {
+        List<List<MatchRecord>> rounds = previous == null
+                ? captureRounds(List.of(), 0, round, engine)
+                : captureRounds(previous.rounds(), previous.round(), round, engine);
+        return new TournamentSnapshot(round, finished, List.copyOf(players), standings, rounds);
+    }
+
+    /**
+     * Copies the matches of rounds 1 to {@code round} into records. Rounds before both
+     * {@code previousRound} and {@code round} were completed when {@code previous} was taken and
+     * are still, so they are shared with it; after an undo to an earlier round, the rounds from
+     * that round on are copied again.
+     *
+     * @param previous      the records of an earlier capture
+     * @param previousRound the current round of that capture
+     * @param round         the current round number
+     * @param engine        the pairing engine holding the match history
+     * @return an unmodifiable list with one unmodifiable list of records per round
+     */
+    static List<List<MatchRecord>> captureRounds(List<List<MatchRecord>> previous, int previousRound, int round,
+                                                 PairingEngine engine) {
+        List<List<MatchRecord>> rounds = new ArrayList<>(round);
+        for (int r = 1; r <= round; r++) {
+            if (r < Math.min(previousRound, round) && r <= previous.size()) {
+                rounds.add(previous.get(r - 1));
+            } else {
+                rounds.add(engine.getMatchesOfRound(r).stream().map(MatchRecord::of).toList());
+            }
+        }
+        return List.copyOf(rounds);
+    }
+
+    /**
+     * Returns the matches of a round.
+     *
+     * @param round the one-based round number, at most {@link #round()}
+     * @return the round's matches
+     */
+    public List<MatchRecord> matchesOfRound(int round) {
+        return rounds.get(round - 1);
+    }
+}
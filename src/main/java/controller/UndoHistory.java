@@ -0,0 +1,177 @@
+package controller;
+
+import controller.TournamentSnapshot.MatchRecord;
+import model.KnockoutBracket;
+import model.Match;
+import model.Player;
+
+import java.util.*;
+
+/**
+ * Multi-level undo and redo for pairings, results and round changes.
+ *
+ * <p>Every change of the tournament is committed as an immutable {@link State}: the current round,
+ * the field of players with late entries, compensation points and withdrawals, and the matches of
+ * all rounds as {@link MatchRecord}s. Like {@link TournamentSnapshot}, a state
+ * shares the record lists of the rounds that were already completed with the state before it, so
+ * a step only copies the matches of the current round and a reference per round, no matter how
+ * long the tournament has been running. Undoing a step therefore costs as little as committing
+ * it, and undoing the start of a round brings back the previous round's pairing as it was instead
+ * of drawing it again.</p>
+ *
+ * <p>The records only hold the state of the matches. The live {@link Match} objects are kept by
+ * ID, so restoring a state puts the same match objects back into the engine that were there
+ * before, with their results reset to the recorded ones.</p>
+ */
+public class UndoHistory {
+
+    /** The maximum number of steps that can be undone. */
+    public static final int MAX_STEPS = 100;
+
+    /**
+     * The state of a tournament after one change.
+     *
+     * @param round        the current round number
+     * @param finished     whether the tournament is finished
+     * @param rounds       the matches of rounds 1 to {@code round}, one list per round
+     * @param matches      the matches of the current round, empty once no further round could be
+     *                     drawn
+     * @param bracket      a private copy of the knockout bracket, or {@code null}
+     * @param nodes        the bracket position of each knockout match by match ID
+     * @param checkpoint   the standings checkpoint of the last completed round, or {@code null}
+     * @param players      the registered players in registration order, including withdrawn ones
+     * @param withdrawn    the players withdrawn from the remaining rounds
+     * @param compensation the compensation points of late entries by player
+     */
+    public record State(int round, boolean finished, List<List<MatchRecord>> rounds, List<MatchRecord> matches,
+                        KnockoutBracket bracket, Map<Long, Integer> nodes,
+                        StandingsTableModel.Snapshot checkpoint, List<Player> players, Set<Player> withdrawn,
+                        Map<Player, Integer> compensation) {
+
+        /**
+         * Returns the records of all matches in the history, in round order.
+         *
+         * @return the match records
+         */
+        public List<MatchRecord> allMatches() {
+            return rounds.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    private final Deque<State> undoSteps = new ArrayDeque<>();
+    private final Deque<State> redoSteps = new ArrayDeque<>();
+    private final Map<Long, Match> matchesById = new HashMap<>();
+    private State present;
+
+    /**
+     * Records the state of the tournament after a change. The previous state becomes the next
+     * step to undo, and all steps that had been undone are discarded.
+     *
+     * @param round      the current round number
+     * @param finished   whether the tournament is finished
+     * @param engine     the pairing engine holding the match history
+     * @param checkpoint the standings checkpoint of the last completed round, or {@code null}
+     * @return the committed state
+     */
+    public State commit(int round, boolean finished, PairingEngine engine, StandingsTableModel.Snapshot checkpoint) {
+        List<List<MatchRecord>> rounds = present == null
+                ? TournamentSnapshot.captureRounds(List.of(), 0, round, engine)
+                : TournamentSnapshot.captureRounds(present.rounds(), present.round(), round, engine);
+        for (int r = 0; r < rounds.size(); r++) {
+            if (present == null || r >= present.rounds().size() || rounds.get(r) != present.rounds().get(r)) {
+                engine.getMatchesOfRound(r + 1).forEach(match -> matchesById.put(match.getId(), match));
+            }
+        }
+        List<MatchRecord> matches = engine.getMatches().isEmpty() || rounds.isEmpty()
+                ? List.of()
+                : rounds.getLast();
+        KnockoutBracket bracket = engine.getKnockoutBracket() == null ? null : engine.getKnockoutBracket().copy();
+
+        if (present != null) {
+            undoSteps.push(present);
+            if (undoSteps.size() > MAX_STEPS) {
+                undoSteps.removeLast();
+            }
+        }
+        List<Player> players = present != null && present.players().equals(engine.getPlayers())
+                ? present.players()
+                : List.copyOf(engine.getPlayers());
+
+        redoSteps.clear();
+        present = new State(round, finished, rounds, matches, bracket, engine.getKnockoutNodes(), checkpoint,
+                players, engine.getWithdrawnPlayers(), Map.copyOf(engine.getCompensationPoints()));
+        return present;
+    }
+
+    /**
+     * Returns whether there is a step to undo.
+     *
+     * @return {@code true} if {@link #undo()} would change the state
+     */
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    /**
+     * Returns whether there is an undone step to redo.
+     *
+     * @return {@code true} if {@link #redo()} would change the state
+     */
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Steps back to the state before the last change.
+     *
+     * @return the state to restore, or {@code null} if there is nothing to undo
+     */
+    public State undo() {
+        if (undoSteps.isEmpty()) {
+            return null;
+        }
+        redoSteps.push(present);
+        present = undoSteps.pop();
+        return present;
+    }
+
+    /**
+     * Steps forward to the state of the last undone change.
+     *
+     * @return the state to restore, or {@code null} if there is nothing to redo
+     */
+    public State redo() {
+        if (redoSteps.isEmpty()) {
+            return null;
+        }
+        undoSteps.push(present);
+        present = redoSteps.pop();
+        return present;
+    }
+
+    /**
+     * Returns the live match for a record, with its results, table and round reset to the recorded
+     * ones.
+     *
+     * @param record the recorded state of the match
+     * @return the match object
+     * @throws IllegalStateException if the match was never committed
+     */
+    public Match restore(MatchRecord record) {
+        Match match = matchesById.get(record.id());
+        if (match == null) {
+            throw new IllegalStateException("Unknown match " + record.id());
+        }
+        List<String> sets = record.setResults();
+        for (int i = 0; i < sets.size(); i++) {
+            int separator = sets.get(i).indexOf(':');
+            match.setResults(i, separator < 0
+                    ? new String[]{"", ""}
+                    : new String[]{sets.get(i).substring(0, separator), sets.get(i).substring(separator + 1)});
+        }
+        match.setOverallResult(record.overallResult());
+        match.setTable(record.tableNumber());
+        match.setRound(record.round());
+        return match;
+    }
+}
@@ -0,0 +1,635 @@
+package controller;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maximum weight matching in general graphs (Edmonds' blossom algorithm with dual variables,
+ * O(n³)).
+ *
+ * <p>The pairing code uses it wherever a complete set of pairings has to be found among players
+ * who may not all play each other: vertices are players (plus an optional bye vertex), edges are
+ * the pairs still allowed, and the weight of an edge expresses how desirable the pairing is. With
+ * {@code maxCardinality} set, the solver first maximizes the number of matched pairs and only then
+ * the total weight, so a perfect matching is found whenever one exists.</p>
+ *
+ * <p>All weights are integers, so the algorithm runs on exact integer arithmetic. The
+ * implementation follows the primal-dual formulation of Galil ("Efficient algorithms for finding
+ * maximum matching in graphs", 1986): S-vertices grow alternating trees, odd cycles are shrunk to
+ * blossoms, and dual updates make new edges tight until an augmenting path is found.</p>
+ */
+public final class WeightedMatching {
+
+    private final int vertexCount;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final long[] edgeWeight;
+    private final int[] endpoint;
+    private final int[][] neighbourEnds;
+
+    private final int[] mate;
+    private final int[] label;
+    private final int[] labelEnd;
+    private final int[] inBlossom;
+    private final int[] blossomParent;
+    private final int[][] blossomChildren;
+    private final int[] blossomBase;
+    private final int[][] blossomEndpoints;
+    private final int[] bestEdge;
+    private final int[][] blossomBestEdges;
+    private final ArrayDeque<Integer> unusedBlossoms = new ArrayDeque<>();
+    private final long[] dualVar;
+    private final boolean[] allowEdge;
+    private final List<Integer> queue = new ArrayList<>();
+
+    private WeightedMatching(int vertexCount, int[] from, int[] to, long[] weight) {
+        this.vertexCount = vertexCount;
+        this.edgeFrom = from;
+        this.edgeTo = to;
+        this.edgeWeight = weight;
+        int edgeCount = from.length;
+        int n = vertexCount;
+
+        endpoint = new int[2 * edgeCount];
+        int[] degree = new int[n];
+        for (int k = 0; k < edgeCount; k++) {
+            endpoint[2 * k] = from[k];
+            endpoint[2 * k + 1] = to[k];
+            degree[from[k]]++;
+            degree[to[k]]++;
+        }
+        neighbourEnds = new int[n][];
+        for (int v = 0; v < n; v++) {
+            neighbourEnds[v] = new int[degree[v]];
+        }
+        int[] filled = new int[n];
+        for (int k = 0; k < edgeCount; k++) {
+            neighbourEnds[from[k]][filled[from[k]]++] = 2 * k + 1;
+            neighbourEnds[to[k]][filled[to[k]]++] = 2 * k;
+        }
+
+        long maxWeight = 0;
+        for (long w : weight) {
+            maxWeight = Math.max(maxWeight, w);
+        }
+
+        mate = new int[n];
+        Arrays.fill(mate, -1);
+        label = new int[2 * n];
+        labelEnd = new int[2 * n];
+        Arrays.fill(labelEnd, -1);
+        inBlossom = new int[n];
+        for (int v = 0; v < n; v++) {
+            inBlossom[v] = v;
+        }
+        blossomParent = new int[2 * n];
+        Arrays.fill(blossomParent, -1);
+        blossomChildren = new int[2 * n][];
+        blossomBase = new int[2 * n];
+        for (int b = 0; b < 2 * n; b++) {
+            blossomBase[b] = b < n ? b : -1;
+        }
+        blossomEndpoints = new int[2 * n][];
+        bestEdge = new int[2 * n];
+        Arrays.fill(bestEdge, -1);
+        blossomBestEdges = new int[2 * n][];
+        for (int b = n; b < 2 * n; b++) {
+            unusedBlossoms.push(b);
+        }
+        dualVar = new long[2 * n];
+        Arrays.fill(dualVar, 0, n, maxWeight);
+        allowEdge = new boolean[edgeCount];
+    }
+
+    /**
+     * Computes a maximum weight matching.
+     *
+     * @param vertexCount    number of vertices, numbered {@code 0 .. vertexCount-1}
+     * @param from           first vertex of every edge
+     * @param to             second vertex of every edge
+     * @param weight         weight of every edge
+     * @param maxCardinality {@code true} to only consider matchings of maximum cardinality
+     * @return for every vertex its partner, or -1 if it stays unmatched
+     */
+    public static int[] solve(int vertexCount, int[] from, int[] to, long[] weight, boolean maxCardinality) {
+        if (from.length != to.length || from.length != weight.length) {
+            throw new IllegalArgumentException("Edge arrays differ in length");
+        }
+        for (int k = 0; k < from.length; k++) {
+            if (from[k] == to[k] || from[k] < 0 || to[k] < 0 || from[k] >= vertexCount || to[k] >= vertexCount) {
+                throw new IllegalArgumentException("Invalid edge " + from[k] + "-" + to[k]);
+            }
+        }
+        int[] result = new int[vertexCount];
+        Arrays.fill(result, -1);
+        if (from.length == 0) {
+            return result;
+        }
+        WeightedMatching matching = new WeightedMatching(vertexCount, from, to, weight);
+        matching.run(maxCardinality);
+        for (int v = 0; v < vertexCount; v++) {
+            if (matching.mate[v] >= 0) {
+                result[v] = matching.endpoint[matching.mate[v]];
+            }
+        }
+        return result;
+    }
+
+    private long slack(int k) {
+        return dualVar[edgeFrom[k]] + dualVar[edgeTo[k]] - 2 * edgeWeight[k];
+    }
+
+    private void collectLeaves(int b, List<Integer> leaves) {
+        if (b < vertexCount) {
+            leaves.add(b);
+        } else {
+            for (int child : blossomChildren[b]) {
+                collectLeaves(child, leaves);
+            }
+        }
+    }
+
+    private List<Integer> leaves(int b) {
+        List<Integer> leaves = new ArrayList<>();
+        collectLeaves(b, leaves);
+        return leaves;
+    }
+
+    /**
+     * Labels vertex {@code w} and its top-level blossom with {@code t} (1 = S, 2 = T), reached
+     * through endpoint {@code p}. A T-blossom's matched partner becomes an S-vertex in turn.
+     */
+    private void assignLabel(int w, int t, int p) {
+        int b = inBlossom[w];
+        label[w] = label[b] = t;
+        labelEnd[w] = labelEnd[b] = p;
+        bestEdge[w] = bestEdge[b] = -1;
+        if (t == 1) {
+            queue.addAll(leaves(b));
+        } else {
+            int base = blossomBase[b];
+            assignLabel(endpoint[mate[base]], 1, mate[base] ^ 1);
+        }
+    }
+
+    /**
+     * Traces back from {@code v} and {@code w} to find a new blossom or an augmenting path.
+     *
+     * @return the base vertex of the new blossom, or -1 if an augmenting path was found
+     */
+    private int scanBlossom(int v, int w) {
+        List<Integer> path = new ArrayList<>();
+        int base = -1;
+        while (v != -1 || w != -1) {
+            int b = inBlossom[v];
+            if ((label[b] & 4) != 0) {
+                base = blossomBase[b];
+                break;
+            }
+            path.add(b);
+            label[b] = 5;
+            if (labelEnd[b] == -1) {
+                v = -1;
+            } else {
+                v = endpoint[labelEnd[b]];
+                b = inBlossom[v];
+                v = endpoint[labelEnd[b]];
+            }
+            if (w != -1) {
+                int swap = v;
+                v = w;
+                w = swap;
+            }
+        }
+        for (int b : path) {
+            label[b] = 1;
+        }
+        return base;
+    }
+
+    /**
+     * Shrinks the odd cycle closed by edge {@code k} into a new S-blossom with the given base.
+     */
+    private void addBlossom(int base, int k) {
+        int v = edgeFrom[k];
+        int w = edgeTo[k];
+        int bb = inBlossom[base];
+        int bv = inBlossom[v];
+        int bw = inBlossom[w];
+        int b = unusedBlossoms.pop();
+        blossomBase[b] = base;
+        blossomParent[b] = -1;
+        blossomParent[bb] = b;
+
+        List<Integer> path = new ArrayList<>();
+        List<Integer> endps = new ArrayList<>();
+        while (bv != bb) {
+            blossomParent[bv] = b;
+            path.add(bv);
+            endps.add(labelEnd[bv]);
+            v = endpoint[labelEnd[bv]];
+            bv = inBlossom[v];
+        }
+        path.add(bb);
+        Collections.reverse(path);
+        Collections.reverse(endps);
+        endps.add(2 * k);
+        while (bw != bb) {
+            blossomParent[bw] = b;
+            path.add(bw);
+            endps.add(labelEnd[bw] ^ 1);
+            w = endpoint[labelEnd[bw]];
+            bw = inBlossom[w];
+        }
+        blossomChildren[b] = path.stream().mapToInt(Integer::intValue).toArray();
+        blossomEndpoints[b] = endps.stream().mapToInt(Integer::intValue).toArray();
+
+        label[b] = 1;
+        labelEnd[b] = labelEnd[bb];
+        dualVar[b] = 0;
+        for (int leaf : leaves(b)) {
+            if (label[inBlossom[leaf]] == 2) {
+                queue.add(leaf);
+            }
+            inBlossom[leaf] = b;
+        }
+
+        int[] bestEdgeTo = new int[2 * vertexCount];
+        Arrays.fill(bestEdgeTo, -1);
+        for (int child : blossomChildren[b]) {
+            List<int[]> edgeLists = new ArrayList<>();
+            if (blossomBestEdges[child] == null) {
+                for (int leaf : leaves(child)) {
+                    int[] edges = new int[neighbourEnds[leaf].length];
+                    for (int i = 0; i < edges.length; i++) {
+                        edges[i] = neighbourEnds[leaf][i] / 2;
+                    }
+                    edgeLists.add(edges);
+                }
+            } else {
+                edgeLists.add(blossomBestEdges[child]);
+            }
+            for (int[] edges : edgeLists) {
+                for (int edge : edges) {
+                    int j = edgeTo[edge];
+                    if (inBlossom[j] == b) {
+                        j = edgeFrom[edge];
+                    }
+                    int bj = inBlossom[j];
+                    if (bj != b && label[bj] == 1
+                            && (bestEdgeTo[bj] == -1 || slack(edge) < slack(bestEdgeTo[bj]))) {
+                        bestEdgeTo[bj] = edge;
+                    }
+                }
+            }
+            blossomBestEdges[child] = null;
+            bestEdge[child] = -1;
+        }
+        blossomBestEdges[b] = Arrays.stream(bestEdgeTo).filter(edge -> edge != -1).toArray();
+        bestEdge[b] = -1;
+        for (int edge : blossomBestEdges[b]) {
+            if (bestEdge[b] == -1 || slack(edge) < slack(bestEdge[b])) {
+                bestEdge[b] = edge;
+            }
+        }
+    }
+
+    private static int at(int[] array, int index) {
+        return array[Math.floorMod(index, array.length)];
+    }
+
+    /**
+     * Expands blossom {@code b}. During a stage, the children of a T-blossom are relabeled so the
+     * alternating tree stays consistent; at the end of a stage, zero-dual blossoms are dissolved
+     * recursively.
+     */
+    private void expandBlossom(int b, boolean endStage) {
+        for (int s : blossomChildren[b]) {
+            blossomParent[s] = -1;
+            if (s < vertexCount) {
+                inBlossom[s] = s;
+            } else if (endStage && dualVar[s] == 0) {
+                expandBlossom(s, true);
+            } else {
+                for (int leaf : leaves(s)) {
+                    inBlossom[leaf] = s;
+                }
+            }
+        }
+
+        if (!endStage && label[b] == 2) {
+            int[] children = blossomChildren[b];
+            int[] endps = blossomEndpoints[b];
+            int entryChild = inBlossom[endpoint[labelEnd[b] ^ 1]];
+            int j = indexOf(children, entryChild);
+            int jStep;
+            int endpTrick;
+            if ((j & 1) != 0) {
+                j -= children.length;
+                jStep = 1;
+                endpTrick = 0;
+            } else {
+                jStep = -1;
+                endpTrick = 1;
+            }
+            int p = labelEnd[b];
+            while (j != 0) {
+                label[endpoint[p ^ 1]] = 0;
+                label[endpoint[at(endps, j - endpTrick) ^ endpTrick ^ 1]] = 0;
+                assignLabel(endpoint[p ^ 1], 2, p);
+                allowEdge[at(endps, j - endpTrick) / 2] = true;
+                j += jStep;
+                p = at(endps, j - endpTrick) ^ endpTrick;
+                allowEdge[p / 2] = true;
+                j += jStep;
+            }
+            int bv = at(children, j);
+            label[endpoint[p ^ 1]] = label[bv] = 2;
+            labelEnd[endpoint[p ^ 1]] = labelEnd[bv] = p;
+            bestEdge[bv] = -1;
+            j += jStep;
+            while (at(children, j) != entryChild) {
+                bv = at(children, j);
+                if (label[bv] == 1) {
+                    j += jStep;
+                    continue;
+                }
+                int labeled = -1;
+                for (int leaf : leaves(bv)) {
+                    if (label[leaf] != 0) {
+                        labeled = leaf;
+                        break;
+                    }
+                }
+                if (labeled >= 0) {
+                    label[labeled] = 0;
+                    label[endpoint[mate[blossomBase[bv]]]] = 0;
+                    assignLabel(labeled, 2, labelEnd[labeled]);
+                }
+                j += jStep;
+            }
+        }
+
+        label[b] = labelEnd[b] = -1;
+        blossomChildren[b] = null;
+        blossomEndpoints[b] = null;
+        blossomBase[b] = -1;
+        blossomBestEdges[b] = null;
+        bestEdge[b] = -1;
+        unusedBlossoms.push(b);
+    }
+
+    private static int indexOf(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Child " + value + " not in blossom");
+    }
+
+    /**
+     * Swaps matched and unmatched edges along the path from vertex {@code v} to the base of
+     * blossom {@code b}, making {@code v} the new base.
+     */
+    private void augmentBlossom(int b, int v) {
+        int t = v;
+        while (blossomParent[t] != b) {
+            t = blossomParent[t];
+        }
+        if (t >= vertexCount) {
+            augmentBlossom(t, v);
+        }
+        int[] children = blossomChildren[b];
+        int[] endps = blossomEndpoints[b];
+        int i = indexOf(children, t);
+        int j = i;
+        int jStep;
+        int endpTrick;
+        if ((i & 1) != 0) {
+            j -= children.length;
+            jStep = 1;
+            endpTrick = 0;
+        } else {
+            jStep = -1;
+            endpTrick = 1;
+        }
+        while (j != 0) {
+            j += jStep;
+            t = at(children, j);
+            int p = at(endps, j - endpTrick) ^ endpTrick;
+            if (t >= vertexCount) {
+                augmentBlossom(t, endpoint[p]);
+            }
+            j += jStep;
+            t = at(children, j);
+            if (t >= vertexCount) {
+                augmentBlossom(t, endpoint[p ^ 1]);
+            }
+            mate[endpoint[p]] = p ^ 1;
+            mate[endpoint[p ^ 1]] = p;
+        }
+        blossomChildren[b] = rotate(children, i);
+        blossomEndpoints[b] = rotate(endps, i);
+        blossomBase[b] = blossomBase[blossomChildren[b][0]];
+    }
+
+    private static int[] rotate(int[] array, int start) {
+        int[] rotated = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            rotated[i] = array[(start + i) % array.length];
+        }
+        return rotated;
+    }
+
+    /**
+     * Augments the matching along the path through edge {@code k}, which connects two S-vertices
+     * in different trees.
+     */
+    private void augmentMatching(int k) {
+        int[][] sides = {{edgeFrom[k], 2 * k + 1}, {edgeTo[k], 2 * k}};
+        for (int[] side : sides) {
+            int s = side[0];
+            int p = side[1];
+            while (true) {
+                int bs = inBlossom[s];
+                if (bs >= vertexCount) {
+                    augmentBlossom(bs, s);
+                }
+                mate[s] = p;
+                if (labelEnd[bs] == -1) {
+                    break;
+                }
+                int t = endpoint[labelEnd[bs]];
+                int bt = inBlossom[t];
+                s = endpoint[labelEnd[bt]];
+                int j = endpoint[labelEnd[bt] ^ 1];
+                if (bt >= vertexCount) {
+                    augmentBlossom(bt, j);
+                }
+                mate[j] = labelEnd[bt];
+                p = labelEnd[bt] ^ 1;
+            }
+        }
+    }
+
+    private void run(boolean maxCardinality) {
+        int n = vertexCount;
+        for (int stage = 0; stage < n; stage++) {
+            Arrays.fill(label, 0);
+            Arrays.fill(bestEdge, -1);
+            Arrays.fill(blossomBestEdges, n, 2 * n, null);
+            Arrays.fill(allowEdge, false);
+            queue.clear();
+
+            for (int v = 0; v < n; v++) {
+                if (mate[v] == -1 && label[inBlossom[v]] == 0) {
+                    assignLabel(v, 1, -1);
+                }
+            }
+
+            boolean augmented = false;
+            while (true) {
+                while (!queue.isEmpty() && !augmented) {
+                    int v = queue.removeLast();
+                    for (int p : neighbourEnds[v]) {
+                        int k = p / 2;
+                        int w = endpoint[p];
+                        if (inBlossom[v] == inBlossom[w]) {
+                            continue;
+                        }
+                        long kSlack = 0;
+                        if (!allowEdge[k]) {
+                            kSlack = slack(k);
+                            if (kSlack <= 0) {
+                                allowEdge[k] = true;
+                            }
+                        }
+                        if (allowEdge[k]) {
+                            if (label[inBlossom[w]] == 0) {
+                                assignLabel(w, 2, p ^ 1);
+                            } else if (label[inBlossom[w]] == 1) {
+                                int base = scanBlossom(v, w);
+                                if (base >= 0) {
+                                    addBlossom(base, k);
+                                } else {
+                                    augmentMatching(k);
+                                    augmented = true;
+                                    break;
+                                }
+                            } else if (label[w] == 0) {
+                                label[w] = 2;
+                                labelEnd[w] = p ^ 1;
+                            }
+                        } else if (label[inBlossom[w]] == 1) {
+                            int b = inBlossom[v];
+                            if (bestEdge[b] == -1 || kSlack < slack(bestEdge[b])) {
+                                bestEdge[b] = k;
+                            }
+                        } else if (label[w] == 0) {
+                            if (bestEdge[w] == -1 || kSlack < slack(bestEdge[w])) {
+                                bestEdge[w] = k;
+                            }
+                        }
+                    }
+                }
+                if (augmented) {
+                    break;
+                }
+
+                int deltaType = -1;
+                long delta = 0;
+                int deltaEdge = -1;
+                int deltaBlossom = -1;
+                if (!maxCardinality) {
+                    deltaType = 1;
+                    delta = Long.MAX_VALUE;
+                    for (int v = 0; v < n; v++) {
+                        delta = Math.min(delta, dualVar[v]);
+                    }
+                }
+                for (int v = 0; v < n; v++) {
+                    if (label[inBlossom[v]] == 0 && bestEdge[v] != -1) {
+                        long d = slack(bestEdge[v]);
+                        if (deltaType == -1 || d < delta) {
+                            delta = d;
+                            deltaType = 2;
+                            deltaEdge = bestEdge[v];
+                        }
+                    }
+                }
+                for (int b = 0; b < 2 * n; b++) {
+                    if (blossomParent[b] == -1 && label[b] == 1 && bestEdge[b] != -1) {
+                        long d = slack(bestEdge[b]) / 2;
+                        if (deltaType == -1 || d < delta) {
+                            delta = d;
+                            deltaType = 3;
+                            deltaEdge = bestEdge[b];
+                        }
+                    }
+                }
+                for (int b = n; b < 2 * n; b++) {
+                    if (blossomBase[b] >= 0 && blossomParent[b] == -1 && label[b] == 2
+                            && (deltaType == -1 || dualVar[b] < delta)) {
+                        delta = dualVar[b];
+                        deltaType = 4;
+                        deltaBlossom = b;
+                    }
+                }
+                if (deltaType == -1) {
+                    deltaType = 1;
+                    delta = Long.MAX_VALUE;
+                    for (int v = 0; v < n; v++) {
+                        delta = Math.min(delta, dualVar[v]);
+                    }
+                    delta = Math.max(0, delta);
+                }
+
+                for (int v = 0; v < n; v++) {
+                    if (label[inBlossom[v]] == 1) {
+                        dualVar[v] -= delta;
+                    } else if (label[inBlossom[v]] == 2) {
+                        dualVar[v] += delta;
+                    }
+                }
+                for (int b = n; b < 2 * n; b++) {
+                    if (blossomBase[b] >= 0 && blossomParent[b] == -1) {
+                        if (label[b] == 1) {
+                            dualVar[b] += delta;
+                        } else if (label[b] == 2) {
+                            dualVar[b] -= delta;
+                        }
+                    }
+                }
+
+                if (deltaType == 1) {
+                    break;
+                } else if (deltaType == 2) {
+                    allowEdge[deltaEdge] = true;
+                    int i = edgeFrom[deltaEdge];
+                    if (label[inBlossom[i]] == 0) {
+                        i = edgeTo[deltaEdge];
+                    }
+                    queue.add(i);
+                } else if (deltaType == 3) {
+                    allowEdge[deltaEdge] = true;
+                    queue.add(edgeFrom[deltaEdge]);
+                } else {
+                    expandBlossom(deltaBlossom, false);
+                }
+            }
+
+            if (!augmented) {
+                break;
+            }
+            for (int b = n; b < 2 * n; b++) {
+                if (blossomParent[b] == -1 && blossomBase[b] >= 0 && label[b] == 1 && dualVar[b] == 0) {
+                    expandBlossom(b, true);
+                }
+            }
+        }
+    }
+}
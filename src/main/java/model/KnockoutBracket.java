@@ -0,0 +1,542 @@
+package model;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Array-based single- or double-elimination bracket (K.-o.-System).
+ *
+ * <p>The winners' bracket is stored as an implicit binary tree in one {@code int} array of length
+ * {@code 2 * size}, where {@code size} is the smallest power of two that holds all entrants.
+ * Node {@code 1} is the final, the children of node {@code i} are {@code 2i} and {@code 2i + 1},
+ * and the leaves {@code size..2*size-1} hold the entrants in standard seeding positions
+ * (seed 1 meets seed {@code size}, seed 2 can meet seed 1 only in the final). Empty leaves are
+ * byes, so the top seeds advance automatically when the field is not a power of two.</p>
+ *
+ * <p>In double elimination every loser of the winners' bracket drops into a losers' bracket
+ * (Trostrunde). Its rounds alternate between matches among the losers' bracket survivors and matches
+ * against the players who have just dropped down. The winners of both brackets meet in the grand
+ * final (Endspiel); if the losers' bracket champion wins it, a deciding match (Entscheidungsspiel)
+ * follows, so nobody is eliminated before their second defeat. These matches are stored as
+ * consecutive {@code [home, away, winner]} triples in a second array and addressed by the node
+ * numbers from {@code size} upwards, which the winners' bracket only uses for its leaves.</p>
+ *
+ * <p>Every slot stores the index of the entrant that occupies it, {@link #UNDECIDED} for matches
+ * still to be played or {@link #BYE} for slots without an entrant. Recording a result writes the
+ * winner and routes the loser with a constant number of array writes, and the whole state consists
+ * of the entrant list and primitive arrays, so it serializes trivially.</p>
+ */
+public class KnockoutBracket implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Node value for a match that has not been decided yet. */
+    public static final int UNDECIDED = -1;
+    /** Node value for a slot without an entrant. */
+    public static final int BYE = -2;
+
+    private static final int HOME = 0;
+    private static final int AWAY = 1;
+    private static final int WINNER = 2;
+
+    private final ArrayList<Player> entrants;
+    private final int size;
+    private final int[] tree;
+    private final boolean doubleElimination;
+    private final int[] losersRoundOffsets;
+    private final int[] lower;
+
+    /**
+     * Creates a single-elimination bracket for the given entrants, ordered by seed
+     * (index {@code 0} is seed 1).
+     *
+     * @param seededEntrants the entrants in seed order
+     * @throws IllegalArgumentException if no entrants are given
+     */
+    public KnockoutBracket(List<Player> seededEntrants) {
+        this(seededEntrants, false);
+    }
+
+    /**
+     * Creates a bracket for the given entrants, ordered by seed (index {@code 0} is seed 1).
+     * Missing entrants up to the next power of two become byes, which are resolved immediately.
+     *
+     * @param seededEntrants    the entrants in seed order
+     * @param doubleElimination {@code true} to add a losers' bracket and grand final
+     * @throws IllegalArgumentException if no entrants are given
+     */
+    public KnockoutBracket(List<Player> seededEntrants, boolean doubleElimination) {
+        if (seededEntrants == null || seededEntrants.isEmpty()) {
+            throw new IllegalArgumentException("A bracket needs at least one entrant.");
+        }
+        this.entrants = new ArrayList<>(seededEntrants);
+        this.size = Integer.highestOneBit(Math.max(1, entrants.size() * 2 - 1));
+        this.tree = new int[size * 2];
+        this.doubleElimination = doubleElimination && size >= 2;
+
+        int losersRounds = this.doubleElimination ? 2 * (getRoundCount() - 1) : 0;
+        this.losersRoundOffsets = new int[losersRounds + 1];
+        for (int round = 1; round <= losersRounds; round++) {
+            losersRoundOffsets[round] = losersRoundOffsets[round - 1] + getLosersRoundSize(round);
+        }
+        int lowerMatches = this.doubleElimination ? losersRoundOffsets[losersRounds] + 2 : 0;
+        this.lower = new int[lowerMatches * 3];
+        Arrays.fill(lower, UNDECIDED);
+
+        int[] positions = seedingPositions(size);
+        for (int slot = 0; slot < size; slot++) {
+            tree[size + slot] = positions[slot] < entrants.size() ? positions[slot] : BYE;
+        }
+        if (size == 1) {
+            tree[1] = tree[size];
+            return;
+        }
+        Arrays.fill(tree, 1, size, UNDECIDED);
+        for (int node = size - 1; node >= 1; node--) {
+            resolveUpperBye(node);
+        }
+    }
+
+    /**
+     * Creates an independent copy of a bracket with the same entrants and results.
+     */
+    private KnockoutBracket(KnockoutBracket source) {
+        this.entrants = source.entrants;
+        this.size = source.size;
+        this.tree = source.tree.clone();
+        this.doubleElimination = source.doubleElimination;
+        this.losersRoundOffsets = source.losersRoundOffsets;
+        this.lower = source.lower.clone();
+    }
+
+    /**
+     * Returns a copy of this bracket whose results can be changed independently of this one.
+     * Only the primitive result arrays are copied; the entrants are shared.
+     *
+     * @return the copy
+     */
+    public KnockoutBracket copy() {
+        return new KnockoutBracket(this);
+    }
+
+    /**
+     * Returns the zero-based seed placed at each leaf slot of a bracket of the given size, using
+     * standard seeding: in every round the best remaining seed meets the worst remaining seed.
+     *
+     * @param size the bracket size (a power of two)
+     * @return the seed index for every slot
+     */
+    public static int[] seedingPositions(int size) {
+        int[] positions = {0};
+        while (positions.length < size) {
+            int[] next = new int[positions.length * 2];
+            int sum = next.length - 1;
+            for (int i = 0; i < positions.length; i++) {
+                next[2 * i] = positions[i];
+                next[2 * i + 1] = sum - positions[i];
+            }
+            positions = next;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the entrants in seed order.
+     *
+     * @return an unmodifiable view of the entrants
+     */
+    public List<Player> getEntrants() {
+        return Collections.unmodifiableList(entrants);
+    }
+
+    /**
+     * Returns the entrant with the given index.
+     *
+     * @param index the entrant index as stored in the bracket
+     * @return the entrant
+     */
+    public Player getEntrant(int index) {
+        return entrants.get(index);
+    }
+
+    /**
+     * Returns the number of leaf slots, i.e. the entrant count rounded up to a power of two.
+     *
+     * @return the bracket size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns whether this bracket has a losers' bracket and grand final.
+     *
+     * @return {@code true} for double elimination
+     */
+    public boolean isDoubleElimination() {
+        return doubleElimination;
+    }
+
+    /**
+     * Returns the number of winners' bracket rounds until the final.
+     *
+     * @return the round count
+     */
+    public int getRoundCount() {
+        return Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * Returns the number of losers' bracket rounds.
+     *
+     * @return the losers' round count, {@code 0} for single elimination
+     */
+    public int getLosersRoundCount() {
+        return losersRoundOffsets.length - 1;
+    }
+
+    /**
+     * Returns the number of matches in a losers' bracket round. Odd rounds pair the losers'
+     * bracket players among themselves, the following even round pairs the winners with the
+     * players who dropped down from the winners' bracket, so both have the same size.
+     *
+     * @param round the one-based losers' round
+     * @return the number of matches in that round
+     */
+    public int getLosersRoundSize(int round) {
+        return size >> ((round + 1) / 2 + 1);
+    }
+
+    /**
+     * Returns whether the node is a match of the winners' bracket.
+     *
+     * @param node the node index
+     * @return {@code true} for winners' bracket matches
+     */
+    public boolean isUpperNode(int node) {
+        return node >= 1 && node < size;
+    }
+
+    /**
+     * Returns the node of a losers' bracket match.
+     *
+     * @param round the one-based losers' round
+     * @param index the zero-based match index within the round
+     * @return the node index
+     */
+    public int getLosersNode(int round, int index) {
+        return size + losersRoundOffsets[round - 1] + index;
+    }
+
+    /**
+     * Returns the node of the grand final between the winners of both brackets.
+     *
+     * @return the grand final node, or {@code -1} for single elimination
+     */
+    public int getGrandFinalNode() {
+        return doubleElimination ? size + losersRoundOffsets[getLosersRoundCount()] : -1;
+    }
+
+    /**
+     * Returns the node of the deciding match that follows a grand final won by the losers' bracket
+     * champion.
+     *
+     * @return the deciding match node, or {@code -1} for single elimination
+     */
+    public int getDecidingMatchNode() {
+        return doubleElimination ? getGrandFinalNode() + 1 : -1;
+    }
+
+    /**
+     * Returns the one-based winners' bracket round in which the match at the given node is played.
+     *
+     * @param node the winners' bracket node index
+     * @return the round number (the final is round {@link #getRoundCount()})
+     */
+    public int getRoundOfNode(int node) {
+        return getRoundCount() - (31 - Integer.numberOfLeadingZeros(node));
+    }
+
+    /**
+     * Returns the one-based losers' bracket round of a losers' bracket node.
+     *
+     * @param node the losers' bracket node index
+     * @return the losers' round number
+     */
+    public int getLosersRoundOfNode(int node) {
+        int offset = node - size;
+        int round = 1;
+        while (round < getLosersRoundCount() && losersRoundOffsets[round] <= offset) {
+            round++;
+        }
+        return round;
+    }
+
+    /**
+     * Returns the German name of a winners' bracket round, e.g. "Halbfinale".
+     *
+     * @param round the one-based round number
+     * @return the round name
+     */
+    public String getRoundName(int round) {
+        return switch (getRoundCount() - round) {
+            case 0 -> "Finale";
+            case 1 -> "Halbfinale";
+            case 2 -> "Viertelfinale";
+            case 3 -> "Achtelfinale";
+            default -> "K.-o.-Runde " + round;
+        };
+    }
+
+    /**
+     * Returns the German name of the round a match belongs to.
+     *
+     * @param node the match node index
+     * @return the name, e.g. "Viertelfinale", "Trostrunde 2" or "Endspiel"
+     */
+    public String getNodeName(int node) {
+        if (isUpperNode(node)) {
+            return getRoundName(getRoundOfNode(node));
+        } else if (node == getGrandFinalNode()) {
+            return "Endspiel";
+        } else if (node == getDecidingMatchNode()) {
+            return "Entscheidungsspiel";
+        }
+        return "Trostrunde " + getLosersRoundOfNode(node);
+    }
+
+    /**
+     * Returns the winner stored at a match node, or the entrant of a winners' bracket leaf in a
+     * single-elimination bracket.
+     *
+     * @param node the node index
+     * @return an entrant index, {@link #UNDECIDED} or {@link #BYE}
+     */
+    public int getNode(int node) {
+        return doubleElimination && node >= size ? lower[(node - size) * 3 + WINNER] : tree[node];
+    }
+
+    /**
+     * Returns the entrant index of the upper (first-listed) side of a match.
+     *
+     * @param node the match node index
+     * @return an entrant index, {@link #UNDECIDED} or {@link #BYE}
+     */
+    public int getHome(int node) {
+        return isUpperNode(node) ? tree[2 * node] : lower[(node - size) * 3 + HOME];
+    }
+
+    /**
+     * Returns the entrant index of the lower (second-listed) side of a match.
+     *
+     * @param node the match node index
+     * @return an entrant index, {@link #UNDECIDED} or {@link #BYE}
+     */
+    public int getAway(int node) {
+        return isUpperNode(node) ? tree[2 * node + 1] : lower[(node - size) * 3 + AWAY];
+    }
+
+    /**
+     * Returns whether the match at a node can be played now: both sides are known entrants
+     * and no winner has been recorded yet.
+     *
+     * @param node the match node index
+     * @return {@code true} if the match is ready
+     */
+    public boolean isPlayable(int node) {
+        return getNode(node) == UNDECIDED && getHome(node) >= 0 && getAway(node) >= 0;
+    }
+
+    /**
+     * Returns the matches of the next tournament round, in bracket order.
+     *
+     * <p>The winners' bracket is played round by round: only the earliest round that still has
+     * undecided matches is returned, so later matches whose players are already known (e.g. after
+     * byes) wait for their round. The losers' bracket follows the same rule on its own, and the
+     * grand final and deciding match are added once both of their players are known.</p>
+     *
+     * @return the node indices of all playable matches of the next round
+     */
+    public List<Integer> getPlayableNodes() {
+        List<Integer> nodes = new ArrayList<>();
+        for (int levelStart = size / 2; levelStart >= 1; levelStart /= 2) {
+            if (collectPlayable(levelStart, levelStart * 2, nodes)) {
+                break;
+            }
+        }
+        for (int round = 1; round <= getLosersRoundCount(); round++) {
+            int first = getLosersNode(round, 0);
+            if (collectPlayable(first, first + getLosersRoundSize(round), nodes)) {
+                break;
+            }
+        }
+        if (doubleElimination) {
+            collectPlayable(getGrandFinalNode(), getDecidingMatchNode() + 1, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Adds the playable nodes of the range {@code [from, to)} and reports whether the range still
+     * contains undecided matches.
+     */
+    private boolean collectPlayable(int from, int to, List<Integer> nodes) {
+        boolean undecided = false;
+        for (int node = from; node < to; node++) {
+            if (getNode(node) == UNDECIDED) {
+                undecided = true;
+                if (isPlayable(node)) {
+                    nodes.add(node);
+                }
+            }
+        }
+        return undecided;
+    }
+
+    /**
+     * Records the winner of the match at the given node. The winner advances and, in double
+     * elimination, the loser drops into the losers' bracket; byes in the following matches are
+     * resolved immediately. A result may be corrected until the following match has been played.
+     *
+     * @param node   the match node index
+     * @param winner the entrant index of the winner; must be one of the two sides
+     * @throws IllegalArgumentException if the winner did not play in this match
+     */
+    public void recordWinner(int node, int winner) {
+        int home = getHome(node);
+        int away = getAway(node);
+        if (winner < 0 || (winner != home && winner != away)) {
+            throw new IllegalArgumentException("Entrant " + winner + " did not play at node " + node);
+        }
+        decide(node, winner, winner == home ? away : home);
+    }
+
+    /**
+     * Withdraws a recorded result, e.g. after the result has been corrected to a draw.
+     *
+     * @param node the match node index
+     */
+    public void clearWinner(int node) {
+        decide(node, UNDECIDED, UNDECIDED);
+    }
+
+    /**
+     * Stores the outcome of a match and routes winner and loser to their next slots.
+     */
+    private void decide(int node, int winner, int loser) {
+        if (isUpperNode(node)) {
+            tree[node] = winner;
+            if (doubleElimination) {
+                routeUpperLoser(node, loser);
+                if (node == 1) {
+                    setLowerInput(getGrandFinalNode(), HOME, winner);
+                }
+            }
+            if (node > 1) {
+                resolveUpperBye(node / 2);
+            }
+            return;
+        }
+
+        lower[(node - size) * 3 + WINNER] = winner;
+        int grandFinal = getGrandFinalNode();
+        if (node == grandFinal) {
+            boolean decidingMatch = winner >= 0 && winner != getHome(node);
+            setLowerInput(getDecidingMatchNode(), HOME, decidingMatch ? getHome(node) : UNDECIDED);
+            setLowerInput(getDecidingMatchNode(), AWAY, decidingMatch ? getAway(node) : UNDECIDED);
+        } else if (node != getDecidingMatchNode()) {
+            int round = getLosersRoundOfNode(node);
+            int index = node - getLosersNode(round, 0);
+            if (round == getLosersRoundCount()) {
+                setLowerInput(grandFinal, AWAY, winner);
+            } else if (round % 2 == 1) {
+                setLowerInput(getLosersNode(round + 1, index), HOME, winner);
+            } else {
+                setLowerInput(getLosersNode(round + 1, index / 2), index % 2, winner);
+            }
+        }
+    }
+
+    /**
+     * Drops the loser of a winners' bracket match into the losers' bracket. Losers of the first
+     * round meet each other; later losers meet the losers' bracket survivors in reverse order so
+     * that early rematches are avoided.
+     */
+    private void routeUpperLoser(int node, int loser) {
+        int round = getRoundOfNode(node);
+        int index = node - (size >> round);
+        if (getLosersRoundCount() == 0) {
+            setLowerInput(getGrandFinalNode(), AWAY, loser);
+        } else if (round == 1) {
+            setLowerInput(getLosersNode(1, index / 2), index % 2, loser);
+        } else {
+            int losersRound = 2 * (round - 1);
+            setLowerInput(getLosersNode(losersRound, getLosersRoundSize(losersRound) - 1 - index), AWAY, loser);
+        }
+    }
+
+    /**
+     * Fills one side of a losers' bracket match, the grand final or the deciding match and
+     * resolves a bye on either side.
+     */
+    private void setLowerInput(int node, int side, int value) {
+        int base = (node - size) * 3;
+        lower[base + side] = value;
+        int home = lower[base + HOME];
+        int away = lower[base + AWAY];
+        if (home == BYE || away == BYE) {
+            decide(node, home == BYE ? away : home, BYE);
+        }
+    }
+
+    /**
+     * Decides the match at a winners' bracket node automatically if one side is a bye.
+     */
+    private void resolveUpperBye(int node) {
+        int home = tree[2 * node];
+        int away = tree[2 * node + 1];
+        if (home == BYE || away == BYE) {
+            decide(node, home == BYE ? away : home, BYE);
+        }
+    }
+
+    /**
+     * Returns the index of the match in which the two entrants meet, if it is currently playable.
+     *
+     * @param first  the first entrant
+     * @param second the second entrant
+     * @return the node index, or {@code -1} if no such playable match exists
+     */
+    public int findPlayableNode(Player first, Player second) {
+        for (int node : getPlayableNodes()) {
+            Player home = entrants.get(getHome(node));
+            Player away = entrants.get(getAway(node));
+            if ((home.equals(first) && away.equals(second)) || (home.equals(second) && away.equals(first))) {
+                return node;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the winner of the bracket once decided: the winner of the final in single
+     * elimination, otherwise the winner of the grand final or, if it was needed, the deciding match.
+     *
+     * @return the champion, or {@code null} if the bracket is still running
+     */
+    public Player getChampion() {
+        int champion = tree[1];
+        if (doubleElimination) {
+            int grandFinal = getGrandFinalNode();
+            champion = getNode(grandFinal);
+            if (champion >= 0 && champion != getHome(grandFinal)) {
+                champion = getNode(getDecidingMatchNode());
+            }
+        }
+        return champion >= 0 ? entrants.get(champion) : null;
+    }
+}
@@ -1,17 +1,28 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a match between two players in a tournament.
+ *
+ * <p>Every match carries a stable, unique ID that identifies this particular match independently
+ * of its players: {@link #equals(Object)} treats all matches between the same two players as equal,
+ * so removal, replacement and lookups of a specific match go by ID. IDs survive saving and loading;
+ * loading a match advances the ID counter past it so new matches never reuse a saved ID.</p>
  */
 public class Match implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
     public static final int MAX_SETS = 5;
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+    private long id;
+    private int round;
     private final Player firstPlayer;
     private final Player secondPlayer;
     private int tableNumber;
@@ -26,6 +37,7 @@ public class Match implements Serializable {
      * @param tableNumber  the table number where the match takes place
      */
     public Match(Player firstPlayer, Player secondPlayer, int tableNumber) {
+        this.id = NEXT_ID.getAndIncrement();
         this.firstPlayer = firstPlayer;
         this.secondPlayer = secondPlayer;
         this.tableNumber = tableNumber;
@@ -33,6 +45,47 @@ public class Match implements Serializable {
         this.overallResult = "";
     }
 
+    /**
+     * Restores a match and keeps its ID unique: matches saved before IDs existed receive a fresh
+     * ID, and the ID counter is moved past every loaded ID.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (id == 0) {
+            id = NEXT_ID.getAndIncrement();
+        } else {
+            NEXT_ID.accumulateAndGet(id + 1, Math::max);
+        }
+    }
+
+    /**
+     * Returns the stable ID of this match.
+     *
+     * @return the unique match ID
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the round in which the match is played.
+     *
+     * @return the one-based round number, or {@code 0} if the match has not been scheduled yet
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Sets the round in which the match is played.
+     *
+     * @param round the one-based round number
+     */
+    public void setRound(int round) {
+        this.round = round;
+    }
+
     /**
      * Retrieves the first player in the match.
      *
@@ -98,6 +151,33 @@ public class Match implements Serializable {
         this.overallResult = overallResult;
     }
 
+    /**
+     * Determines the winner of the match from the overall result. A bye is always won by the
+     * first player.
+     *
+     * @return the winning player, or {@code null} if no valid result has been entered or the
+     *         result is a draw
+     */
+    public Player getWinner() {
+        if (secondPlayer == null) {
+            return firstPlayer;
+        }
+        String[] sets = overallResult == null ? new String[0] : overallResult.split(":");
+        if (sets.length != 2) {
+            return null;
+        }
+        try {
+            int firstSets = Integer.parseInt(sets[0]);
+            int secondSets = Integer.parseInt(sets[1]);
+            if (firstSets == secondSets) {
+                return null;
+            }
+            return firstSets > secondSets ? firstPlayer : secondPlayer;
+        } catch (NumberFormatException _) {
+            return null;
+        }
+    }
+
     /**
      * Sets the table number for this match.
      *
@@ -1,15 +1,33 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 /**
  * Represents a player participating in a table tennis tournament.
+ *
+ * <p>The identity of a player (first name, last name, club and TTR) is immutable and interned:
+ * every distinct identity receives an int ID on first use, and all players with the same identity
+ * share it. {@link #equals(Object)} therefore compares IDs, and {@link #hashCode()} returns a hash
+ * computed once in the constructor instead of rehashing the names on every {@code HashMap}
+ * operation. The registry of identities only holds them weakly: an identity is dropped once no
+ * player refers to it any more, e.g. after a tournament has been closed, and is given a new ID if
+ * it comes back. The dense per-tournament indexes are assigned by the tournament itself, e.g. the
+ * slots of {@link controller.ScoreCalculator}, which computes the statistics counters and
+ * publishes them to the player.</p>
  */
 public class Player implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
+    private static final Map<Identity, WeakReference<Identity>> IDENTITIES = new WeakHashMap<>();
+    private static int nextId;
+    private transient Identity identity;
     private final String firstName;
     private final String lastName;
     private final String club;
@@ -41,6 +59,7 @@ public class Player implements Serializable {
         this.lastName = lastName;
         this.club = club;
         this.ttr = ttr;
+        intern();
         this.points = 0;
         this.buchholz = 0;
         this.feinBuchholz = 0;
@@ -52,6 +71,73 @@ public class Player implements Serializable {
         this.ballsLost = 0;
     }
 
+    /**
+     * The interned identity shared by all equal players, with its ID and hash code.
+     */
+    private static final class Identity {
+        private final String firstName;
+        private final String lastName;
+        private final String club;
+        private final int ttr;
+        private final int hash;
+        private final int id;
+
+        Identity(String firstName, String lastName, String club, int ttr, int id) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.club = club;
+            this.ttr = ttr;
+            this.hash = Objects.hash(firstName, lastName, club, ttr);
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity other && ttr == other.ttr && firstName.equals(other.firstName)
+                    && lastName.equals(other.lastName) && club.equals(other.club);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Looks up the identity of this player, registering it with the next ID if no player with the
+     * same identity exists.
+     */
+    private void intern() {
+        Identity key = new Identity(firstName, lastName, club, ttr, -1);
+        synchronized (IDENTITIES) {
+            WeakReference<Identity> interned = IDENTITIES.get(key);
+            identity = interned == null ? null : interned.get();
+            if (identity == null) {
+                identity = new Identity(firstName, lastName, club, ttr, nextId++);
+                IDENTITIES.put(identity, new WeakReference<>(identity));
+            }
+        }
+    }
+
+    /**
+     * Restores a player and interns its identity in this session, since IDs are not saved.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        intern();
+    }
+
+    /**
+     * Returns the ID of this player's identity. Players that are equal share the same ID; the IDs
+     * of identities that are no longer in use are not given to others.
+     *
+     * @return the ID, starting at 0
+     */
+    public int getId() {
+        return identity.id;
+    }
+
     /**
      * Retrieves the full name of the player.
      *
@@ -260,7 +346,8 @@ public class Player implements Serializable {
     }
 
     /**
-     * Two players are considered equal if they share the same first name, last name, club, and TTR value.
+     * Two players are considered equal if they share the same first name, last name, club, and TTR value,
+     * i.e. the same interned ID.
      *
      * @param o the object to compare with
      * @return {@code true} if the players are equal, {@code false} otherwise
@@ -268,21 +355,18 @@ public class Player implements Serializable {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (!(o instanceof Player other)) return false;
-        return Objects.equals(firstName, other.firstName)
-                && Objects.equals(lastName, other.lastName)
-                && Objects.equals(club, other.club)
-                && ttr == other.ttr;
+        return o instanceof Player other && identity == other.identity;
     }
 
     /**
-     * Returns a hash code based on the player's first name, last name, and club.
+     * Returns the hash code of the player's first name, last name, club, and TTR value, computed
+     * once when the player is created.
      *
      * @return the hash code
      */
     @Override
     public int hashCode() {
-        return Objects.hash(firstName, lastName, club, ttr);
+        return identity.hash;
     }
 
     @Override
@@ -0,0 +1,54 @@
+package model;
+
+import java.util.List;
+
+/**
+ * The criteria that decide the ranking order between players with the same number of points.
+ *
+ * <p>Each tournament mode has a default chain of criteria, see {@link #defaultChain(TournamentMode)};
+ * a criterion is only consulted for players who are still tied after all criteria before it.</p>
+ */
+public enum TieBreak {
+    BUCHHOLZ("Buchholz"),
+    FEIN_BUCHHOLZ("Feinbuchholz"),
+    MEDIAN_BUCHHOLZ("Median-Buchholz"),
+    SONNEBORN_BERGER("Sonneborn-Berger"),
+    DIRECT_COMPARISON("Direkter Vergleich"),
+    SET_DIFFERENCE("Satzdifferenz"),
+    BALL_DIFFERENCE("Balldifferenz"),
+    TTR("TTR");
+
+    private final String displayName;
+
+    TieBreak(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the German label shown in the user interface.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the tie-break chain used by default: Buchholz and Fein-Buchholz before the set and
+     * ball differences in Swiss System mode, only the differences in all other modes, and the TTR
+     * value last.
+     *
+     * @param mode the tournament mode
+     * @return the criteria in the order they are applied
+     */
+    public static List<TieBreak> defaultChain(TournamentMode mode) {
+        return mode == TournamentMode.SWISS
+                ? List.of(BUCHHOLZ, FEIN_BUCHHOLZ, SET_DIFFERENCE, BALL_DIFFERENCE, TTR)
+                : List.of(SET_DIFFERENCE, BALL_DIFFERENCE, TTR);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
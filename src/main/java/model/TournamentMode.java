@@ -1,6 +1,61 @@
 package model;
 
+/**
+ * The supported tournament modes.
+ */
 public enum TournamentMode {
-    SWISS,
-    ROUND_ROBIN
+    SWISS("Schweizer System"),
+    ROUND_ROBIN("Jeder gegen Jeden"),
+    DOUBLE_ROUND_ROBIN("Jeder gegen Jeden (Hin- und Rückrunde)"),
+    GROUPS_KNOCKOUT("Gruppenphase + K.-o.-Runde"),
+    KNOCKOUT("K.-o.-System"),
+    DOUBLE_KNOCKOUT("Doppel-K.-o.-System");
+
+    private final String displayName;
+
+    TournamentMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Returns the German label shown in the user interface.
+     *
+     * @return the display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns whether the mode is played from a precomputed Round Robin schedule.
+     *
+     * @return {@code true} for single and double Round Robin
+     */
+    public boolean isRoundRobin() {
+        return this == ROUND_ROBIN || this == DOUBLE_ROUND_ROBIN;
+    }
+
+    /**
+     * Returns whether the whole tournament is played as a knockout bracket without a preceding
+     * group stage.
+     *
+     * @return {@code true} for single and double elimination
+     */
+    public boolean isKnockout() {
+        return this == KNOCKOUT || this == DOUBLE_KNOCKOUT;
+    }
+
+    /**
+     * Returns whether the tournament is decided in a knockout bracket at some point.
+     *
+     * @return {@code true} for the knockout modes and the group mode
+     */
+    public boolean hasKnockoutStage() {
+        return isKnockout() || this == GROUPS_KNOCKOUT;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
 }
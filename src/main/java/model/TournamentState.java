@@ -15,14 +15,25 @@ import java.util.List;
  * and can be deserialized to fully reconstruct a {@link controller.TournamentRound}
  * using {@code fromSavedState()}.</p>
  *
- * @param playerList     the list of all players in the tournament
- * @param allMatches     the list of all matches that have been played or scheduled
- * @param matches        the current round's match pairings
- * @param currentRound   the current round number of the tournament
- * @param finished       whether the tournament is considered completed
- * @param tournamentName the name of the tournament
- * @param tableCount     the number of available tables for match scheduling
- * @param mode           the tournament mode (SWISS or ROUND_ROBIN)
+ * @param playerList         the list of all players in the tournament
+ * @param allMatches         the list of all matches that have been played or scheduled
+ * @param matches            the current round's match pairings
+ * @param currentRound       the current round number of the tournament
+ * @param finished           whether the tournament is considered completed
+ * @param tournamentName     the name of the tournament
+ * @param tableCount         the number of available tables for match scheduling
+ * @param mode               the tournament mode (see {@link TournamentMode})
+ * @param groupCount         the number of groups in group mode
+ * @param qualifiersPerGroup the number of players per group reaching the knockout stage
+ * @param knockoutBracket    the knockout bracket, or {@code null} if no knockout stage has started
+ * @param compensationPoints the points credited to every player for missed rounds, in the order
+ *                           of {@code playerList}, or {@code null} if no player has any
+ * @param withdrawnPlayers   the players withdrawn from the remaining rounds, or {@code null} in
+ *                           states without withdrawals
+ * @param plannedRounds      the number of rounds the Swiss System pairing guarantees, or {@code 0}
+ *                           if it pairs greedily
+ * @param tieBreaks          the criteria that order players with the same number of points, or
+ *                           {@code null} for the default chain of the mode
  */
 public record TournamentState(
         List<Player> playerList,
@@ -32,8 +43,45 @@ public record TournamentState(
         boolean finished,
         String tournamentName,
         int tableCount,
-        TournamentMode mode
+        TournamentMode mode,
+        int groupCount,
+        int qualifiersPerGroup,
+        KnockoutBracket knockoutBracket,
+        List<Integer> compensationPoints,
+        List<Player> withdrawnPlayers,
+        int plannedRounds,
+        List<TieBreak> tieBreaks
 ) implements Serializable {
     @Serial
     private static final long serialVersionUID = 2L;
+
+    /**
+     * Creates a snapshot of a tournament that ranks ties by the default chain of its mode.
+     */
+    public TournamentState(List<Player> playerList, List<Match> allMatches, List<Match> matches, int currentRound,
+                           boolean finished, String tournamentName, int tableCount, TournamentMode mode,
+                           int groupCount, int qualifiersPerGroup, KnockoutBracket knockoutBracket,
+                           List<Integer> compensationPoints, List<Player> withdrawnPlayers, int plannedRounds) {
+        this(playerList, allMatches, matches, currentRound, finished, tournamentName, tableCount, mode,
+                groupCount, qualifiersPerGroup, knockoutBracket, compensationPoints, withdrawnPlayers, plannedRounds,
+                null);
+    }
+
+    /**
+     * Creates a snapshot of a tournament without late entries or withdrawals.
+     */
+    public TournamentState(List<Player> playerList, List<Match> allMatches, List<Match> matches, int currentRound,
+                           boolean finished, String tournamentName, int tableCount, TournamentMode mode,
+                           int groupCount, int qualifiersPerGroup, KnockoutBracket knockoutBracket) {
+        this(playerList, allMatches, matches, currentRound, finished, tournamentName, tableCount, mode,
+                groupCount, qualifiersPerGroup, knockoutBracket, null, null, 0, null);
+    }
+
+    /**
+     * Creates a snapshot of a tournament without group or knockout stage.
+     */
+    public TournamentState(List<Player> playerList, List<Match> allMatches, List<Match> matches, int currentRound,
+                           boolean finished, String tournamentName, int tableCount, TournamentMode mode) {
+        this(playerList, allMatches, matches, currentRound, finished, tournamentName, tableCount, mode, 0, 0, null);
+    }
 }
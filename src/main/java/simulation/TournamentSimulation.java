@@ -16,7 +16,9 @@ import java.util.Random;
  * Standalone simulation utility for stress-testing the Swiss System pairing algorithm.
  *
  * <p>Runs {@link #NUMBER_OF_SIMULATIONS} independent tournaments with randomly generated
- * players and verifies that each tournament produces at least {@link #MIN_ROUNDS} rounds.
+ * players and verifies that each tournament produces at least {@link #MIN_ROUNDS} rounds. The
+ * engine is told the {@link PairingEngine#setPlannedRounds(int) planned rounds}, so its look-ahead
+ * has to avoid every dead end before that round.
  * Results are printed to standard output along with a summary report.</p>
  *
  * <p>This class is intended for development and QA use only and is not part of the
@@ -73,6 +75,7 @@ public class TournamentSimulation {
      */
     private static int runSimulation(List<Player> players) {
         PairingEngine engine = new PairingEngine(players, TABLE_COUNT, TournamentMode.SWISS);
+        engine.setPlannedRounds(MIN_ROUNDS);
         ScoreCalculator scoreCalculator = new ScoreCalculator(engine.getAllMatches());
 
         int round = 0;
@@ -0,0 +1,184 @@
+package view;
+
+import model.KnockoutBracket;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+
+/**
+ * View showing a {@link KnockoutBracket} as a bracket tree (K.-o.-Baum).
+ *
+ * <p>The winners' bracket is drawn column by column from the first round to the final; in double
+ * elimination the losers' bracket follows below and the grand final to the right. Match boxes are
+ * positioned arithmetically from their node index, and only the boxes inside the visible clip area
+ * are painted, so even 128-player brackets scroll smoothly.</p>
+ */
+public class KnockoutBracketView extends JFrame {
+
+    private static final int BOX_WIDTH = 190;
+    private static final int BOX_HEIGHT = 40;
+    private static final int ROW_HEIGHT = BOX_HEIGHT + 14;
+    private static final int COLUMN_WIDTH = BOX_WIDTH + 40;
+    private static final int MARGIN = 20;
+    private static final int HEADER_HEIGHT = 24;
+
+    /**
+     * Constructs the bracket view and immediately displays it.
+     *
+     * @param bracket        the bracket to show
+     * @param tournamentName the tournament name used in the window title
+     */
+    public KnockoutBracketView(KnockoutBracket bracket, String tournamentName) {
+        setTitle("K.-o.-Baum - " + tournamentName);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(1000, 700);
+        setLocationRelativeTo(null);
+
+        JPanel contentPane = new JPanel(new BorderLayout());
+        contentPane.setBackground(UITheme.BACKGROUND);
+        contentPane.setBorder(new EmptyBorder(12, 12, 12, 12));
+        setContentPane(contentPane);
+
+        JScrollPane scrollPane = new JScrollPane(new BracketPanel(bracket));
+        scrollPane.getVerticalScrollBar().setUnitIncrement(ROW_HEIGHT / 2);
+        scrollPane.getHorizontalScrollBar().setUnitIncrement(COLUMN_WIDTH / 4);
+        contentPane.add(scrollPane, BorderLayout.CENTER);
+
+        setVisible(true);
+    }
+
+    /**
+     * Component that paints the bracket directly from the bracket arrays.
+     */
+    private static class BracketPanel extends JComponent {
+
+        private final KnockoutBracket bracket;
+        private final int upperHeight;
+        private final int lowerTop;
+        private final int lowerHeight;
+
+        BracketPanel(KnockoutBracket bracket) {
+            this.bracket = bracket;
+            this.upperHeight = Math.max(1, bracket.getSize() / 2) * ROW_HEIGHT;
+            this.lowerTop = MARGIN + HEADER_HEIGHT + upperHeight + MARGIN;
+            this.lowerHeight = Math.max(1, bracket.getSize() / 4) * ROW_HEIGHT;
+
+            int columns = Math.max(bracket.getRoundCount(), bracket.getLosersRoundCount())
+                    + (bracket.isDoubleElimination() ? 2 : 0);
+            int height = bracket.getLosersRoundCount() > 0
+                    ? lowerTop + HEADER_HEIGHT + lowerHeight + MARGIN
+                    : MARGIN + HEADER_HEIGHT + upperHeight + MARGIN;
+            setPreferredSize(new Dimension(MARGIN * 2 + Math.max(1, columns) * COLUMN_WIDTH, height));
+            setOpaque(true);
+            setBackground(UITheme.SURFACE);
+        }
+
+        @Override
+        protected void paintComponent(Graphics graphics) {
+            Graphics2D g = (Graphics2D) graphics.create();
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setColor(getBackground());
+            Rectangle clip = g.getClipBounds();
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+            int upperTop = MARGIN + HEADER_HEIGHT;
+            for (int round = 1; round <= bracket.getRoundCount(); round++) {
+                int count = bracket.getSize() >> round;
+                int x = columnX(round - 1);
+                drawHeader(g, bracket.getRoundName(round), x, upperTop);
+                for (int index = 0; index < count; index++) {
+                    int node = count + index;
+                    Rectangle box = box(x, upperTop, upperHeight, count, index);
+                    if (round > 1) {
+                        drawConnector(g, clip, box(columnX(round - 2), upperTop, upperHeight, count * 2, index * 2),
+                                box(columnX(round - 2), upperTop, upperHeight, count * 2, index * 2 + 1), box);
+                    }
+                    drawMatch(g, clip, node, box);
+                }
+            }
+
+            for (int round = 1; round <= bracket.getLosersRoundCount(); round++) {
+                int count = bracket.getLosersRoundSize(round);
+                int x = columnX(round - 1);
+                drawHeader(g, "Trostrunde " + round, x, lowerTop + HEADER_HEIGHT);
+                for (int index = 0; index < count; index++) {
+                    drawMatch(g, clip, bracket.getLosersNode(round, index),
+                            box(x, lowerTop + HEADER_HEIGHT, lowerHeight, count, index));
+                }
+            }
+
+            if (bracket.isDoubleElimination()) {
+                int column = Math.max(bracket.getRoundCount(), bracket.getLosersRoundCount());
+                drawHeader(g, "Endspiel", columnX(column), upperTop);
+                drawMatch(g, clip, bracket.getGrandFinalNode(), box(columnX(column), upperTop, upperHeight, 1, 0));
+                drawHeader(g, "Entscheidungsspiel", columnX(column + 1), upperTop);
+                drawMatch(g, clip, bracket.getDecidingMatchNode(),
+                        box(columnX(column + 1), upperTop, upperHeight, 1, 0));
+            }
+            g.dispose();
+        }
+
+        private static int columnX(int column) {
+            return MARGIN + column * COLUMN_WIDTH;
+        }
+
+        /**
+         * Returns the box of the match with the given index in a column of {@code count} matches
+         * that are spread evenly over the given height.
+         */
+        private static Rectangle box(int x, int top, int height, int count, int index) {
+            int centerY = top + (int) ((index + 0.5) * height / count);
+            return new Rectangle(x, centerY - BOX_HEIGHT / 2, BOX_WIDTH, BOX_HEIGHT);
+        }
+
+        private void drawHeader(Graphics2D g, String text, int x, int bottom) {
+            g.setFont(UITheme.FONT_SUBTITLE);
+            g.setColor(UITheme.HEADER_BG);
+            g.drawString(text, x, bottom - 8);
+        }
+
+        private void drawConnector(Graphics2D g, Rectangle clip, Rectangle home, Rectangle away, Rectangle target) {
+            int middleX = home.x + BOX_WIDTH + (COLUMN_WIDTH - BOX_WIDTH) / 2;
+            Rectangle bounds = new Rectangle(home.x + BOX_WIDTH, home.y, COLUMN_WIDTH - BOX_WIDTH,
+                    away.y + BOX_HEIGHT - home.y);
+            if (!bounds.intersects(clip)) {
+                return;
+            }
+            g.setColor(UITheme.BORDER_COLOR);
+            int homeY = (int) home.getCenterY();
+            int awayY = (int) away.getCenterY();
+            g.drawLine(home.x + BOX_WIDTH, homeY, middleX, homeY);
+            g.drawLine(away.x + BOX_WIDTH, awayY, middleX, awayY);
+            g.drawLine(middleX, homeY, middleX, awayY);
+            g.drawLine(middleX, (int) target.getCenterY(), target.x, (int) target.getCenterY());
+        }
+
+        private void drawMatch(Graphics2D g, Rectangle clip, int node, Rectangle box) {
+            if (!box.intersects(clip)) {
+                return;
+            }
+            g.setColor(UITheme.ROW_ALT);
+            g.fillRect(box.x, box.y, box.width, box.height);
+            g.setColor(UITheme.BORDER_COLOR);
+            g.drawRect(box.x, box.y, box.width, box.height);
+            g.drawLine(box.x, box.y + BOX_HEIGHT / 2, box.x + BOX_WIDTH, box.y + BOX_HEIGHT / 2);
+
+            int winner = bracket.getNode(node);
+            drawSlot(g, bracket.getHome(node), winner, box.x + 6, box.y + BOX_HEIGHT / 2 - 6);
+            drawSlot(g, bracket.getAway(node), winner, box.x + 6, box.y + BOX_HEIGHT - 6);
+        }
+
+        private void drawSlot(Graphics2D g, int entrant, int winner, int x, int baseline) {
+            String text = switch (entrant) {
+                case KnockoutBracket.UNDECIDED -> "";
+                case KnockoutBracket.BYE -> "Freilos";
+                default -> bracket.getEntrant(entrant).getFullName();
+            };
+            boolean won = entrant >= 0 && entrant == winner;
+            g.setFont(won ? UITheme.FONT_BODY.deriveFont(Font.BOLD) : UITheme.FONT_BODY);
+            g.setColor(won ? UITheme.SUCCESS : entrant >= 0 ? UITheme.TEXT_PRIMARY : UITheme.TEXT_MUTED);
+            g.drawString(text, x, baseline);
+        }
+    }
+}
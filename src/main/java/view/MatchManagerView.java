@@ -9,9 +9,9 @@ import java.awt.*;
 /**
  * View for manually overriding the current round's pairings in Swiss System mode.
  *
- * <p>Displays all unplayed possible matches in one list and allows the user to move
- * matches to a "selected" list. When the required number of matches (covering all players)
- * is selected, the user can commit the new pairings to the tournament round.</p>
+ * <p>Displays all unplayed possible matches in one list, which can be filtered by player name,
+ * and allows the user to move matches to a "selected" list. When the required number of matches
+ * (covering all players) is selected, the user can commit the new pairings to the tournament round.</p>
  *
  * <p>All interaction logic is handled by {@link controller.MatchManagerController}.</p>
  */
@@ -21,15 +21,17 @@ public class MatchManagerView extends JFrame {
     private final JButton downButton;
     private final JButton upButton;
     private final JButton commitButton;
+    private final JButton autoCompleteButton;
+    private final JTextField searchField;
 
     /**
      * Constructs the match manager window.
      *
-     * @param possibleMatchesModel the list model of all possible (unplayed) matches
+     * @param possibleMatchesModel the list model of the possible (unplayed) matches that are still available
      * @param selectedMatchesModel the list model for the currently selected matches
      * @param playerCount          the total number of players (used to compute required match count)
      */
-    public MatchManagerView(DefaultListModel<Match> possibleMatchesModel,
+    public MatchManagerView(ListModel<Match> possibleMatchesModel,
                             DefaultListModel<Match> selectedMatchesModel, int playerCount) {
 
         setTitle("Begegnungs Manager");
@@ -72,9 +74,24 @@ public class MatchManagerView extends JFrame {
         possibleCard.setBackground(UITheme.BACKGROUND);
         possibleCard.setBorder(new EmptyBorder(12, 12, 0, 12));
 
+        searchField = new JTextField();
+        searchField.setFont(UITheme.FONT_BODY);
+        searchField.setToolTipText("Begegnungen nach Spielername oder Verein filtern");
+
+        JLabel searchLabel = new JLabel("Suche:");
+        searchLabel.setFont(UITheme.FONT_BODY);
+        searchLabel.setForeground(UITheme.TEXT_MUTED);
+
+        JPanel searchPanel = new JPanel(new BorderLayout(8, 0));
+        searchPanel.setBackground(UITheme.SURFACE);
+        searchPanel.setBorder(new EmptyBorder(4, 10, 6, 10));
+        searchPanel.add(searchLabel, BorderLayout.WEST);
+        searchPanel.add(searchField, BorderLayout.CENTER);
+
         JPanel possibleInner = new JPanel(new BorderLayout());
         possibleInner.setBackground(UITheme.SURFACE);
         possibleInner.setBorder(UITheme.cardBorder("Alle möglichen Begegnungen"));
+        possibleInner.add(searchPanel, BorderLayout.NORTH);
         possibleInner.add(possibleScrollPane, BorderLayout.CENTER);
         possibleCard.add(possibleInner, BorderLayout.CENTER);
 
@@ -96,13 +113,15 @@ public class MatchManagerView extends JFrame {
         selectedCard.add(selectedInner, BorderLayout.CENTER);
 
         commitButton = UITheme.createPrimaryButton("Ausgewählte Begegnungen als neue Setzung übernehmen");
+        autoCompleteButton = UITheme.createSecondaryButton("Rest automatisch ergänzen");
 
         JPanel bottomPanel = new JPanel(new BorderLayout());
         bottomPanel.setBackground(UITheme.BACKGROUND);
         bottomPanel.add(selectedCard, BorderLayout.CENTER);
 
-        JPanel commitPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 10));
+        JPanel commitPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
         commitPanel.setBackground(UITheme.BACKGROUND);
+        commitPanel.add(autoCompleteButton);
         commitPanel.add(commitButton);
         bottomPanel.add(commitPanel, BorderLayout.SOUTH);
 
@@ -156,6 +175,24 @@ public class MatchManagerView extends JFrame {
         return commitButton;
     }
 
+    /**
+     * Returns the button that completes the selection automatically.
+     *
+     * @return the auto-complete button
+     */
+    public JButton getAutoCompleteButton() {
+        return autoCompleteButton;
+    }
+
+    /**
+     * Returns the search field that filters the possible matches by player name.
+     *
+     * @return the search field
+     */
+    public JTextField getSearchField() {
+        return searchField;
+    }
+
     /**
      * Custom list cell renderer for {@link Match} objects.
      * Displays each match as "Player1  vs  Player2" or "Player1  —  Freilos" for bye matches,
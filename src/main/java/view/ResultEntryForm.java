@@ -0,0 +1,20 @@
+package view;
+
+import controller.ResultEntryController;
+
+import java.util.List;
+
+/**
+ * A window in which match results are entered. The controller reads the entered scores through
+ * the panel data the form exposes.
+ */
+public interface ResultEntryForm {
+
+    /**
+     * Returns the panel data of all score grids whose content has not been written back to their
+     * matches yet.
+     *
+     * @return the panel data to save
+     */
+    List<ResultEntryController.MatchPanelData> getMatchPanelData();
+}
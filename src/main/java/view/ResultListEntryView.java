@@ -0,0 +1,307 @@
+package view;
+
+import controller.ResultEntryController;
+import model.Match;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result entry view for large rounds.
+ *
+ * <p>Instead of one tab with its own score fields per match, the matches are shown in a list on
+ * the left and a single {@link ScoreGrid} on the right is bound to the selected match. The list
+ * only renders visible rows, so opening the window takes the same time and memory for any round
+ * size. Selecting another match writes the scores of the previous one back via
+ * {@link ResultEntryController#commitMatch(ResultEntryController.MatchPanelData)}.</p>
+ *
+ * <p>Pressing Enter in a score field saves the match and jumps to the next open match; Enter in the
+ * list moves the focus to the score fields. The list can be restricted to open matches.</p>
+ */
+public class ResultListEntryView extends JFrame implements ResultEntryForm {
+
+    private final ResultEntryController controller;
+    private final List<Match> matches;
+    private final MatchListModel listModel;
+    private final JList<Match> matchList;
+    private final JCheckBox openOnlyBox;
+    private final JPanel editorPanel;
+    private final ScoreGrid grid;
+    private Match boundMatch;
+    private boolean updatingList;
+
+    /**
+     * Constructs the result entry window and displays it.
+     *
+     * @param controller the controller handling save and auto-update logic
+     * @param matches    the list of matches whose results can be entered
+     */
+    public ResultListEntryView(ResultEntryController controller, List<Match> matches) {
+        this.controller = controller;
+        this.matches = matches.stream().filter(match -> match.getSecondPlayer() != null).toList();
+
+        setTitle("Ergebniserfassung");
+        setLayout(new BorderLayout());
+        setSize(820, 520);
+        getContentPane().setBackground(UITheme.BACKGROUND);
+
+        listModel = new MatchListModel();
+        matchList = new JList<>(listModel);
+        matchList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        matchList.setFont(UITheme.FONT_BODY);
+        matchList.setFixedCellHeight(26);
+        matchList.setFixedCellWidth(300);
+        matchList.setCellRenderer(new MatchCellRenderer());
+        matchList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting() && !updatingList) {
+                bind(matchList.getSelectedValue());
+            }
+        });
+        matchList.getInputMap(JComponent.WHEN_FOCUSED)
+                .put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "editScores");
+        matchList.getActionMap().put("editScores", new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                grid.focusFirstField();
+            }
+        });
+
+        openOnlyBox = new JCheckBox("Nur offene Begegnungen");
+        openOnlyBox.setFont(UITheme.FONT_BODY);
+        openOnlyBox.setBackground(UITheme.BACKGROUND);
+        openOnlyBox.addActionListener(_ -> {
+            commitCurrent();
+            refreshList();
+        });
+
+        JPanel listPanel = new JPanel(new BorderLayout(0, 6));
+        listPanel.setBackground(UITheme.BACKGROUND);
+        listPanel.setBorder(new EmptyBorder(12, 12, 12, 0));
+        listPanel.add(openOnlyBox, BorderLayout.NORTH);
+        listPanel.add(new JScrollPane(matchList), BorderLayout.CENTER);
+
+        editorPanel = new JPanel(new BorderLayout());
+        editorPanel.setBackground(UITheme.BACKGROUND);
+        editorPanel.setBorder(new EmptyBorder(12, 16, 12, 16));
+
+        JPanel scoreCard = new JPanel(new BorderLayout(0, 0));
+        scoreCard.setBackground(UITheme.SURFACE);
+        scoreCard.setBorder(UITheme.cardBorder("Satzergebnisse"));
+        grid = new ScoreGrid(controller, editorPanel);
+        grid.addEnterListener(_ -> commitAndAdvance());
+        scoreCard.add(grid, BorderLayout.CENTER);
+        editorPanel.add(scoreCard, BorderLayout.CENTER);
+
+        JButton nextButton = UITheme.createSecondaryButton("Übernehmen und weiter");
+        nextButton.addActionListener(_ -> commitAndAdvance());
+        JButton saveButton = UITheme.createPrimaryButton("Ergebnisse speichern");
+        saveButton.addActionListener(_ -> controller.saveResults(true));
+
+        JPanel savePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
+        savePanel.setBackground(UITheme.BACKGROUND);
+        savePanel.add(nextButton);
+        savePanel.add(saveButton);
+
+        add(listPanel, BorderLayout.WEST);
+        add(editorPanel, BorderLayout.CENTER);
+        add(savePanel, BorderLayout.SOUTH);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                controller.saveResults(false);
+                dispose();
+            }
+        });
+
+        refreshList();
+        Match first = nextOpenMatch(-1);
+        select(first != null ? first : this.matches.isEmpty() ? null : this.matches.getFirst());
+
+        setLocationRelativeTo(null);
+        setVisible(true);
+    }
+
+    /**
+     * Returns whether no result has been entered for the match yet.
+     */
+    private static boolean isOpen(Match match) {
+        String result = match.getOverallResult();
+        return result == null || result.isEmpty() || result.equals(":") || result.equals("0:0");
+    }
+
+    /**
+     * Writes the scores of the bound match back and binds the grid to another match. The panel
+     * data is detached while the grid is loaded, so loading does not mark a match as edited.
+     */
+    private void bind(Match match) {
+        commitCurrent();
+        boundMatch = match;
+        grid.setVisible(match != null);
+        editorPanel.putClientProperty("matchData", null);
+        if (match != null) {
+            grid.load(match);
+            editorPanel.putClientProperty("matchData", grid.toPanelData(match));
+        }
+    }
+
+    /**
+     * Commits the scores shown in the grid to the bound match if they were edited and repaints its
+     * list entry.
+     */
+    private void commitCurrent() {
+        if (boundMatch != null) {
+            controller.commitMatch(grid.toPanelData(boundMatch));
+            int index = listModel.indexOf(boundMatch);
+            if (index >= 0) {
+                listModel.fireChanged(index);
+            }
+        }
+    }
+
+    /**
+     * Saves the bound match and selects the next open match after it in table order.
+     */
+    private void commitAndAdvance() {
+        commitCurrent();
+        Match next = nextOpenMatch(boundMatch == null ? -1 : indexOfMatch(boundMatch));
+        if (openOnlyBox.isSelected()) {
+            refreshList();
+        }
+        if (next != null) {
+            select(next);
+            grid.focusFirstField();
+        } else {
+            select(boundMatch);
+        }
+    }
+
+    /**
+     * Returns the next open match after the given position, wrapping around at the end.
+     */
+    private Match nextOpenMatch(int after) {
+        for (int step = 1; step <= matches.size(); step++) {
+            Match candidate = matches.get((after + step) % matches.size());
+            if (isOpen(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private int indexOfMatch(Match match) {
+        for (int i = 0; i < matches.size(); i++) {
+            if (matches.get(i) == match) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Selects a match in the list and binds the grid to it. If the match is hidden by the filter,
+     * the grid stays bound without a list selection.
+     */
+    private void select(Match match) {
+        int index = match == null ? -1 : listModel.indexOf(match);
+        updatingList = true;
+        if (index >= 0) {
+            matchList.setSelectedIndex(index);
+            matchList.ensureIndexIsVisible(index);
+        } else {
+            matchList.clearSelection();
+        }
+        updatingList = false;
+        if (match != boundMatch) {
+            bind(match);
+        }
+    }
+
+    /**
+     * Rebuilds the visible list entries from the filter setting and keeps the bound match selected.
+     */
+    private void refreshList() {
+        updatingList = true;
+        listModel.setVisibleMatches(openOnlyBox.isSelected()
+                ? matches.stream().filter(match -> isOpen(match) || match == boundMatch).toList()
+                : matches);
+        updatingList = false;
+        select(boundMatch);
+    }
+
+    /**
+     * Returns the panel data of the score grid if it is bound to a match.
+     *
+     * @return the bound match's panel data, or an empty list
+     */
+    @Override
+    public List<ResultEntryController.MatchPanelData> getMatchPanelData() {
+        return boundMatch == null ? List.of() : List.of(grid.toPanelData(boundMatch));
+    }
+
+    /**
+     * List model over the currently visible matches.
+     */
+    private static class MatchListModel extends AbstractListModel<Match> {
+
+        private List<Match> visible = new ArrayList<>();
+
+        void setVisibleMatches(List<Match> matches) {
+            int oldSize = visible.size();
+            visible = matches;
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            if (!visible.isEmpty()) {
+                fireIntervalAdded(this, 0, visible.size() - 1);
+            }
+        }
+
+        int indexOf(Match match) {
+            for (int i = 0; i < visible.size(); i++) {
+                if (visible.get(i) == match) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void fireChanged(int index) {
+            fireContentsChanged(this, index, index);
+        }
+
+        @Override
+        public int getSize() {
+            return visible.size();
+        }
+
+        @Override
+        public Match getElementAt(int index) {
+            return visible.get(index);
+        }
+    }
+
+    /**
+     * Renders a match as "Tisch n: A vs. B" followed by its result; open matches are shown in bold.
+     */
+    private static class MatchCellRenderer extends DefaultListCellRenderer {
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            Match match = (Match) value;
+            String text = "Tisch " + match.getTableNumber() + ": " + match.getFirstPlayer().getFullName()
+                    + " vs. " + match.getSecondPlayer().getFullName()
+                    + (isOpen(match) ? "" : "  (" + match.getOverallResult() + ")");
+            super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            setFont(isOpen(match) ? UITheme.FONT_BODY.deriveFont(Font.BOLD) : UITheme.FONT_BODY);
+            setBorder(new EmptyBorder(2, 8, 2, 8));
+            return this;
+        }
+    }
+}
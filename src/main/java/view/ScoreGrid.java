@@ -0,0 +1,240 @@
+package view;
+
+import static model.Match.MAX_SETS;
+
+import controller.ResultEntryController;
+import model.Match;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.ActionListener;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.util.stream.IntStream;
+
+/**
+ * Score entry grid for one match: a row of score fields per set for both players and read-only
+ * summary fields for the overall result.
+ *
+ * <p>The grid is used once per match by {@link ResultEntryView} and once for the whole round by
+ * {@link ResultListEntryView}, where it is re-bound to the selected match via {@link #load(Match)}.
+ * Every change of a set score asks the controller to recalculate the overall result of the
+ * {@code owner} panel, which carries the grid's {@link ResultEntryController.MatchPanelData} as the
+ * client property {@code "matchData"}.</p>
+ */
+class ScoreGrid extends JPanel {
+
+    private final JLabel firstPlayerLabel;
+    private final JLabel secondPlayerLabel;
+    private final JTextField[][] setResultsFields = new JTextField[MAX_SETS][2];
+    private final JTextField wonSetsField;
+    private final JTextField lostSetsField;
+
+    /**
+     * Builds the grid.
+     *
+     * @param controller the controller providing the score fields and the overall-result logic
+     * @param owner      the panel whose {@code "matchData"} property describes this grid
+     */
+    ScoreGrid(ResultEntryController controller, JPanel owner) {
+        super(new GridBagLayout());
+        setBackground(UITheme.SURFACE);
+        setBorder(new EmptyBorder(6, 8, 8, 8));
+
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(3, 6, 3, 6);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        gbc.gridx = 0; gbc.gridy = 0; gbc.weightx = 0.3;
+        JLabel headerEmpty = new JLabel("");
+        headerEmpty.setFont(UITheme.FONT_SUBTITLE);
+        add(headerEmpty, gbc);
+
+        gbc.gridx = 1; gbc.weightx = 0.35;
+        firstPlayerLabel = createPlayerLabel();
+        add(firstPlayerLabel, gbc);
+
+        gbc.gridx = 2; gbc.weightx = 0.35;
+        secondPlayerLabel = createPlayerLabel();
+        add(secondPlayerLabel, gbc);
+
+        JSeparator sep = new JSeparator();
+        sep.setForeground(UITheme.BORDER_COLOR);
+        gbc.gridx = 0; gbc.gridy = 1; gbc.gridwidth = 3; gbc.insets = new Insets(2, 6, 4, 6);
+        add(sep, gbc);
+        gbc.gridwidth = 1; gbc.insets = new Insets(3, 6, 3, 6);
+
+        DocumentListener resultListener = new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                controller.updateOverallResult(owner);
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                controller.updateOverallResult(owner);
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                controller.updateOverallResult(owner);
+            }
+        };
+
+        IntStream.range(0, MAX_SETS).forEach(i -> {
+            setResultsFields[i][0] = controller.createIntegerField();
+            setResultsFields[i][1] = controller.createIntegerField();
+            styleScoreField(setResultsFields[i][0]);
+            styleScoreField(setResultsFields[i][1]);
+
+            gbc.gridx = 0; gbc.gridy = i + 2; gbc.weightx = 0.3;
+            JLabel setLabel = new JLabel("Satz " + (i + 1));
+            setLabel.setFont(UITheme.FONT_BODY);
+            setLabel.setForeground(UITheme.TEXT_MUTED);
+            add(setLabel, gbc);
+
+            gbc.gridx = 1; gbc.weightx = 0.35;
+            add(setResultsFields[i][0], gbc);
+
+            gbc.gridx = 2; gbc.weightx = 0.35;
+            add(setResultsFields[i][1], gbc);
+
+            setResultsFields[i][0].getDocument().addDocumentListener(resultListener);
+            setResultsFields[i][1].getDocument().addDocumentListener(resultListener);
+            addAutoFillBehavior(setResultsFields[i][0], setResultsFields[i][1]);
+            addAutoFillBehavior(setResultsFields[i][1], setResultsFields[i][0]);
+        });
+
+        JSeparator sep2 = new JSeparator();
+        sep2.setForeground(UITheme.BORDER_COLOR);
+        gbc.gridx = 0; gbc.gridy = 7; gbc.gridwidth = 3; gbc.insets = new Insets(4, 6, 2, 6);
+        add(sep2, gbc);
+        gbc.gridwidth = 1; gbc.insets = new Insets(3, 6, 3, 6);
+
+        wonSetsField = new JTextField();
+        lostSetsField = new JTextField();
+        wonSetsField.setEditable(false);
+        lostSetsField.setEditable(false);
+        wonSetsField.setHorizontalAlignment(SwingConstants.CENTER);
+        lostSetsField.setHorizontalAlignment(SwingConstants.CENTER);
+        wonSetsField.setFont(UITheme.FONT_SUBTITLE);
+        lostSetsField.setFont(UITheme.FONT_SUBTITLE);
+        wonSetsField.setBackground(new Color(232, 245, 233));
+        lostSetsField.setBackground(new Color(255, 235, 238));
+
+        gbc.gridx = 0; gbc.gridy = 8; gbc.weightx = 0.3;
+        JLabel totalLabel = new JLabel("Gesamtergebnis");
+        totalLabel.setFont(UITheme.FONT_BODY.deriveFont(Font.BOLD));
+        add(totalLabel, gbc);
+
+        gbc.gridx = 1; gbc.weightx = 0.35;
+        add(wonSetsField, gbc);
+
+        gbc.gridx = 2; gbc.weightx = 0.35;
+        add(lostSetsField, gbc);
+    }
+
+    private static JLabel createPlayerLabel() {
+        JLabel label = new JLabel("", SwingConstants.CENTER);
+        label.setFont(UITheme.FONT_SUBTITLE);
+        label.setForeground(UITheme.PRIMARY);
+        return label;
+    }
+
+    /**
+     * Shows the players and the stored results of a match in the grid. Empty sets clear their
+     * fields, so the grid can be re-bound from one match to the next.
+     *
+     * @param match the match to show
+     */
+    void load(Match match) {
+        firstPlayerLabel.setText(match.getFirstPlayer().getFullName());
+        secondPlayerLabel.setText(match.getSecondPlayer().getFullName());
+
+        String[][] results = match.getResults();
+        IntStream.range(0, MAX_SETS).forEach(i -> {
+            boolean stored = results != null && results[i] != null;
+            setResultsFields[i][0].setText(stored ? results[i][0] : "");
+            setResultsFields[i][1].setText(stored ? results[i][1] : "");
+        });
+
+        wonSetsField.setText("");
+        lostSetsField.setText("");
+        String overallResult = match.getOverallResult();
+        if (overallResult != null && overallResult.contains(":")) {
+            String[] parts = overallResult.split(":");
+            if (parts.length == 2) {
+                wonSetsField.setText(parts[0]);
+                lostSetsField.setText(parts[1]);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener that is notified when Enter is pressed in any score field.
+     *
+     * @param listener the listener to add
+     */
+    void addEnterListener(ActionListener listener) {
+        for (JTextField[] set : setResultsFields) {
+            set[0].addActionListener(listener);
+            set[1].addActionListener(listener);
+        }
+    }
+
+    /**
+     * Moves the keyboard focus to the first score field.
+     */
+    void focusFirstField() {
+        setResultsFields[0][0].requestFocusInWindow();
+    }
+
+    /**
+     * Describes the grid's fields, bound to the given match.
+     *
+     * @param match the match the fields currently belong to
+     * @return the panel data used by the controller
+     */
+    ResultEntryController.MatchPanelData toPanelData(Match match) {
+        return new ResultEntryController.MatchPanelData(setResultsFields, wonSetsField, lostSetsField, match);
+    }
+
+    /**
+     * Applies standard styling to a score input field (centered text, fixed size, body font).
+     *
+     * @param field the text field to style
+     */
+    private static void styleScoreField(JTextField field) {
+        field.setFont(UITheme.FONT_BODY);
+        field.setHorizontalAlignment(SwingConstants.CENTER);
+        field.setPreferredSize(new Dimension(60, 28));
+    }
+
+    /**
+     * Attaches a focus listener to {@code source} that auto-fills {@code target} when focus
+     * leaves {@code source}. Auto-fill rules: value 0–9 → target gets "11"; value 10 → target
+     * gets "12"; value ≥ 11 → no auto-fill. Auto-fill only triggers when {@code target} is empty.
+     */
+    private static void addAutoFillBehavior(JTextField source, JTextField target) {
+        source.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                if (!target.getText().isEmpty()) return;
+                String text = source.getText();
+                if (text.isEmpty()) return;
+                try {
+                    int value = Integer.parseInt(text);
+                    if (value <= 9) {
+                        target.setText("11");
+                    } else if (value == 10) {
+                        target.setText("12");
+                    }
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+
+/**
+ * Window for browsing the standings after earlier rounds (Tabellenverlauf).
+ *
+ * <p>Shows a round selector and the standings table of the selected round, including the rank
+ * movement against the previous round. All interaction logic is handled by
+ * {@link controller.StandingsHistoryController}.</p>
+ */
+public class StandingsHistoryView extends JFrame {
+
+    private final JComboBox<String> roundSelector;
+    private final JTable standingsTable;
+    private final JButton printButton;
+
+    /**
+     * Constructs the standings history window.
+     *
+     * @param tournamentName the tournament name used in the window title
+     * @param roundCount     the number of completed rounds that can be selected
+     */
+    public StandingsHistoryView(String tournamentName, int roundCount) {
+        setTitle("Tabellenverlauf - " + tournamentName);
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setSize(760, 560);
+        setLocationRelativeTo(null);
+        setLayout(new BorderLayout());
+        getContentPane().setBackground(UITheme.BACKGROUND);
+
+        roundSelector = new JComboBox<>();
+        for (int round = 1; round <= roundCount; round++) {
+            roundSelector.addItem("Runde " + round);
+        }
+        roundSelector.setFont(UITheme.FONT_BODY);
+
+        JLabel selectorLabel = new JLabel("Stand nach:");
+        selectorLabel.setFont(UITheme.FONT_BODY);
+        selectorLabel.setForeground(UITheme.TEXT_MUTED);
+
+        JPanel selectorPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 8));
+        selectorPanel.setBackground(UITheme.BACKGROUND);
+        selectorPanel.setBorder(new EmptyBorder(4, 12, 0, 12));
+        selectorPanel.add(selectorLabel);
+        selectorPanel.add(roundSelector);
+        add(selectorPanel, BorderLayout.NORTH);
+
+        standingsTable = new JTable();
+        UITheme.applyTableStyling(standingsTable);
+        JScrollPane tableScrollPane = new JScrollPane(standingsTable);
+        tableScrollPane.setBorder(BorderFactory.createMatteBorder(1, 0, 0, 0, UITheme.BORDER_COLOR));
+
+        JPanel tableCard = new JPanel(new BorderLayout(0, 0));
+        tableCard.setBackground(UITheme.BACKGROUND);
+        tableCard.setBorder(new EmptyBorder(4, 12, 4, 12));
+
+        JPanel tableInner = new JPanel(new BorderLayout());
+        tableInner.setBackground(UITheme.SURFACE);
+        tableInner.setBorder(UITheme.cardBorder("Rangliste"));
+        tableInner.add(tableScrollPane, BorderLayout.CENTER);
+        tableCard.add(tableInner, BorderLayout.CENTER);
+        add(tableCard, BorderLayout.CENTER);
+
+        printButton = UITheme.createSecondaryButton("Tabelle drucken");
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 10));
+        buttonPanel.setBackground(UITheme.BACKGROUND);
+        buttonPanel.add(printButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Returns the combo box selecting the round whose standings are shown.
+     *
+     * @return the round selector; item {@code i} stands for round {@code i + 1}
+     */
+    public JComboBox<String> getRoundSelector() {
+        return roundSelector;
+    }
+
+    /**
+     * Returns the standings table.
+     *
+     * @return the standings table
+     */
+    public JTable getStandingsTable() {
+        return standingsTable;
+    }
+
+    /**
+     * Returns the button that prints the shown standings.
+     *
+     * @return the print button
+     */
+    public JButton getPrintButton() {
+        return printButton;
+    }
+}
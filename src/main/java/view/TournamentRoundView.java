@@ -5,6 +5,9 @@ import model.TournamentMode;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
 
 /**
  * The main tournament round window.
@@ -20,14 +23,22 @@ public class TournamentRoundView extends JFrame {
     private final JButton previewRefereeSheetsButton;
     private final JButton resultEntryButton;
     private final JButton manipulateButton;
+    private final JButton lateEntryButton;
+    private final JButton withdrawButton;
+    private final JButton undoButton;
+    private final JButton redoButton;
     private final JButton printTableButton;
+    private final JButton standingsHistoryButton;
+    private final JButton printScheduleButton;
+    private final JButton showBracketButton;
     private final JButton nextRoundButton;
 
     /**
      * Constructs the tournament round window and lays out all components.
      *
      * @param tournamentName the name of the tournament, shown in the header
-     * @param mode           the tournament mode; determines whether the manipulate button is shown
+     * @param mode           the tournament mode; determines whether the manipulate or the print schedule
+     *                       button is shown
      */
     public TournamentRoundView(String tournamentName, TournamentMode mode) {
         setTitle("Turnierrunde");
@@ -89,10 +100,29 @@ public class TournamentRoundView extends JFrame {
         if (mode == TournamentMode.SWISS) {
             manipulateButton = UITheme.createSecondaryButton("Setzung manipulieren");
             buttonsPanel.add(manipulateButton);
+            lateEntryButton = UITheme.createSecondaryButton("Spieler nachmelden");
+            buttonsPanel.add(lateEntryButton);
+            withdrawButton = UITheme.createSecondaryButton("Spieler zurückziehen");
+            buttonsPanel.add(withdrawButton);
         } else {
             manipulateButton = null;
+            lateEntryButton = null;
+            withdrawButton = null;
         }
 
+        undoButton = UITheme.createSecondaryButton("Rückgängig");
+        undoButton.setToolTipText("Letzte Änderung rückgängig machen (Strg+Z)");
+        undoButton.setEnabled(false);
+        buttonsPanel.add(undoButton);
+
+        redoButton = UITheme.createSecondaryButton("Wiederholen");
+        redoButton.setToolTipText("Rückgängig gemachte Änderung wiederholen (Strg+Y)");
+        redoButton.setEnabled(false);
+        buttonsPanel.add(redoButton);
+
+        bindShortcut(undoButton, KeyStroke.getKeyStroke(KeyEvent.VK_Z, InputEvent.CTRL_DOWN_MASK), "undo");
+        bindShortcut(redoButton, KeyStroke.getKeyStroke(KeyEvent.VK_Y, InputEvent.CTRL_DOWN_MASK), "redo");
+
         bottomPanel.add(buttonsPanel, BorderLayout.NORTH);
 
         resultsTable = new JTable();
@@ -119,6 +149,23 @@ public class TournamentRoundView extends JFrame {
         printTableButton = UITheme.createSecondaryButton("Tabelle drucken");
         bottomButtonPanel.add(printTableButton);
 
+        standingsHistoryButton = UITheme.createSecondaryButton("Tabellenverlauf");
+        bottomButtonPanel.add(standingsHistoryButton);
+
+        if (mode.isRoundRobin()) {
+            printScheduleButton = UITheme.createSecondaryButton("Spielplan drucken");
+            bottomButtonPanel.add(printScheduleButton);
+        } else {
+            printScheduleButton = null;
+        }
+
+        if (mode.hasKnockoutStage()) {
+            showBracketButton = UITheme.createSecondaryButton("K.-o.-Baum anzeigen");
+            bottomButtonPanel.add(showBracketButton);
+        } else {
+            showBracketButton = null;
+        }
+
         nextRoundButton = UITheme.createPrimaryButton("Nächste Runde auslosen und starten");
         bottomButtonPanel.add(nextRoundButton);
 
@@ -180,6 +227,26 @@ public class TournamentRoundView extends JFrame {
         return manipulateButton;
     }
 
+    /**
+     * Returns the button for registering a player after the start, or {@code null} if not in
+     * Swiss mode.
+     *
+     * @return the late entry button, or {@code null}
+     */
+    public JButton getLateEntryButton() {
+        return lateEntryButton;
+    }
+
+    /**
+     * Returns the button for withdrawing a player from the remaining rounds, or {@code null} if
+     * not in Swiss mode.
+     *
+     * @return the withdraw button, or {@code null}
+     */
+    public JButton getWithdrawButton() {
+        return withdrawButton;
+    }
+
     /**
      * Returns the button that prints the current standings table.
      *
@@ -189,6 +256,69 @@ public class TournamentRoundView extends JFrame {
         return printTableButton;
     }
 
+    /**
+     * Returns the button that opens the standings after earlier rounds.
+     *
+     * @return the standings history button
+     */
+    public JButton getStandingsHistoryButton() {
+        return standingsHistoryButton;
+    }
+
+    /**
+     * Returns the button that prints the complete Round Robin schedule, or {@code null} if not in a
+     * Round Robin mode.
+     *
+     * @return the print schedule button, or {@code null}
+     */
+    public JButton getPrintScheduleButton() {
+        return printScheduleButton;
+    }
+
+    /**
+     * Returns the button that opens the knockout bracket, or {@code null} if the mode has no
+     * knockout stage.
+     *
+     * @return the show bracket button, or {@code null}
+     */
+    public JButton getShowBracketButton() {
+        return showBracketButton;
+    }
+
+    /**
+     * Lets a keyboard shortcut anywhere in the window click a button, as long as it is enabled.
+     */
+    private void bindShortcut(JButton button, KeyStroke keyStroke, String actionKey) {
+        JRootPane root = getRootPane();
+        root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(keyStroke, actionKey);
+        root.getActionMap().put(actionKey, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (button.isEnabled()) {
+                    button.doClick();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the button that undoes the last change of pairings, results or rounds.
+     *
+     * @return the undo button
+     */
+    public JButton getUndoButton() {
+        return undoButton;
+    }
+
+    /**
+     * Returns the button that redoes the last undone change.
+     *
+     * @return the redo button
+     */
+    public JButton getRedoButton() {
+        return redoButton;
+    }
+
     /**
      * Returns the button that advances to the next round.
      *
@@ -1,13 +1,15 @@
 package view;
 
+import model.TournamentMode;
+
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 
 /**
  * Main setup view for the tournament. Allows the user to enter a tournament name,
- * the number of tables, select the tournament mode (Swiss or Round Robin), manage
- * the player list, and start the tournament.
+ * the number of tables, select the tournament mode (Swiss, Round Robin or double Round Robin) and the
+ * tie-break criteria, manage the player list, and start the tournament.
  *
  * <p>The view is purely presentational; all logic is delegated to
  * {@link controller.TournamentController}.</p>
@@ -17,18 +19,26 @@ public class TournamentView extends JFrame {
     private final DefaultListModel<String> playerListModel;
     private final JTextField tournamentNameField;
     private final JTextField tableCountField;
-    private final JCheckBox modusField;
+    private final JComboBox<TournamentMode> modeComboBox;
+    private final JTextField groupCountField;
+    private final JTextField qualifiersPerGroupField;
+    private final JTextField plannedRoundsField;
+    private final JLabel tieBreaksLabel;
+    private final JButton editTieBreaksButton;
     private final JButton addPlayerButton;
     private final JButton removePlayerButton;
+    private final JButton checkDuplicatesButton;
     private final JButton beginTournamentButton;
     private final JMenuItem loadMenuItem;
+    private final JMenuItem importPlayersMenuItem;
+    private final JMenuItem buildPlayerDatabaseMenuItem;
 
     /**
      * Constructs and lays out the tournament setup window.
      */
     public TournamentView() {
         setTitle("Tischtennis Turniersoftware");
-        setSize(780, 540);
+        setSize(780, 580);
         setLocationRelativeTo(null);
         setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
         setLayout(new BorderLayout());
@@ -68,10 +78,46 @@ public class TournamentView extends JFrame {
         formCard.add(tableCountField, gbc);
 
         gbc.gridx = 4;
-        formCard.add(makeLabel("Jeder gegen Jeden:"), gbc);
+        formCard.add(makeLabel("Modus:"), gbc);
+        gbc.gridx = 5;
+        modeComboBox = new JComboBox<>(TournamentMode.values());
+        modeComboBox.setFont(UITheme.FONT_BODY);
+        formCard.add(modeComboBox, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 1;
+        formCard.add(makeLabel("Geplante Runden:"), gbc);
+        gbc.gridx = 1; gbc.fill = GridBagConstraints.NONE;
+        plannedRoundsField = new JTextField(5);
+        plannedRoundsField.setFont(UITheme.FONT_BODY);
+        plannedRoundsField.setToolTipText("Optional: so viele Runden garantiert die Auslosung im Schweizer System");
+        formCard.add(plannedRoundsField, gbc);
+
+        gbc.gridx = 2;
+        formCard.add(makeLabel("Gruppen:"), gbc);
+        gbc.gridx = 3;
+        groupCountField = new JTextField(5);
+        groupCountField.setFont(UITheme.FONT_BODY);
+        groupCountField.setEnabled(false);
+        formCard.add(groupCountField, gbc);
+
+        gbc.gridx = 4;
+        formCard.add(makeLabel("Weiter je Gruppe:"), gbc);
         gbc.gridx = 5;
-        modusField = new JCheckBox();
-        formCard.add(modusField, gbc);
+        qualifiersPerGroupField = new JTextField("1", 5);
+        qualifiersPerGroupField.setFont(UITheme.FONT_BODY);
+        qualifiersPerGroupField.setEnabled(false);
+        formCard.add(qualifiersPerGroupField, gbc);
+
+        gbc.gridx = 0; gbc.gridy = 2;
+        formCard.add(makeLabel("Feinwertung:"), gbc);
+        gbc.gridx = 1; gbc.gridwidth = 4; gbc.fill = GridBagConstraints.HORIZONTAL;
+        tieBreaksLabel = new JLabel();
+        tieBreaksLabel.setFont(UITheme.FONT_BODY);
+        tieBreaksLabel.setToolTipText("Reihenfolge der Kriterien bei Punktgleichheit");
+        formCard.add(tieBreaksLabel, gbc);
+        gbc.gridx = 5; gbc.gridwidth = 1; gbc.fill = GridBagConstraints.NONE;
+        editTieBreaksButton = UITheme.createSecondaryButton("Ändern…");
+        formCard.add(editTieBreaksButton, gbc);
 
         JPanel playerCard = new JPanel(new BorderLayout(0, 6));
         playerCard.setBackground(UITheme.BACKGROUND);
@@ -96,6 +142,8 @@ public class TournamentView extends JFrame {
         removePlayerButton = UITheme.createSecondaryButton("Spieler entfernen");
         playerBtns.add(addPlayerButton);
         playerBtns.add(removePlayerButton);
+        checkDuplicatesButton = UITheme.createSecondaryButton("Duplikate prüfen");
+        playerBtns.add(checkDuplicatesButton);
         playerInner.add(playerBtns, BorderLayout.SOUTH);
         playerCard.add(playerInner, BorderLayout.CENTER);
 
@@ -119,9 +167,17 @@ public class TournamentView extends JFrame {
         JMenuItem loadTournamentItem = new JMenuItem("Turnier laden");
         loadTournamentItem.setFont(UITheme.FONT_BODY);
         fileMenu.add(loadTournamentItem);
+        JMenuItem importPlayersItem = new JMenuItem("Spieler importieren (CSV)");
+        importPlayersItem.setFont(UITheme.FONT_BODY);
+        fileMenu.add(importPlayersItem);
+        JMenuItem buildPlayerDatabaseItem = new JMenuItem("Spielerdatenbank aus TTR-Liste erstellen");
+        buildPlayerDatabaseItem.setFont(UITheme.FONT_BODY);
+        fileMenu.add(buildPlayerDatabaseItem);
         menuBar.add(fileMenu);
         setJMenuBar(menuBar);
         this.loadMenuItem = loadTournamentItem;
+        this.importPlayersMenuItem = importPlayersItem;
+        this.buildPlayerDatabaseMenuItem = buildPlayerDatabaseItem;
     }
 
     /**
@@ -173,12 +229,58 @@ public class TournamentView extends JFrame {
     }
 
     /**
-     * Returns the mode checkbox ({@code true} = Round Robin, {@code false} = Swiss System).
+     * Returns the tournament mode selection.
+     *
+     * @return the mode combo box
+     */
+    public JComboBox<TournamentMode> getModeComboBox() {
+        return modeComboBox;
+    }
+
+    /**
+     * Returns the input field for the number of groups (group mode only).
+     *
+     * @return the group count text field
+     */
+    public JTextField getGroupCountField() {
+        return groupCountField;
+    }
+
+    /**
+     * Returns the input field for the number of players per group reaching the knockout stage.
+     *
+     * @return the qualifiers per group text field
+     */
+    public JTextField getQualifiersPerGroupField() {
+        return qualifiersPerGroupField;
+    }
+
+    /**
+     * Returns the input field for the planned number of rounds (Swiss System only); empty if
+     * the pairing should not look ahead.
+     *
+     * @return the planned rounds text field
+     */
+    public JTextField getPlannedRoundsField() {
+        return plannedRoundsField;
+    }
+
+    /**
+     * Returns the label that shows the tie-break criteria in the order they are applied.
+     *
+     * @return the tie-break label
+     */
+    public JLabel getTieBreaksLabel() {
+        return tieBreaksLabel;
+    }
+
+    /**
+     * Returns the button that opens the tie-break configuration.
      *
-     * @return the mode checkbox
+     * @return the edit tie-breaks button
      */
-    public JCheckBox getModusField() {
-        return modusField;
+    public JButton getEditTieBreaksButton() {
+        return editTieBreaksButton;
     }
 
     /**
@@ -199,6 +301,15 @@ public class TournamentView extends JFrame {
         return removePlayerButton;
     }
 
+    /**
+     * Returns the button that checks the player list for likely duplicates.
+     *
+     * @return the check duplicates button
+     */
+    public JButton getCheckDuplicatesButton() {
+        return checkDuplicatesButton;
+    }
+
     /**
      * Returns the "begin tournament" button.
      *
@@ -216,4 +327,22 @@ public class TournamentView extends JFrame {
     public JMenuItem getLoadMenuItem() {
         return loadMenuItem;
     }
+
+    /**
+     * Returns the "import players" menu item.
+     *
+     * @return the import players menu item
+     */
+    public JMenuItem getImportPlayersMenuItem() {
+        return importPlayersMenuItem;
+    }
+
+    /**
+     * Returns the "build player database" menu item.
+     *
+     * @return the build player database menu item
+     */
+    public JMenuItem getBuildPlayerDatabaseMenuItem() {
+        return buildPlayerDatabaseMenuItem;
+    }
 }
@@ -0,0 +1,122 @@
+import controller.CandidateMatchModel;
+import model.Match;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CandidateMatchModelTest {
+
+    private Player p1, p2, p3, p4;
+    private List<Match> candidates;
+    private CandidateMatchModel model;
+
+    @BeforeEach
+    public void setUp() {
+        p1 = new Player("Alice", "Adler", "TTC Nord", 1500);
+        p2 = new Player("Bob", "Berg", "TTC Süd", 1600);
+        p3 = new Player("Carol", "Christ", "TTC Nord", 1400);
+        p4 = new Player("Dave", "Dorn", "SV West", 1300);
+        candidates = new ArrayList<>();
+        List<Player> players = List.of(p1, p2, p3, p4);
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = i + 1; j < players.size(); j++) {
+                candidates.add(new Match(players.get(i), players.get(j), -1));
+            }
+        }
+        model = new CandidateMatchModel(candidates);
+    }
+
+    private List<Match> visible() {
+        return IntStream.range(0, model.getSize()).mapToObj(model::getElementAt).toList();
+    }
+
+    @Test
+    public void testInitially_allCandidatesVisibleInOrder() {
+        assertEquals(candidates, visible());
+    }
+
+    @Test
+    public void testSelect_hidesMatchesOfBothPlayers() {
+        model.select(candidates.getFirst());
+        assertEquals(List.of(candidates.get(5)), visible());
+        assertTrue(model.isSelected(p1));
+        assertTrue(model.isSelected(p2));
+        assertFalse(model.isSelected(p3));
+    }
+
+    @Test
+    public void testDeselect_restoresCandidates() {
+        model.select(candidates.getFirst());
+        model.select(candidates.get(5));
+        assertEquals(0, model.getSize());
+
+        model.deselect(candidates.getFirst());
+        assertEquals(List.of(candidates.getFirst()), visible());
+        model.deselect(candidates.get(5));
+        assertEquals(candidates, visible());
+    }
+
+    @Test
+    public void testSelectBye_hidesOtherByes() {
+        Player p5 = new Player("Eve", "Eck", "SV West", 1200);
+        Match bye1 = new Match(p1, null, -1);
+        Match bye5 = new Match(p5, null, -1);
+        Match pair = new Match(p2, p5, -1);
+        model = new CandidateMatchModel(List.of(bye1, bye5, pair));
+
+        model.select(bye1);
+        assertEquals(List.of(pair), visible());
+        assertTrue(model.isByeSelected());
+
+        model.deselect(bye1);
+        assertFalse(model.isByeSelected());
+        assertEquals(3, model.getSize());
+    }
+
+    @Test
+    public void testFilter_matchesNameOrClubIgnoringCase() {
+        model.setFilter("dorn");
+        assertEquals(List.of(candidates.get(2), candidates.get(4), candidates.get(5)), visible());
+
+        model.setFilter("süd");
+        assertEquals(3, model.getSize());
+        assertTrue(visible().stream().allMatch(m -> m.getFirstPlayer() == p2 || m.getSecondPlayer() == p2));
+
+        model.setFilter("  ");
+        assertEquals(candidates, visible());
+    }
+
+    @Test
+    public void testFilterAndSelection_combine() {
+        model.setFilter("Carol");
+        assertEquals(List.of(candidates.get(1), candidates.get(3), candidates.get(5)), visible());
+        assertEquals(2, model.indexOf(candidates.get(5)));
+
+        model.select(candidates.get(4));
+        assertEquals(List.of(candidates.get(1)), visible());
+        assertEquals(0, model.indexOf(candidates.get(1)));
+        assertEquals(-1, model.indexOf(candidates.get(5)));
+    }
+
+    @Test
+    public void testSelect_firesSingleContentsChanged() {
+        List<ListDataEvent> events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            public void intervalAdded(ListDataEvent e) { events.add(e); }
+            public void intervalRemoved(ListDataEvent e) { events.add(e); }
+            public void contentsChanged(ListDataEvent e) { events.add(e); }
+        });
+        model.select(candidates.getFirst());
+        assertEquals(1, events.size());
+        assertEquals(ListDataEvent.CONTENTS_CHANGED, events.getFirst().getType());
+        assertEquals(5, events.getFirst().getIndex1());
+    }
+}
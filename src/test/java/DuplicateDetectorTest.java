@@ -0,0 +1,124 @@
+import controller.DuplicateDetector;
+import model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DuplicateDetectorTest {
+
+    @Test
+    public void testSimilarity_transliteratedUmlautsAreEqual() {
+        Player mueller = new Player("Hans", "Müller", "TTC Nord", 1500);
+        Player mueller2 = new Player("Hans", "Mueller", "TTC Nord", 1520);
+
+        assertEquals(1.0, DuplicateDetector.similarity(mueller, mueller2), 1e-9);
+    }
+
+    @Test
+    public void testFindSimilar_reportsTypoAndChangedClub() {
+        DuplicateDetector detector = new DuplicateDetector();
+        Player schmidt = new Player("Jonas", "Schmidt", "TTC Nord", 1500);
+        detector.add(schmidt);
+        detector.add(new Player("Anna", "Meier", "SV Süd", 1300));
+
+        List<DuplicateDetector.Duplicate> found = detector.findSimilar(new Player("Jonas", "Schmitt", "TSV Ost", 1480));
+
+        assertEquals(1, found.size());
+        assertEquals(schmidt, found.getFirst().duplicate());
+        assertTrue(found.getFirst().similarity() >= DuplicateDetector.DEFAULT_THRESHOLD);
+    }
+
+    @Test
+    public void testFindSimilar_ignoresDifferentNamesAndItself() {
+        DuplicateDetector detector = new DuplicateDetector();
+        Player meier = new Player("Anna", "Meier", "SV Süd", 1300);
+        detector.add(meier);
+
+        assertTrue(detector.findSimilar(new Player("Jan", "Meier", "SV Süd", 1300)).isEmpty());
+        assertTrue(detector.findSimilar(meier).isEmpty());
+    }
+
+    @Test
+    public void testRemove_playerIsNoLongerReported() {
+        DuplicateDetector detector = new DuplicateDetector();
+        Player mueller = new Player("Hans", "Müller", "TTC Nord", 1500);
+        detector.add(mueller);
+        detector.remove(mueller);
+
+        assertTrue(detector.findSimilar(new Player("Hans", "Mueller", "TTC Nord", 1500)).isEmpty());
+    }
+
+    @Test
+    public void testRemove_manyPlayersKeepsLookupsExactAndInRegistrationOrder() {
+        DuplicateDetector detector = new DuplicateDetector();
+        List<Player> indexed = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Player player = new Player("Hans", "Müller" + (char) ('a' + i % 3), "Club" + i, 1000 + i);
+            detector.add(player);
+            indexed.add(player);
+            if (i % 4 != 3) {
+                Player removed = indexed.remove(indexed.size() / 2);
+                detector.remove(removed);
+                detector.remove(removed);
+            }
+        }
+        Player query = new Player("Hans", "Mueller", "TTC Nord", 1500);
+
+        List<Player> expected = indexed.stream()
+                .filter(player -> DuplicateDetector.similarity(query, player) >= DuplicateDetector.DEFAULT_THRESHOLD)
+                .sorted((a, b) -> Double.compare(DuplicateDetector.similarity(query, b),
+                        DuplicateDetector.similarity(query, a)))
+                .toList();
+        List<Player> found = detector.findSimilar(query).stream().map(DuplicateDetector.Duplicate::duplicate).toList();
+
+        assertEquals(indexed.size(), detector.size());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void testFindDuplicates_reportsEachPairOnceWithEarlierPlayerFirst() {
+        Player first = new Player("Hans", "Müller", "TTC Nord", 1500);
+        Player other = new Player("Anna", "Meier", "SV Süd", 1300);
+        Player second = new Player("Hans", "Mueller", "TSV Ost", 1510);
+
+        List<DuplicateDetector.Duplicate> duplicates =
+                DuplicateDetector.findDuplicates(List.of(first, other, second), DuplicateDetector.DEFAULT_THRESHOLD);
+
+        assertEquals(1, duplicates.size());
+        assertEquals(first, duplicates.getFirst().player());
+        assertEquals(second, duplicates.getFirst().duplicate());
+    }
+
+    @Test
+    public void testFindDuplicates_matchesPairwiseComparison() {
+        List<Player> players = new ArrayList<>();
+        String[] firstNames = {"Anna", "Anja", "Jonas", "Jona", "Lukas", "Lucas", "Marie", "Maria", "Tim", "Tom"};
+        String[] lastNames = {"Schmidt", "Schmitt", "Müller", "Mueller", "Weber", "Becker", "Bäcker", "Klein"};
+        for (String firstName : firstNames) {
+            for (String lastName : lastNames) {
+                players.add(new Player(firstName, lastName, "Club", 0));
+            }
+        }
+
+        int expected = 0;
+        for (int i = 0; i < players.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (DuplicateDetector.similarity(players.get(i), players.get(j)) >= 0.6) {
+                    expected++;
+                }
+            }
+        }
+
+        assertEquals(expected, DuplicateDetector.findDuplicates(players, 0.6).size());
+    }
+
+    @Test
+    public void testConstructor_rejectsInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(0));
+        assertThrows(IllegalArgumentException.class, () -> new DuplicateDetector(1.5));
+    }
+}
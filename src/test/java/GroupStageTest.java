@@ -0,0 +1,114 @@
+import controller.GroupStage;
+import controller.PairingEngine;
+import model.Match;
+import model.Player;
+import model.TournamentMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupStageTest {
+
+    private static List<Player> createPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            players.add(new Player("Player" + i, "Last" + i, "Club" + i, 2000 - i));
+        }
+        return players;
+    }
+
+    private static void firstPlayerWinsAll(List<Match> matches) {
+        for (Match match : matches) {
+            if (match.getSecondPlayer() != null) {
+                match.setOverallResult("3:0");
+            }
+        }
+    }
+
+    @Test
+    public void testSnakeSeeding_balancesGroups() {
+        List<Player> players = createPlayers(8);
+        GroupStage stage = new GroupStage(players, 2, 1, 4);
+        List<List<Player>> groups = stage.getGroups();
+        assertEquals(List.of(players.get(0), players.get(3), players.get(4), players.get(7)), groups.get(0));
+        assertEquals(List.of(players.get(1), players.get(2), players.get(5), players.get(6)), groups.get(1));
+    }
+
+    @Test
+    public void testInvalidConfiguration_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new GroupStage(createPlayers(5), 3, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new GroupStage(createPlayers(8), 2, 5, 2));
+    }
+
+    @Test
+    public void testGenerateRound_allGroupsPlayConcurrentlyOnSharedTables() {
+        GroupStage stage = new GroupStage(createPlayers(12), 3, 1, 6);
+        List<Match> round = stage.generateRound(1);
+        assertEquals(6, round.size());
+        Set<Integer> tables = new HashSet<>();
+        for (Match match : round) {
+            assertTrue(tables.add(match.getTableNumber()), "Table used twice");
+        }
+    }
+
+    @Test
+    public void testGenerateRound_matchesStayWithinGroups() {
+        GroupStage stage = new GroupStage(createPlayers(10), 2, 1, 5);
+        for (int round = 1; round <= stage.getRoundCount(); round++) {
+            for (Match match : stage.generateRound(round)) {
+                if (match.getSecondPlayer() != null) {
+                    boolean sameGroup = stage.getGroups().stream()
+                            .anyMatch(g -> g.contains(match.getFirstPlayer()) && g.contains(match.getSecondPlayer()));
+                    assertTrue(sameGroup);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetMatchCount_equalsGeneratedMatches() {
+        GroupStage stage = new GroupStage(createPlayers(11), 3, 1, 4);
+        int generated = 0;
+        for (int round = 1; round <= stage.getRoundCount(); round++) {
+            generated += stage.generateRound(round).size();
+        }
+        assertEquals(stage.getMatchCount(), generated);
+    }
+
+    @Test
+    public void testGetQualifiers_winnersFirstThenRunnersUp() {
+        List<Player> players = createPlayers(8);
+        GroupStage stage = new GroupStage(players, 2, 2, 4);
+        for (int round = 1; round <= stage.getRoundCount(); round++) {
+            List<Match> matches = stage.generateRound(round);
+            for (Match match : matches) {
+                Player first = match.getFirstPlayer();
+                Player second = match.getSecondPlayer();
+                match.setOverallResult(first.getTtr() > second.getTtr() ? "3:0" : "0:3");
+            }
+        }
+        List<Player> qualifiers = stage.getQualifiers();
+        assertEquals(List.of(players.get(0), players.get(1), players.get(3), players.get(2)), qualifiers);
+    }
+
+    @Test
+    public void testEngine_groupsThenKnockout_finishesWithChampion() {
+        List<Player> players = createPlayers(12);
+        PairingEngine engine = new PairingEngine(players, 6, TournamentMode.GROUPS_KNOCKOUT, 4, 2);
+        int round = 1;
+        String text = engine.generatePairings(round);
+        while (text != null) {
+            firstPlayerWinsAll(engine.getMatches());
+            engine.clearCurrentRound();
+            round++;
+            text = engine.generatePairings(round);
+        }
+        assertTrue(engine.isFinished());
+        assertNotNull(engine.getKnockoutBracket());
+        assertNotNull(engine.getKnockoutBracket().getChampion());
+        assertEquals(8, engine.getKnockoutBracket().getEntrants().size());
+        assertEquals(3 + 3, round - 1);
+    }
+}
@@ -0,0 +1,195 @@
+import model.KnockoutBracket;
+import model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KnockoutBracketTest {
+
+    private static List<Player> createPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            players.add(new Player("Player" + i, "Last" + i, "Club" + i, 2000 - i));
+        }
+        return players;
+    }
+
+    @Test
+    public void testSeedingPositions_eight_standardOrder() {
+        assertArrayEquals(new int[]{0, 7, 3, 4, 1, 6, 2, 5}, KnockoutBracket.seedingPositions(8));
+    }
+
+    @Test
+    public void testPowerOfTwo_noByes_allFirstRoundMatchesPlayable() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(8));
+        assertEquals(8, bracket.getSize());
+        assertEquals(3, bracket.getRoundCount());
+        assertEquals(List.of(4, 5, 6, 7), bracket.getPlayableNodes());
+    }
+
+    @Test
+    public void testFirstRound_topSeedMeetsLowestSeed() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(8));
+        assertEquals(0, bracket.getHome(4));
+        assertEquals(7, bracket.getAway(4));
+    }
+
+    @Test
+    public void testByes_topSeedsAdvanceAutomatically() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(5));
+        assertEquals(8, bracket.getSize());
+        assertEquals(List.of(5), bracket.getPlayableNodes());
+        assertEquals(1, bracket.getNode(6));
+        assertEquals(2, bracket.getNode(7));
+        assertEquals(KnockoutBracket.UNDECIDED, bracket.getNode(5));
+        assertEquals(0, bracket.getNode(4));
+    }
+
+    @Test
+    public void testByes_laterRoundWaitsForCurrentRound() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(5));
+        assertTrue(bracket.isPlayable(3));
+        assertFalse(bracket.getPlayableNodes().contains(3));
+        bracket.recordWinner(5, 3);
+        assertEquals(List.of(2, 3), bracket.getPlayableNodes());
+    }
+
+    @Test
+    public void testRecordWinner_advancesToNextMatch() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(4));
+        bracket.recordWinner(2, 0);
+        assertFalse(bracket.isPlayable(1));
+        bracket.recordWinner(3, 2);
+        assertTrue(bracket.isPlayable(1));
+        assertEquals(0, bracket.getHome(1));
+        assertEquals(2, bracket.getAway(1));
+        bracket.recordWinner(1, 2);
+        assertEquals("Player3", bracket.getChampion().getFirstName());
+    }
+
+    @Test
+    public void testRecordWinner_nonParticipant_throws() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(4));
+        assertThrows(IllegalArgumentException.class, () -> bracket.recordWinner(2, 1));
+    }
+
+    @Test
+    public void testSingleEntrant_isChampion() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(1));
+        assertNotNull(bracket.getChampion());
+        assertTrue(bracket.getPlayableNodes().isEmpty());
+    }
+
+    @Test
+    public void testRoundNames() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(16));
+        assertEquals("Finale", bracket.getRoundName(bracket.getRoundOfNode(1)));
+        assertEquals("Halbfinale", bracket.getRoundName(bracket.getRoundOfNode(2)));
+        assertEquals("Achtelfinale", bracket.getRoundName(bracket.getRoundOfNode(8)));
+    }
+
+    @Test
+    public void testFindPlayableNode_eitherOrder() {
+        List<Player> players = createPlayers(4);
+        KnockoutBracket bracket = new KnockoutBracket(players);
+        assertEquals(2, bracket.findPlayableNode(players.get(3), players.get(0)));
+        assertEquals(-1, bracket.findPlayableNode(players.get(0), players.get(1)));
+    }
+
+    @Test
+    public void testRecordWinner_correction_updatesNextMatch() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(4));
+        bracket.recordWinner(2, 0);
+        bracket.recordWinner(2, 3);
+        assertEquals(3, bracket.getHome(1));
+        bracket.clearWinner(2);
+        assertEquals(KnockoutBracket.UNDECIDED, bracket.getHome(1));
+        assertEquals(List.of(2, 3), bracket.getPlayableNodes());
+    }
+
+    /**
+     * Plays the bracket round by round, letting the entrant chosen by {@code homeWins} win, and
+     * returns the number of defeats of every entrant.
+     */
+    private static int[] playOut(KnockoutBracket bracket, boolean homeWins) {
+        int[] losses = new int[bracket.getEntrants().size()];
+        List<Integer> playable = bracket.getPlayableNodes();
+        while (!playable.isEmpty()) {
+            for (int node : playable) {
+                int home = bracket.getHome(node);
+                int away = bracket.getAway(node);
+                int winner = homeWins ? home : away;
+                losses[winner == home ? away : home]++;
+                bracket.recordWinner(node, winner);
+            }
+            playable = bracket.getPlayableNodes();
+        }
+        return losses;
+    }
+
+    @Test
+    public void testDoubleElimination_everyoneButChampionLosesTwice() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(8), true);
+        assertTrue(bracket.isDoubleElimination());
+        assertEquals(4, bracket.getLosersRoundCount());
+        int[] losses = playOut(bracket, true);
+
+        assertEquals("Player1", bracket.getChampion().getFirstName());
+        assertEquals(0, losses[0]);
+        for (int i = 1; i < losses.length; i++) {
+            assertEquals(2, losses[i], "Entrant " + i);
+        }
+    }
+
+    @Test
+    public void testDoubleElimination_losersChampionForcesDecidingMatch() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(4), true);
+        bracket.recordWinner(2, 0);
+        bracket.recordWinner(3, 1);
+        assertEquals(List.of(1, bracket.getLosersNode(1, 0)), bracket.getPlayableNodes());
+        bracket.recordWinner(1, 0);
+        bracket.recordWinner(bracket.getLosersNode(1, 0), 3);
+        bracket.recordWinner(bracket.getLosersNode(2, 0), 1);
+
+        int grandFinal = bracket.getGrandFinalNode();
+        assertEquals(0, bracket.getHome(grandFinal));
+        assertEquals(1, bracket.getAway(grandFinal));
+        bracket.recordWinner(grandFinal, 1);
+        assertNull(bracket.getChampion());
+        assertEquals(List.of(bracket.getDecidingMatchNode()), bracket.getPlayableNodes());
+        assertEquals("Entscheidungsspiel", bracket.getNodeName(bracket.getDecidingMatchNode()));
+        bracket.recordWinner(bracket.getDecidingMatchNode(), 1);
+        assertEquals("Player2", bracket.getChampion().getFirstName());
+    }
+
+    @Test
+    public void testDoubleElimination_byes_everyoneButChampionLosesTwice() {
+        for (int count = 2; count <= 13; count++) {
+            KnockoutBracket bracket = new KnockoutBracket(createPlayers(count), true);
+            int[] losses = playOut(bracket, false);
+            assertNotNull(bracket.getChampion(), "Players: " + count);
+            int champion = bracket.getEntrants().indexOf(bracket.getChampion());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i == champion ? Math.min(1, losses[i]) : 2, losses[i], "Players: " + count + ", entrant " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleElimination_droppedLosersCrossOver() {
+        KnockoutBracket bracket = new KnockoutBracket(createPlayers(8), true);
+        for (int node = 4; node < 8; node++) {
+            bracket.recordWinner(node, bracket.getHome(node));
+        }
+        assertEquals(7, bracket.getHome(bracket.getLosersNode(1, 0)));
+        assertEquals(4, bracket.getAway(bracket.getLosersNode(1, 0)));
+        bracket.recordWinner(bracket.getLosersNode(1, 0), 7);
+        bracket.recordWinner(2, 0);
+        assertEquals(7, bracket.getHome(bracket.getLosersNode(2, 0)));
+        assertEquals(3, bracket.getAway(bracket.getLosersNode(2, 1)));
+        assertEquals(KnockoutBracket.UNDECIDED, bracket.getAway(bracket.getLosersNode(2, 0)));
+    }
+}
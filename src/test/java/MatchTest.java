@@ -143,4 +143,44 @@ public class MatchTest {
         Match other = new Match(player1, player3, 1);
         assertNotEquals(match.hashCode(), other.hashCode());
     }
+
+    @Test
+    public void testGetWinner_firstPlayerWins() {
+        match.setOverallResult("3:1");
+        assertEquals(player1, match.getWinner());
+    }
+
+    @Test
+    public void testGetWinner_secondPlayerWins() {
+        match.setOverallResult("0:3");
+        assertEquals(player2, match.getWinner());
+    }
+
+    @Test
+    public void testGetWinner_noResultOrDraw_returnsNull() {
+        assertNull(match.getWinner());
+        match.setOverallResult("2:2");
+        assertNull(match.getWinner());
+        match.setOverallResult(":");
+        assertNull(match.getWinner());
+    }
+
+    @Test
+    public void testGetWinner_byeMatch_firstPlayerWins() {
+        assertEquals(player1, new Match(player1, null, -1).getWinner());
+    }
+
+    @Test
+    public void testId_uniqueEvenForSamePlayers() {
+        Match other = new Match(player1, player2, 1);
+        assertEquals(match, other);
+        assertNotEquals(match.getId(), other.getId());
+    }
+
+    @Test
+    public void testRound_defaultsToZero() {
+        assertEquals(0, match.getRound());
+        match.setRound(3);
+        assertEquals(3, match.getRound());
+    }
 }
@@ -1,4 +1,5 @@
 import controller.PairingEngine;
+import controller.ScoreCalculator;
 import model.Match;
 import model.Player;
 import model.TournamentMode;
@@ -528,4 +529,405 @@ public class PairingEngineTest {
         assertTrue(text.contains("Freilos"));
         assertFalse(text.contains("vs."));
     }
+
+    @Test
+    public void testKnockout_seededByTtr_firstRoundTopSeedMeetsLowestSeed() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.KNOCKOUT);
+        assertNotNull(engine.generatePairings(1));
+        Match first = engine.getMatches().getFirst();
+        assertEquals(p2, first.getFirstPlayer());
+        assertEquals(p4, first.getSecondPlayer());
+        assertTrue(engine.isKnockoutMatch(first));
+    }
+
+    @Test
+    public void testKnockout_recordResult_advancesBracketImmediately() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.KNOCKOUT);
+        engine.generatePairings(1);
+        Match first = engine.getMatches().getFirst();
+        first.setOverallResult("1:3");
+        engine.recordResult(first);
+        assertEquals(p4, engine.getKnockoutBracket().getEntrant(engine.getKnockoutBracket().getHome(1)));
+
+        first.setOverallResult("2:2");
+        engine.recordResult(first);
+        assertEquals(-1, engine.getKnockoutBracket().getHome(1));
+    }
+
+    @Test
+    public void testDoubleKnockout_playsUntilChampion() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.DOUBLE_KNOCKOUT);
+        int round = 1;
+        int matchCount = 0;
+        while (engine.generatePairings(round) != null) {
+            for (Match match : engine.getMatches()) {
+                match.setOverallResult("3:0");
+                engine.recordResult(match);
+                matchCount++;
+            }
+            engine.clearCurrentRound();
+            round++;
+        }
+        assertTrue(engine.isFinished());
+        assertEquals(p2, engine.getKnockoutBracket().getChampion());
+        assertEquals(6, matchCount);
+    }
+
+    @Test
+    public void testMatchIndex_matchesByPlayerAndRound() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3), 2, TournamentMode.ROUND_ROBIN);
+        for (int round = 1; round <= 3; round++) {
+            engine.clearCurrentRound();
+            engine.generatePairings(round);
+        }
+        assertEquals(3, engine.getMatchesOfPlayer(p1).size());
+        assertEquals(2, engine.getMatchesOfRound(2).size());
+        assertEquals(engine.getAllMatches().subList(2, 4), engine.getMatchesOfRound(2));
+        assertEquals(Set.of(p1, p2, p3), new HashSet<>(engine.getByePlayers()));
+    }
+
+    @Test
+    public void testSetNewMatches_replacesCurrentRoundInIndex() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.SWISS);
+        engine.generatePairings(1);
+        Match replaced = engine.getMatches().getFirst();
+
+        engine.setNewMatches(List.of(new Match(p1, p3, -1), new Match(p2, p4, -1)));
+        assertEquals(2, engine.getAllMatches().size());
+        assertEquals(1, engine.getMatchesOfPlayer(p1).size());
+        assertFalse(engine.getMatchesOfPlayer(replaced.getFirstPlayer()).stream().anyMatch(m -> m == replaced));
+        assertEquals(engine.getMatches(), engine.getMatchesOfRound(1));
+    }
+
+    @Test
+    public void testRestoreState_rebuildsIndexWithRounds() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.SWISS);
+        List<Match> history = List.of(new Match(p1, p2, 1), new Match(p3, p4, 2),
+                new Match(p1, p3, 1), new Match(p2, p4, 2));
+        engine.restoreState(history, history.subList(2, 4));
+        assertEquals(history.subList(0, 2), engine.getMatchesOfRound(1));
+        assertEquals(history.subList(2, 4), engine.getMatchesOfRound(2));
+        assertEquals(2, engine.getMatchesOfPlayer(p4).size());
+    }
+
+    @Test
+    public void testRemoveMatch_byId_keepsEqualMatchOfEarlierRound() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2), 1, TournamentMode.SWISS);
+        Match earlier = new Match(p1, p2, 1);
+        Match current = new Match(p2, p1, 1);
+        engine.restoreState(List.of(earlier, current), List.of(current));
+        assertEquals(2, current.getRound());
+
+        assertSame(current, engine.removeMatch(current.getId()));
+        assertEquals(List.of(earlier), engine.getAllMatches());
+        assertSame(earlier, engine.getAllMatches().getFirst());
+        assertTrue(engine.getMatches().isEmpty());
+        assertNull(engine.getMatchById(current.getId()));
+        assertSame(earlier, engine.getMatchById(earlier.getId()));
+    }
+
+    @Test
+    public void testRemoveMatch_manyRemovalsKeepHistoryOrderAndIds() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.SWISS);
+        List<Match> history = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Match match = new Match(i % 2 == 0 ? p1 : p3, i % 2 == 0 ? p2 : p4, 1);
+            match.setRound(i / 2 + 1);
+            history.add(match);
+        }
+        engine.restoreState(history, List.of());
+
+        List<Match> kept = new ArrayList<>();
+        for (int i = 0; i < history.size(); i++) {
+            if (i % 3 == 0) {
+                assertSame(history.get(i), engine.removeMatch(history.get(i).getId()));
+            } else {
+                kept.add(history.get(i));
+            }
+        }
+
+        assertEquals(kept.size(), engine.getAllMatches().size());
+        for (int i = 0; i < kept.size(); i++) {
+            assertSame(kept.get(i), engine.getAllMatches().get(i));
+        }
+        assertNull(engine.removeMatch(history.getFirst().getId()));
+        assertSame(kept.getLast(), engine.getMatchById(kept.getLast().getId()));
+        assertEquals(List.of(history.get(1)), engine.getMatchesOfRound(1));
+    }
+
+    @Test
+    public void testCompletePairings_pairsRemainingPlayersByPoints() {
+        Player p5 = new Player("Eve", "E", "ClubE", 1200);
+        Player p6 = new Player("Frank", "F", "ClubF", 1100);
+        p1.setPoints(2);
+        p2.setPoints(0);
+        p3.setPoints(2);
+        p4.setPoints(0);
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4, p5, p6), 3, TournamentMode.SWISS);
+        List<Match> candidates = engine.calculateAllPossibleOpenMatches();
+        Match fixed = new Match(p5, p6, -1);
+
+        List<Match> completion = engine.completePairings(List.of(fixed), candidates);
+
+        assertNotNull(completion);
+        assertEquals(2, completion.size());
+        assertTrue(completion.contains(new Match(p1, p3, -1)));
+        assertTrue(completion.contains(new Match(p2, p4, -1)));
+        assertTrue(completion.stream().allMatch(candidates::contains));
+    }
+
+    @Test
+    public void testCompletePairings_oddField_givesByeToLowestRankedEligible() {
+        Player p5 = new Player("Eve", "E", "ClubE", 1200);
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4, p5), 3, TournamentMode.SWISS);
+        List<Match> candidates = engine.calculateAllPossibleOpenMatches();
+
+        List<Match> completion = engine.completePairings(List.of(), candidates);
+
+        assertNotNull(completion);
+        assertEquals(3, completion.size());
+        List<Match> byes = completion.stream().filter(m -> m.getSecondPlayer() == null).toList();
+        assertEquals(1, byes.size());
+        assertSame(p5, byes.getFirst().getFirstPlayer());
+    }
+
+    @Test
+    public void testSelectUniquePlayerMatches_twoOddGroups_returnsNull() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 22; i++) {
+            players.add(new Player("Spieler" + i, "S", "Club", 1000 + i));
+        }
+        List<Match> matchList = new ArrayList<>();
+        for (int i = 0; i < 22; i++) {
+            for (int j = i + 1; j < 22; j++) {
+                if (i / 11 == j / 11) {
+                    matchList.add(new Match(players.get(i), players.get(j), -1));
+                }
+            }
+        }
+        PairingEngine engine = new PairingEngine(players, 11, TournamentMode.SWISS);
+
+        assertNull(engine.selectUniquePlayerMatches(matchList, new ArrayList<>(List.of(1))));
+    }
+
+    @Test
+    public void testSelectUniquePlayerMatches_firstCandidateBlocksCompletion_findsPairing() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.SWISS);
+        List<Match> matchList = new ArrayList<>(List.of(
+                new Match(p1, p2, -1),
+                new Match(p1, p3, -1),
+                new Match(p2, p4, -1)
+        ));
+        List<Match> result = engine.selectUniquePlayerMatches(matchList, new ArrayList<>(List.of(1, 2)));
+        assertNotNull(result);
+        assertEquals(List.of(new Match(p1, p3, -1), new Match(p2, p4, -1)), result);
+    }
+
+    @Test
+    public void testCompletePairings_noCompletionWithoutRematch_returnsNull() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2, p3, p4), 2, TournamentMode.SWISS);
+        List<Match> candidates = new ArrayList<>(engine.calculateAllPossibleOpenMatches());
+        candidates.remove(new Match(p3, p4, -1));
+
+        assertNull(engine.completePairings(List.of(new Match(p1, p2, -1)), candidates));
+    }
+
+    @Test
+    public void testCalculateAllPossibleOpenMatches_equalsPairingDifference() {
+        Player p5 = new Player("Eve", "E", "ClubE", 1200);
+        List<Player> players = List.of(p1, p2, p3, p4, p5);
+        PairingEngine engine = new PairingEngine(players, 2, TournamentMode.SWISS);
+        engine.generatePairings(1);
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+        engine.clearCurrentRound();
+
+        List<Match> played = engine.getAllMatches();
+        List<Match> expected = engine.calculatePairingDifference(engine.generateAllPairings(players), played,
+                engine.getPlayersWithBye(played));
+        List<Match> open = engine.calculateAllPossibleOpenMatches();
+
+        assertEquals(expected, open);
+        assertEquals(expected.stream().map(Match::getSecondPlayer).toList(),
+                open.stream().map(Match::getSecondPlayer).toList());
+    }
+
+    @Test
+    public void testAddPlayer_pairedFromNextRound() {
+        List<Player> players = new ArrayList<>(List.of(p1, p2, p3));
+        PairingEngine engine = new PairingEngine(players, 2, TournamentMode.SWISS);
+        engine.generatePairings(1);
+        engine.getMatches().stream().filter(m -> m.getSecondPlayer() != null)
+                .forEach(m -> m.setOverallResult("3:0"));
+
+        engine.addPlayer(p4, 1);
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+
+        assertEquals(4, players.size());
+        assertEquals(Map.of(p4, 1), engine.getCompensationPoints());
+        assertEquals(2, engine.getMatches().size());
+        assertTrue(engine.getMatches().stream().allMatch(m -> m.getSecondPlayer() != null));
+        assertTrue(engine.getMatches().stream().anyMatch(m -> m.getFirstPlayer().equals(p4) || p4.equals(m.getSecondPlayer())));
+    }
+
+    @Test
+    public void testAddPlayer_rejectsRegisteredPlayerAndOtherModes() {
+        PairingEngine swiss = new PairingEngine(new ArrayList<>(List.of(p1, p2)), 1, TournamentMode.SWISS);
+        assertThrows(IllegalArgumentException.class, () -> swiss.addPlayer(p1, 0));
+        assertThrows(IllegalArgumentException.class, () -> swiss.addPlayer(p3, -1));
+
+        PairingEngine roundRobin = new PairingEngine(new ArrayList<>(List.of(p1, p2)), 1, TournamentMode.ROUND_ROBIN);
+        assertThrows(IllegalStateException.class, () -> roundRobin.addPlayer(p3, 0));
+    }
+
+    @Test
+    public void testWithdrawPlayer_notPairedAndByeForOddField() {
+        PairingEngine engine = new PairingEngine(new ArrayList<>(List.of(p1, p2, p3, p4)), 2, TournamentMode.SWISS);
+        engine.generatePairings(1);
+        engine.getMatches().forEach(m -> m.setOverallResult("3:1"));
+
+        engine.withdrawPlayer(p2);
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+
+        assertTrue(engine.isWithdrawn(p2));
+        assertEquals(List.of(p1, p3, p4), engine.getActivePlayers());
+        assertEquals(2, engine.getMatches().size());
+        assertTrue(engine.getMatches().stream().noneMatch(m -> m.getFirstPlayer().equals(p2) || p2.equals(m.getSecondPlayer())));
+        assertEquals(1, engine.getMatches().stream().filter(m -> m.getSecondPlayer() == null).count());
+        assertEquals(4, engine.getAllMatches().stream().filter(m -> m.getRound() == 1 || m.getRound() == 2).count());
+    }
+
+    @Test
+    public void testWithdrawPlayer_openMatchesOnlyBetweenActivePlayers() {
+        PairingEngine engine = new PairingEngine(new ArrayList<>(List.of(p1, p2, p3, p4)), 2, TournamentMode.SWISS);
+        engine.withdrawPlayer(p4);
+
+        List<Match> open = engine.calculateAllPossibleOpenMatches();
+
+        assertEquals(6, open.size());
+        assertTrue(open.stream().noneMatch(m -> m.getFirstPlayer().equals(p4) || p4.equals(m.getSecondPlayer())));
+    }
+
+    private static int playSwiss(int playerCount, int plannedRounds, int rounds, long seed) {
+        Random random = new Random(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("P" + i, "Seed" + seed, "Club", 1000 + random.nextInt(2000)));
+        }
+        PairingEngine engine = new PairingEngine(players, 4, TournamentMode.SWISS);
+        engine.setPlannedRounds(plannedRounds);
+        ScoreCalculator calculator = new ScoreCalculator(engine.getAllMatches());
+        int played = 0;
+        while (played < rounds && engine.generatePairings(played + 1) != null) {
+            played++;
+            for (Match match : engine.getMatches()) {
+                if (match.getSecondPlayer() != null) {
+                    match.setOverallResult(random.nextBoolean() ? "3:1" : "1:3");
+                }
+            }
+            calculator.calculate(players);
+            engine.clearCurrentRound();
+        }
+        return played;
+    }
+
+    @Test
+    public void testPlannedRounds_greedyPairingCanDeadEnd() {
+        int shortTournaments = 0;
+        for (long seed = 0; seed < 40; seed++) {
+            if (playSwiss(8, 0, 7, seed) < 7) {
+                shortTournaments++;
+            }
+        }
+        assertTrue(shortTournaments > 0);
+    }
+
+    @Test
+    public void testPlannedRounds_lookAheadReachesEveryPlannedRound() {
+        for (long seed = 0; seed < 40; seed++) {
+            assertEquals(7, playSwiss(8, 7, 7, seed), "seed " + seed);
+            assertEquals(9, playSwiss(9, 9, 9, seed), "seed " + seed);
+        }
+    }
+
+    @Test
+    public void testPlannedRounds_lookAheadKeepsRoundsValid() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            players.add(new Player("P" + i, "Valid", "Club", 1000 + i));
+        }
+        PairingEngine engine = new PairingEngine(players, 4, TournamentMode.SWISS);
+        engine.setPlannedRounds(7);
+        Set<Set<Player>> pairs = new HashSet<>();
+        Set<Player> byes = new HashSet<>();
+        for (int round = 1; round <= 7; round++) {
+            assertNotNull(engine.generatePairings(round));
+            Set<Player> seen = new HashSet<>();
+            for (Match match : engine.getMatches()) {
+                assertTrue(seen.add(match.getFirstPlayer()));
+                if (match.getSecondPlayer() == null) {
+                    assertTrue(byes.add(match.getFirstPlayer()));
+                } else {
+                    assertTrue(seen.add(match.getSecondPlayer()));
+                    assertTrue(pairs.add(Set.of(match.getFirstPlayer(), match.getSecondPlayer())));
+                    match.setOverallResult("3:0");
+                }
+            }
+            assertEquals(7, seen.size());
+            engine.clearCurrentRound();
+        }
+        assertEquals(21, pairs.size());
+    }
+
+    @Test
+    public void testSetPlannedRounds_negative_throwsException() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2), 1, TournamentMode.SWISS);
+        assertThrows(IllegalArgumentException.class, () -> engine.setPlannedRounds(-1));
+    }
+
+    private static List<String> playSwissPairings(int playerCount, int plannedRounds, boolean parallel, long seed) {
+        Random random = new Random(seed);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("P" + i, "Parallel" + seed, "Club", 1000 + random.nextInt(2000)));
+        }
+        PairingEngine engine = new PairingEngine(players, 4, TournamentMode.SWISS);
+        engine.setPlannedRounds(plannedRounds);
+        engine.setParallelSearch(parallel);
+        ScoreCalculator calculator = new ScoreCalculator(engine.getAllMatches());
+        List<String> pairings = new ArrayList<>();
+        for (int round = 1; round < playerCount && engine.generatePairings(round) != null; round++) {
+            for (Match match : engine.getMatches()) {
+                pairings.add(round + ": " + match.getFirstPlayer().getFirstName() + " - "
+                        + (match.getSecondPlayer() == null ? "Freilos" : match.getSecondPlayer().getFirstName()));
+                if (match.getSecondPlayer() != null) {
+                    match.setOverallResult(random.nextBoolean() ? "3:1" : "1:3");
+                }
+            }
+            calculator.calculate(players);
+            engine.clearCurrentRound();
+        }
+        return pairings;
+    }
+
+    @Test
+    public void testParallelSearch_samePairingsAsSequentialSearch() {
+        for (long seed = 0; seed < 6; seed++) {
+            assertEquals(playSwissPairings(14, 0, false, seed), playSwissPairings(14, 0, true, seed), "seed " + seed);
+            assertEquals(playSwissPairings(11, 11, false, seed), playSwissPairings(11, 11, true, seed), "seed " + seed);
+            assertEquals(playSwissPairings(16, 15, false, seed), playSwissPairings(16, 15, true, seed), "seed " + seed);
+        }
+    }
+
+    @Test
+    public void testSetParallelSearch_canBeSwitchedOff() {
+        PairingEngine engine = new PairingEngine(List.of(p1, p2), 1, TournamentMode.SWISS);
+        assertFalse(engine.isParallelSearch());
+        engine.setParallelSearch(true);
+        assertTrue(engine.isParallelSearch());
+        engine.setParallelSearch(false);
+        assertFalse(engine.isParallelSearch());
+    }
 }
@@ -0,0 +1,155 @@
+import controller.PlayerDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerDatabaseTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() {
+        file = directory.resolve("players.ttdb");
+    }
+
+    private PlayerDatabase build(String csv) throws IOException {
+        PlayerDatabase.build(new StringReader(csv), file, new ArrayList<>());
+        return PlayerDatabase.open(file);
+    }
+
+    @Test
+    public void testSearch_findsLastNamePrefixInAlphabeticalOrder() throws IOException {
+        PlayerDatabase database = build("""
+                Vorname;Nachname;Verein;Q-TTR
+                Anna;Müller;TTC Nord;1450
+                Jan;Meier;SV Süd;1320
+                Bernd;Müller;TSV Ost;1600
+                Clara;Müllerschön;TTC West;1200
+                """);
+
+        List<PlayerDatabase.Entry> found = database.search("mül", "", 10);
+
+        assertEquals(3, found.size());
+        assertEquals(new PlayerDatabase.Entry("Anna", "Müller", "TTC Nord", 1450), found.get(0));
+        assertEquals(new PlayerDatabase.Entry("Bernd", "Müller", "TSV Ost", 1600), found.get(1));
+        assertEquals("Müllerschön", found.get(2).lastName());
+    }
+
+    @Test
+    public void testSearch_firstNameNarrowsExactLastName() throws IOException {
+        PlayerDatabase database = build("""
+                Anna;Müller;TTC Nord;1450
+                Bernd;Müller;TSV Ost;1600
+                Bert;Müllerschön;TTC West;1200
+                """);
+
+        List<PlayerDatabase.Entry> found = database.search("MÜLLER", "be", 10);
+
+        assertEquals(List.of(new PlayerDatabase.Entry("Bernd", "Müller", "TSV Ost", 1600)), found);
+    }
+
+    @Test
+    public void testSearch_respectsLimitAndBlankInput() throws IOException {
+        PlayerDatabase database = build("""
+                A;Schmidt;C1;1
+                B;Schmidt;C2;2
+                C;Schmidt;C3;3
+                """);
+
+        assertEquals(2, database.search("Schmidt", "", 2).size());
+        assertTrue(database.search(" ", "", 10).isEmpty());
+        assertTrue(database.search("Zander", "", 10).isEmpty());
+    }
+
+    @Test
+    public void testSearch_largeDatabaseMatchesLinearScan() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        List<String> lastNames = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String lastName = "N" + Integer.toString(i * 7919 % 20_000, 36);
+            lastNames.add(lastName.toLowerCase());
+            csv.append("F").append(i).append(';').append(lastName).append(";Club;").append(i % 3000).append('\n');
+        }
+        PlayerDatabase database = build(csv.toString());
+
+        assertEquals(20_000, database.size());
+        for (String prefix : List.of("n1", "n2a", "nz", "n")) {
+            long expected = lastNames.stream().filter(name -> name.startsWith(prefix)).count();
+            List<PlayerDatabase.Entry> found = database.search(prefix, "", 100_000);
+            assertEquals(expected, found.size(), prefix);
+            for (int i = 1; i < found.size(); i++) {
+                assertTrue(found.get(i - 1).lastName().compareToIgnoreCase(found.get(i).lastName()) <= 0);
+            }
+        }
+    }
+
+    @Test
+    public void testBuild_reportsInvalidRows() throws IOException {
+        List<String> errors = new ArrayList<>();
+        int count = PlayerDatabase.build(new StringReader("Anna;Müller;TTC Nord;abc\nJan;Meier;SV Süd;1320\n"),
+                file, errors);
+
+        assertEquals(1, count);
+        assertEquals(1, errors.size());
+    }
+
+    @Test
+    public void testNewVersion_isWrittenNextToTheDatabaseInUse() throws IOException {
+        assertNull(PlayerDatabase.latestVersion(file));
+        assertEquals(file, PlayerDatabase.newVersion(file));
+        PlayerDatabase old = build("Anna;Müller;TTC Nord;1450\n");
+
+        Path next = PlayerDatabase.newVersion(file);
+        assertEquals(directory.resolve("players.1.ttdb"), next);
+        PlayerDatabase.build(new StringReader("Jan;Meier;SV Süd;1320\n"), next, new ArrayList<>());
+
+        assertEquals(next, PlayerDatabase.latestVersion(file));
+        assertEquals("Müller", old.search("mü", "", 10).getFirst().lastName());
+        assertEquals("Meier", PlayerDatabase.open(next).search("me", "", 10).getFirst().lastName());
+    }
+
+    @Test
+    public void testBuild_doesNotReplaceExistingFile() throws IOException {
+        build("Anna;Müller;TTC Nord;1450\n");
+
+        assertThrows(IOException.class,
+                () -> PlayerDatabase.build(new StringReader("Jan;Meier;SV Süd;1320\n"), file, new ArrayList<>()));
+        assertEquals(1, PlayerDatabase.open(file).search("mü", "", 10).size());
+    }
+
+    @Test
+    public void testDeleteOldVersions_keepsOnlyTheNewest() throws IOException {
+        Files.writeString(file, "old");
+        Files.writeString(directory.resolve("players.2.ttdb"), "old");
+        Files.writeString(directory.resolve("players.10.ttdb"), "new");
+        Files.writeString(directory.resolve("players.11.ttdb.tmp"), "incomplete");
+        Files.writeString(directory.resolve("players.backup.ttdb"), "other");
+
+        PlayerDatabase.deleteOldVersions(file);
+
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of("players.10.ttdb", "players.backup.ttdb"),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+        assertEquals(directory.resolve("players.10.ttdb"), PlayerDatabase.latestVersion(file));
+    }
+
+    @Test
+    public void testOpen_rejectsOtherFiles() throws IOException {
+        Files.writeString(file, "Vorname;Nachname;Verein\n");
+
+        assertThrows(IOException.class, () -> PlayerDatabase.open(file));
+    }
+}
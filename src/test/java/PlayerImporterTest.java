@@ -0,0 +1,111 @@
+import controller.PlayerImporter;
+import model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerImporterTest {
+
+    private static PlayerImporter.Result read(String csv, Set<Player> registered) throws IOException {
+        return PlayerImporter.read(new StringReader(csv), registered);
+    }
+
+    @Test
+    public void testRead_headerWithSemicolons() throws IOException {
+        PlayerImporter.Result result = read("""
+                Vorname;Nachname;Verein;Q-TTR
+                Alice;A;ClubA;1500
+                Bob;B;ClubB;1600
+                """, new HashSet<>());
+
+        assertEquals(2, result.players().size());
+        Player alice = result.players().getFirst();
+        assertEquals("Alice", alice.getFirstName());
+        assertEquals("A", alice.getLastName());
+        assertEquals("ClubA", alice.getClub());
+        assertEquals(1500, alice.getTtr());
+        assertTrue(result.errors().isEmpty());
+    }
+
+    @Test
+    public void testRead_headerColumnsInAnyOrderWithExtraColumns() throws IOException {
+        PlayerImporter.Result result = read("""
+                Lizenz,TTR,Verein,Name,Vorname
+                123,1400,ClubC,C,Carol
+                """, new HashSet<>());
+
+        assertEquals(new Player("Carol", "C", "ClubC", 1400), result.players().getFirst());
+    }
+
+    @Test
+    public void testRead_withoutHeaderUsesDefaultOrder() throws IOException {
+        PlayerImporter.Result result = read("Dave;D;ClubD;1300\nEve;E;ClubE\n", new HashSet<>());
+
+        assertEquals(new Player("Dave", "D", "ClubD", 1300), result.players().get(0));
+        assertEquals(new Player("Eve", "E", "ClubE", 0), result.players().get(1));
+    }
+
+    @Test
+    public void testRead_quotedFieldsWithSeparatorQuoteAndLineBreak() throws IOException {
+        PlayerImporter.Result result = read("Vorname;Nachname;Verein;TTR\n"
+                + "\"Anna\";\"Müller\";\"TTC Blau; Weiß \"\"1920\"\"\";1450\n"
+                + "\"Ben\";\"Schulz\";\"SV\nNord\";1200\n", new HashSet<>());
+
+        assertEquals("TTC Blau; Weiß \"1920\"", result.players().get(0).getClub());
+        assertEquals("SV\nNord", result.players().get(1).getClub());
+    }
+
+    @Test
+    public void testRead_skipsDuplicatesInFileAndRegistered() throws IOException {
+        Set<Player> registered = new HashSet<>();
+        registered.add(new Player("Alice", "A", "ClubA", 1500));
+
+        PlayerImporter.Result result = read("""
+                Alice;A;ClubA;1500
+                Bob;B;ClubB;1600
+                Bob;B;ClubB;1600
+                """, registered);
+
+        assertEquals(1, result.players().size());
+        assertEquals(2, result.duplicates());
+        assertEquals(2, registered.size());
+    }
+
+    @Test
+    public void testRead_reportsInvalidLinesWithLineNumber() throws IOException {
+        PlayerImporter.Result result = read("""
+                Vorname;Nachname;Verein;TTR
+                Alice;A;ClubA;abc
+                ;B;ClubB;1600
+
+                Carol;C;ClubC;-5
+                Dave;D;ClubD;1300
+                """, new HashSet<>());
+
+        assertEquals(1, result.players().size());
+        assertEquals(3, result.errors().size());
+        assertTrue(result.errors().get(0).startsWith("Zeile 2:"));
+        assertTrue(result.errors().get(1).startsWith("Zeile 3:"));
+        assertTrue(result.errors().get(2).startsWith("Zeile 5:"));
+    }
+
+    @Test
+    public void testRead_ignoresByteOrderMarkAndCarriageReturns() throws IOException {
+        PlayerImporter.Result result = read("\uFEFFVorname;Nachname;Verein\r\nAlice;A;ClubA\r\n", new HashSet<>());
+
+        assertEquals(new Player("Alice", "A", "ClubA", 0), result.players().getFirst());
+    }
+
+    @Test
+    public void testRead_emptyInput() throws IOException {
+        PlayerImporter.Result result = read("", new HashSet<>());
+
+        assertTrue(result.players().isEmpty());
+        assertTrue(result.errors().isEmpty());
+    }
+}
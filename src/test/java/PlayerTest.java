@@ -4,6 +4,8 @@ import model.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.*;
+
 public class PlayerTest {
     private Player player;
 
@@ -189,4 +191,45 @@ public class PlayerTest {
     public void testToString() {
         assertEquals("John Doe (ClubA)", player.toString());
     }
+
+    @Test
+    public void testGetId_equalPlayersShareId() {
+        Player same = new Player("John", "Doe", "ClubA", 1500);
+        Player other = new Player("John", "Doe", "ClubA", 1501);
+        assertEquals(player.getId(), same.getId());
+        assertNotEquals(player.getId(), other.getId());
+    }
+
+    @Test
+    public void testSerialization_restoresIdAndHashCode() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(player);
+        }
+        Player restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (Player) in.readObject();
+        }
+        assertEquals(player, restored);
+        assertEquals(player.getId(), restored.getId());
+        assertEquals(player.hashCode(), restored.hashCode());
+    }
+
+    @Test
+    public void testGetId_identityReleasedWhenNoPlayerUsesIt() throws InterruptedException {
+        int released = new Player("Released", "Player", "ClubZ", 1234).getId();
+        Player held = new Player("Held", "Player", "ClubZ", 1234);
+        int heldId = held.getId();
+
+        int reissued = released;
+        for (int i = 0; i < 50 && reissued == released; i++) {
+            System.gc();
+            Thread.sleep(10);
+            reissued = new Player("Released", "Player", "ClubZ", 1234).getId();
+        }
+
+        assertNotEquals(released, reissued);
+        assertEquals(heldId, new Player("Held", "Player", "ClubZ", 1234).getId());
+        assertEquals(held, new Player("Held", "Player", "ClubZ", 1234));
+    }
 }
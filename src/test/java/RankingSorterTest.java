@@ -0,0 +1,202 @@
+import controller.RankingSorter;
+import controller.ScoreCalculator;
+import controller.TournamentSnapshot;
+import model.Match;
+import model.Player;
+import model.TieBreak;
+import model.TournamentMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RankingSorterTest {
+
+    private static final Comparator<Player> SWISS_ORDER = Comparator.comparing(Player::getPoints)
+            .thenComparing(Player::getBuchholz)
+            .thenComparing(Player::getFeinBuchholz)
+            .thenComparing(player -> player.getSetsWon() - player.getSetsLost())
+            .thenComparing(player -> player.getBallsWon() - player.getBallsLost())
+            .thenComparing(Player::getTtr);
+
+    private static final Comparator<Player> ROUND_ROBIN_ORDER = Comparator.comparing(Player::getPoints)
+            .thenComparing(player -> player.getSetsWon() - player.getSetsLost())
+            .thenComparing(player -> player.getBallsWon() - player.getBallsLost())
+            .thenComparing(Player::getTtr);
+
+    private static List<Player> randomPlayers(Random random, int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player player = new Player("Spieler" + i, "Test", "Club", random.nextInt(3) * 1000);
+            player.setPoints(random.nextInt(4));
+            player.setBuchholz(random.nextInt(3));
+            player.setFeinBuchholz(random.nextInt(3));
+            player.setSetsWon(random.nextInt(4));
+            player.setSetsLost(random.nextInt(4));
+            player.setBallsWon(random.nextInt(40));
+            player.setBallsLost(random.nextInt(40));
+            players.add(player);
+        }
+        return players;
+    }
+
+    @Test
+    public void testSort_swiss_matchesComparatorChain() {
+        Random random = new Random(7);
+        for (int count : new int[]{0, 1, 2, 15, 16, 17, 100, 1000}) {
+            List<Player> expected = randomPlayers(random, count);
+            List<Player> actual = new ArrayList<>(expected);
+            expected.sort(SWISS_ORDER);
+            RankingSorter.sort(actual, TournamentMode.SWISS);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testSort_roundRobin_ignoresBuchholz() {
+        Random random = new Random(11);
+        List<Player> expected = randomPlayers(random, 300);
+        List<Player> actual = new ArrayList<>(expected);
+        expected.sort(ROUND_ROBIN_ORDER);
+        RankingSorter.sort(actual, TournamentMode.ROUND_ROBIN);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testSort_negativeDifferences_rankBelowPositive() {
+        Player behind = new Player("A", "A", "Club", 1000);
+        behind.setSetsLost(3);
+        Player ahead = new Player("B", "B", "Club", 1000);
+        ahead.setSetsWon(3);
+        List<Player> players = new ArrayList<>(List.of(ahead, behind));
+        RankingSorter.sort(players, TournamentMode.SWISS);
+        assertEquals(List.of(behind, ahead), players);
+    }
+
+    private static Match played(Player winner, Player loser) {
+        Match match = new Match(winner, loser, 1);
+        match.setOverallResult("3:0");
+        return match;
+    }
+
+    @Test
+    public void testSort_directComparison_decidesTieOnPoints() {
+        Player a = new Player("A", "A", "Club", 1500);
+        Player b = new Player("B", "B", "Club", 1000);
+        a.setPoints(1);
+        b.setPoints(1);
+        List<Match> history = List.of(played(b, a));
+        List<Player> players = new ArrayList<>(List.of(b, a));
+
+        RankingSorter.sort(players, TournamentMode.ROUND_ROBIN,
+                List.of(TieBreak.DIRECT_COMPARISON, TieBreak.TTR), history);
+
+        assertEquals(List.of(a, b), players);
+    }
+
+    @Test
+    public void testSort_sonnebornBerger_countsBeatenOpponentsPoints() {
+        Player strong = new Player("S", "S", "Club", 1000);
+        Player weak = new Player("W", "W", "Club", 1000);
+        Player a = new Player("A", "A", "Club", 1000);
+        Player b = new Player("B", "B", "Club", 1000);
+        strong.setPoints(3);
+        weak.setPoints(0);
+        a.setPoints(1);
+        b.setPoints(1);
+        List<Match> history = List.of(played(a, strong), played(b, weak));
+        List<Player> players = new ArrayList<>(List.of(a, b));
+
+        RankingSorter.sort(players, TournamentMode.SWISS, List.of(TieBreak.SONNEBORN_BERGER), history);
+
+        assertEquals(List.of(b, a), players);
+    }
+
+    @Test
+    public void testSort_medianBuchholz_dropsBestAndWorstOpponent() {
+        Player a = new Player("A", "A", "Club", 1000);
+        Player b = new Player("B", "B", "Club", 1000);
+        Player[] opponents = new Player[6];
+        int[] points = {5, 1, 0, 2, 2, 2};
+        for (int i = 0; i < opponents.length; i++) {
+            opponents[i] = new Player("O" + i, "O", "Club", 1000);
+            opponents[i].setPoints(points[i]);
+        }
+        List<Match> history = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            history.add(played(opponents[i], a));
+            history.add(played(opponents[i + 3], b));
+        }
+        List<Player> players = new ArrayList<>(List.of(b, a));
+
+        RankingSorter.sort(players, TournamentMode.SWISS, List.of(TieBreak.MEDIAN_BUCHHOLZ), history);
+
+        assertEquals(List.of(a, b), players);
+    }
+
+    @Test
+    public void testSort_noTies_historyCriteriaAreNotEvaluated() {
+        List<Match> untouchable = new AbstractList<>() {
+            @Override
+            public Match get(int index) {
+                throw new AssertionError("history must not be read");
+            }
+
+            @Override
+            public int size() {
+                throw new AssertionError("history must not be read");
+            }
+        };
+        Player first = new Player("A", "A", "Club", 1000);
+        Player second = new Player("B", "B", "Club", 1000);
+        first.setPoints(2);
+        second.setPoints(1);
+        List<Player> players = new ArrayList<>(List.of(first, second));
+
+        RankingSorter.sort(players, TournamentMode.SWISS,
+                List.of(TieBreak.DIRECT_COMPARISON, TieBreak.SONNEBORN_BERGER), untouchable);
+
+        assertEquals(List.of(second, first), players);
+    }
+
+    @Test
+    public void testSort_fromStatisticsAndRecords_matchesSortFromPlayers() {
+        Random random = new Random(5);
+        List<Player> field = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            field.add(new Player("Spieler" + i, "Test", "Club", random.nextInt(2) * 1000));
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < field.size(); i++) {
+            for (int j = i + 1; j < field.size(); j++) {
+                Match match = new Match(field.get(i), field.get(j), 1);
+                match.setOverallResult(random.nextBoolean() ? "3:" + random.nextInt(3) : random.nextInt(3) + ":3");
+                matches.add(match);
+            }
+        }
+        List<List<TournamentSnapshot.MatchRecord>> rounds =
+                List.of(matches.stream().map(TournamentSnapshot.MatchRecord::of).toList());
+        ScoreCalculator calculator = new ScoreCalculator(matches, false);
+        calculator.calculate(field);
+        ScoreCalculator.Statistics statistics = calculator.statistics();
+        List<List<TieBreak>> chains = List.of(
+                List.of(TieBreak.DIRECT_COMPARISON, TieBreak.SONNEBORN_BERGER, TieBreak.TTR),
+                List.of(TieBreak.BUCHHOLZ, TieBreak.MEDIAN_BUCHHOLZ, TieBreak.SET_DIFFERENCE),
+                TieBreak.defaultChain(TournamentMode.ROUND_ROBIN));
+        List<List<Player>> expected = new ArrayList<>();
+        for (List<TieBreak> chain : chains) {
+            List<Player> ranked = new ArrayList<>(field);
+            RankingSorter.sort(ranked, TournamentMode.ROUND_ROBIN, chain, matches);
+            expected.add(ranked);
+        }
+        field.forEach(player -> player.setPoints(random.nextInt(100)));
+
+        for (int i = 0; i < chains.size(); i++) {
+            assertEquals(i < 2, RankingSorter.needsHistory(TournamentMode.ROUND_ROBIN, chains.get(i)));
+            List<Player> actual = new ArrayList<>(field);
+            RankingSorter.sort(actual, statistics, TournamentMode.ROUND_ROBIN, chains.get(i), rounds);
+            assertEquals(expected.get(i), actual);
+        }
+    }
+}
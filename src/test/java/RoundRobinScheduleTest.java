@@ -0,0 +1,157 @@
+import controller.PairingEngine;
+import controller.RoundRobinSchedule;
+import model.Match;
+import model.Player;
+import model.TournamentMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoundRobinScheduleTest {
+
+    private static Set<String> collectPairs(RoundRobinSchedule schedule, int fromRound, int toRound) {
+        Set<String> pairs = new HashSet<>();
+        for (int round = fromRound; round <= toRound; round++) {
+            for (int pair = 0; pair < schedule.getPairsPerRound(); pair++) {
+                int home = schedule.getHome(round, pair);
+                int away = schedule.getAway(round, pair);
+                if (home != RoundRobinSchedule.BYE && away != RoundRobinSchedule.BYE) {
+                    assertTrue(pairs.add(Math.min(home, away) + "-" + Math.max(home, away)),
+                            "Duplicate pairing in round " + round);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    public void testEvenPlayers_roundAndPairCount() {
+        RoundRobinSchedule schedule = new RoundRobinSchedule(6, false);
+        assertEquals(5, schedule.getRoundCount());
+        assertEquals(3, schedule.getPairsPerRound());
+    }
+
+    @Test
+    public void testOddPlayers_roundAndPairCountIncludeBye() {
+        RoundRobinSchedule schedule = new RoundRobinSchedule(5, false);
+        assertEquals(5, schedule.getRoundCount());
+        assertEquals(3, schedule.getPairsPerRound());
+    }
+
+    @Test
+    public void testEveryPairMeetsExactlyOnce() {
+        for (int n = 2; n <= 30; n++) {
+            RoundRobinSchedule schedule = new RoundRobinSchedule(n, false);
+            assertEquals(n * (n - 1) / 2, collectPairs(schedule, 1, schedule.getRoundCount()).size(), "n=" + n);
+        }
+    }
+
+    @Test
+    public void testEveryPlayerAppearsOncePerRound() {
+        RoundRobinSchedule schedule = new RoundRobinSchedule(9, false);
+        for (int round = 1; round <= schedule.getRoundCount(); round++) {
+            Set<Integer> seen = new HashSet<>();
+            int byes = 0;
+            for (int pair = 0; pair < schedule.getPairsPerRound(); pair++) {
+                for (int seed : new int[]{schedule.getHome(round, pair), schedule.getAway(round, pair)}) {
+                    if (seed == RoundRobinSchedule.BYE) {
+                        byes++;
+                    } else {
+                        assertTrue(seen.add(seed));
+                    }
+                }
+            }
+            assertEquals(9, seen.size());
+            assertEquals(1, byes);
+        }
+    }
+
+    @Test
+    public void testHomeAwayBalancedWithinOneGame() {
+        for (int n = 2; n <= 30; n++) {
+            RoundRobinSchedule schedule = new RoundRobinSchedule(n, false);
+            int[] homeCount = new int[n];
+            int[] awayCount = new int[n];
+            for (int round = 1; round <= schedule.getRoundCount(); round++) {
+                for (int pair = 0; pair < schedule.getPairsPerRound(); pair++) {
+                    int home = schedule.getHome(round, pair);
+                    int away = schedule.getAway(round, pair);
+                    if (home != RoundRobinSchedule.BYE && away != RoundRobinSchedule.BYE) {
+                        homeCount[home]++;
+                        awayCount[away]++;
+                    }
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                assertTrue(Math.abs(homeCount[i] - awayCount[i]) <= 1, "n=" + n + ", seed=" + i);
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleRoundRobin_secondHalfMirrorsFirstHalfWithSwappedColours() {
+        RoundRobinSchedule schedule = new RoundRobinSchedule(6, true);
+        assertEquals(10, schedule.getRoundCount());
+        for (int round = 1; round <= 5; round++) {
+            for (int pair = 0; pair < schedule.getPairsPerRound(); pair++) {
+                assertEquals(schedule.getHome(round, pair), schedule.getAway(round + 5, pair));
+                assertEquals(schedule.getAway(round, pair), schedule.getHome(round + 5, pair));
+            }
+        }
+        assertEquals(15, collectPairs(schedule, 6, 10).size());
+    }
+
+    @Test
+    public void testGetSchedule_matchesLookup() {
+        RoundRobinSchedule schedule = new RoundRobinSchedule(7, false);
+        int[][][] all = schedule.getSchedule();
+        assertEquals(schedule.getRoundCount(), all.length);
+        assertEquals(schedule.getHome(3, 1), all[2][1][0]);
+        assertEquals(schedule.getAway(3, 1), all[2][1][1]);
+    }
+
+    @Test
+    public void testSinglePlayer_onlyByeRound() {
+        RoundRobinSchedule schedule = new RoundRobinSchedule(1, false);
+        assertEquals(1, schedule.getRoundCount());
+        assertEquals(0, schedule.getHome(1, 0));
+        assertEquals(RoundRobinSchedule.BYE, schedule.getAway(1, 0));
+    }
+
+    @Test
+    public void testEngine_doubleRoundRobin_everyPairTwice() {
+        List<Player> players = List.of(
+                new Player("Alice", "A", "ClubA", 1500),
+                new Player("Bob", "B", "ClubB", 1600),
+                new Player("Carol", "C", "ClubC", 1400),
+                new Player("Dave", "D", "ClubD", 1300));
+        PairingEngine engine = new PairingEngine(players, 2, TournamentMode.DOUBLE_ROUND_ROBIN);
+        int round = 1;
+        while (engine.generatePairings(round) != null) {
+            engine.clearCurrentRound();
+            round++;
+        }
+        assertEquals(7, round);
+        Map<String, Integer> homeGames = new HashMap<>();
+        for (Match m : engine.getAllMatches()) {
+            homeGames.merge(m.getFirstPlayer().getFullName() + "-" + m.getSecondPlayer().getFullName(), 1, Integer::sum);
+        }
+        assertEquals(12, homeGames.size());
+        assertTrue(homeGames.values().stream().allMatch(count -> count == 1));
+    }
+
+    @Test
+    public void testEngine_formatScheduleContainsAllRounds() {
+        List<Player> players = List.of(
+                new Player("Alice", "A", "ClubA", 1500),
+                new Player("Bob", "B", "ClubB", 1600),
+                new Player("Carol", "C", "ClubC", 1400));
+        PairingEngine engine = new PairingEngine(players, 1, TournamentMode.ROUND_ROBIN);
+        String text = engine.formatRoundRobinScheduleAsText();
+        assertTrue(text.contains("Runde 3"));
+        assertFalse(text.contains("Runde 4"));
+        assertEquals(3, text.split("Freilos", -1).length - 1);
+    }
+}
@@ -1,11 +1,15 @@
 import controller.ScoreCalculator;
+import controller.StandingsTableModel;
+import controller.TournamentSnapshot;
 import model.Match;
 import model.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -208,6 +212,20 @@ public class ScoreCalculatorTest {
         assertEquals(p1.getPoints() + p2.getPoints(), p3.getBuchholz());
     }
 
+    @Test
+    public void testCalculate_withoutBuchholz_leavesTiebreakersZero() {
+        Match m1 = matchWithResult(p1, p2, "3:0", null);
+        Match m2 = matchWithResult(p1, p3, "3:0", null);
+
+        List<Match> matches = new ArrayList<>(List.of(m1, m2));
+        ScoreCalculator calc = new ScoreCalculator(matches, false);
+        calc.calculate(List.of(p1, p2, p3));
+
+        assertEquals(2, p1.getPoints());
+        assertEquals(0, p2.getBuchholz());
+        assertEquals(0, p2.getFeinBuchholz());
+    }
+
     @Test
     public void testCalculate_feinBuchholzIsSumOfOpponentsBuchholz() {
         Match m1 = matchWithResult(p1, p2, "3:0", null);
@@ -341,4 +359,173 @@ public class ScoreCalculatorTest {
         assertEquals(0, p1.getBuchholz());
         assertEquals(0, p2.getFeinBuchholz());
     }
+
+    @Test
+    public void testUpdateMatch_equalsFullRecalculation() {
+        Player p4 = new Player("Dave", "D", "ClubD", 1300);
+        Match m1 = matchWithResult(p1, p2, "3:1", new String[][]{{"11", "5"}, {"9", "11"}, {"11", "7"}, {"11", "8"}});
+        Match m2 = matchWithResult(p3, p4, "", null);
+        Match m3 = matchWithResult(p1, p3, "0:3", null);
+        Match m4 = matchWithResult(p2, p4, "3:2", null);
+        List<Match> matches = new ArrayList<>(List.of(m1, m2, m3, m4));
+        List<Player> players = List.of(p1, p2, p3, p4);
+        ScoreCalculator calc = new ScoreCalculator(matches);
+        calc.calculate(players);
+
+        m2.setResults(0, new String[]{"4", "11"});
+        m2.setOverallResult("0:3");
+        assertTrue(calc.updateMatch(m2));
+        int[][] incremental = players.stream().map(ScoreCalculatorTest::stats).toArray(int[][]::new);
+
+        calc.calculate(players);
+        for (int i = 0; i < players.size(); i++) {
+            assertArrayEquals(stats(players.get(i)), incremental[i]);
+        }
+    }
+
+    @Test
+    public void testUpdateMatch_correctedResult_replacesPreviousContribution() {
+        Match m1 = matchWithResult(p1, p2, "3:0", null);
+        Match m2 = matchWithResult(p2, p3, "3:0", null);
+        ScoreCalculator calc = new ScoreCalculator(new ArrayList<>(List.of(m1, m2)));
+        calc.calculate(List.of(p1, p2, p3));
+
+        m1.setOverallResult("1:3");
+        assertTrue(calc.updateMatch(m1));
+
+        assertEquals(0, p1.getPoints());
+        assertEquals(1, p1.getLosses());
+        assertEquals(2, p2.getPoints());
+        assertEquals(1, p2.getSetsLost());
+        assertEquals(2, p1.getBuchholz());
+        assertEquals(0, p2.getBuchholz());
+        assertEquals(2, p3.getBuchholz());
+        assertEquals(0, p1.getFeinBuchholz());
+        assertEquals(4, p2.getFeinBuchholz());
+    }
+
+    @Test
+    public void testUpdateMatch_unknownMatch_requiresRecalculation() {
+        List<Match> matches = new ArrayList<>();
+        ScoreCalculator calc = new ScoreCalculator(matches);
+        calc.calculate(List.of(p1, p2));
+
+        Match match = matchWithResult(p1, p2, "3:0", null);
+        matches.add(match);
+        assertFalse(calc.updateMatch(match));
+        assertEquals(0, p1.getPoints());
+    }
+
+    @Test
+    public void testCalculate_compensationPointsCountForBuchholz() {
+        Map<Player, Integer> compensation = new HashMap<>(Map.of(p3, 2));
+        List<Match> matches = new ArrayList<>(List.of(matchWithResult(p1, p3, "3:0", null)));
+        ScoreCalculator calc = new ScoreCalculator(matches, true, compensation);
+
+        calc.calculate(List.of(p1, p2, p3));
+
+        assertEquals(2, p3.getPoints());
+        assertEquals(0, p3.getWins());
+        assertEquals(2, p1.getBuchholz());
+    }
+
+    @Test
+    public void testAddPlayer_growsWithoutRecalculation() {
+        Map<Player, Integer> compensation = new HashMap<>();
+        Match m1 = matchWithResult(p1, p2, "3:0", null);
+        List<Match> matches = new ArrayList<>(List.of(m1));
+        ScoreCalculator calc = new ScoreCalculator(matches, true, compensation);
+        calc.calculate(List.of(p1, p2));
+
+        p1.setPoints(7);
+        compensation.put(p3, 1);
+        calc.addPlayer(p3);
+
+        assertEquals(1, p3.getPoints());
+        assertEquals(0, p3.getBuchholz());
+        assertEquals(7, p1.getPoints());
+
+        m1.setOverallResult("0:3");
+        assertTrue(calc.updateMatch(m1));
+        assertEquals(0, p1.getPoints());
+        assertEquals(1, p2.getPoints());
+        assertEquals(1, p3.getPoints());
+    }
+
+    @Test
+    public void testRecalculation_fromRecordsEqualsCalculate() {
+        Player p4 = new Player("Dave", "D", "ClubD", 1300);
+        Map<Player, Integer> compensation = new HashMap<>(Map.of(p4, 1));
+        Match m1 = matchWithResult(p1, p2, "3:1", new String[][]{{"11", "5"}, {"9", "11"}, {"11", "7"}, {"11", "8"}});
+        Match m2 = matchWithResult(p3, null, "", null);
+        Match m3 = matchWithResult(p1, p3, "0:3", new String[][]{{"4", "11"}, {"", "11"}});
+        Match m4 = matchWithResult(p2, p4, "3:2", null);
+        Match m5 = matchWithResult(p3, null, "", null);
+        List<Match> matches = new ArrayList<>(List.of(m1, m2, m3, m4, m5));
+        List<Player> players = List.of(p1, p2, p3, p4);
+        ScoreCalculator calc = new ScoreCalculator(matches, true, compensation);
+        calc.calculate(players);
+        int[][] expected = players.stream().map(ScoreCalculatorTest::stats).toArray(int[][]::new);
+
+        List<List<TournamentSnapshot.MatchRecord>> rounds = List.of(
+                List.of(TournamentSnapshot.MatchRecord.of(m1), TournamentSnapshot.MatchRecord.of(m2)),
+                List.of(TournamentSnapshot.MatchRecord.of(m3), TournamentSnapshot.MatchRecord.of(m4),
+                        TournamentSnapshot.MatchRecord.of(m5)));
+        ScoreCalculator other = new ScoreCalculator(new ArrayList<>(), true, compensation);
+        ScoreCalculator.Recalculation recalculation = other.recalculation(players, rounds).get();
+        players.forEach(p -> p.setPoints(-1));
+        other.adopt(recalculation);
+
+        for (int i = 0; i < players.size(); i++) {
+            assertArrayEquals(expected[i], stats(players.get(i)));
+        }
+    }
+
+    @Test
+    public void testRecalculation_changesNothingUntilAdopted() {
+        List<Match> matches = new ArrayList<>(List.of(matchWithResult(p1, p2, "3:0", null)));
+        ScoreCalculator calc = new ScoreCalculator(matches);
+        calc.calculate(List.of(p1, p2));
+        Match m2 = matchWithResult(p2, p3, "3:0", null);
+        matches.add(m2);
+
+        ScoreCalculator.Recalculation recalculation = calc.recalculation(List.of(p1, p2, p3),
+                List.of(List.of(TournamentSnapshot.MatchRecord.of(matches.getFirst()),
+                        TournamentSnapshot.MatchRecord.of(m2)))).get();
+        assertEquals(0, p2.getPoints());
+        assertFalse(calc.updateMatch(m2));
+
+        calc.adopt(recalculation);
+        assertEquals(1, p2.getPoints());
+        assertEquals(1, p1.getBuchholz());
+        m2.setOverallResult("0:3");
+        assertTrue(calc.updateMatch(m2));
+        assertEquals(0, p2.getPoints());
+        assertEquals(1, p3.getPoints());
+    }
+
+    @Test
+    public void testStatistics_copyIsNotChangedByLaterUpdates() {
+        Match m1 = matchWithResult(p1, p2, "3:0", null);
+        ScoreCalculator calc = new ScoreCalculator(new ArrayList<>(List.of(m1)));
+        calc.calculate(List.of(p1, p2));
+        ScoreCalculator.Statistics statistics = calc.statistics();
+
+        m1.setOverallResult("0:3");
+        assertTrue(calc.updateMatch(m1));
+        calc.addPlayer(p3);
+
+        StandingsTableModel.Snapshot before = StandingsTableModel.capture(List.of(p1, p2, p3), statistics);
+        assertEquals(1, before.stats()[0]);
+        assertEquals(0, before.stats()[9]);
+        assertEquals(0, before.stats()[18]);
+        StandingsTableModel.Snapshot after = StandingsTableModel.capture(List.of(p1, p2, p3), calc.statistics());
+        assertEquals(0, after.stats()[0]);
+        assertEquals(1, after.stats()[9]);
+    }
+
+    private static int[] stats(Player p) {
+        return new int[]{p.getPoints(), p.getWins(), p.getLosses(), p.getSetsWon(), p.getSetsLost(),
+                p.getBallsWon(), p.getBallsLost(), p.getBuchholz(), p.getFeinBuchholz()};
+    }
 }
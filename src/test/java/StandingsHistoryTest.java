@@ -0,0 +1,79 @@
+import controller.StandingsHistory;
+import controller.StandingsTableModel;
+import model.Player;
+import model.TournamentMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandingsHistoryTest {
+
+    private Player p1, p2, p3;
+    private StandingsHistory history;
+
+    @BeforeEach
+    public void setUp() {
+        p1 = new Player("Alice", "A", "ClubA", 1500);
+        p2 = new Player("Bob", "B", "ClubB", 1600);
+        p3 = new Player("Carol", "C", "ClubC", 1400);
+        history = new StandingsHistory();
+    }
+
+    @Test
+    public void testRecord_keepsCheckpointIndependentOfLaterChanges() {
+        p1.setPoints(1);
+        history.record(1, StandingsTableModel.capture(List.of(p1, p2, p3)));
+        p1.setPoints(2);
+
+        StandingsTableModel model = new StandingsTableModel(TournamentMode.SWISS);
+        model.update(history.get(1));
+        assertEquals(1, model.getValueAt(0, 2));
+        assertEquals(1, history.getRoundCount());
+    }
+
+    @Test
+    public void testGetRankChanges_firstRound_allZero() {
+        history.record(1, StandingsTableModel.capture(List.of(p1, p2, p3)));
+        assertArrayEquals(new int[]{0, 0, 0}, history.getRankChanges(1));
+    }
+
+    @Test
+    public void testGetRankChanges_comparesWithPreviousRound() {
+        history.record(1, StandingsTableModel.capture(List.of(p1, p2, p3)));
+        history.record(2, StandingsTableModel.capture(List.of(p3, p1, p2)));
+        assertArrayEquals(new int[]{2, -1, -1}, history.getRankChanges(2));
+    }
+
+    @Test
+    public void testRecord_earlierRoundDiscardsLaterCheckpoints() {
+        history.record(1, StandingsTableModel.capture(List.of(p1, p2, p3)));
+        history.record(2, StandingsTableModel.capture(List.of(p3, p1, p2)));
+        history.record(2, StandingsTableModel.capture(List.of(p2, p1, p3)));
+        history.record(1, StandingsTableModel.capture(List.of(p2, p1, p3)));
+        assertEquals(1, history.getRoundCount());
+        assertSame(p2, history.get(1).ranking()[0]);
+    }
+
+    @Test
+    public void testRecord_skippingRound_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> history.record(2, StandingsTableModel.capture(List.of(p1))));
+    }
+
+    @Test
+    public void testRankChangeColumn_showsArrows() {
+        history.record(1, StandingsTableModel.capture(List.of(p1, p2, p3)));
+        history.record(2, StandingsTableModel.capture(List.of(p3, p1, p2)));
+        StandingsTableModel model = new StandingsTableModel(TournamentMode.ROUND_ROBIN, true);
+        model.update(history.get(2), history.getRankChanges(2));
+
+        assertEquals("±", model.getColumnName(1));
+        assertEquals("▲ 2", model.getValueAt(0, 1));
+        assertEquals("▼ 1", model.getValueAt(1, 1));
+        assertEquals(p3.getFullName() + " (" + p3.getClub() + ")", model.getValueAt(0, 2));
+        assertEquals(7, model.getColumnCount());
+    }
+}
@@ -0,0 +1,100 @@
+import controller.StandingsTableModel;
+import model.Player;
+import model.TournamentMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandingsTableModelTest {
+
+    private Player p1, p2, p3;
+    private List<TableModelEvent> events;
+
+    @BeforeEach
+    public void setUp() {
+        p1 = new Player("Alice", "A", "ClubA", 1500);
+        p2 = new Player("Bob", "B", "ClubB", 1600);
+        p3 = new Player("Carol", "C", "ClubC", 1400);
+        events = new ArrayList<>();
+    }
+
+    private StandingsTableModel createModel(TournamentMode mode) {
+        StandingsTableModel model = new StandingsTableModel(mode);
+        model.addTableModelListener(events::add);
+        return model;
+    }
+
+    @Test
+    public void testColumns_swissHasBuchholz() {
+        assertEquals(8, createModel(TournamentMode.SWISS).getColumnCount());
+        assertEquals("BHZ", createModel(TournamentMode.SWISS).getColumnName(4));
+        assertEquals(6, createModel(TournamentMode.ROUND_ROBIN).getColumnCount());
+        assertEquals("Sätze", createModel(TournamentMode.ROUND_ROBIN).getColumnName(4));
+    }
+
+    @Test
+    public void testValues_formattedLazily() {
+        StandingsTableModel model = createModel(TournamentMode.ROUND_ROBIN);
+        p1.setWins(3);
+        p1.setLosses(1);
+        p1.setSetsWon(9);
+        p1.setSetsLost(4);
+        model.update(List.of(p1, p2));
+        assertEquals(1, model.getValueAt(0, 0));
+        assertEquals("Alice A (ClubA)", model.getValueAt(0, 1));
+        assertEquals("3:1", model.getValueAt(0, 3));
+        assertEquals("9:4", model.getValueAt(0, 4));
+        assertSame(p2, model.getPlayerAt(1));
+    }
+
+    @Test
+    public void testUpdate_unchangedRanking_firesNoEvent() {
+        StandingsTableModel model = createModel(TournamentMode.SWISS);
+        model.update(List.of(p1, p2, p3));
+        events.clear();
+        model.update(List.of(p1, p2, p3));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testUpdate_changedStats_firesOnlyChangedRows() {
+        StandingsTableModel model = createModel(TournamentMode.SWISS);
+        model.update(List.of(p1, p2, p3));
+        events.clear();
+
+        p3.setPoints(1);
+        model.update(List.of(p1, p2, p3));
+        assertEquals(1, events.size());
+        assertEquals(2, events.getFirst().getFirstRow());
+        assertEquals(2, events.getFirst().getLastRow());
+    }
+
+    @Test
+    public void testUpdate_swappedRanks_firesSwappedRows() {
+        StandingsTableModel model = createModel(TournamentMode.SWISS);
+        model.update(List.of(p1, p2, p3));
+        events.clear();
+
+        model.update(List.of(p2, p1, p3));
+        assertEquals(1, events.size());
+        assertEquals(0, events.getFirst().getFirstRow());
+        assertEquals(1, events.getFirst().getLastRow());
+        assertSame(p2, model.getPlayerAt(0));
+    }
+
+    @Test
+    public void testCapture_isIndependentOfLaterChanges() {
+        StandingsTableModel model = createModel(TournamentMode.SWISS);
+        p1.setPoints(2);
+        StandingsTableModel.Snapshot snapshot = StandingsTableModel.capture(List.of(p1, p2));
+        p1.setPoints(5);
+
+        model.update(snapshot);
+        assertEquals(2, model.getValueAt(0, 2));
+    }
+}
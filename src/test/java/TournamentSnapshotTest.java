@@ -0,0 +1,120 @@
+import controller.PairingEngine;
+import controller.StandingsTableModel;
+import controller.TournamentSnapshot;
+import controller.TournamentSnapshot.MatchRecord;
+import model.Match;
+import model.Player;
+import model.TournamentMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentSnapshotTest {
+
+    private Player p1, p2, p3, p4;
+    private List<Player> players;
+    private PairingEngine engine;
+    private StandingsTableModel.Snapshot standings;
+
+    @BeforeEach
+    public void setUp() {
+        p1 = new Player("Alice", "A", "ClubA", 1500);
+        p2 = new Player("Bob", "B", "ClubB", 1600);
+        p3 = new Player("Carol", "C", "ClubC", 1400);
+        p4 = new Player("Dave", "D", "ClubD", 1300);
+        players = List.of(p1, p2, p3, p4);
+        engine = new PairingEngine(players, 2, TournamentMode.SWISS);
+        standings = new StandingsTableModel.Snapshot(new Player[0], new int[0]);
+    }
+
+    private void finishRound() {
+        for (Match match : engine.getMatches()) {
+            match.setResults(0, new String[]{"11", "5"});
+            match.setOverallResult("3:0");
+            engine.recordResult(match);
+        }
+    }
+
+    @Test
+    public void testCapture_copiesMatchesOfCurrentRound() {
+        engine.generatePairings(1);
+        TournamentSnapshot snapshot = TournamentSnapshot.capture(null, 1, false, players, standings, engine);
+
+        assertEquals(1, snapshot.rounds().size());
+        assertEquals(2, snapshot.matchesOfRound(1).size());
+        MatchRecord record = snapshot.matchesOfRound(1).getFirst();
+        Match match = engine.getMatchById(record.id());
+        assertEquals(match.getFirstPlayer(), record.firstPlayer());
+        assertEquals(match.getSecondPlayer(), record.secondPlayer());
+        assertEquals("", record.overallResult());
+    }
+
+    @Test
+    public void testCapture_recordsStayUnchangedWhenMatchChanges() {
+        engine.generatePairings(1);
+        TournamentSnapshot snapshot = TournamentSnapshot.capture(null, 1, false, players, standings, engine);
+
+        Match match = engine.getMatches().getFirst();
+        match.setResults(0, new String[]{"11", "7"});
+        match.setOverallResult("3:1");
+
+        MatchRecord record = snapshot.matchesOfRound(1).stream()
+                .filter(r -> r.id() == match.getId())
+                .findFirst().orElseThrow();
+        assertEquals("", record.overallResult());
+        assertEquals("", record.setResults().getFirst());
+
+        TournamentSnapshot next = TournamentSnapshot.capture(snapshot, 1, false, players, standings, engine);
+        MatchRecord updated = next.matchesOfRound(1).stream()
+                .filter(r -> r.id() == match.getId())
+                .findFirst().orElseThrow();
+        assertEquals("3:1", updated.overallResult());
+        assertEquals("11:7", updated.setResults().getFirst());
+    }
+
+    @Test
+    public void testCapture_sharesCompletedRoundsWithPreviousSnapshot() {
+        engine.generatePairings(1);
+        finishRound();
+        TournamentSnapshot first = TournamentSnapshot.capture(null, 1, false, players, standings, engine);
+
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+        TournamentSnapshot second = TournamentSnapshot.capture(first, 2, false, players, standings, engine);
+        assertNotSame(first.matchesOfRound(1), second.matchesOfRound(1));
+
+        TournamentSnapshot third = TournamentSnapshot.capture(second, 2, false, players, standings, engine);
+        assertSame(second.matchesOfRound(1), third.matchesOfRound(1));
+        assertNotSame(second.matchesOfRound(2), third.matchesOfRound(2));
+    }
+
+    @Test
+    public void testCapture_afterUndoToEarlierRound_copiesThatRoundAgain() {
+        engine.generatePairings(1);
+        finishRound();
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+        finishRound();
+        engine.clearCurrentRound();
+        engine.generatePairings(3);
+        TournamentSnapshot before = TournamentSnapshot.capture(null, 3, false, players, standings, engine);
+
+        TournamentSnapshot undone = TournamentSnapshot.capture(before, 2, false, players, standings, engine);
+        assertEquals(2, undone.rounds().size());
+        assertSame(before.matchesOfRound(1), undone.matchesOfRound(1));
+        assertNotSame(before.matchesOfRound(2), undone.matchesOfRound(2));
+    }
+
+    @Test
+    public void testSnapshot_listsAreUnmodifiable() {
+        engine.generatePairings(1);
+        TournamentSnapshot snapshot = TournamentSnapshot.capture(null, 1, false, players, standings, engine);
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.players().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.rounds().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.matchesOfRound(1).clear());
+    }
+}
@@ -1,5 +1,7 @@
+import model.KnockoutBracket;
 import model.Match;
 import model.Player;
+import model.TieBreak;
 import model.TournamentMode;
 import model.TournamentState;
 import org.junit.jupiter.api.Test;
@@ -48,6 +50,136 @@ public class TournamentStateRoundtripTest {
             assertEquals(1, restored.matches().size());
             assertEquals("1:0", restored.matches().get(0).getOverallResult());
             assertArrayEquals(new String[]{"11", "9"}, restored.matches().get(0).getResults()[0]);
+            assertEquals(m.getId(), restored.matches().get(0).getId());
+            assertSame(restored.matches().get(0), restored.allMatches().get(0));
+            assertTrue(new Match(p1, p2, 1).getId() > m.getId());
         }
     }
+
+    @Test
+    public void testRoundtripWithKnockoutBracket() throws Exception {
+        Player p1 = new Player("Alice", "A", "ClubA", 1500);
+        Player p2 = new Player("Bob", "B", "ClubB", 1600);
+        Player p3 = new Player("Carol", "C", "ClubC", 1400);
+        KnockoutBracket bracket = new KnockoutBracket(new ArrayList<>(List.of(p2, p1, p3)));
+
+        TournamentState state = new TournamentState(
+                new ArrayList<>(List.of(p1, p2, p3)),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                4,
+                false,
+                "Gruppen",
+                2,
+                TournamentMode.GROUPS_KNOCKOUT,
+                1,
+                3,
+                bracket
+        );
+
+        File tmp = File.createTempFile("state", ".ser");
+        tmp.deleteOnExit();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tmp))) {
+            out.writeObject(state);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(tmp))) {
+            in.setObjectInputFilter(java.io.ObjectInputFilter.Config.createFilter(
+                    "java.lang.Object;java.lang.String;java.lang.Number;"
+                            + "java.lang.Integer;java.lang.Boolean;java.lang.Enum;"
+                            + "java.util.ArrayList;model.**;!*"));
+            TournamentState restored = (TournamentState) in.readObject();
+            assertEquals(3, restored.qualifiersPerGroup());
+            assertEquals(List.of(3), restored.knockoutBracket().getPlayableNodes());
+            assertEquals(p2, restored.knockoutBracket().getEntrant(restored.knockoutBracket().getNode(2)));
+        }
+    }
+
+    @Test
+    public void testRoundtripWithLateEntryWithdrawalAndPlannedRounds() throws Exception {
+        Player p1 = new Player("Alice", "A", "ClubA", 1500);
+        Player p2 = new Player("Bob", "B", "ClubB", 1600);
+        Player p3 = new Player("Carol", "C", "ClubC", 1400);
+
+        TournamentState state = new TournamentState(
+                new ArrayList<>(List.of(p1, p2, p3)),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                3,
+                false,
+                "Open",
+                2,
+                TournamentMode.SWISS,
+                0,
+                0,
+                null,
+                new ArrayList<>(List.of(0, 0, 2)),
+                new ArrayList<>(List.of(p1)),
+                7
+        );
+
+        File tmp = File.createTempFile("state", ".ser");
+        tmp.deleteOnExit();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tmp))) {
+            out.writeObject(state);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(tmp))) {
+            in.setObjectInputFilter(java.io.ObjectInputFilter.Config.createFilter(
+                    "java.lang.Object;java.lang.String;java.lang.Number;"
+                            + "java.lang.Integer;java.lang.Boolean;java.lang.Enum;"
+                            + "java.util.ArrayList;model.**;!*"));
+            TournamentState restored = (TournamentState) in.readObject();
+            assertEquals(List.of(0, 0, 2), restored.compensationPoints());
+            assertEquals(List.of(p1), restored.withdrawnPlayers());
+            assertEquals(7, restored.plannedRounds());
+        }
+    }
+
+    @Test
+    public void testRoundtripWithTieBreaks() throws Exception {
+        Player p1 = new Player("Alice", "A", "ClubA", 1500);
+        Player p2 = new Player("Bob", "B", "ClubB", 1600);
+
+        TournamentState state = new TournamentState(
+                new ArrayList<>(List.of(p1, p2)),
+                new ArrayList<>(),
+                new ArrayList<>(),
+                1,
+                false,
+                "Open",
+                1,
+                TournamentMode.ROUND_ROBIN,
+                0,
+                0,
+                null,
+                null,
+                null,
+                0,
+                new ArrayList<>(List.of(TieBreak.DIRECT_COMPARISON, TieBreak.SONNEBORN_BERGER, TieBreak.TTR))
+        );
+
+        File tmp = File.createTempFile("state", ".ser");
+        tmp.deleteOnExit();
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(tmp))) {
+            out.writeObject(state);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(tmp))) {
+            in.setObjectInputFilter(java.io.ObjectInputFilter.Config.createFilter(
+                    "java.lang.Object;java.lang.String;java.lang.Number;"
+                            + "java.lang.Integer;java.lang.Boolean;java.lang.Enum;"
+                            + "java.util.ArrayList;model.**;!*"));
+            TournamentState restored = (TournamentState) in.readObject();
+            assertEquals(List.of(TieBreak.DIRECT_COMPARISON, TieBreak.SONNEBORN_BERGER, TieBreak.TTR),
+                    restored.tieBreaks());
+        }
+    }
+
+    @Test
+    public void testShortConstructor_leavesTieBreaksToTheMode() {
+        TournamentState state = new TournamentState(List.of(), List.of(), List.of(), 1, false, "T", 1,
+                TournamentMode.SWISS);
+        assertNull(state.tieBreaks());
+    }
 }
@@ -0,0 +1,167 @@
+import controller.PairingEngine;
+import controller.TournamentSnapshot.MatchRecord;
+import controller.UndoHistory;
+import model.Match;
+import model.Player;
+import model.TournamentMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UndoHistoryTest {
+
+    private PairingEngine engine;
+    private UndoHistory history;
+
+    @BeforeEach
+    public void setUp() {
+        List<Player> players = new ArrayList<>(List.of(
+                new Player("Alice", "A", "ClubA", 1500),
+                new Player("Bob", "B", "ClubB", 1600),
+                new Player("Carol", "C", "ClubC", 1400),
+                new Player("Dave", "D", "ClubD", 1300)));
+        engine = new PairingEngine(players, 2, TournamentMode.SWISS);
+        history = new UndoHistory();
+        engine.generatePairings(1);
+        history.commit(1, false, engine, null);
+    }
+
+    private void enterResult(Match match) {
+        match.setResults(0, new String[]{"11", "5"});
+        match.setOverallResult("3:0");
+        engine.recordResult(match);
+    }
+
+    private List<Match> restore(UndoHistory.State state) {
+        List<Match> matches = new ArrayList<>();
+        for (MatchRecord record : state.allMatches()) {
+            matches.add(history.restore(record));
+        }
+        return matches;
+    }
+
+    @Test
+    public void testInitialCommit_nothingToUndoOrRedo() {
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertNull(history.undo());
+        assertNull(history.redo());
+    }
+
+    @Test
+    public void testUndo_restoresResultOfMatch() {
+        Match match = engine.getMatches().getFirst();
+        enterResult(match);
+        history.commit(1, false, engine, null);
+
+        UndoHistory.State state = history.undo();
+        restore(state);
+
+        assertEquals("", match.getOverallResult());
+        assertTrue(history.canRedo());
+        restore(history.redo());
+        assertEquals("3:0", match.getOverallResult());
+        assertEquals("11", match.getResults()[0][0]);
+        assertEquals("5", match.getResults()[0][1]);
+    }
+
+    @Test
+    public void testUndo_acrossRoundBoundaryRestoresPreviousPairing() {
+        List<Match> firstRound = List.copyOf(engine.getMatches());
+        firstRound.forEach(this::enterResult);
+        history.commit(1, false, engine, null);
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+        history.commit(2, false, engine, null);
+
+        UndoHistory.State state = history.undo();
+        assertEquals(1, state.round());
+        List<Match> restored = restore(state);
+        assertEquals(firstRound.size(), restored.size());
+        for (int i = 0; i < restored.size(); i++) {
+            assertSame(firstRound.get(i), restored.get(i));
+        }
+        assertEquals(state.rounds().getLast(), state.matches());
+    }
+
+    @Test
+    public void testCommit_sharesCompletedRounds() {
+        engine.getMatches().forEach(this::enterResult);
+        history.commit(1, false, engine, null);
+        engine.clearCurrentRound();
+        engine.generatePairings(2);
+        UndoHistory.State second = history.commit(2, false, engine, null);
+        enterResult(engine.getMatches().getFirst());
+        UndoHistory.State third = history.commit(2, false, engine, null);
+
+        assertSame(second.rounds().getFirst(), third.rounds().getFirst());
+        assertNotSame(second.rounds().get(1), third.rounds().get(1));
+    }
+
+    @Test
+    public void testUndo_restoresFieldBeforeLateEntryAndWithdrawal() {
+        List<Player> before = List.copyOf(engine.getPlayers());
+        Player late = new Player("Eve", "E", "ClubE", 1200);
+        engine.addPlayer(late, 1);
+        history.commit(1, false, engine, null);
+        engine.withdrawPlayer(before.getFirst());
+        history.commit(1, false, engine, null);
+
+        UndoHistory.State afterEntry = history.undo();
+        assertEquals(5, afterEntry.players().size());
+        assertTrue(afterEntry.withdrawn().isEmpty());
+        assertEquals(1, afterEntry.compensation().get(late));
+
+        UndoHistory.State start = history.undo();
+        assertEquals(before, start.players());
+        assertTrue(start.compensation().isEmpty());
+
+        engine.restoreFieldChanges(start.players(), start.compensation(), start.withdrawn());
+        assertEquals(before, engine.getPlayers());
+        assertTrue(engine.getWithdrawnPlayers().isEmpty());
+        assertTrue(engine.getCompensationPoints().isEmpty());
+
+        history.redo();
+        UndoHistory.State end = history.redo();
+        assertEquals(5, end.players().size());
+        assertEquals(Set.of(before.getFirst()), end.withdrawn());
+    }
+
+    @Test
+    public void testCommit_sharesUnchangedRoster() {
+        enterResult(engine.getMatches().getFirst());
+        history.commit(1, false, engine, null);
+        UndoHistory.State before = history.undo();
+        UndoHistory.State after = history.redo();
+
+        assertSame(after.players(), before.players());
+    }
+
+    @Test
+    public void testCommit_discardsRedoSteps() {
+        enterResult(engine.getMatches().getFirst());
+        history.commit(1, false, engine, null);
+        history.undo();
+        assertTrue(history.canRedo());
+
+        history.commit(1, false, engine, null);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void testCommit_keepsAtMostMaxSteps() {
+        for (int i = 0; i < UndoHistory.MAX_STEPS + 5; i++) {
+            history.commit(1, false, engine, null);
+        }
+        int undone = 0;
+        while (history.undo() != null) {
+            undone++;
+        }
+        assertEquals(UndoHistory.MAX_STEPS, undone);
+    }
+}
@@ -0,0 +1,120 @@
+import controller.WeightedMatching;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeightedMatchingTest {
+
+    private static int[] solve(int n, int[][] edges, boolean maxCardinality) {
+        int[] from = new int[edges.length];
+        int[] to = new int[edges.length];
+        long[] weight = new long[edges.length];
+        for (int k = 0; k < edges.length; k++) {
+            from[k] = edges[k][0];
+            to[k] = edges[k][1];
+            weight[k] = edges[k][2];
+        }
+        return WeightedMatching.solve(n, from, to, weight, maxCardinality);
+    }
+
+    private static long[] evaluate(int[][] edges, int[] mate) {
+        long weight = 0;
+        long pairs = 0;
+        for (int[] edge : edges) {
+            if (mate[edge[0]] == edge[1]) {
+                weight += edge[2];
+                pairs++;
+            }
+        }
+        return new long[]{pairs, weight};
+    }
+
+    /**
+     * Enumerates all matchings and returns the best {pairs, weight}: by weight only, or by
+     * cardinality first when {@code maxCardinality} is set.
+     */
+    private static long[] bruteForce(int[][] edges, int index, boolean[] used, long pairs, long weight,
+                                     boolean maxCardinality) {
+        if (index == edges.length) {
+            return new long[]{pairs, weight};
+        }
+        long[] best = bruteForce(edges, index + 1, used, pairs, weight, maxCardinality);
+        int[] edge = edges[index];
+        if (!used[edge[0]] && !used[edge[1]]) {
+            used[edge[0]] = used[edge[1]] = true;
+            long[] with = bruteForce(edges, index + 1, used, pairs + 1, weight + edge[2], maxCardinality);
+            used[edge[0]] = used[edge[1]] = false;
+            boolean better = maxCardinality
+                    ? with[0] > best[0] || (with[0] == best[0] && with[1] > best[1])
+                    : with[1] > best[1];
+            if (better) {
+                best = with;
+            }
+        }
+        return best;
+    }
+
+    private static void assertValid(int[] mate) {
+        for (int v = 0; v < mate.length; v++) {
+            if (mate[v] >= 0) {
+                assertEquals(v, mate[mate[v]]);
+            }
+        }
+    }
+
+    @Test
+    public void testSolve_emptyGraph() {
+        assertArrayEquals(new int[]{-1, -1, -1}, solve(3, new int[0][], true));
+    }
+
+    @Test
+    public void testSolve_prefersHeavierEdge() {
+        int[] mate = solve(4, new int[][]{{0, 1, 5}, {1, 2, 11}, {2, 3, 5}}, false);
+        assertArrayEquals(new int[]{-1, 2, 1, -1}, mate);
+    }
+
+    @Test
+    public void testSolve_maxCardinalityBeforeWeight() {
+        int[] mate = solve(4, new int[][]{{0, 1, 5}, {1, 2, 11}, {2, 3, 5}}, true);
+        assertArrayEquals(new int[]{1, 0, 3, 2}, mate);
+    }
+
+    @Test
+    public void testSolve_oddCycleNeedsBlossom() {
+        int[] mate = solve(6, new int[][]{{0, 1, 8}, {0, 2, 9}, {1, 2, 10}, {2, 3, 7}, {0, 5, 5}, {3, 4, 6}}, false);
+        assertArrayEquals(new long[]{3, 21}, evaluate(new int[][]{{0, 1, 8}, {0, 2, 9}, {1, 2, 10}, {2, 3, 7},
+                {0, 5, 5}, {3, 4, 6}}, mate));
+    }
+
+    @Test
+    public void testSolve_matchesBruteForceOnRandomGraphs() {
+        Random random = new Random(42);
+        for (int round = 0; round < 400; round++) {
+            int n = 2 + random.nextInt(8);
+            List<int[]> edgeList = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (random.nextInt(3) > 0) {
+                        edgeList.add(new int[]{i, j, random.nextInt(20)});
+                    }
+                }
+            }
+            int[][] edges = edgeList.toArray(new int[0][]);
+            for (boolean maxCardinality : new boolean[]{false, true}) {
+                int[] mate = solve(n, edges, maxCardinality);
+                assertValid(mate);
+                long[] expected = bruteForce(edges, 0, new boolean[n], 0, 0, maxCardinality);
+                long[] actual = evaluate(edges, mate);
+                if (maxCardinality) {
+                    assertArrayEquals(expected, actual, "round " + round);
+                } else {
+                    assertEquals(expected[1], actual[1], "round " + round);
+                }
+            }
+        }
+    }
+}